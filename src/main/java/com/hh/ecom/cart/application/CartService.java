@@ -109,6 +109,27 @@ public class CartService {
                 .orElseThrow(() -> new CartException(CartErrorCode.CART_ITEM_NOT_FOUND, "ID: " + cartItemId));
     }
 
+    /**
+     * 주문 대상 장바구니 아이템을 IN 쿼리 한 번으로 조회한다.
+     * - 요청한 아이템이 하나라도 없으면 예외, 소유자 검증까지 수행
+     */
+    @Transactional(readOnly = true)
+    public List<CartItem> getCartItemsForOrder(Long userId, List<Long> cartItemIds) {
+        List<Long> distinctIds = cartItemIds.stream().distinct().toList();
+        List<CartItem> cartItems = cartItemRepository.findAllByIdIn(distinctIds);
+
+        if (cartItems.size() != distinctIds.size()) {
+            List<Long> foundIds = cartItems.stream().map(CartItem::getId).toList();
+            List<Long> missingIds = distinctIds.stream()
+                    .filter(id -> !foundIds.contains(id))
+                    .toList();
+            throw new CartException(CartErrorCode.CART_ITEM_NOT_FOUND, "IDs: " + missingIds);
+        }
+
+        CartItemList.from(cartItems).validateCartItemOwnership(userId);
+        return cartItems;
+    }
+
     private Product findProductById(Long productId) {
         return productRepository.findById(productId)
                 .orElseThrow(() -> new ProductException(ProductErrorCode.PRODUCT_NOT_FOUND, "ID: " + productId));
@@ -150,4 +171,19 @@ public class CartService {
     public void completeOrderCheckout(Long userId, List<Long> productIds) {
         cartItemRepository.deleteAllByUserIdAndProductIdIn(userId, productIds);
     }
+
+    /**
+     * 주문에 사용된 장바구니 아이템을 일괄 삭제한다.
+     * - 삭제 건수가 요청과 다르면 이미 다른 주문에서 처리된 것으로 보고 예외를 던진다 (호출 측 트랜잭션 롤백)
+     */
+    @Transactional
+    public void checkoutCartItems(Long userId, List<Long> cartItemIds) {
+        List<Long> distinctIds = cartItemIds.stream().distinct().toList();
+        int deletedCount = cartItemRepository.deleteAllByUserIdAndIdIn(userId, distinctIds);
+
+        if (deletedCount != distinctIds.size()) {
+            throw new CartException(CartErrorCode.CART_ITEM_NOT_FOUND,
+                    "이미 주문 처리된 장바구니 아이템이 있습니다. 요청: %d, 삭제: %d".formatted(distinctIds.size(), deletedCount));
+        }
+    }
 }
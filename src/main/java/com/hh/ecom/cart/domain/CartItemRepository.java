@@ -6,11 +6,13 @@ import java.util.Optional;
 public interface CartItemRepository {
     CartItem save(CartItem cartItem);
     Optional<CartItem> findById(Long id);
+    List<CartItem> findAllByIdIn(List<Long> ids);
     Optional<CartItem> findByUserIdAndProductId(Long userId, Long productId);
     List<CartItem> findAllByUserId(Long userId);
     void deleteById(Long id);
     void deleteAllByUserId(Long userId);
     void deleteAllByUserIdAndProductIdIn(Long userId, List<Long> productIds);
+    int deleteAllByUserIdAndIdIn(Long userId, List<Long> ids);
 
     // for testing
     void deleteAll();
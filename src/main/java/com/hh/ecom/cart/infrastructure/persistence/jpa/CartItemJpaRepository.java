@@ -2,6 +2,9 @@ package com.hh.ecom.cart.infrastructure.persistence.jpa;
 
 import com.hh.ecom.cart.infrastructure.persistence.entity.CartItemEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,6 +12,11 @@ import java.util.Optional;
 public interface CartItemJpaRepository extends JpaRepository<CartItemEntity, Long> {
     Optional<CartItemEntity> findByUserIdAndProductId(Long userId, Long productId);
     List<CartItemEntity> findAllByUserId(Long userId);
+    List<CartItemEntity> findAllByIdIn(List<Long> ids);
     void deleteAllByUserId(Long userId);
     void deleteAllByUserIdAndProductIdIn(Long userId, List<Long> productIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM CartItemEntity c WHERE c.userId = :userId AND c.id IN :ids")
+    int deleteAllByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") List<Long> ids);
 }
@@ -50,6 +50,17 @@ public class CartItemRepositoryImpl implements CartItemRepository {
                 .map(CartItemEntity::toDomain);
     }
 
+    @Override
+    public List<CartItem> findAllByIdIn(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        return cartItemJpaRepository.findAllByIdIn(ids).stream()
+                .map(CartItemEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<CartItem> findByUserIdAndProductId(Long userId, Long productId) {
         return cartItemJpaRepository.findByUserIdAndProductId(userId, productId)
@@ -78,6 +89,14 @@ public class CartItemRepositoryImpl implements CartItemRepository {
         cartItemJpaRepository.deleteAllByUserIdAndProductIdIn(userId, productIds);
     }
 
+    @Override
+    public int deleteAllByUserIdAndIdIn(Long userId, List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        return cartItemJpaRepository.deleteAllByUserIdAndIdIn(userId, ids);
+    }
+
     @Override
     public void deleteAll() {
         cartItemJpaRepository.deleteAll();
@@ -0,0 +1,102 @@
+package com.hh.ecom.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식 64bit ID 생성기 (lock-free)
+ *
+ * <pre>
+ * | 1bit 부호(0) | 41bit 타임스탬프(ms, EPOCH 기준) | 10bit 노드 ID | 12bit 시퀀스 |
+ * </pre>
+ *
+ * - 노드별로 node-id 를 다르게 설정하면 노드 간 충돌이 없다 (0 ~ 1023)
+ * - node-id 를 설정하지 않으면 {@link SnowflakeNodeIdLease} 로 Redis 에서 비어 있는 노드 ID 를 선점한다 (기본값 0 으로 여러 인스턴스가 충돌하지 않도록)
+ * - (마지막 타임스탬프, 시퀀스) 를 하나의 AtomicLong 에 담아 CAS 로 갱신하므로 synchronized 없이 스레드 안전하다
+ * - 같은 ms 에 4096개를 넘기거나 시계가 뒤로 가면 논리 시각을 1ms 앞당겨 발급한다 (대기/예외 없이 단조 증가 유지)
+ */
+@Slf4j
+@Component
+public class SnowflakeIdGenerator {
+    static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_ID_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+
+    static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static final int NODE_ID_SHIFT = SEQUENCE_BITS;
+    private static final int TIMESTAMP_SHIFT = SEQUENCE_BITS + NODE_ID_BITS;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    // (timestamp - EPOCH) << SEQUENCE_BITS | sequence
+    private final AtomicLong state = new AtomicLong(0L);
+
+    @Autowired
+    public SnowflakeIdGenerator(
+            @Value("${id-generator.node-id:}") String configuredNodeId,
+            SnowflakeNodeIdLease nodeIdLease
+    ) {
+        this(configuredNodeId.isBlank() ? nodeIdLease.acquire() : Long.parseLong(configuredNodeId.trim()),
+                System::currentTimeMillis);
+    }
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node-id 는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다. nodeId=" + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+        log.info("SnowflakeIdGenerator 초기화: nodeId={}", nodeId);
+    }
+
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long lastTimestamp = current >>> SEQUENCE_BITS;
+            long sequence = current & MAX_SEQUENCE;
+
+            long now = clock.getAsLong() - EPOCH;
+
+            long nextTimestamp;
+            long nextSequence;
+            if (now > lastTimestamp) {
+                nextTimestamp = now;
+                nextSequence = 0L;
+            } else if (sequence < MAX_SEQUENCE) {
+                // 같은 ms 이거나 시계가 뒤로 간 경우: 마지막 논리 시각에서 시퀀스만 증가
+                nextTimestamp = lastTimestamp;
+                nextSequence = sequence + 1;
+            } else {
+                // 시퀀스 소진: 다음 ms 를 미리 사용
+                nextTimestamp = lastTimestamp + 1;
+                nextSequence = 0L;
+            }
+
+            long next = (nextTimestamp << SEQUENCE_BITS) | nextSequence;
+            if (state.compareAndSet(current, next)) {
+                return (nextTimestamp << TIMESTAMP_SHIFT) | (nodeId << NODE_ID_SHIFT) | nextSequence;
+            }
+        }
+    }
+
+    /**
+     * 주문 번호 생성 (ORDER-{snowflakeId})
+     */
+    public String nextOrderNumber() {
+        return "ORDER-" + nextId();
+    }
+}
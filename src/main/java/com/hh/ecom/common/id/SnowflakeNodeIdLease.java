@@ -0,0 +1,133 @@
+package com.hh.ecom.common.id;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Snowflake 노드 ID Redis lease
+ *
+ * <p>id-generator.node-id 를 설정하지 않은 인스턴스는 기동 시 Redis 에서 비어 있는 노드 ID(0 ~ 1023)를 lease 로 선점합니다.
+ * lease 는 주기적으로 연장하고 종료 시 반납하며, 인스턴스가 죽으면 TTL 이 지나 다른 인스턴스가 다시 쓸 수 있습니다.
+ * 노드 ID 를 모두 선점했으면 기동을 실패시켜 ID 충돌을 막습니다.
+ */
+@Slf4j
+@Component
+public class SnowflakeNodeIdLease {
+    private static final String SEQUENCE_KEY = "id-generator:node:sequence";
+    private static final String LEASE_KEY_PREFIX = "id-generator:node:";
+
+    /**
+     * KEYS[1]=lease 키, ARGV[1]=소유자 토큰, ARGV[2]=TTL(ms) - 내 lease 일 때만 연장
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]=lease 키, ARGV[1]=소유자 토큰 - 내 lease 일 때만 반납
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration leaseTtl;
+    private final String ownerToken = UUID.randomUUID().toString();
+
+    private volatile Long leasedNodeId;
+
+    public SnowflakeNodeIdLease(
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            @Value("${id-generator.lease-ttl-ms:60000}") long leaseTtlMs
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.leaseTtl = Duration.ofMillis(leaseTtlMs);
+    }
+
+    /**
+     * 비어 있는 노드 ID 를 선점한다 - 순번(INCR)에서 시작해 한 바퀴 돌며 SET NX PX 로 시도
+     *
+     * @throws IllegalStateException 모든 노드 ID 가 사용 중인 경우
+     */
+    public synchronized long acquire() {
+        if (leasedNodeId != null) {
+            return leasedNodeId;
+        }
+
+        long nodeCount = SnowflakeIdGenerator.MAX_NODE_ID + 1;
+        Long start = redisTemplate.opsForValue().increment(SEQUENCE_KEY);
+        for (long i = 0; i < nodeCount; i++) {
+            long candidate = Math.floorMod(start + i, nodeCount);
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(getLeaseKey(candidate), ownerToken, leaseTtl);
+            if (Boolean.TRUE.equals(acquired)) {
+                leasedNodeId = candidate;
+                log.info("Snowflake 노드 ID lease 선점: nodeId={}, ttl={}", candidate, leaseTtl);
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("사용 가능한 Snowflake 노드 ID 가 없습니다. id-generator.node-id 를 직접 지정하세요.");
+    }
+
+    /**
+     * lease 연장 - TTL 의 1/3 주기
+     * - 연장에 실패하면(TTL 만료 등) 같은 노드 ID 를 다시 선점하고, 다른 인스턴스가 가져갔으면 오류를 남긴다
+     */
+    @Scheduled(fixedDelayString = "#{${id-generator.lease-ttl-ms:60000} / 3}")
+    public void renew() {
+        Long nodeId = leasedNodeId;
+        if (nodeId == null) {
+            return;
+        }
+
+        String key = getLeaseKey(nodeId);
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), ownerToken, String.valueOf(leaseTtl.toMillis()));
+        if (Long.valueOf(1L).equals(renewed)) {
+            return;
+        }
+
+        Boolean reacquired = redisTemplate.opsForValue().setIfAbsent(key, ownerToken, leaseTtl);
+        if (Boolean.TRUE.equals(reacquired)) {
+            log.warn("Snowflake 노드 ID lease 만료 후 재선점: nodeId={}", nodeId);
+        } else {
+            log.error("Snowflake 노드 ID lease 를 다른 인스턴스가 선점했습니다. ID 충돌 위험 - 인스턴스를 재시작하세요. nodeId={}", nodeId);
+        }
+    }
+
+    @PreDestroy
+    void release() {
+        Long nodeId = leasedNodeId;
+        if (nodeId == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(getLeaseKey(nodeId)), ownerToken);
+            log.info("Snowflake 노드 ID lease 반납: nodeId={}", nodeId);
+        } catch (Exception e) {
+            // 반납 실패 시 TTL 만료 후 풀린다
+            log.warn("Snowflake 노드 ID lease 반납 실패: nodeId={}, error={}", nodeId, e.getMessage());
+        }
+    }
+
+    private static String getLeaseKey(long nodeId) {
+        return LEASE_KEY_PREFIX + nodeId;
+    }
+}
@@ -3,6 +3,9 @@ package com.hh.ecom.common.lock;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 @Getter
 @AllArgsConstructor
 public enum LockDomain {
@@ -27,4 +30,19 @@ public enum LockDomain {
         }
         return prefix + ":" + id;
     }
+
+    /**
+     * 락 키에서 도메인을 찾습니다. (메트릭 태깅용)
+     *
+     * @param lockKey 락 키 (예: "lock:product:123")
+     * @return prefix 가 일치하는 도메인, 없으면 empty
+     */
+    public static Optional<LockDomain> fromKey(String lockKey) {
+        if (lockKey == null) {
+            return Optional.empty();
+        }
+        return Arrays.stream(values())
+                .filter(domain -> lockKey.startsWith(domain.prefix + ":"))
+                .findFirst();
+    }
 }
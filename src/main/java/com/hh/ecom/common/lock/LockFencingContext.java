@@ -0,0 +1,126 @@
+package com.hh.ecom.common.lock;
+
+import com.hh.ecom.common.lock.exception.StaleLockTokenException;
+import com.hh.ecom.common.lock.util.LockLease;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 현재 스레드가 보유한 분산 락의 fencing token
+ *
+ * <p>RedisLockExecutor 가 락을 획득할 때 키별로 단조 증가하는 토큰을 발급해 바인딩하고, 해제 시 제거합니다.
+ * 저장소는 쓰기 시 이 토큰을 함께 보내고, 이미 더 큰 토큰으로 쓰인 행/키에는 쓰기를 거부합니다.
+ * lease 가 만료된 뒤 늦게 도착한 이전 보유자의 쓰기가 새 보유자의 결과를 덮어쓰지 못하게 하기 위함입니다.
+ *
+ * <p>재진입 시에는 바깥 호출이 받은 토큰을 그대로 사용합니다.
+ *
+ * <p>락 실행기는 lease 세션({@link LockLease})도 함께 바인딩합니다. 토큰으로 쓰는 저장소는 {@link #guardCommit()} 으로
+ * 커밋 직전 lease 유실 검사를 등록하여, 갱신이 밀려 락을 잃은 작업이 커밋되지 않게 합니다.
+ */
+public final class LockFencingContext {
+    private static final ThreadLocal<Map<String, Long>> TOKENS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<List<LockLease>> LEASES = ThreadLocal.withInitial(ArrayList::new);
+
+    private LockFencingContext() {
+    }
+
+    public static OptionalLong currentToken(String lockKey) {
+        Long token = TOKENS.get().get(lockKey);
+        return token == null ? OptionalLong.empty() : OptionalLong.of(token);
+    }
+
+    public static OptionalLong currentToken(LockDomain domain, Long id) {
+        return currentToken(domain.formatKey(id));
+    }
+
+    /**
+     * 도메인 리소스 ID → 토큰 (토큰이 바인딩된 ID 만 포함)
+     */
+    public static Map<Long, Long> currentTokens(LockDomain domain, Collection<Long> ids) {
+        Map<String, Long> tokens = TOKENS.get();
+        Map<Long, Long> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            Long token = tokens.get(domain.formatKey(id));
+            if (token != null) {
+                result.put(id, token);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * RedisLockExecutor 전용 - 락 획득 직후 호출
+     *
+     * @return 새로 바인딩했으면 true, 이미 바인딩된 키(재진입)면 false
+     */
+    public static boolean bind(String lockKey, long token) {
+        return TOKENS.get().putIfAbsent(lockKey, token) == null;
+    }
+
+    /**
+     * RedisLockExecutor 전용 - bind 가 true 를 반환한 호출이 락 해제 시 호출
+     */
+    public static void unbind(String lockKey) {
+        Map<String, Long> tokens = TOKENS.get();
+        tokens.remove(lockKey);
+        if (tokens.isEmpty()) {
+            TOKENS.remove();
+        }
+    }
+
+    /**
+     * 락 실행기 전용 - 작업 실행 직전 호출 (해제 시 unbindLease)
+     */
+    public static void bindLease(LockLease lease) {
+        LEASES.get().add(lease);
+    }
+
+    public static void unbindLease(LockLease lease) {
+        List<LockLease> leases = LEASES.get();
+        leases.remove(lease);
+        if (leases.isEmpty()) {
+            LEASES.remove();
+        }
+    }
+
+    /**
+     * 현재 스레드에 바인딩된 lease 중 하나라도 유실되었으면 실패
+     *
+     * @throws StaleLockTokenException lease 갱신에 실패해 락을 잃었을 수 있는 경우
+     */
+    public static void verifyLeases() {
+        for (LockLease lease : LEASES.get()) {
+            if (lease.isLost()) {
+                throw new StaleLockTokenException("락 lease 가 유실되어 다른 요청이 선점했을 수 있습니다. key: " + lease.getLostKey());
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 트랜잭션의 커밋 직전에 {@link #verifyLeases()} 를 실행하도록 등록 (트랜잭션당 1회)
+     * - 락 보유 중 토큰으로 쓰는 저장소가 쓰기 시점에 호출한다. lease 가 바인딩되지 않았거나 트랜잭션이 없으면 아무 것도 하지 않는다
+     */
+    public static void guardCommit() {
+        if (LEASES.get().isEmpty()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.getSynchronizations().stream().anyMatch(LeaseCommitGuard.class::isInstance)) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new LeaseCommitGuard());
+    }
+
+    private static class LeaseCommitGuard implements TransactionSynchronization {
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            verifyLeases();
+        }
+    }
+}
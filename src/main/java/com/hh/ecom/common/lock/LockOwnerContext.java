@@ -0,0 +1,50 @@
+package com.hh.ecom.common.lock;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 분산 락 소유자 ID
+ *
+ * <p>Redisson 은 기본적으로 스레드 ID 로 락 소유자(재진입 단위)를 정합니다.
+ * 비동기 실행에서는 락을 잡는 스레드와 작업을 실행하는 스레드가 다르므로, 명시적인 소유자 ID(세션)를 락 소유자로 씁니다.
+ * 작업 실행 중에는 이 컨텍스트에 소유자 ID 를 바인딩하여, 같은 스레드의 동기 락 호출도 같은 소유자로 재진입하게 합니다.
+ *
+ * <p>발급하는 소유자 ID 는 음수라서 실제 스레드 ID 와 겹치지 않습니다.
+ */
+public final class LockOwnerContext {
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final ThreadLocal<Long> OWNER = new ThreadLocal<>();
+
+    private LockOwnerContext() {
+    }
+
+    public static long newOwnerId() {
+        return -SEQUENCE.incrementAndGet();
+    }
+
+    /**
+     * 바인딩된 소유자 ID, 없으면 현재 스레드 ID
+     */
+    public static long currentOwnerId() {
+        Long ownerId = OWNER.get();
+        return ownerId != null ? ownerId : Thread.currentThread().getId();
+    }
+
+    /**
+     * 소유자 ID 를 바인딩한 채로 작업 실행 (중첩 호출 시 바깥 소유자를 복원)
+     */
+    public static <T> T callAs(long ownerId, Supplier<T> action) {
+        Long previous = OWNER.get();
+        OWNER.set(ownerId);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                OWNER.remove();
+            } else {
+                OWNER.set(previous);
+            }
+        }
+    }
+}
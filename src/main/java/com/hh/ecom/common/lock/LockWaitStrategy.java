@@ -0,0 +1,35 @@
+package com.hh.ecom.common.lock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 분산 락 대기 방식
+ *
+ * <p>같은 락 키는 항상 같은 공정성(FAIR / 비공정) 방식으로 사용해야 합니다.
+ * FAIR 락의 해제 알림은 대기열 다음 스레드 채널로만 발행되므로, 비공정 방식 대기자는 알림을 받지 못하고 TTL 만료까지 기다리게 됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum LockWaitStrategy {
+    /**
+     * tryLock(0) 후 고정 간격 sleep 을 반복 (기존 방식)
+     * - 대기자마다 최대 재시도 간격만큼 지연이 추가되고, 경합 시 Redis 로 재시도 요청이 몰린다
+     */
+    SPIN(false),
+
+    /**
+     * Redisson pub/sub 해제 알림을 받을 때까지 대기 (비공정)
+     * - 해제 즉시 깨어나므로 불필요한 지연과 재시도 요청이 없다
+     */
+    SUBSCRIBE(false),
+
+    /**
+     * Redisson Fair Lock - 요청 순서(FIFO) 대로 락을 넘겨받음
+     * - 경합이 심한 키에서 특정 요청이 계속 밀려 타임아웃되는 기아 상태를 막는다
+     */
+    FAIR(true),
+    ;
+
+    private final boolean fair;
+}
@@ -0,0 +1,11 @@
+package com.hh.ecom.common.lock.exception;
+
+/**
+ * lease 만료 후 다른 요청이 같은 락을 더 큰 fencing token 으로 획득하여, 현재 요청의 쓰기가 거부된 경우
+ */
+public class StaleLockTokenException extends LockAcquisitionException {
+
+    public StaleLockTokenException(String message) {
+        super(message);
+    }
+}
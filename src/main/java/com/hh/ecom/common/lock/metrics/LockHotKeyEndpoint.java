@@ -0,0 +1,35 @@
+package com.hh.ecom.common.lock.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 경합이 심한 락 키 조회 (GET /actuator/lockhotkeys?limit=20)
+ * - DELETE 로 집계를 초기화하여 특정 구간(예: 플래시 세일 시작 직후)만 관찰할 수 있다
+ */
+@Component
+@Endpoint(id = "lockhotkeys")
+@RequiredArgsConstructor
+public class LockHotKeyEndpoint {
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 500;
+
+    private final LockHotKeyTracker hotKeyTracker;
+
+    @ReadOperation
+    public List<LockHotKeyTracker.HotLockKey> topKeys(@Nullable Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+        return hotKeyTracker.topKeys(size);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        hotKeyTracker.reset();
+    }
+}
@@ -0,0 +1,107 @@
+package com.hh.ecom.common.lock.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 락 키별 경합 통계 (top-N hot key 조회용)
+ *
+ * <p>키 단위 태그는 카디널리티가 무한히 커질 수 있어 Micrometer 로 내보내지 않고 메모리에서 집계합니다.
+ * 추적 키 수가 상한을 넘으면 누적 대기 시간이 작은 절반을 버려, 계속 뜨거운 키만 남도록 합니다.
+ */
+@Component
+public class LockHotKeyTracker {
+    private static final int MAX_TRACKED_KEYS = 10_000;
+
+    private final Map<String, KeyStats> stats = new ConcurrentHashMap<>();
+
+    public void recordAcquired(String lockKey, long waitNanos) {
+        KeyStats keyStats = statsOf(lockKey);
+        keyStats.acquisitions.increment();
+        keyStats.totalWaitNanos.add(waitNanos);
+        keyStats.maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    public void recordFailed(String lockKey, long waitNanos) {
+        KeyStats keyStats = statsOf(lockKey);
+        keyStats.failures.increment();
+        keyStats.totalWaitNanos.add(waitNanos);
+        keyStats.maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * 누적 대기 시간이 큰 순서로 상위 limit 개
+     */
+    public List<HotLockKey> topKeys(int limit) {
+        return stats.entrySet().stream()
+                .map(entry -> entry.getValue().toHotLockKey(entry.getKey()))
+                .sorted(Comparator.comparingLong(HotLockKey::totalWaitMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    private KeyStats statsOf(String lockKey) {
+        KeyStats keyStats = stats.get(lockKey);
+        if (keyStats != null) {
+            return keyStats;
+        }
+        if (stats.size() >= MAX_TRACKED_KEYS) {
+            evictColdKeys();
+        }
+        return stats.computeIfAbsent(lockKey, key -> new KeyStats());
+    }
+
+    private synchronized void evictColdKeys() {
+        if (stats.size() < MAX_TRACKED_KEYS) {
+            return;
+        }
+        stats.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().totalWaitNanos.sum()))
+                .limit(stats.size() / 2)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(stats::remove);
+    }
+
+    private static class KeyStats {
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        private HotLockKey toHotLockKey(String lockKey) {
+            long acquired = acquisitions.sum();
+            long failed = failures.sum();
+            long totalWait = totalWaitNanos.sum();
+            long attempts = acquired + failed;
+            return new HotLockKey(
+                    lockKey,
+                    acquired,
+                    failed,
+                    totalWait / 1_000_000,
+                    attempts == 0 ? 0 : totalWait / attempts / 1_000_000,
+                    maxWaitNanos.get() / 1_000_000
+            );
+        }
+    }
+
+    public record HotLockKey(
+            String lockKey,
+            long acquisitions,
+            long failures,
+            long totalWaitMs,
+            long avgWaitMs,
+            long maxWaitMs
+    ) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.hh.ecom.common.lock.metrics;
+
+import com.hh.ecom.common.lock.LockDomain;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분산 락 메트릭 (LockDomain 태그)
+ *
+ * <ul>
+ *   <li>lock.wait    (Timer)   : 락 요청 ~ 획득/실패까지 대기 시간, result=acquired|failed</li>
+ *   <li>lock.hold    (Timer)   : 락 획득 ~ 해제까지 보유 시간 - lease time 산정 기준</li>
+ *   <li>lock.failures (Counter): 대기 시간 내 획득 실패 횟수</li>
+ *   <li>lock.reentrant (Counter): 같은 스레드의 재진입 횟수</li>
+ * </ul>
+ *
+ * 여러 키를 한 번에 잡은 경우 키가 속한 도메인마다 한 번씩 기록합니다. 키 단위 통계는 {@link LockHotKeyTracker} 가 담당합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LockMetrics {
+    private static final String UNKNOWN_DOMAIN = "OTHER";
+
+    private final MeterRegistry meterRegistry;
+    private final LockHotKeyTracker hotKeyTracker;
+
+    public void recordAcquired(List<String> lockKeys, long waitNanos) {
+        domainsOf(lockKeys).forEach(domain -> waitTimer(domain, "acquired").record(waitNanos, TimeUnit.NANOSECONDS));
+        lockKeys.forEach(key -> hotKeyTracker.recordAcquired(key, waitNanos));
+    }
+
+    public void recordFailed(List<String> lockKeys, long waitNanos) {
+        domainsOf(lockKeys).forEach(domain -> {
+            waitTimer(domain, "failed").record(waitNanos, TimeUnit.NANOSECONDS);
+            Counter.builder("lock.failures")
+                    .description("분산 락 획득 실패 횟수")
+                    .tag("domain", domain)
+                    .register(meterRegistry)
+                    .increment();
+        });
+        lockKeys.forEach(key -> hotKeyTracker.recordFailed(key, waitNanos));
+    }
+
+    public void recordReleased(List<String> lockKeys, long holdNanos) {
+        domainsOf(lockKeys).forEach(domain -> Timer.builder("lock.hold")
+                .description("분산 락 보유 시간")
+                .tag("domain", domain)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(holdNanos, TimeUnit.NANOSECONDS));
+    }
+
+    public void recordReentrant(String lockKey) {
+        Counter.builder("lock.reentrant")
+                .description("분산 락 재진입 횟수")
+                .tag("domain", domainOf(lockKey))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer waitTimer(String domain, String result) {
+        return Timer.builder("lock.wait")
+                .description("분산 락 획득 대기 시간")
+                .tag("domain", domain)
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private static List<String> domainsOf(List<String> lockKeys) {
+        return lockKeys.stream()
+                .map(LockMetrics::domainOf)
+                .distinct()
+                .toList();
+    }
+
+    private static String domainOf(String lockKey) {
+        return LockDomain.fromKey(lockKey)
+                .map(LockDomain::name)
+                .orElse(UNKNOWN_DOMAIN);
+    }
+}
@@ -0,0 +1,83 @@
+package com.hh.ecom.common.lock.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 락 실행 1회(세션)가 보유한 키들의 lease 상태
+ *
+ * <p>키를 획득하는 즉시 {@link #add(String)} 로 등록하면 {@link LockLeaseWatchdog} 가 다음 tick 부터 TTL 을 연장합니다.
+ * 여러 키를 순서대로 잡는 동안 먼저 잡은 키도 갱신되므로, 뒤쪽 키를 기다리다 앞쪽 키의 lease 가 끝나지 않습니다.
+ *
+ * <p>갱신 스크립트가 키를 보유하지 않았다고 답하거나 lease 시간 안에 갱신에 성공하지 못하면 lost 로 기록합니다.
+ * 작업은 커밋 직전에 이 상태를 확인해 실패합니다 ({@link com.hh.ecom.common.lock.LockFencingContext#verifyLeases()}).
+ */
+@Slf4j
+public class LockLease {
+    private final String owner;
+    private final long leaseTime;
+
+    // 락 키 → 마지막으로 TTL 이 설정된 시각 (획득 또는 갱신 성공)
+    private final Map<String, Long> renewedAt = new ConcurrentHashMap<>();
+    private volatile String lostKey;
+
+    LockLease(String owner, long leaseTime) {
+        this.owner = owner;
+        this.leaseTime = leaseTime;
+    }
+
+    /**
+     * 키 획득 직후 호출 - 이 시점부터 watchdog 이 갱신한다
+     */
+    public void add(String lockKey) {
+        renewedAt.put(lockKey, System.currentTimeMillis());
+    }
+
+    public boolean isLost() {
+        return lostKey != null;
+    }
+
+    public String getLostKey() {
+        return lostKey;
+    }
+
+    String getOwner() {
+        return owner;
+    }
+
+    long getLeaseTime() {
+        return leaseTime;
+    }
+
+    /**
+     * 갱신할 키 목록 - 마지막 TTL 설정 후 lease 의 1/3 이 지난 키
+     * - lease 가 다 지나도록 갱신하지 못한 키는 이미 풀렸을 수 있으므로 lost 로 기록하고 제외한다
+     */
+    List<String> dueKeys(long now) {
+        List<String> due = new ArrayList<>();
+        renewedAt.forEach((lockKey, at) -> {
+            long elapsed = now - at;
+            if (elapsed >= leaseTime) {
+                markLost(lockKey, "갱신 지연 " + elapsed + "ms");
+            } else if (elapsed >= leaseTime / 3) {
+                due.add(lockKey);
+            }
+        });
+        return isLost() ? List.of() : due;
+    }
+
+    void renewed(String lockKey, long at) {
+        renewedAt.computeIfPresent(lockKey, (key, previous) -> Math.max(previous, at));
+    }
+
+    void markLost(String lockKey, String reason) {
+        if (lostKey == null) {
+            lostKey = lockKey;
+            log.warn("락 lease 유실: key={}, owner={}, reason={}", lockKey, owner, reason);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.hh.ecom.common.lock.util;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 짧은 lease 를 쓰기 위한 lease 갱신 watchdog
+ *
+ * <p>노드가 보유한 모든 {@link LockLease} 를 하나의 tick 에서 모아, 갱신할 때가 된 키(lease 의 1/3 경과)를
+ * Lua 스크립트 1회 비동기 호출로 한꺼번에 연장합니다. 보유 락 개수와 무관하게 tick 당 Redis 호출은 최대 1번이고,
+ * tick 스레드는 응답을 기다리지 않습니다. 이전 호출이 끝나지 않았으면 그 tick 은 건너뜁니다.
+ *
+ * <p>갱신 결과 이미 보유하지 않은 키나 lease 시간 안에 갱신하지 못한 키는 세션에 lost 로 기록되고,
+ * 작업은 커밋 직전에 실패합니다. 노드가 죽으면 갱신이 멈춰 lease 안에 락이 풀립니다.
+ * (여러 키를 한 스크립트로 갱신하므로 단일 Redis 기준이며, Redis Cluster 에서는 slot 별로 나눠 호출해야 한다)
+ */
+@Slf4j
+@Component
+public class LockLeaseWatchdog {
+    private static final long TICK_INTERVAL_MS = 50;
+
+    private final RedisMultiLock redisMultiLock;
+    private final Set<LockLease> leases = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean renewing = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler;
+
+    public LockLeaseWatchdog(RedisMultiLock redisMultiLock) {
+        this.redisMultiLock = redisMultiLock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lock-lease-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::tick, TICK_INTERVAL_MS, TICK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 현재 스레드(또는 바인딩된 소유자)의 lease 세션 시작 - 키를 잡을 때마다 add 하고, 해제 직전에 close 해야 한다
+     */
+    public LockLease open(long leaseTime) {
+        return open(redisMultiLock.currentOwner(), leaseTime);
+    }
+
+    /**
+     * 지정한 소유자의 lease 세션 시작 (비동기 실행처럼 락을 잡은 스레드와 소유자가 다른 경우)
+     */
+    public LockLease open(String owner, long leaseTime) {
+        LockLease lease = new LockLease(owner, leaseTime);
+        leases.add(lease);
+        return lease;
+    }
+
+    public void close(LockLease lease) {
+        if (lease != null) {
+            leases.remove(lease);
+        }
+    }
+
+    void tick() {
+        if (leases.isEmpty() || !renewing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            List<LockLease> owners = new ArrayList<>();
+            List<String> keys = new ArrayList<>();
+            for (LockLease lease : leases) {
+                for (String lockKey : lease.dueKeys(now)) {
+                    owners.add(lease);
+                    keys.add(lockKey);
+                }
+            }
+            if (keys.isEmpty()) {
+                renewing.set(false);
+                return;
+            }
+
+            List<String> ownerNames = owners.stream().map(LockLease::getOwner).toList();
+            List<Long> leaseTimes = owners.stream().map(LockLease::getLeaseTime).toList();
+            redisMultiLock.renewAsync(keys, ownerNames, leaseTimes).whenComplete((renewed, error) -> {
+                try {
+                    if (error != null) {
+                        // 실패한 키는 다음 tick 에 다시 시도하고, lease 안에 성공하지 못하면 dueKeys 에서 lost 로 기록된다
+                        log.error("lease 갱신 실패: keys={}, error={}", keys.size(), error.getMessage());
+                        return;
+                    }
+                    for (int i = 0; i < keys.size(); i++) {
+                        if (renewed.get(i)) {
+                            owners.get(i).renewed(keys.get(i), now);
+                        } else {
+                            owners.get(i).markLost(keys.get(i), "만료 후 다른 요청이 획득했을 수 있음");
+                        }
+                    }
+                } finally {
+                    renewing.set(false);
+                }
+            });
+        } catch (Exception e) {
+            renewing.set(false);
+            log.error("lease 갱신 요청 실패: error={}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
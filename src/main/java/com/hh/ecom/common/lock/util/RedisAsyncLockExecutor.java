@@ -0,0 +1,256 @@
+package com.hh.ecom.common.lock.util;
+
+import com.hh.ecom.common.lock.LockFencingContext;
+import com.hh.ecom.common.lock.LockOwnerContext;
+import com.hh.ecom.common.lock.exception.LockAcquisitionException;
+import com.hh.ecom.common.lock.metrics.LockMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Redis 기반 비동기 분산 락 실행기 (RLockAsync)
+ * 락 대기 동안 스레드를 점유하지 않고, 모든 키를 잡은 뒤의 작업만 전용 Executor 에서 실행합니다.
+ *
+ * <p>특징:
+ * <ul>
+ *   <li>소유자 = 명시적 ID: 스레드 ID 대신 {@link LockOwnerContext#newOwnerId()} 로 발급한 ID 로 락을 잡는다 → 락을 잡는 스레드와 작업 스레드가 달라도 된다</li>
+ *   <li>Reentrant 지원: 같은 ownerId 로 다시 호출하면 재진입하고, 바깥 호출의 fencing token 을 그대로 쓴다</li>
+ *   <li>작업 실행 중에는 ownerId 와 fencing token 을 작업 스레드에 바인딩 → 작업 안의 {@link RedisLockExecutor} 호출도 같은 소유자로 재진입</li>
+ *   <li>짧은 lease + {@link LockLeaseWatchdog} 갱신: 키를 잡는 즉시 등록하므로 뒤쪽 키를 기다리는 동안에도 앞쪽 키의 lease 가 유지된다</li>
+ *   <li>lease 유실 감지와 메트릭은 동기 실행기와 동일</li>
+ *   <li>작업 Executor(lockTaskExecutor)는 크기가 제한되어 있고, 가득 차면 future 가 RejectedExecutionException 으로 실패한다</li>
+ * </ul>
+ *
+ * <p>노드 내 로컬 줄 세우기({@link LocalLockStripes})는 스레드를 막아야 하므로 쓰지 않습니다.
+ * 하나의 ownerId 는 한 번에 하나의 흐름(세션)에서만 써야 합니다.
+ *
+ * 사용 예시:
+ * <pre>
+ * redisAsyncLockExecutor.executeWithLockAsync(lockKeys, () ->
+ *     transactionTemplate.execute(status -> {
+ *         // 비즈니스 로직 구현
+ *         return result;
+ *     })
+ * ).thenApply(OrderResponse::from);
+ * </pre>
+ */
+@Slf4j
+@Component
+public class RedisAsyncLockExecutor {
+    private static final long DEFAULT_WAIT_TIME_MS = 3000;
+    private static final long DEFAULT_LEASE_TIME_MS = 500;
+
+    private final RedissonClient redissonClient;
+    private final RedisMultiLock redisMultiLock;
+    private final LockLeaseWatchdog leaseWatchdog;
+    private final LockMetrics lockMetrics;
+    private final Executor lockTaskExecutor;
+
+    /**
+     * ownerId → (락 키 → fencing token): 같은 소유자의 재진입 판단 및 토큰 재사용
+     */
+    private final Map<Long, Map<String, Long>> heldTokens = new ConcurrentHashMap<>();
+
+    public RedisAsyncLockExecutor(
+            RedissonClient redissonClient,
+            RedisMultiLock redisMultiLock,
+            LockLeaseWatchdog leaseWatchdog,
+            LockMetrics lockMetrics,
+            @Qualifier("lockTaskExecutor") Executor lockTaskExecutor
+    ) {
+        this.redissonClient = redissonClient;
+        this.redisMultiLock = redisMultiLock;
+        this.leaseWatchdog = leaseWatchdog;
+        this.lockMetrics = lockMetrics;
+        this.lockTaskExecutor = lockTaskExecutor;
+    }
+
+    /**
+     * 새 소유자 ID 로 락을 획득하고 작업을 실행합니다.
+     *
+     * @param lockKeys 락 키 리스트 (정렬된 상태로 전달 권장)
+     * @param action 실행할 작업 (lockTaskExecutor 에서 실행)
+     * @return 작업 결과 future - 락은 future 완료 전에 해제된다. 획득 실패 시 LockAcquisitionException 으로 완료
+     */
+    public <T> CompletableFuture<T> executeWithLockAsync(List<String> lockKeys, Supplier<T> action) {
+        return executeWithLockAsync(lockKeys, LockOwnerContext.newOwnerId(), action);
+    }
+
+    /**
+     * 지정한 소유자 ID 로 락을 획득하고 작업을 실행합니다. (같은 ownerId 로 이미 잡은 키는 재진입)
+     */
+    public <T> CompletableFuture<T> executeWithLockAsync(List<String> lockKeys, long ownerId, Supplier<T> action) {
+        return executeWithLockAsync(lockKeys, ownerId, action, DEFAULT_WAIT_TIME_MS, DEFAULT_LEASE_TIME_MS);
+    }
+
+    /**
+     * 지정한 소유자 ID 로 락을 획득하고 작업을 실행합니다. (타임아웃 커스터마이징)
+     *
+     * @param lockKeys 락 키 리스트
+     * @param ownerId 락 소유자 ID
+     * @param action 실행할 작업
+     * @param waitTime 락 획득 대기 시간 (밀리초, 모든 키 획득에 걸리는 전체 시간)
+     * @param leaseTime 락 자동 해제 시간 (밀리초)
+     * @return 작업 결과 future
+     */
+    public <T> CompletableFuture<T> executeWithLockAsync(List<String> lockKeys, long ownerId, Supplier<T> action,
+                                                         long waitTime, long leaseTime) {
+        if (lockKeys == null || lockKeys.isEmpty()) {
+            log.warn("락 키가 비어있습니다. 락 없이 작업을 실행합니다.");
+            return CompletableFuture.supplyAsync(() -> LockOwnerContext.callAs(ownerId, action), lockTaskExecutor);
+        }
+
+        AsyncLockSession session = new AsyncLockSession(lockKeys, ownerId, leaseTime);
+        CompletableFuture<T> execution = session.acquire(waitTime)
+                .thenCompose(ignored -> session.run(action));
+
+        // 작업 성공/실패와 무관하게 해제가 끝난 뒤 작업 결과로 완료
+        return execution
+                .handle((result, error) -> session.release())
+                .thenCompose(Function.identity())
+                .thenCompose(ignored -> execution);
+    }
+
+    /**
+     * executeWithLockAsync 1회 호출의 획득/해제 상태
+     */
+    private class AsyncLockSession {
+        private final List<String> lockKeys;
+        private final long ownerId;
+        private final long leaseTime;
+        private final Map<String, Long> ownerTokens;
+
+        private final List<RLock> acquiredLocks = new ArrayList<>();
+        private final List<String> fencedKeys = new ArrayList<>();
+        private final long requestedAt = System.nanoTime();
+        private final LockLease lease;
+        private long acquiredAt;
+
+        AsyncLockSession(List<String> lockKeys, long ownerId, long leaseTime) {
+            this.lockKeys = List.copyOf(lockKeys);
+            this.ownerId = ownerId;
+            this.leaseTime = leaseTime;
+            this.ownerTokens = heldTokens.computeIfAbsent(ownerId, id -> new ConcurrentHashMap<>());
+            this.lease = leaseWatchdog.open(redisMultiLock.ownerName(ownerId), leaseTime);
+        }
+
+        /**
+         * 키를 순서대로 하나씩 획득 - 각 키의 대기는 Redisson 해제 알림(pub/sub) 콜백으로 이어진다
+         * - 잡은 키는 바로 lease 세션에 등록되어, 뒤쪽 키를 기다리는 동안에도 watchdog 이 연장한다
+         */
+        CompletableFuture<Void> acquire(long waitTime) {
+            final long deadline = System.currentTimeMillis() + waitTime;
+
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (String lockKey : lockKeys) {
+                chain = chain.thenCompose(ignored -> acquire(lockKey, deadline, waitTime));
+            }
+
+            return chain.whenComplete((ignored, error) -> {
+                if (error != null) {
+                    lockMetrics.recordFailed(lockKeys, System.nanoTime() - requestedAt);
+                    return;
+                }
+                acquiredAt = System.nanoTime();
+                lockMetrics.recordAcquired(lockKeys, acquiredAt - requestedAt);
+                log.debug("비동기 락 획득 완료: keys={}, ownerId={}", lockKeys.size(), ownerId);
+            });
+        }
+
+        private CompletableFuture<Void> acquire(String lockKey, long deadline, long waitTime) {
+            RLock lock = redissonClient.getLock(lockKey);
+            long remaining = Math.max(deadline - System.currentTimeMillis(), 0);
+
+            return lock.tryLockAsync(remaining, leaseTime, TimeUnit.MILLISECONDS, ownerId).toCompletableFuture()
+                    .thenCompose(acquired -> {
+                        if (!acquired) {
+                            log.error("비동기 락 획득 실패: key={}, timeout={}ms", lockKey, waitTime);
+                            throw new LockAcquisitionException(
+                                    String.format("락 획득 실패: %s (timeout: %dms)", lockKey, waitTime)
+                            );
+                        }
+                        acquiredLocks.add(lock);
+
+                        if (ownerTokens.containsKey(lockKey)) {
+                            lockMetrics.recordReentrant(lockKey);
+                            log.debug("비동기 락 재진입 성공 (Reentrant): key={}, ownerId={}", lockKey, ownerId);
+                            return CompletableFuture.completedFuture(null);
+                        }
+                        lease.add(lockKey);
+                        return redisMultiLock.issueTokenAsync(lockKey).thenAccept(token -> {
+                            ownerTokens.put(lockKey, token);
+                            fencedKeys.add(lockKey);
+                        });
+                    });
+        }
+
+        /**
+         * 작업 스레드에 ownerId, fencing token, lease 세션을 바인딩한 채로 작업 실행
+         * - lease 를 잃었으면 토큰으로 쓰는 저장소의 커밋 직전 검사에서 실패하고, 호출 측 트랜잭션 안이면 작업 직후 확인한다
+         */
+        <T> CompletableFuture<T> run(Supplier<T> action) {
+            return CompletableFuture.supplyAsync(() -> LockOwnerContext.callAs(ownerId, () -> {
+                List<String> boundKeys = new ArrayList<>(lockKeys.size());
+                LockFencingContext.bindLease(lease);
+                try {
+                    for (String lockKey : lockKeys) {
+                        if (LockFencingContext.bind(lockKey, ownerTokens.get(lockKey))) {
+                            boundKeys.add(lockKey);
+                        }
+                    }
+                    T result = action.get();
+                    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                        LockFencingContext.verifyLeases();
+                    }
+                    return result;
+                } finally {
+                    boundKeys.forEach(LockFencingContext::unbind);
+                    LockFencingContext.unbindLease(lease);
+                }
+            }), lockTaskExecutor);
+        }
+
+        /**
+         * 획득한 역순으로 해제 요청을 보내고 모두 끝나면 완료 (해제 실패는 로그만 남기고 lease 만료에 맡긴다)
+         */
+        CompletableFuture<Void> release() {
+            leaseWatchdog.close(lease);
+
+            List<CompletableFuture<Void>> unlocks = new ArrayList<>(acquiredLocks.size());
+            for (int i = acquiredLocks.size() - 1; i >= 0; i--) {
+                RLock lock = acquiredLocks.get(i);
+                unlocks.add(lock.unlockAsync(ownerId).toCompletableFuture()
+                        .exceptionally(error -> {
+                            log.error("비동기 락 해제 실패: {}, error={}", lock.getName(), error.getMessage());
+                            return null;
+                        }));
+            }
+
+            return CompletableFuture.allOf(unlocks.toArray(CompletableFuture[]::new))
+                    .whenComplete((ignored, error) -> {
+                        fencedKeys.forEach(ownerTokens::remove);
+                        if (ownerTokens.isEmpty()) {
+                            heldTokens.remove(ownerId, ownerTokens);
+                        }
+                        if (acquiredAt != 0) {
+                            lockMetrics.recordReleased(lockKeys, System.nanoTime() - acquiredAt);
+                        }
+                        log.debug("비동기 락 해제 완료: total={}, ownerId={}", acquiredLocks.size(), ownerId);
+                    });
+        }
+    }
+}
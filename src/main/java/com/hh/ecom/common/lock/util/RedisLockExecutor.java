@@ -1,24 +1,40 @@
 package com.hh.ecom.common.lock.util;
 
+import com.hh.ecom.common.lock.LockFencingContext;
+import com.hh.ecom.common.lock.LockOwnerContext;
+import com.hh.ecom.common.lock.LockWaitStrategy;
 import com.hh.ecom.common.lock.exception.LockAcquisitionException;
+import com.hh.ecom.common.lock.exception.StaleLockTokenException;
+import com.hh.ecom.common.lock.metrics.LockMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RFuture;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
- * Redis 기반 분산 락 실행기 (Reentrant + Spin Lock 방식)
+ * Redis 기반 분산 락 실행기 (Reentrant)
  * 여러 개의 락 키를 동시에 획득하고, 비즈니스 로직 실행 후 자동으로 해제합니다.
  *
  * <p>특징:
  * <ul>
- *   <li>Reentrant 지원: 같은 스레드에서 동일 락을 여러 번 획득 가능</li>
+ *   <li>Reentrant 지원: 같은 소유자(기본은 스레드, {@link LockOwnerContext} 에 바인딩된 경우 그 ID)가 동일 락을 여러 번 획득 가능</li>
+ *   <li>짧은 lease + 갱신: 기본 lease 500ms, 키를 잡는 즉시 {@link LockLeaseWatchdog} 가 연장 → 노드 장애 시 빠르게 해제</li>
+ *   <li>lease 유실 감지: 갱신에 실패해 락을 잃었으면 커밋 직전에 {@link StaleLockTokenException} 으로 작업을 실패시킨다</li>
+ *   <li>Fencing token: 키별 단조 증가 토큰을 {@link LockFencingContext} 에 바인딩 → 저장소가 오래된 토큰의 쓰기를 거부</li>
+ *   <li>메트릭: 도메인별 대기/보유 시간, 실패/재진입 횟수 ({@link LockMetrics})</li>
+ *   <li>로컬 줄 세우기: 같은 키를 원하는 노드 내 스레드는 {@link LocalLockStripes} 뒤에서 대기하고 한 스레드만 Redis 를 경합</li>
+ *   <li>대기 방식 선택: 호출부마다 {@link LockWaitStrategy} 지정 (기본값 SUBSCRIBE - 해제 알림 대기)</li>
  *   <li>데드락 방지: 정렬된 락 키 순서로 획득</li>
  *   <li>자동 해제: 예외 발생 시에도 finally 블록에서 락 해제</li>
  * </ul>
@@ -37,10 +53,15 @@ import java.util.function.Supplier;
 @RequiredArgsConstructor
 public class RedisLockExecutor {
     private static final long DEFAULT_WAIT_TIME_MS = 3000;
-    private static final long DEFAULT_LEASE_TIME_MS = 5000;
+    private static final long DEFAULT_LEASE_TIME_MS = 500;
     private static final long SPIN_LOCK_RETRY_INTERVAL_MS = 50;
+    private static final LockWaitStrategy DEFAULT_WAIT_STRATEGY = LockWaitStrategy.SUBSCRIBE;
 
     private final RedissonClient redissonClient;
+    private final RedisMultiLock redisMultiLock;
+    private final LocalLockStripes localLockStripes;
+    private final LockMetrics lockMetrics;
+    private final LockLeaseWatchdog leaseWatchdog;
 
     /**
      * 여러 락 키에 대해 분산 락을 획득하고 작업을 실행합니다.
@@ -51,7 +72,19 @@ public class RedisLockExecutor {
      * @throws LockAcquisitionException 락 획득 실패 시
      */
     public <T> T executeWithLock(List<String> lockKeys, Supplier<T> action) {
-        return executeWithLock(lockKeys, action, DEFAULT_WAIT_TIME_MS, DEFAULT_LEASE_TIME_MS);
+        return executeWithLock(lockKeys, action, DEFAULT_WAIT_TIME_MS, DEFAULT_LEASE_TIME_MS, DEFAULT_WAIT_STRATEGY);
+    }
+
+    /**
+     * 여러 락 키에 대해 분산 락을 획득하고 작업을 실행합니다. (대기 방식 지정)
+     *
+     * @param lockKeys 락 키 리스트
+     * @param action 실행할 작업
+     * @param waitStrategy 락 대기 방식
+     * @return 작업 결과
+     */
+    public <T> T executeWithLock(List<String> lockKeys, Supplier<T> action, LockWaitStrategy waitStrategy) {
+        return executeWithLock(lockKeys, action, DEFAULT_WAIT_TIME_MS, DEFAULT_LEASE_TIME_MS, waitStrategy);
     }
 
     /**
@@ -65,27 +98,47 @@ public class RedisLockExecutor {
      */
     public <T> T executeWithLock(List<String> lockKeys, Supplier<T> action,
                                    long waitTime, long leaseTime) {
+        return executeWithLock(lockKeys, action, waitTime, leaseTime, DEFAULT_WAIT_STRATEGY);
+    }
+
+    /**
+     * 여러 락 키에 대해 분산 락을 획득하고 작업을 실행합니다. (타임아웃 + 대기 방식 지정)
+     *
+     * @param lockKeys 락 키 리스트
+     * @param action 실행할 작업
+     * @param waitTime 락 획득 대기 시간 (밀리초, 모든 키 획득에 걸리는 전체 시간)
+     * @param leaseTime 락 자동 해제 시간 (밀리초)
+     * @param waitStrategy 락 대기 방식
+     * @return 작업 결과
+     */
+    public <T> T executeWithLock(List<String> lockKeys, Supplier<T> action,
+                                   long waitTime, long leaseTime, LockWaitStrategy waitStrategy) {
         if (lockKeys == null || lockKeys.isEmpty()) {
             log.warn("락 키가 비어있습니다. 락 없이 작업을 실행합니다.");
             return action.get();
         }
 
+        final long ownerId = LockOwnerContext.currentOwnerId();
         List<RLock> acquiredLocks = new ArrayList<>();
+        List<String> fencedKeys = new ArrayList<>();
+        LockLease lease = null;
         long startTime = System.currentTimeMillis();
+        long requestedAt = System.nanoTime();
+        long acquiredAt = 0;
+        List<ReentrantLock> localLocks = acquireLocalLocks(lockKeys, waitTime, requestedAt);
 
         try {
+            lease = leaseWatchdog.open(leaseTime);
             for (String lockKey : lockKeys) {
-                RLock lock = redissonClient.getLock(lockKey);
-
-                boolean acquired = acquireLockWithSpinning(
-                    lock,
-                    lockKey,
-                    waitTime,
-                    leaseTime,
-                    startTime
-                );
+                RLock lock = getLock(lockKey, waitStrategy);
+
+                boolean reentrant = lock.isHeldByThread(ownerId);
+                boolean acquired = reentrant
+                    ? reenterLock(lock, lockKey, leaseTime, ownerId)
+                    : acquireLock(lock, lockKey, ownerId, waitStrategy, waitTime, leaseTime, startTime);
 
                 if (!acquired) {
+                    lockMetrics.recordFailed(List.of(lockKey), System.nanoTime() - requestedAt);
                     log.error("락 획득 실패: key={}, timeout={}ms", lockKey, waitTime);
                     throw new LockAcquisitionException(
                         String.format("락 획득 실패: %s (timeout: %dms)", lockKey, waitTime)
@@ -93,15 +146,24 @@ public class RedisLockExecutor {
                 }
 
                 acquiredLocks.add(lock);
+                if (!reentrant) {
+                    // 뒤쪽 키를 기다리는 동안에도 먼저 잡은 키의 lease 가 연장되도록 바로 등록
+                    lease.add(lockKey);
+                    if (LockFencingContext.bind(lockKey, redisMultiLock.issueToken(lockKey))) {
+                        fencedKeys.add(lockKey);
+                    }
+                }
                 log.debug("락 획득 성공: key={}, acquired={}/{}",
                     lockKey, acquiredLocks.size(), lockKeys.size());
             }
 
+            acquiredAt = System.nanoTime();
+            lockMetrics.recordAcquired(lockKeys, acquiredAt - requestedAt);
             long elapsed = System.currentTimeMillis() - startTime;
             log.debug("모든 락 획득 완료: keys={}, elapsed={}ms", lockKeys.size(), elapsed);
 
             // 비즈니스 로직 실행
-            return action.get();
+            return runGuarded(lease, action);
 
         } catch (RuntimeException e) {
             log.debug("작업 실행 중 예외 발생: {}", e.getMessage());
@@ -112,47 +174,183 @@ public class RedisLockExecutor {
             throw new RuntimeException("분산 락 작업 실패", e);
 
         } finally {
-            releaseLocks(acquiredLocks);
+            leaseWatchdog.close(lease);
+            releaseLocks(acquiredLocks, ownerId);
+            fencedKeys.forEach(LockFencingContext::unbind);
+            localLockStripes.unlockAll(localLocks);
+            if (acquiredAt != 0) {
+                lockMetrics.recordReleased(lockKeys, System.nanoTime() - acquiredAt);
+            }
         }
     }
 
     /**
-     * Reentrant + Spin Lock 방식으로 락 획득 시도
+     * 여러 락 키를 Lua 스크립트 1회 호출로 전부 획득한 뒤 작업을 실행합니다. (all-or-nothing)
+     * - 키를 하나씩 획득하는 executeWithLock 과 달리 키 개수와 무관하게 획득/해제가 각각 1 RTT
+     * - 일부 키만 잡은 채로 나머지를 기다리지 않는다
+     *
+     * @param lockKeys 락 키 리스트
+     * @param action 실행할 작업
+     * @return 작업 결과
+     * @throws LockAcquisitionException 대기 시간 안에 모든 키를 획득하지 못한 경우
+     */
+    public <T> T executeWithAllLocks(List<String> lockKeys, Supplier<T> action) {
+        return executeWithAllLocks(lockKeys, action, DEFAULT_WAIT_TIME_MS, DEFAULT_LEASE_TIME_MS);
+    }
+
+    public <T> T executeWithAllLocks(List<String> lockKeys, Supplier<T> action, long waitTime, long leaseTime) {
+        if (lockKeys == null || lockKeys.isEmpty()) {
+            log.debug("락 키가 비어있습니다. 락 없이 작업을 실행합니다.");
+            return action.get();
+        }
+
+        long startTime = System.currentTimeMillis();
+        long requestedAt = System.nanoTime();
+        List<ReentrantLock> localLocks = acquireLocalLocks(lockKeys, waitTime, requestedAt);
+
+        try {
+            Optional<List<Long>> tokens;
+            try {
+                long remaining = Math.max(startTime + waitTime - System.currentTimeMillis(), 0);
+                tokens = redisMultiLock.tryLockAll(lockKeys, remaining, leaseTime);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("멀티 락 획득 중 인터럽트 발생: keys={}", lockKeys);
+                tokens = Optional.empty();
+            }
+
+            if (tokens.isEmpty()) {
+                lockMetrics.recordFailed(lockKeys, System.nanoTime() - requestedAt);
+                log.error("멀티 락 획득 실패: keys={}, timeout={}ms", lockKeys, waitTime);
+                throw new LockAcquisitionException(
+                    String.format("락 획득 실패: %s (timeout: %dms)", lockKeys, waitTime)
+                );
+            }
+            long acquiredAt = System.nanoTime();
+            lockMetrics.recordAcquired(lockKeys, acquiredAt - requestedAt);
+            log.debug("멀티 락 획득 완료: keys={}, elapsed={}ms", lockKeys.size(), System.currentTimeMillis() - startTime);
+
+            LockLease lease = leaseWatchdog.open(leaseTime);
+            lockKeys.forEach(lease::add);
+            List<String> fencedKeys = bindTokens(lockKeys, tokens.get());
+            try {
+                return runGuarded(lease, action);
+            } finally {
+                leaseWatchdog.close(lease);
+                fencedKeys.forEach(LockFencingContext::unbind);
+                try {
+                    redisMultiLock.unlockAll(lockKeys, leaseTime);
+                } catch (Exception e) {
+                    log.error("멀티 락 해제 실패: keys={}, error={}", lockKeys, e.getMessage());
+                }
+                lockMetrics.recordReleased(lockKeys, System.nanoTime() - acquiredAt);
+            }
+        } finally {
+            localLockStripes.unlockAll(localLocks);
+        }
+    }
+
+    /**
+     * lease 세션을 스레드에 바인딩한 채로 작업 실행
+     * - 작업 안에서 시작한 트랜잭션은 토큰으로 쓰는 저장소가 등록한 커밋 직전 검사로 실패한다 ({@link LockFencingContext#guardCommit()})
+     * - 호출 측 트랜잭션 안에서 실행되었다면 작업의 쓰기는 아직 커밋 전이므로, 여기서 확인해 예외로 롤백시킨다
+     */
+    private static <T> T runGuarded(LockLease lease, Supplier<T> action) {
+        LockFencingContext.bindLease(lease);
+        try {
+            T result = action.get();
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                LockFencingContext.verifyLeases();
+            }
+            return result;
+        } finally {
+            LockFencingContext.unbindLease(lease);
+        }
+    }
+
+    /**
+     * Redis 경합 전에 노드 내 같은 키 대기자끼리 로컬에서 먼저 줄을 선다
+     * - 로컬 대기 시간도 전체 대기 시간(waitTime)에 포함된다
+     */
+    private List<ReentrantLock> acquireLocalLocks(List<String> lockKeys, long waitTime, long requestedAt) {
+        List<ReentrantLock> localLocks = localLockStripes.stripesFor(lockKeys);
+        if (!localLockStripes.tryLockAll(localLocks, waitTime)) {
+            lockMetrics.recordFailed(lockKeys, System.nanoTime() - requestedAt);
+            log.error("로컬 락 대기 시간 초과: keys={}, timeout={}ms", lockKeys, waitTime);
+            throw new LockAcquisitionException(
+                String.format("락 획득 실패: %s (timeout: %dms)", lockKeys, waitTime)
+            );
+        }
+        return localLocks;
+    }
+
+    /**
+     * 새로 바인딩된(재진입이 아닌) 키 목록 반환 - 이 호출이 해제 시 unbind 할 대상
+     */
+    private static List<String> bindTokens(List<String> lockKeys, List<Long> tokens) {
+        List<String> fencedKeys = new ArrayList<>(lockKeys.size());
+        for (int i = 0; i < lockKeys.size(); i++) {
+            if (LockFencingContext.bind(lockKeys.get(i), tokens.get(i))) {
+                fencedKeys.add(lockKeys.get(i));
+            }
+        }
+        return fencedKeys;
+    }
+
+    private RLock getLock(String lockKey, LockWaitStrategy waitStrategy) {
+        return waitStrategy.isFair()
+                ? redissonClient.getFairLock(lockKey)
+                : redissonClient.getLock(lockKey);
+    }
+
+    /**
+     * 대기 방식에 따라 락 획득 시도
      *
      * <p>동작 방식:
-     * 1. 현재 스레드가 이미 락을 보유한 경우 → 즉시 재진입 (Reentrant)
-     * 2. 그렇지 않으면 Spin Lock으로 반복 시도
+     * 1. SPIN → tryLock(0) + sleep 반복
+     * 2. SUBSCRIBE / FAIR → 남은 대기 시간 동안 Redisson 해제 알림(pub/sub)을 기다림
+     */
+    private boolean acquireLock(RLock lock, String lockKey, long ownerId, LockWaitStrategy waitStrategy,
+                                long waitTime, long leaseTime, long startTime) {
+        long deadline = startTime + waitTime;
+        if (waitStrategy == LockWaitStrategy.SPIN) {
+            return acquireLockWithSpinning(lock, lockKey, ownerId, leaseTime, deadline);
+        }
+        return acquireLockWithSubscription(lock, lockKey, ownerId, leaseTime, deadline);
+    }
+
+    /**
+     * 현재 스레드가 이미 락을 보유한 경우 즉시 재진입 (Reentrant)
      *
      * <p>Reentrant 세부 사항:
-     * - Redisson은 Thread ID 기반으로 재진입 판단 (UUID:threadId)
+     * - Redisson은 소유자 ID 기반으로 재진입 판단 (UUID:ownerId, 기본 ownerId 는 Thread ID)
      * - 재진입 횟수를 Redis Hash에 count로 관리
      * - 재진입 시마다 TTL 갱신 (lease time 연장)
+     * - fencing token 은 바깥 호출이 발급받은 값을 그대로 사용
      */
-    private boolean acquireLockWithSpinning(RLock lock, String lockKey,
-                                            long waitTime, long leaseTime,
-                                            long startTime) {
-        // 1. Reentrant 체크: 이미 현재 스레드가 락을 보유한 경우
-        if (lock.isHeldByCurrentThread()) {
-            try {
-                // 재진입 허용: count 증가 + TTL 갱신
-                lock.lock(leaseTime, TimeUnit.MILLISECONDS);
-                log.debug("락 재진입 성공 (Reentrant): key={}, holdCount={}",
-                    lockKey, lock.getHoldCount());
-                return true;
-            } catch (Exception e) {
-                log.error("락 재진입 실패: key={}, error={}", lockKey, e.getMessage());
-                return false;
-            }
+    private boolean reenterLock(RLock lock, String lockKey, long leaseTime, long ownerId) {
+        try {
+            // 재진입 허용: count 증가 + TTL 갱신
+            await(lock.lockAsync(leaseTime, TimeUnit.MILLISECONDS, ownerId));
+            lockMetrics.recordReentrant(lockKey);
+            log.debug("락 재진입 성공 (Reentrant): key={}, ownerId={}", lockKey, ownerId);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("락 재진입 중 인터럽트 발생: key={}", lockKey);
+            return false;
+        } catch (Exception e) {
+            log.error("락 재진입 실패: key={}, error={}", lockKey, e.getMessage());
+            return false;
         }
+    }
 
-        // 2. Spin Lock: 새로운 락 획득 시도
-        long deadline = startTime + waitTime;
-
+    private boolean acquireLockWithSpinning(RLock lock, String lockKey, long ownerId, long leaseTime, long deadline) {
         while (System.currentTimeMillis() < deadline) {
             try {
-                boolean acquired = lock.tryLock(0, leaseTime, TimeUnit.MILLISECONDS);
+                boolean acquired = await(lock.tryLockAsync(0, leaseTime, TimeUnit.MILLISECONDS, ownerId));
                 if (acquired) {
-                    log.debug("락 획득 성공: key={}, holdCount={}", lockKey, lock.getHoldCount());
+                    log.debug("락 획득 성공: key={}, ownerId={}", lockKey, ownerId);
                     return true;
                 }
                 Thread.sleep(SPIN_LOCK_RETRY_INTERVAL_MS);
@@ -167,7 +365,27 @@ public class RedisLockExecutor {
         return false;
     }
 
-    private void releaseLocks(List<RLock> locks) {
+    /**
+     * Redisson tryLock(waitTime) 은 락이 점유 중이면 해제 채널을 구독하고 알림이 올 때까지 기다린다
+     * - 여러 키를 순서대로 잡는 경우에도 전체 대기 시간을 넘지 않도록 남은 시간만 전달
+     */
+    private boolean acquireLockWithSubscription(RLock lock, String lockKey, long ownerId, long leaseTime, long deadline) {
+        long remaining = Math.max(deadline - System.currentTimeMillis(), 0);
+        try {
+            boolean acquired = await(lock.tryLockAsync(remaining, leaseTime, TimeUnit.MILLISECONDS, ownerId));
+            if (acquired) {
+                log.debug("락 획득 성공: key={}, ownerId={}", lockKey, ownerId);
+            }
+            return acquired;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("락 획득 중 인터럽트 발생: key={}", lockKey);
+            return false;
+        }
+    }
+
+    private void releaseLocks(List<RLock> locks, long ownerId) {
         if (locks.isEmpty()) {
             return;
         }
@@ -176,10 +394,13 @@ public class RedisLockExecutor {
         for (int i = locks.size() - 1; i >= 0; i--) {
             RLock lock = locks.get(i);
             try {
-                if (lock.isHeldByCurrentThread()) {
-                    lock.unlock();
+                if (lock.isHeldByThread(ownerId)) {
+                    await(lock.unlockAsync(ownerId));
                     log.debug("락 해제 완료: {}", lock.getName());
                 }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("락 해제 중 인터럽트 발생: {}", lock.getName());
             } catch (Exception e) {
                 log.error("락 해제 실패: {}, error={}", lock.getName(), e.getMessage());
             }
@@ -187,4 +408,23 @@ public class RedisLockExecutor {
 
         log.debug("모든 락 해제 완료: total={}", locks.size());
     }
+
+    /**
+     * 소유자 ID 를 지정한 Redisson 비동기 명령의 결과를 기다린다
+     * - Redisson 동기 API 는 현재 스레드 ID 로만 소유자를 정하므로, 바인딩된 소유자로 재진입하려면 threadId 인자를 받는 비동기 API 를 써야 한다
+     * - 대기 중 인터럽트되면 명령을 취소한다 (tryLockAsync 는 취소 시 이미 잡힌 락을 해제)
+     */
+    private static <V> V await(RFuture<V> future) throws InterruptedException {
+        try {
+            return future.toCompletableFuture().get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new LockAcquisitionException("락 명령 실행 실패", e.getCause());
+        }
+    }
 }
@@ -0,0 +1,251 @@
+package com.hh.ecom.common.lock.util;
+
+import com.hh.ecom.common.lock.LockOwnerContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 락 키를 Lua 스크립트 1회 호출로 전부 획득하거나 하나도 획득하지 않는 멀티 락
+ *
+ * <p>Redisson RLock 과 같은 저장 형식(Hash: "{redissonId}:{threadId}" → 재진입 횟수)을 사용하므로
+ * <ul>
+ *   <li>같은 키를 RLock 으로 잡는 다른 경로(PointService 등)와 상호 배제가 유지된다</li>
+ *   <li>멀티 락 보유 중 같은 스레드의 RLock 재진입(isHeldByCurrentThread)이 그대로 동작한다</li>
+ *   <li>해제 시 Redisson 해제 채널로 알림을 발행하여 RLock 대기자도 즉시 깨어난다</li>
+ * </ul>
+ *
+ * <p>획득과 함께 키별 fencing token(lock:fence:{락 키}, INCR)을 발급합니다. 재진입한 키는 현재 토큰을 그대로 돌려줍니다.
+ *
+ * <p>하나라도 다른 스레드가 보유 중이면 아무 키도 잡지 않고, 막힌 키의 해제 알림을 기다린 뒤 다시 시도한다.
+ * 앞쪽 키를 쥔 채 뒤쪽 키를 기다리는 일이 없으므로 키 순서에 따른 대기 연쇄가 생기지 않는다.
+ * (Redis Cluster 에서는 모든 키가 같은 slot 에 있어야 한다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisMultiLock {
+    private static final String CHANNEL_PREFIX = "redisson_lock__channel";
+    private static final String FENCE_KEY_PREFIX = "lock:fence:";
+    private static final String UNLOCK_MESSAGE = "0";
+
+    /**
+     * KEYS[1..n] = 락 키, KEYS[n+1..2n] = 키별 fencing token 카운터, ARGV[1] = lease(ms), ARGV[2] = lock owner
+     * 성공 시 {0, 키별 token...}, 실패 시 {막힌 키 index, 남은 TTL(ms)}
+     */
+    private static final String ACQUIRE_SCRIPT = """
+            local n = #KEYS / 2
+            for i = 1, n do
+                if redis.call('exists', KEYS[i]) == 1 and redis.call('hexists', KEYS[i], ARGV[2]) == 0 then
+                    return {i, redis.call('pttl', KEYS[i])}
+                end
+            end
+            local result = {0}
+            for i = 1, n do
+                if redis.call('hincrby', KEYS[i], ARGV[2], 1) == 1 then
+                    result[i + 1] = redis.call('incr', KEYS[n + i])
+                else
+                    result[i + 1] = tonumber(redis.call('get', KEYS[n + i]) or '0')
+                end
+                redis.call('pexpire', KEYS[i], ARGV[1])
+            end
+            return result
+            """;
+
+    /**
+     * KEYS = 락 키, ARGV[1] = lease(ms), ARGV[2] = lock owner, ARGV[3..] = 키별 해제 채널
+     * 재진입 횟수를 하나씩 줄이고, 0 이 된 키는 삭제 후 해제 알림 발행 → 완전히 해제된 키 개수 반환
+     */
+    private static final String RELEASE_SCRIPT = """
+            local released = 0
+            for i = 1, #KEYS do
+                if redis.call('hexists', KEYS[i], ARGV[2]) == 1 then
+                    local counter = redis.call('hincrby', KEYS[i], ARGV[2], -1)
+                    if counter > 0 then
+                        redis.call('pexpire', KEYS[i], ARGV[1])
+                    else
+                        redis.call('del', KEYS[i])
+                        redis.call('publish', ARGV[2 + i], ARGV[#ARGV])
+                        released = released + 1
+                    end
+                end
+            end
+            return released
+            """;
+
+    /**
+     * KEYS = 락 키, ARGV[2i-1] = i 번째 키의 lock owner, ARGV[2i] = i 번째 키의 lease(ms)
+     * 아직 owner 가 보유 중인 키만 TTL 연장 → 키 순서대로 1(연장) / 0(보유하지 않음)
+     */
+    private static final String RENEW_SCRIPT = """
+            local result = {}
+            for i = 1, #KEYS do
+                if redis.call('hexists', KEYS[i], ARGV[i * 2 - 1]) == 1 then
+                    redis.call('pexpire', KEYS[i], ARGV[i * 2])
+                    result[i] = 1
+                else
+                    result[i] = 0
+                end
+            end
+            return result
+            """;
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * 모든 키를 한 번에 획득 (현재 스레드 소유)
+     *
+     * @param lockKeys 락 키 리스트
+     * @param waitTime 전체 대기 시간 (밀리초)
+     * @param leaseTime 락 자동 해제 시간 (밀리초)
+     * @return 모든 키를 획득하면 키 순서대로의 fencing token, 대기 시간 안에 획득하지 못하면 empty (이 경우 잡힌 키 없음)
+     */
+    public Optional<List<Long>> tryLockAll(List<String> lockKeys, long waitTime, long leaseTime) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + waitTime;
+        final String owner = currentOwner();
+
+        List<Object> keys = new ArrayList<>(lockKeys.size() * 2);
+        keys.addAll(lockKeys);
+        lockKeys.forEach(key -> keys.add(fenceKey(key)));
+
+        while (true) {
+            List<Object> blocked = script().eval(
+                    RScript.Mode.READ_WRITE,
+                    ACQUIRE_SCRIPT,
+                    RScript.ReturnType.MULTI,
+                    keys,
+                    String.valueOf(leaseTime), owner
+            );
+            if (((Number) blocked.get(0)).intValue() == 0) {
+                return Optional.of(blocked.subList(1, blocked.size()).stream()
+                        .map(token -> ((Number) token).longValue())
+                        .toList());
+            }
+
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return Optional.empty();
+            }
+
+            String blockingKey = lockKeys.get(((Number) blocked.get(0)).intValue() - 1);
+            long ttl = ((Number) blocked.get(1)).longValue();
+            log.debug("멀티 락 대기: blockingKey={}, ttl={}ms, remaining={}ms", blockingKey, ttl, remaining);
+            awaitRelease(blockingKey, ttl > 0 ? Math.min(ttl, remaining) : remaining);
+        }
+    }
+
+    /**
+     * 현재 스레드가 보유한 키를 한 번에 해제 (재진입 횟수만큼 획득했다면 횟수만 감소)
+     */
+    public void unlockAll(List<String> lockKeys, long leaseTime) {
+        List<Object> args = new ArrayList<>(lockKeys.size() + 3);
+        args.add(String.valueOf(leaseTime));
+        args.add(currentOwner());
+        lockKeys.forEach(key -> args.add(channelName(key)));
+        args.add(UNLOCK_MESSAGE);
+
+        Long released = script().eval(
+                RScript.Mode.READ_WRITE,
+                RELEASE_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                new ArrayList<>(lockKeys),
+                args.toArray()
+        );
+        log.debug("멀티 락 해제 완료: keys={}, released={}", lockKeys.size(), released);
+    }
+
+    /**
+     * 단건 락(RLock) 획득 후 fencing token 발급
+     */
+    public long issueToken(String lockKey) {
+        return redissonClient.getAtomicLong(fenceKey(lockKey)).incrementAndGet();
+    }
+
+    /**
+     * 여전히 owner 가 보유 중인 키의 lease 를 한 번에 연장 (LockLeaseWatchdog 전용 - 키마다 소유자/lease 가 다를 수 있다)
+     *
+     * @return 키 순서대로 연장 여부
+     */
+    public CompletableFuture<List<Boolean>> renewAsync(List<String> lockKeys, List<String> owners, List<Long> leaseTimes) {
+        List<Object> args = new ArrayList<>(lockKeys.size() * 2);
+        for (int i = 0; i < lockKeys.size(); i++) {
+            args.add(owners.get(i));
+            args.add(String.valueOf(leaseTimes.get(i)));
+        }
+
+        return script().<List<Object>>evalAsync(
+                RScript.Mode.READ_WRITE,
+                RENEW_SCRIPT,
+                RScript.ReturnType.MULTI,
+                new ArrayList<>(lockKeys),
+                args.toArray()
+        ).toCompletableFuture().thenApply(renewed -> renewed.stream()
+                .map(result -> ((Number) result).longValue() == 1L)
+                .toList());
+    }
+
+    /**
+     * 막힌 키의 해제 알림을 구독하고 대기
+     * - 구독 직후 한 번 더 확인하여, 스크립트 호출과 구독 사이에 발행된 알림을 놓치지 않는다
+     */
+    private void awaitRelease(String blockingKey, long timeoutMs) throws InterruptedException {
+        RTopic topic = redissonClient.getTopic(channelName(blockingKey), StringCodec.INSTANCE);
+        CountDownLatch released = new CountDownLatch(1);
+        int listenerId = topic.addListener(String.class, (channel, message) -> released.countDown());
+        try {
+            if (!redissonClient.getLock(blockingKey).isLocked()) {
+                return;
+            }
+            released.await(timeoutMs, TimeUnit.MILLISECONDS);
+        } finally {
+            topic.removeListener(listenerId);
+        }
+    }
+
+    private RScript script() {
+        return redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    /**
+     * 단건 락(RLockAsync) 획득 후 fencing token 발급
+     */
+    public CompletableFuture<Long> issueTokenAsync(String lockKey) {
+        return redissonClient.getAtomicLong(fenceKey(lockKey)).incrementAndGetAsync().toCompletableFuture();
+    }
+
+    /**
+     * RLock 과 같은 소유자 식별자 (RedissonBaseLock#getLockName)
+     * - LockOwnerContext 에 소유자가 바인딩되어 있으면 스레드 ID 대신 그 값을 쓴다
+     */
+    public String currentOwner() {
+        return ownerName(LockOwnerContext.currentOwnerId());
+    }
+
+    public String ownerName(long ownerId) {
+        return redissonClient.getId() + ":" + ownerId;
+    }
+
+    private static String fenceKey(String lockKey) {
+        return FENCE_KEY_PREFIX + lockKey;
+    }
+
+    /**
+     * RLock 해제 채널 이름 (RedissonLock#getChannelName)
+     */
+    private static String channelName(String lockKey) {
+        return lockKey.contains("{")
+                ? CHANNEL_PREFIX + ":" + lockKey
+                : CHANNEL_PREFIX + ":{" + lockKey + "}";
+    }
+}
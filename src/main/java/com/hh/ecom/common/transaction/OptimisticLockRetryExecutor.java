@@ -3,16 +3,20 @@ package com.hh.ecom.common.transaction;
 import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 
 /**
  * 낙관적 락 충돌 시 재시도를 처리하는 유틸리티 클래스
  * 매 재시도마다 새로운 트랜잭션을 시작하여 트랜잭션 경계를 보장합니다.
  *
+ * <p>재시도 사이에는 지수 backoff + full jitter(0 ~ min(cap, base * 2^(n-1)) 사이 임의 시간)만큼 쉽니다.
+ * 충돌한 요청들이 같은 시점에 다시 몰려 또 충돌하는 것을 막기 위함입니다.
+ *
  * 사용 예시:
  * <pre>
  * public Product decreaseStock(Long productId, int quantity) {
@@ -29,6 +33,8 @@ import java.util.function.Supplier;
 @RequiredArgsConstructor
 public class OptimisticLockRetryExecutor {
     private static final int DEFAULT_MAX_ATTEMPTS = 5;
+    private static final long BACKOFF_BASE_MS = 10;
+    private static final long BACKOFF_CAP_MS = 200;
 
     private final TransactionTemplate transactionTemplate;
 
@@ -40,22 +46,46 @@ public class OptimisticLockRetryExecutor {
      * @throws RuntimeException 최대 재시도 횟수 초과 시
      */
     public <T> T execute(Supplier<T> operation, int maxAttempts) {
+        // 매 시도마다 새로운 트랜잭션 시작
+        return retryOnConflict(() -> transactionTemplate.execute(status -> operation.get()), maxAttempts);
+    }
+
+    public <T> T execute(Supplier<T> operation) {
+        return execute(operation, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    /**
+     * 트랜잭션을 열지 않고 충돌 시 backoff 후 재시도합니다.
+     * 작업이 스스로 트랜잭션/락 경계를 관리하는 경우(예: 락 획득 → 트랜잭션 실행)에 사용합니다.
+     */
+    public <T> T retryOnConflict(Supplier<T> operation, int maxAttempts) {
         for (int attempt = 1; attempt <= maxAttempts; attempt++) {
             try {
-                // 매 시도마다 새로운 트랜잭션 시작. 실패 시 최대 횟수 까지 즉시 재시도
-                return transactionTemplate.execute(status -> operation.get());
-            } catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
+                return operation.get();
+            } catch (OptimisticLockException | OptimisticLockingFailureException e) {
                 if (attempt >= maxAttempts) {
                     log.error("낙관적 락 재시도 실패 - 최대 시도 횟수 도달: attempts={}", attempt);
                     throw e;
                 }
-                log.debug("낙관적 락 충돌 감지 - 재시도: attempt={}/{}", attempt, maxAttempts);
+                long backoffMs = backoffMillis(attempt);
+                log.debug("낙관적 락 충돌 감지 - 재시도: attempt={}/{}, backoff={}ms", attempt, maxAttempts, backoffMs);
+                sleep(backoffMs, e);
             }
         }
         throw new IllegalStateException("Unreachable code");
     }
 
-    public <T> T execute(Supplier<T> operation) {
-        return execute(operation, DEFAULT_MAX_ATTEMPTS);
+    static long backoffMillis(int attempt) {
+        long ceiling = Math.min(BACKOFF_CAP_MS, BACKOFF_BASE_MS << Math.min(attempt - 1, 16));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static void sleep(long millis, RuntimeException conflict) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
     }
 }
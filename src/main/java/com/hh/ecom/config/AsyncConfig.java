@@ -48,4 +48,59 @@ public class AsyncConfig {
 
         return executor;
     }
+
+    /**
+     * 비동기 분산 락(RedisAsyncLockExecutor) 보유 구간의 작업 실행 전용 Executor
+     * - 락 대기는 Redisson 비동기 API 로 처리되어 스레드를 쓰지 않고, 락을 잡은 뒤의 작업(트랜잭션)만 이 풀에서 실행
+     * - 호출 스레드가 요청 처리/이벤트 루프 스레드일 수 있으므로 CallerRuns 대신 즉시 거절하여 future 를 실패시킨다 (백프레셔)
+     */
+    @Bean(name = "lockTaskExecutor")
+    public Executor lockTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(500);
+
+        executor.setThreadNamePrefix("lock-task-");
+        executor.setKeepAliveSeconds(60);
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.initialize();
+
+        log.info("Lock Task Executor 초기화 완료: core={}, max={}, queue={}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    /**
+     * 쿠폰 발급 결과 알림(CouponIssueResultWaiter) 처리 전용 Executor
+     * - Redisson pub/sub 리스너 스레드는 모든 topic 이 공유하므로, 결과 조회와 대기 요청 완료는 이 풀로 넘긴다
+     * - 리스너 스레드에서 실행되지 않도록 CallerRuns 대신 거절한다 (거절된 대기 요청은 timeout 후 재조회)
+     */
+    @Bean(name = "couponResultNotifyExecutor")
+    public Executor couponResultNotifyExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+
+        executor.setThreadNamePrefix("coupon-result-notify-");
+        executor.setKeepAliveSeconds(60);
+
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        executor.initialize();
+
+        log.info("Coupon Result Notify Executor 초기화 완료: core={}, max={}, queue={}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
 }
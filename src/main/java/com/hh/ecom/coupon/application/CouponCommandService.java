@@ -1,6 +1,8 @@
 package com.hh.ecom.coupon.application;
 
 import com.hh.ecom.common.lock.LockDomain;
+import com.hh.ecom.common.lock.LockFencingContext;
+import com.hh.ecom.common.lock.exception.StaleLockTokenException;
 import com.hh.ecom.common.lock.util.LockKeyGenerator;
 import com.hh.ecom.common.lock.util.RedisLockExecutor;
 import com.hh.ecom.common.lock.SimpleLockResource;
@@ -18,6 +20,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
 
 // DB 기반 쿠폰 관리 서비스
 @Slf4j
@@ -82,7 +86,7 @@ public class CouponCommandService {
                     .orElseThrow(() -> new CouponException(CouponErrorCode.COUPON_USER_NOT_FOUND));
 
                 CouponUser usedCouponUser = couponUser.use(orderId);
-                CouponUser savedCouponUser = couponUserRepository.save(usedCouponUser);
+                CouponUser savedCouponUser = saveWithLockFence(lockKey, usedCouponUser);
 
                 log.info("쿠폰 사용 완료: couponUserId={}, orderId={}", couponUserId, orderId);
                 return savedCouponUser;
@@ -90,6 +94,48 @@ public class CouponCommandService {
         );
     }
 
+    /**
+     * 쿠폰 락을 보유 중이면 fencing token 과 함께 조건부로 저장한다
+     * - 더 큰 토큰이 이미 기록되어 있으면 lease 가 만료되어 다른 요청이 락을 가져간 것이므로 쓰기를 거부한다
+     * - 커밋 직전에 lease 유실 여부를 한 번 더 확인한다
+     */
+    private CouponUser saveWithLockFence(String lockKey, CouponUser couponUser) {
+        OptionalLong token = LockFencingContext.currentToken(lockKey);
+        if (token.isEmpty()) {
+            return couponUserRepository.save(couponUser);
+        }
+        LockFencingContext.guardCommit();
+
+        return couponUserRepository.updateIfFenceValid(couponUser, token.getAsLong())
+                .orElseThrow(() -> {
+                    log.warn("오래된 fencing token 으로 쿠폰 사용 거부: couponUserId={}, token={}", couponUser.getId(), token.getAsLong());
+                    return new StaleLockTokenException("쿠폰 락이 만료되어 다른 요청이 선점했습니다. couponUserId: " + couponUser.getId());
+                });
+    }
+
+    /**
+     * 취소/만료 주문의 쿠폰 사용 일괄 복원 (OrderCompensationSweeper 전용)
+     * - 해당 주문에 사용된 상태인 쿠폰만 되돌리므로 재처리해도 다른 주문의 사용 내역을 건드리지 않는다
+     * - 사용된 쿠폰은 다른 경로에서 수정되지 않으므로 쿠폰별 분산락 없이 일괄 조회/갱신한다
+     *
+     * @param orderIdsByCouponUserId 쿠폰 발급 ID → 해당 쿠폰을 사용한 주문 ID
+     * @return 복원된 쿠폰 수
+     */
+    public int restoreCouponsForOrders(Map<Long, Long> orderIdsByCouponUserId) {
+        if (orderIdsByCouponUserId.isEmpty()) {
+            return 0;
+        }
+
+        List<CouponUser> restored = couponUserRepository.findByIdsIn(List.copyOf(orderIdsByCouponUserId.keySet())).stream()
+                .filter(couponUser -> couponUser.isUsedBy(orderIdsByCouponUserId.get(couponUser.getId())))
+                .map(CouponUser::restore)
+                .toList();
+        couponUserRepository.updateAll(restored);
+
+        log.info("쿠폰 사용 일괄 복원 완료: requested={}, restored={}", orderIdsByCouponUserId.size(), restored.size());
+        return restored.size();
+    }
+
     private void validateNotDuplicatedIssue(Long userId, Long couponId) {
         couponUserRepository.findByUserIdAndCouponId(userId, couponId)
                 .ifPresent(existing -> {
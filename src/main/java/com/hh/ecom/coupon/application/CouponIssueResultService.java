@@ -0,0 +1,48 @@
+package com.hh.ecom.coupon.application;
+
+import com.hh.ecom.coupon.domain.CouponIssueResultRepository;
+import com.hh.ecom.coupon.domain.event.CouponIssuedEvent;
+import com.hh.ecom.coupon.domain.exception.CouponErrorCode;
+import com.hh.ecom.coupon.domain.exception.CouponException;
+import com.hh.ecom.coupon.infrastructure.redis.CouponIssueResultWaiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 쿠폰 발급 결과 기록 / 조회 서비스
+ * - coupon-issued 결과를 requestId 별로 기록하고, 결과를 기다리는 요청(long-poll)을 깨운다
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponIssueResultService {
+    private final CouponIssueResultRepository couponIssueResultRepository;
+    private final CouponIssueResultWaiter couponIssueResultWaiter;
+
+    public void recordResults(List<CouponIssuedEvent> results) {
+        couponIssueResultRepository.saveAll(results);
+        couponIssueResultWaiter.notifyRecorded(results.stream().map(CouponIssuedEvent::requestId).toList());
+    }
+
+    /**
+     * 발급 결과가 이미 있으면 바로, 없으면 기록될 때까지(최대 timeout) 기다린다
+     * - timeout 이 지나면 TimeoutException 으로 완료된다
+     * - 다른 사용자의 요청이면 요청 내역이 없는 것으로 응답한다
+     */
+    public CompletableFuture<CouponIssuedEvent> awaitResult(String requestId, Long userId, Duration timeout) {
+        CompletableFuture<CouponIssuedEvent> result = couponIssueResultRepository.findByRequestId(requestId)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> couponIssueResultWaiter.register(requestId, timeout));
+
+        return result.thenApply(issued -> {
+            if (!Objects.equals(issued.userId(), userId)) {
+                throw new CouponException(CouponErrorCode.COUPON_ISSUE_REQUEST_NOT_FOUND, "requestId: " + requestId);
+            }
+            return issued;
+        });
+    }
+}
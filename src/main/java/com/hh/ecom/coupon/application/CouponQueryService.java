@@ -10,10 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
 
 @Service
 @Transactional(readOnly = true)
@@ -62,23 +59,21 @@ public class CouponQueryService {
             return DiscountInfo.NONE;
         }
 
-        Coupon coupon = getCoupon(couponId);
-        CouponUser validCouponUser = findValidCouponUser(userId, couponId);
-        return DiscountInfo.of(coupon.getDiscountAmount(), validCouponUser.getId());
+        CouponUserWithCoupon usableCoupon = getUsableCouponUser(userId, couponId);
+        return DiscountInfo.of(usableCoupon.getCoupon().getDiscountAmount(), usableCoupon.getCouponUser().getId());
     }
 
-    private CouponUser findValidCouponUser(Long userId, Long couponId) {
-        List<CouponUserWithCoupon> userCoupons =
-                Optional.ofNullable(getAllMyCoupons(userId))
-                        .orElse(Collections.emptyList());
-
-        return userCoupons.stream()
-                .filter(cwc -> cwc.isSameCouponId(couponId))
-                .map(CouponUserWithCoupon::getCouponUser)
-                .filter(Objects::nonNull)
+    /**
+     * 사용자가 보유한 특정 쿠폰의 사용 가능한 발급 내역을 조회한다.
+     * - 보유 쿠폰 전체를 조회하지 않고 (userId, couponId) 로 단건 조회
+     */
+    public CouponUserWithCoupon getUsableCouponUser(Long userId, Long couponId) {
+        Coupon coupon = getCoupon(couponId);
+        CouponUser couponUser = couponUserRepository.findByUserIdAndCouponId(userId, couponId)
                 .filter(CouponUser::isUsable)
-                .findFirst()
                 .orElseThrow(() -> new OrderException(OrderErrorCode.INVALID_ORDER_STATUS, "사용 가능한 쿠폰이 없습니다. id=" + couponId));
+
+        return CouponUserWithCoupon.of(couponUser, coupon);
     }
 
     private Coupon findByIdWithoutLock(Long couponId) {
@@ -1,8 +1,10 @@
 package com.hh.ecom.coupon.application;
 
-import com.hh.ecom.coupon.domain.exception.CouponErrorCode;
 import com.hh.ecom.coupon.domain.exception.CouponException;
+import com.hh.ecom.coupon.infrastructure.redis.CouponAdmissionScript;
 import com.hh.ecom.coupon.infrastructure.redis.CouponQueueSerializer;
+import com.hh.ecom.coupon.infrastructure.redis.CouponSoldOutGate;
+import com.hh.ecom.coupon.infrastructure.redis.CouponStockShards;
 import com.hh.ecom.coupon.infrastructure.redis.RedisCouponKeyGenerator;
 import com.hh.ecom.coupon.infrastructure.redis.dto.CouponIssueQueueEntry;
 
@@ -22,15 +24,24 @@ public class RedisCouponService {
     private final RedisTemplate<String, String> redisTemplate;
     private final RedisCouponKeyGenerator redisCouponKeyGenerator;
     private final CouponQueueSerializer queueSerializer;
+    private final CouponAdmissionScript couponAdmissionScript;
+    private final CouponStockShards couponStockShards;
+    private final CouponSoldOutGate couponSoldOutGate;
 
     public RedisCouponService(
             @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
             RedisCouponKeyGenerator redisCouponKeyGenerator,
-            CouponQueueSerializer queueSerializer
+            CouponQueueSerializer queueSerializer,
+            CouponAdmissionScript couponAdmissionScript,
+            CouponStockShards couponStockShards,
+            CouponSoldOutGate couponSoldOutGate
     ) {
         this.redisTemplate = redisTemplate;
         this.redisCouponKeyGenerator = redisCouponKeyGenerator;
         this.queueSerializer = queueSerializer;
+        this.couponAdmissionScript = couponAdmissionScript;
+        this.couponStockShards = couponStockShards;
+        this.couponSoldOutGate = couponSoldOutGate;
     }
 
     /**
@@ -38,47 +49,19 @@ public class RedisCouponService {
      */
     @Deprecated(forRemoval = true)
     public void enqueueUserIfEligible(Long userId, Long couponId) {
-        final String usersSetKey = redisCouponKeyGenerator.generateUsersSetKey(couponId);
-        final String stockKey = redisCouponKeyGenerator.generateStockKey(couponId);
-        final String queueKey = redisCouponKeyGenerator.generateQueueKey(couponId);
-
-        // Step 1: 중복 발급 체크 (SADD)
-        Long addResult = redisTemplate.opsForSet().add(usersSetKey, userId.toString());
-        if (addResult == null || addResult == 0) {
-            log.debug("중복 쿠폰 발급 요청 차단: userId={}, couponId={}", userId, couponId);
-            throw new CouponException(CouponErrorCode.COUPON_ALREADY_ISSUED);
-        }
-
-        // Step 2: 현재 발급 요청 유저 수 count (SCARD)
-        Long participantCount = redisTemplate.opsForSet().size(usersSetKey);
-        if (participantCount == null) {
-            participantCount = 0L;
-        }
-
-        // Step 3: 쿠폰 잔여 수량 정보 확인
-        String stockValue = redisTemplate.opsForValue().get(stockKey);
-        if (stockValue == null) {
-            log.error("쿠폰 잔여 수량 정보가 Redis에 없습니다: couponId={}", couponId);
-            // user request 정보도 삭제
-            redisTemplate.opsForSet().remove(usersSetKey, userId.toString());
-            throw new CouponException(CouponErrorCode.COUPON_NOT_FOUND);
-        }
-
-        Long stock = Long.parseLong(stockValue);
-
-        // Step 4: 쿠폰 Sold out 체크
-        if (participantCount > stock) {
-            log.debug("쿠폰 재고 부족: couponId={}, stock={}, participants={}",
-                couponId, stock, participantCount);
-            // Remove from set since they didn't get in
-            redisTemplate.opsForSet().remove(usersSetKey, userId.toString());
-            throw new CouponException(CouponErrorCode.COUPON_SOLD_OUT);
-        }
-
-        // Step 5: 발급 가능하다면 DTO 생성 및 직렬화 후 push
+        // 중복 체크 → 잔여 수량 체크 → 참여자 등록 → 큐 적재를 Lua 1회 호출로 처리
         CouponIssueQueueEntry queueEntry = CouponIssueQueueEntry.of(userId, couponId);
         String serialized = queueSerializer.serialize(queueEntry);
-        redisTemplate.opsForList().rightPush(queueKey, serialized);
+
+        CouponAdmissionScript.Result result = couponAdmissionScript.admitAndEnqueue(userId, couponId, serialized);
+        if (!result.isAdmitted()) {
+            if (result == CouponAdmissionScript.Result.NOT_INITIALIZED) {
+                log.error("쿠폰 잔여 수량 정보가 Redis에 없습니다: couponId={}", couponId);
+            } else {
+                log.debug("쿠폰 발급 요청 차단: userId={}, couponId={}, result={}", userId, couponId, result);
+            }
+            throw new CouponException(result.getErrorCode());
+        }
 
         log.info("쿠폰 발급 요청 큐 등록 성공: {}", queueEntry);
     }
@@ -117,14 +100,22 @@ public class RedisCouponService {
 
     /**
      * Redis에 쿠폰 잔여 수량 init
+     * - 샤딩 대상(재고가 큰 핫 쿠폰)이면 샤드별로 나눠 기록
+     * - 이전에 품절로 표시된 쿠폰이면 전 노드의 품절 게이트를 연다
      */
     public void initializeCouponStock(Long couponId, Integer stock) {
+        if (couponStockShards.initializeIfHot(couponId, stock)) {
+            couponSoldOutGate.reopen(couponId);
+            return;
+        }
+
         String stockKey = redisCouponKeyGenerator.generateStockKey(couponId);
 
         // Only set if not exists (idempotent)
         Boolean success = redisTemplate.opsForValue().setIfAbsent(stockKey, stock.toString());
 
         if (Boolean.TRUE.equals(success)) {
+            couponSoldOutGate.reopen(couponId);
             log.info("Redis 쿠폰 재고 초기화 완료: couponId={}, stock={}", couponId, stock);
         } else {
             log.info("Redis 쿠폰 재고 이미 존재: couponId={}", couponId);
@@ -143,8 +134,13 @@ public class RedisCouponService {
     }
 
     public Long getParticipantCount(Long couponId) {
-        String usersSetKey = redisCouponKeyGenerator.generateUsersSetKey(couponId);
-        Long count = redisTemplate.opsForSet().size(usersSetKey);
-        return (count != null) ? count : 0L;
+        return couponStockShards.participantCount(couponId);
+    }
+
+    /**
+     * 선착순 입장 기준 전체 잔여 수량 (표시용, 샤딩된 쿠폰은 샤드 합산)
+     */
+    public Long getRemainingStock(Long couponId) {
+        return couponStockShards.remaining(couponId);
     }
 }
@@ -99,11 +99,21 @@ public class Coupon {
     }
 
     public Coupon decreaseQuantity() {
-        if (availableQuantity <= 0) {
+        return decreaseQuantity(1);
+    }
+
+    /**
+     * 여러 건을 한 번에 발급할 때의 수량 차감 (잔여 수량보다 많으면 전부 실패)
+     */
+    public Coupon decreaseQuantity(int count) {
+        if (count <= 0) {
+            throw new CouponException(CouponErrorCode.INVALID_QUANTITY, "차감 수량은 0보다 커야 합니다.");
+        }
+        if (availableQuantity < count) {
             throw new CouponException(CouponErrorCode.COUPON_SOLD_OUT);
         }
 
-        int newAvailableQuantity = this.availableQuantity - 1;
+        int newAvailableQuantity = this.availableQuantity - count;
         CouponStatus newStatus = (newAvailableQuantity == 0) ? CouponStatus.SOLD_OUT : this.status;
 
         return this.toBuilder()
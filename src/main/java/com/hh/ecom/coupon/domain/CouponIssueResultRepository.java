@@ -0,0 +1,19 @@
+package com.hh.ecom.coupon.domain;
+
+import com.hh.ecom.coupon.domain.event.CouponIssuedEvent;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 비동기 쿠폰 발급 결과 저장소 (requestId 기준, 조회 전용이므로 일정 시간 후 만료)
+ */
+public interface CouponIssueResultRepository {
+    void saveAll(List<CouponIssuedEvent> results);
+    Optional<CouponIssuedEvent> findByRequestId(String requestId);
+
+    /**
+     * 여러 요청의 결과를 한 번에 조회한다 (결과가 없는 requestId 는 제외)
+     */
+    List<CouponIssuedEvent> findAllByRequestIds(List<String> requestIds);
+}
@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 import static java.util.Objects.*;
 
@@ -65,6 +66,21 @@ public class CouponUser {
                 .build();
     }
 
+    /**
+     * 주문 취소/만료 보상 - 사용 처리를 되돌린다
+     */
+    public CouponUser restore() {
+        return this.toBuilder()
+                .orderId(null)
+                .usedAt(null)
+                .isUsed(false)
+                .build();
+    }
+
+    public boolean isUsedBy(Long orderId) {
+        return isUsed && Objects.equals(this.orderId, orderId);
+    }
+
     public boolean isUsable() {
         return !(isUsed || isExpired());
     }
@@ -1,11 +1,36 @@
 package com.hh.ecom.coupon.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CouponUserRepository {
     CouponUser save(CouponUser couponUser);
     Optional<CouponUser> findById(Long id);
+    List<CouponUser> findByIdsIn(List<Long> ids);
+
+    /**
+     * 신규 발급 이력을 한 번에 저장한다 (배치 발급용, ID 가 없는 발급 이력만)
+     */
+    List<CouponUser> insertAll(List<CouponUser> couponUsers);
+
+    /**
+     * 주어진 사용자 중 해당 쿠폰을 이미 발급받은 사용자 ID
+     */
+    Set<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds);
+
+    /**
+     * 이미 존재하는 발급 이력을 한 번에 갱신한다 (신규 발급은 save 사용)
+     */
+    List<CouponUser> updateAll(List<CouponUser> couponUsers);
+
+    /**
+     * 분산 락 fencing token 이 기록된 값 이상일 때만 토큰을 기록하고 발급 이력을 갱신한다
+     *
+     * @return 이미 더 큰 토큰으로 쓰인 발급 이력이면 갱신하지 않고 empty
+     */
+    Optional<CouponUser> updateIfFenceValid(CouponUser couponUser, long token);
     Optional<CouponUser> findByUserIdAndCouponId(Long userId, Long couponId);
     List<CouponUser> findByUserId(Long userId);
     List<CouponUser> findByUserIdAndIsUsed(Long userId, Boolean isUsed);
@@ -1,5 +1,7 @@
 package com.hh.ecom.coupon.domain.event;
 
+import com.hh.ecom.coupon.domain.exception.CouponException;
+
 import java.time.LocalDateTime;
 
 public record CouponIssuedEvent(
@@ -16,7 +18,22 @@ public record CouponIssuedEvent(
         FAILED,          // 발급 실패
         OUT_OF_STOCK,    // 재고 소진
         DUPLICATE,       // 중복 발급
-        EXPIRED          // 만료된 쿠폰
+        EXPIRED;         // 만료된 쿠폰
+
+        /**
+         * 발급 처리 중 발생한 예외 → 결과 상태
+         */
+        public static IssueStatus from(Exception e) {
+            if (e instanceof CouponException ce) {
+                return switch (ce.getErrorCode()) {
+                    case COUPON_SOLD_OUT -> OUT_OF_STOCK;
+                    case COUPON_ALREADY_ISSUED -> DUPLICATE;
+                    case COUPON_NOT_FOUND, COUPON_EXPIRED -> EXPIRED;
+                    default -> FAILED;
+                };
+            }
+            return FAILED;
+        }
     }
 
     public static CouponIssuedEvent success(String requestId, Long userId, Long couponId, Long couponUserId) {
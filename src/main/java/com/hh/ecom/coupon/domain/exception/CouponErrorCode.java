@@ -18,6 +18,7 @@ public enum CouponErrorCode {
     INVALID_QUANTITY("CP105", "유효하지 않은 수량입니다.", HttpStatus.BAD_REQUEST),
     OPTIMISTIC_LOCK_CONFLICT("CP106", "동시에 쿠폰 발급 요청이 처리되었습니다. 다시 시도해주세요.", HttpStatus.CONFLICT),
     COUPON_ISSUE_FAILED("CP107", "쿠폰 발급에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    COUPON_ISSUE_REQUEST_NOT_FOUND("CP108", "쿠폰 발급 요청 내역을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
 
     // 쿠폰 사용 관련
     COUPON_USER_NOT_FOUND("CP201", "발급받은 쿠폰을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
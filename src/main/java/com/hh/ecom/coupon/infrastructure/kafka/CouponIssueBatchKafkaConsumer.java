@@ -0,0 +1,177 @@
+package com.hh.ecom.coupon.infrastructure.kafka;
+
+import com.hh.ecom.coupon.domain.Coupon;
+import com.hh.ecom.coupon.domain.CouponRepository;
+import com.hh.ecom.coupon.domain.CouponUser;
+import com.hh.ecom.coupon.domain.CouponUserRepository;
+import com.hh.ecom.coupon.domain.event.CouponIssueRequestEvent;
+import com.hh.ecom.coupon.domain.event.CouponIssuedEvent;
+import com.hh.ecom.coupon.domain.exception.CouponErrorCode;
+import com.hh.ecom.coupon.domain.exception.CouponException;
+import com.hh.ecom.outbox.domain.MessagePublisher;
+import com.hh.ecom.outbox.infrastructure.kafka.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 발급 요청 Kafka 배치 Consumer
+ * - Topic: coupon-issue, Consumer Group: coupon-issue-group (건별 Consumer 와 동일)
+ * - poll 1회 분량(최대 500건)을 couponId 별로 묶어, 쿠폰마다 트랜잭션 1회로 처리
+ *   → 중복 체크 1회, 수량 N 일괄 차감 1회, 발급 이력 일괄 생성 1회
+ * - 발급 결과는 배치 전체를 모아 한 번에 발행하고, 모든 발행 요청이 끝난 뒤 offset 커밋
+ *
+ * <p>멱등성은 건별 Consumer 와 같이 요청 단위로 유지됩니다.
+ * 이미 발급된 사용자나 같은 배치 안의 재요청은 DUPLICATE, 잔여 수량을 넘는 요청은 수신 순서대로 OUT_OF_STOCK 으로 응답합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.issue.consumer.batch-enabled", havingValue = "true", matchIfMissing = true)
+public class CouponIssueBatchKafkaConsumer {
+
+    private final TransactionTemplate transactionTemplate;
+    private final CouponRepository couponRepository;
+    private final CouponUserRepository couponUserRepository;
+    private final MessagePublisher messagePublisher;
+
+    @KafkaListener(
+        topics = KafkaTopics.COUPON_ISSUE,
+        groupId = "coupon-issue-group",
+        concurrency = "3",
+        containerFactory = "couponBatchKafkaListenerContainerFactory"
+    )
+    public void consumeCouponIssueRequests(List<CouponIssueRequestEvent> events, Acknowledgment acknowledgment) {
+        log.info("쿠폰 발급 요청 배치 수신: size={}", events.size());
+
+        // 수신 순서를 유지한 채 쿠폰별로 묶음 (같은 쿠폰은 같은 파티션 → 순서 = 선착순)
+        Map<Long, List<CouponIssueRequestEvent>> requestsByCoupon = events.stream()
+            .collect(Collectors.groupingBy(CouponIssueRequestEvent::couponId, LinkedHashMap::new, Collectors.toList()));
+
+        List<CouponIssuedEvent> results = new ArrayList<>(events.size());
+        requestsByCoupon.forEach((couponId, requests) -> results.addAll(issueForCoupon(couponId, requests)));
+
+        publishResults(results);
+        acknowledgment.acknowledge();
+    }
+
+    private List<CouponIssuedEvent> issueForCoupon(Long couponId, List<CouponIssueRequestEvent> requests) {
+        try {
+            try {
+                return issueInTransaction(couponId, requests);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 경로에서 같은 사용자에게 먼저 발급된 경우 - 새 트랜잭션에서 중복 체크부터 다시 수행
+                log.debug("배치 발급 중 중복 감지 (DB constraint) - 재시도: couponId={}, size={}", couponId, requests.size());
+                return issueInTransaction(couponId, requests);
+            }
+        } catch (CouponException e) {
+            log.warn("쿠폰 배치 발급 실패: couponId={}, size={}, error={}", couponId, requests.size(), e.getMessage());
+            return failures(requests, CouponIssuedEvent.IssueStatus.from(e), e.getMessage());
+        } catch (Exception e) {
+            log.error("쿠폰 배치 발급 중 예상치 못한 오류: couponId={}, size={}", couponId, requests.size(), e);
+            return failures(requests, CouponIssuedEvent.IssueStatus.FAILED, e.getMessage());
+        }
+    }
+
+    private List<CouponIssuedEvent> issueInTransaction(Long couponId, List<CouponIssueRequestEvent> requests) {
+        return transactionTemplate.execute(status -> {
+            List<CouponIssuedEvent> results = new ArrayList<>(requests.size());
+
+            // 1. 중복 발급 체크 (Idempotency) - 이미 발급된 사용자 + 같은 배치 안의 재요청
+            Set<Long> seenUserIds = new HashSet<>(couponUserRepository.findIssuedUserIds(
+                couponId, requests.stream().map(CouponIssueRequestEvent::userId).toList()));
+            List<CouponIssueRequestEvent> candidates = new ArrayList<>(requests.size());
+            for (CouponIssueRequestEvent request : requests) {
+                if (seenUserIds.add(request.userId())) {
+                    candidates.add(request);
+                } else {
+                    results.add(duplicateOf(request));
+                }
+            }
+            if (candidates.isEmpty()) {
+                return results;
+            }
+
+            // 2. 쿠폰 조회
+            Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new CouponException(CouponErrorCode.COUPON_NOT_FOUND));
+
+            // 3. 잔여 수량만큼 수신 순서대로 발급, 나머지는 재고 소진
+            int issueCount = Math.min(candidates.size(), Math.max(coupon.getAvailableQuantity(), 0));
+            List<CouponIssueRequestEvent> granted = candidates.subList(0, issueCount);
+            candidates.subList(issueCount, candidates.size()).forEach(request -> results.add(CouponIssuedEvent.failure(
+                request.requestId(),
+                request.userId(),
+                couponId,
+                CouponIssuedEvent.IssueStatus.OUT_OF_STOCK,
+                CouponErrorCode.COUPON_SOLD_OUT.getMessage()
+            )));
+            if (granted.isEmpty()) {
+                return results;
+            }
+
+            // 4. 쿠폰 수량 N 일괄 감소
+            couponRepository.save(coupon.decreaseQuantity(granted.size()));
+
+            // 5. 쿠폰 발급 (CouponUser 일괄 생성)
+            List<CouponUser> issued = couponUserRepository.insertAll(granted.stream()
+                .map(request -> CouponUser.issue(request.userId(), couponId, coupon.getEndDate()))
+                .toList());
+            for (int i = 0; i < granted.size(); i++) {
+                CouponIssueRequestEvent request = granted.get(i);
+                results.add(CouponIssuedEvent.success(request.requestId(), request.userId(), couponId, issued.get(i).getId()));
+            }
+
+            log.info("쿠폰 배치 발급 완료: couponId={}, requested={}, issued={}", couponId, requests.size(), issued.size());
+            return results;
+        });
+    }
+
+    /**
+     * 결과를 모두 발행 요청한 뒤 broker ack 를 한꺼번에 기다린다 (발행 실패는 건별 Consumer 와 같이 로그만 남김)
+     */
+    private void publishResults(List<CouponIssuedEvent> results) {
+        List<CompletableFuture<Void>> sends = results.stream()
+            .map(result -> messagePublisher.publishAsync(KafkaTopics.COUPON_ISSUED, result.couponId().toString(), result)
+                .exceptionally(e -> {
+                    log.error("쿠폰 발급 결과 발행 실패: requestId={}, status={}, error={}",
+                        result.requestId(), result.status(), e.getMessage());
+                    return null;
+                }))
+            .toList();
+
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+        log.debug("쿠폰 발급 결과 배치 발행 완료: size={}", results.size());
+    }
+
+    private static CouponIssuedEvent duplicateOf(CouponIssueRequestEvent request) {
+        return CouponIssuedEvent.failure(
+            request.requestId(),
+            request.userId(),
+            request.couponId(),
+            CouponIssuedEvent.IssueStatus.DUPLICATE,
+            "이미 발급된 쿠폰입니다"
+        );
+    }
+
+    private static List<CouponIssuedEvent> failures(List<CouponIssueRequestEvent> requests,
+                                                    CouponIssuedEvent.IssueStatus status, String reason) {
+        return requests.stream()
+            .map(request -> CouponIssuedEvent.failure(request.requestId(), request.userId(), request.couponId(), status, reason))
+            .toList();
+    }
+}
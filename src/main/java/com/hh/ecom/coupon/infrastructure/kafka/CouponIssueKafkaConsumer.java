@@ -12,6 +12,7 @@ import com.hh.ecom.outbox.domain.MessagePublisher;
 import com.hh.ecom.outbox.infrastructure.kafka.KafkaTopics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
@@ -23,10 +24,12 @@ import org.springframework.transaction.support.TransactionTemplate;
  * - Consumer Group: coupon-issue-group
  * - Partition Key: couponId → 동일 쿠폰은 동일 파티션에서 순차 처리
  * - Concurrency: 3 (3개의 consumer thread, 각각 다른 파티션 처리)
+ * - coupon.issue.consumer.batch-enabled=false 일 때만 활성화 (기본은 {@link CouponIssueBatchKafkaConsumer})
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.issue.consumer.batch-enabled", havingValue = "false")
 public class CouponIssueKafkaConsumer {
 
     private final TransactionTemplate transactionTemplate;
@@ -161,7 +164,7 @@ public class CouponIssueKafkaConsumer {
     }
 
     private void publishFailureEvent(CouponIssueRequestEvent request, Exception e) {
-        CouponIssuedEvent.IssueStatus status = determineFailureStatus(e);
+        CouponIssuedEvent.IssueStatus status = CouponIssuedEvent.IssueStatus.from(e);
         String reason = e.getMessage();
 
         CouponIssuedEvent failureEvent = CouponIssuedEvent.failure(
@@ -180,16 +183,4 @@ public class CouponIssueKafkaConsumer {
 
         log.debug("쿠폰 발급 실패 이벤트 발행: requestId={}, status={}", request.requestId(), status);
     }
-
-    private CouponIssuedEvent.IssueStatus determineFailureStatus(Exception e) {
-        if (e instanceof CouponException ce) {
-            return switch (ce.getErrorCode()) {
-                case COUPON_SOLD_OUT -> CouponIssuedEvent.IssueStatus.OUT_OF_STOCK;
-                case COUPON_ALREADY_ISSUED -> CouponIssuedEvent.IssueStatus.DUPLICATE;
-                case COUPON_NOT_FOUND, COUPON_EXPIRED -> CouponIssuedEvent.IssueStatus.EXPIRED;
-                default -> CouponIssuedEvent.IssueStatus.FAILED;
-            };
-        }
-        return CouponIssuedEvent.IssueStatus.FAILED;
-    }
 }
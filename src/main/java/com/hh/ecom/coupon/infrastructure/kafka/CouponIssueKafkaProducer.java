@@ -3,38 +3,29 @@ package com.hh.ecom.coupon.infrastructure.kafka;
 import com.hh.ecom.coupon.domain.event.CouponIssueRequestEvent;
 import com.hh.ecom.coupon.domain.exception.CouponErrorCode;
 import com.hh.ecom.coupon.domain.exception.CouponException;
-import com.hh.ecom.coupon.infrastructure.redis.RedisCouponKeyGenerator;
+import com.hh.ecom.coupon.infrastructure.redis.CouponAdmissionScript;
+import com.hh.ecom.coupon.infrastructure.redis.CouponSoldOutGate;
 import com.hh.ecom.outbox.domain.MessagePublisher;
 import com.hh.ecom.outbox.infrastructure.kafka.KafkaTopics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
 
 /**
  * 쿠폰 발급 요청 Kafka Producer
- * - Redis 빠른 검증 (중복, 재고) 후 Kafka 발행
+ * - 노드 로컬 품절 게이트 → Redis 빠른 검증 (중복, 재고) 후 Kafka 발행
  * - couponId를 Partition Key로 사용 → 동일 쿠폰은 순차 처리
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class CouponIssueKafkaProducer {
 
     private final MessagePublisher messagePublisher;
-    private final RedisTemplate<String, String> redisTemplate;
-    private final RedisCouponKeyGenerator redisCouponKeyGenerator;
-
-    public CouponIssueKafkaProducer(
-            MessagePublisher messagePublisher,
-            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
-            RedisCouponKeyGenerator redisCouponKeyGenerator
-    ) {
-        this.messagePublisher = messagePublisher;
-        this.redisTemplate = redisTemplate;
-        this.redisCouponKeyGenerator = redisCouponKeyGenerator;
-    }
+    private final CouponAdmissionScript couponAdmissionScript;
+    private final CouponSoldOutGate couponSoldOutGate;
 
     /**
      * 쿠폰 발급 요청을 Kafka로 발행
@@ -64,45 +55,29 @@ public class CouponIssueKafkaProducer {
     }
 
     /**
-     * Redis를 이용한 빠른 검증
-     * - 중복 발급 체크
-     * - 재고 소진 체크
+     * Redis를 이용한 빠른 검증 - 중복 발급 / 재고 소진 체크 및 참여자 등록을 Lua 1회 호출로 처리
+     * - 이미 품절로 표시된 쿠폰은 Redis 호출 없이 바로 거절
+     *   (이미 입장한 사용자의 재요청도 COUPON_ALREADY_ISSUED 대신 COUPON_SOLD_OUT 으로 거절된다.
+     *    참여 여부를 가리려면 게이트가 없애려는 Redis 조회가 다시 필요하고, 발급 결과는 요청 결과 조회 / 내 쿠폰 목록으로 확인한다)
      */
     private void validateWithRedis(Long userId, Long couponId) {
-        final String usersSetKey = redisCouponKeyGenerator.generateUsersSetKey(couponId);
-        final String stockKey = redisCouponKeyGenerator.generateStockKey(couponId);
-
-        // Step 1: 중복 발급 체크 (SADD)
-        Long addResult = redisTemplate.opsForSet().add(usersSetKey, userId.toString());
-        if (addResult == null || addResult == 0) {
-            log.debug("중복 쿠폰 발급 요청 차단: userId={}, couponId={}", userId, couponId);
-            throw new CouponException(CouponErrorCode.COUPON_ALREADY_ISSUED);
+        if (couponSoldOutGate.isSoldOut(couponId)) {
+            throw new CouponException(CouponErrorCode.COUPON_SOLD_OUT);
         }
 
-        // Step 2: 현재 발급 요청 유저 수 count (SCARD)
-        Long participantCount = redisTemplate.opsForSet().size(usersSetKey);
-        if (participantCount == null) {
-            participantCount = 0L;
+        CouponAdmissionScript.Result result = couponAdmissionScript.admit(userId, couponId);
+        if (result.isAdmitted()) {
+            return;
         }
 
-        // Step 3: 쿠폰 잔여 수량 정보 확인
-        String stockValue = redisTemplate.opsForValue().get(stockKey);
-        if (stockValue == null) {
-            log.error("쿠폰 잔여 수량 정보가 Redis에 없습니다: couponId={}", couponId);
-            // user request 정보도 삭제
-            redisTemplate.opsForSet().remove(usersSetKey, userId.toString());
-            throw new CouponException(CouponErrorCode.COUPON_NOT_FOUND);
+        if (result == CouponAdmissionScript.Result.SOLD_OUT) {
+            couponSoldOutGate.markSoldOut(couponId);
         }
-
-        Long stock = Long.parseLong(stockValue);
-
-        // Step 4: 쿠폰 Sold out 체크
-        if (participantCount > stock) {
-            log.debug("쿠폰 재고 부족: couponId={}, stock={}, participants={}",
-                couponId, stock, participantCount);
-            // Remove from set since they didn't get in
-            redisTemplate.opsForSet().remove(usersSetKey, userId.toString());
-            throw new CouponException(CouponErrorCode.COUPON_SOLD_OUT);
+        if (result == CouponAdmissionScript.Result.NOT_INITIALIZED) {
+            log.error("쿠폰 잔여 수량 정보가 Redis에 없습니다: couponId={}", couponId);
+        } else {
+            log.debug("쿠폰 발급 요청 차단: userId={}, couponId={}, result={}", userId, couponId, result);
         }
+        throw new CouponException(result.getErrorCode());
     }
 }
@@ -0,0 +1,36 @@
+package com.hh.ecom.coupon.infrastructure.kafka;
+
+import com.hh.ecom.coupon.application.CouponIssueResultService;
+import com.hh.ecom.coupon.domain.event.CouponIssuedEvent;
+import com.hh.ecom.outbox.infrastructure.kafka.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 쿠폰 발급 결과 Kafka 배치 Consumer
+ * - Topic: coupon-issued, Consumer Group: coupon-issued-result-group
+ * - 발급 결과를 requestId 별 결과 저장소에 기록하고, long-poll 로 기다리는 요청을 깨운다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssuedResultKafkaConsumer {
+
+    private final CouponIssueResultService couponIssueResultService;
+
+    @KafkaListener(
+        topics = KafkaTopics.COUPON_ISSUED,
+        groupId = "coupon-issued-result-group",
+        containerFactory = "couponIssuedKafkaListenerContainerFactory"
+    )
+    public void consumeCouponIssuedResults(List<CouponIssuedEvent> events, Acknowledgment acknowledgment) {
+        couponIssueResultService.recordResults(events);
+        acknowledgment.acknowledge();
+        log.debug("쿠폰 발급 결과 기록: size={}", events.size());
+    }
+}
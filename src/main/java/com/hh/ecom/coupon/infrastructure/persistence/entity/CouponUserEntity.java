@@ -50,6 +50,13 @@ public class CouponUserEntity {
     @Column(nullable = false)
     private Long version;
 
+    /**
+     * 마지막으로 쓰기에 성공한 분산 락 fencing token - 조건부 UPDATE 로만 갱신한다
+     */
+    @Column(name = "lock_fence", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long lockFence;
+
     public CouponUser toDomain() {
         return CouponUser.builder()
                 .id(this.id)
@@ -2,7 +2,11 @@ package com.hh.ecom.coupon.infrastructure.persistence.jpa;
 
 import com.hh.ecom.coupon.infrastructure.persistence.entity.CouponUserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +19,11 @@ public interface CouponUserJpaRepository extends JpaRepository<CouponUserEntity,
     List<CouponUserEntity> findByUserIdAndIsUsed(Long userId, Boolean isUsed);
 
     List<CouponUserEntity> findByCouponId(Long couponId);
+
+    @Query("SELECT cu.userId FROM CouponUserEntity cu WHERE cu.couponId = :couponId AND cu.userId IN :userIds")
+    List<Long> findUserIdsByCouponIdAndUserIdIn(@Param("couponId") Long couponId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "UPDATE coupon_user SET lock_fence = :token WHERE id = :id AND lock_fence <= :token", nativeQuery = true)
+    int advanceLockFence(@Param("id") Long id, @Param("token") long token);
 }
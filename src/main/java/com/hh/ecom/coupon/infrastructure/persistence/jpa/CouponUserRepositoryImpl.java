@@ -8,8 +8,13 @@ import com.hh.ecom.coupon.infrastructure.persistence.entity.CouponUserEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -52,6 +57,82 @@ public class CouponUserRepositoryImpl implements CouponUserRepository {
                 .map(CouponUserEntity::toDomain);
     }
 
+    @Override
+    public List<CouponUser> findByIdsIn(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return couponUserJpaRepository.findAllById(ids).stream()
+                .map(CouponUserEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<CouponUser> insertAll(List<CouponUser> couponUsers) {
+        if (couponUsers.isEmpty()) {
+            return List.of();
+        }
+
+        List<CouponUserEntity> entities = couponUsers.stream()
+                .map(CouponUserEntity::from)
+                .toList();
+        return couponUserJpaRepository.saveAll(entities).stream()
+                .map(CouponUserEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Set<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Set.of();
+        }
+        return Set.copyOf(couponUserJpaRepository.findUserIdsByCouponIdAndUserIdIn(couponId, userIds));
+    }
+
+    @Override
+    public List<CouponUser> updateAll(List<CouponUser> couponUsers) {
+        if (couponUsers.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, CouponUserEntity> existingEntities = couponUserJpaRepository
+                .findAllById(couponUsers.stream().map(CouponUser::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(CouponUserEntity::getId, Function.identity()));
+
+        List<CouponUserEntity> updatedEntities = couponUsers.stream()
+                .map(couponUser -> {
+                    CouponUserEntity existingEntity = existingEntities.get(couponUser.getId());
+                    if (existingEntity == null) {
+                        throw new CouponException(CouponErrorCode.COUPON_USER_NOT_FOUND, couponUser.getId());
+                    }
+                    return CouponUserEntity.builder()
+                            .id(existingEntity.getId())
+                            .userId(couponUser.getUserId())
+                            .couponId(couponUser.getCouponId())
+                            .orderId(couponUser.getOrderId())
+                            .issuedAt(couponUser.getIssuedAt())
+                            .usedAt(couponUser.getUsedAt())
+                            .expireDate(couponUser.getExpireDate())
+                            .isUsed(couponUser.isUsed())
+                            .version(existingEntity.getVersion())
+                            .build();
+                })
+                .toList();
+
+        return couponUserJpaRepository.saveAll(updatedEntities).stream()
+                .map(CouponUserEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<CouponUser> updateIfFenceValid(CouponUser couponUser, long token) {
+        if (couponUserJpaRepository.advanceLockFence(couponUser.getId(), token) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(save(couponUser));
+    }
+
     @Override
     public Optional<CouponUser> findByUserIdAndCouponId(Long userId, Long couponId) {
         return couponUserJpaRepository.findByUserIdAndCouponId(userId, couponId)
@@ -0,0 +1,152 @@
+package com.hh.ecom.coupon.infrastructure.persistence.redis;
+
+import com.hh.ecom.coupon.domain.Coupon;
+import com.hh.ecom.coupon.domain.CouponStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 쿠폰 메타데이터 near-cache (프로세스 로컬)
+ *
+ * <p>이름/할인 금액/기간/총 수량/활성 여부처럼 거의 바뀌지 않는 값만 캐시하고,
+ * 잔여 수량과 그에 따라 바뀌는 ACTIVE/SOLD_OUT 상태는 매번 Redis 카운터에서 읽습니다.
+ *
+ * <p>메타데이터가 바뀌면 Redis pub/sub({@value #INVALIDATION_CHANNEL})으로 쿠폰 ID 를 발행하여 모든 노드의 캐시를 비웁니다.
+ * 유실된 메시지에 대비해 항목마다 TTL 을 둡니다.
+ */
+@Slf4j
+@Component
+public class CouponNearCache {
+    static final String INVALIDATION_CHANNEL = "coupon:cache:invalidate";
+    private static final String INVALIDATE_ALL = "*";
+
+    private final RedissonClient redissonClient;
+    private final long ttlMs;
+    private final LongSupplier clock;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private RTopic topic;
+    private int listenerId;
+
+    public CouponNearCache(
+            RedissonClient redissonClient,
+            @Value("${coupon.near-cache.ttl-ms:60000}") long ttlMs
+    ) {
+        this.redissonClient = redissonClient;
+        this.ttlMs = ttlMs;
+        this.clock = System::currentTimeMillis;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        topic = redissonClient.getTopic(INVALIDATION_CHANNEL, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> evictLocal(message));
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        topic.removeListener(listenerId);
+    }
+
+    /**
+     * @return 캐시된 메타데이터, 없거나 TTL 이 지났으면 null
+     */
+    public Coupon get(Long couponId) {
+        Entry entry = entries.get(couponId);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.getAsLong() - entry.loadedAt >= ttlMs) {
+            entries.remove(couponId, entry);
+            return null;
+        }
+        return entry.coupon;
+    }
+
+    public void put(Coupon coupon) {
+        entries.put(coupon.getId(), new Entry(coupon, clock.getAsLong()));
+    }
+
+    /**
+     * 저장 직후 호출 - 덮어쓰기 전 Redis 에 있던 값과 메타데이터가 다를 때만(또는 신규 쿠폰일 때) 전 노드에 무효화를 발행한다
+     * (발급으로 인한 수량 변경만으로는 발행하지 않는다. 이 노드의 캐시가 비어 있어도 마찬가지)
+     *
+     * @param previous 덮어쓰기 전 저장되어 있던 쿠폰, 없었으면 null
+     */
+    public void onSaved(Coupon previous, Coupon saved) {
+        if (previous != null && hasSameMetadata(previous, saved)) {
+            return;
+        }
+        entries.remove(saved.getId());
+        publish(String.valueOf(saved.getId()));
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+        publish(INVALIDATE_ALL);
+    }
+
+    /**
+     * 캐시된 메타데이터에 현재 잔여 수량을 합친다
+     * - ACTIVE/SOLD_OUT 은 수량에 따라 Coupon 이 스스로 오가는 상태이므로 수량으로 다시 계산한다
+     */
+    public static Coupon withAvailableQuantity(Coupon metadata, int availableQuantity) {
+        CouponStatus status = metadata.getStatus();
+        if (isQuantityDerived(status)) {
+            status = availableQuantity == 0 ? CouponStatus.SOLD_OUT : CouponStatus.ACTIVE;
+        }
+        return metadata.toBuilder()
+                .availableQuantity(availableQuantity)
+                .status(status)
+                .build();
+    }
+
+    private void publish(String message) {
+        try {
+            topic.publish(message);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드는 TTL 만료 후 갱신된다
+            log.warn("쿠폰 near-cache 무효화 발행 실패: message={}, error={}", message, e.getMessage());
+        }
+    }
+
+    private void evictLocal(String message) {
+        if (INVALIDATE_ALL.equals(message)) {
+            entries.clear();
+            return;
+        }
+        try {
+            entries.remove(Long.parseLong(message));
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 쿠폰 near-cache 무효화 메시지: {}", message);
+        }
+    }
+
+    private static boolean hasSameMetadata(Coupon a, Coupon b) {
+        return Objects.equals(a.getName(), b.getName())
+                && a.getDiscountAmount().compareTo(b.getDiscountAmount()) == 0
+                && Objects.equals(a.getTotalQuantity(), b.getTotalQuantity())
+                && Objects.equals(a.getStartDate(), b.getStartDate())
+                && Objects.equals(a.getEndDate(), b.getEndDate())
+                && Objects.equals(a.getIsActive(), b.getIsActive())
+                && (a.getStatus() == b.getStatus() || (isQuantityDerived(a.getStatus()) && isQuantityDerived(b.getStatus())));
+    }
+
+    private static boolean isQuantityDerived(CouponStatus status) {
+        return status == CouponStatus.ACTIVE || status == CouponStatus.SOLD_OUT;
+    }
+
+    private record Entry(Coupon coupon, long loadedAt) {
+    }
+}
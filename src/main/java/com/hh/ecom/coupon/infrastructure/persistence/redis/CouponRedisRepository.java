@@ -12,20 +12,34 @@ import org.springframework.stereotype.Repository;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 쿠폰 Redis 저장소
+ *
+ * <p>쿠폰 본문(coupon:{id})과 별도로 잔여 수량 카운터(coupon:available:{id})를 함께 기록합니다.
+ * 목록 조회는 메타데이터를 {@link CouponNearCache} 에서 꺼내고, 캐시에 없는 본문과 전체 카운터만 MGET 1회로 읽어
+ * SMEMBERS + MGET 의 2 RTT 로 끝냅니다. 단건 조회(findById)는 발급 경로에서 쓰이므로 항상 본문을 새로 읽습니다.
+ */
 @Slf4j
 @Repository
 @Primary
 public class CouponRedisRepository implements CouponRepository {
 
     private final RedisTemplate<String, Object> couponRedisTemplate;
+    private final CouponNearCache couponNearCache;
 
-    public CouponRedisRepository(@Qualifier("couponRedisTemplate") RedisTemplate<String, Object> couponRedisTemplate) {
+    public CouponRedisRepository(
+            @Qualifier("couponRedisTemplate") RedisTemplate<String, Object> couponRedisTemplate,
+            CouponNearCache couponNearCache
+    ) {
         this.couponRedisTemplate = couponRedisTemplate;
+        this.couponNearCache = couponNearCache;
     }
 
     private static final String COUPON_PREFIX = "coupon:";
+    private static final String AVAILABLE_PREFIX = "coupon:available:";
     private static final String ID_GENERATOR_KEY = "coupon:id:generator";
     private static final String ALL_COUPONS_KEY = "coupon:all";
+    private static final int SCAN_BATCH_SIZE = 500;
 
     @Override
     public Coupon save(Coupon coupon) {
@@ -68,11 +82,52 @@ public class CouponRedisRepository implements CouponRepository {
             return Collections.emptyList();
         }
 
-        return couponIds.stream()
-                .map(id -> findById(Long.parseLong(String.valueOf(id))))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
+        List<Long> ids = couponIds.stream()
+                .map(id -> Long.parseLong(String.valueOf(id)))
+                .sorted()
+                .toList();
+
+        Map<Long, Coupon> metadata = new HashMap<>();
+        List<Long> missedIds = new ArrayList<>();
+        for (Long id : ids) {
+            Coupon cached = couponNearCache.get(id);
+            if (cached != null) {
+                metadata.put(id, cached);
+            } else {
+                missedIds.add(id);
+            }
+        }
+
+        // 캐시에 없는 본문 + 전체 잔여 수량 카운터를 MGET 1회로 조회
+        List<String> keys = new ArrayList<>(missedIds.size() + ids.size());
+        missedIds.forEach(id -> keys.add(getCouponKey(id)));
+        ids.forEach(id -> keys.add(getAvailableKey(id)));
+        List<Object> values = couponRedisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return Collections.emptyList();
+        }
+
+        for (int i = 0; i < missedIds.size(); i++) {
+            if (values.get(i) instanceof CouponCacheDto dto) {
+                Coupon coupon = dto.toDomain();
+                couponNearCache.put(coupon);
+                metadata.put(coupon.getId(), coupon);
+            }
+        }
+
+        List<Coupon> coupons = new ArrayList<>(metadata.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Coupon coupon = metadata.get(ids.get(i));
+            if (coupon == null) {
+                log.debug("쿠폰을 찾을 수 없음: id={}", ids.get(i));
+                continue;
+            }
+            Object available = values.get(missedIds.size() + i);
+            coupons.add(available instanceof Number quantity
+                    ? CouponNearCache.withAvailableQuantity(coupon, quantity.intValue())
+                    : coupon);
+        }
+        return coupons;
     }
 
     @Override
@@ -84,29 +139,33 @@ public class CouponRedisRepository implements CouponRepository {
 
     @Override
     public void deleteAll() {
-        Set<String> keys = couponRedisTemplate.keys(COUPON_PREFIX + "*");
-        if (keys != null && !keys.isEmpty()) {
-            couponRedisTemplate.delete(keys);
-        }
-        couponRedisTemplate.delete(ID_GENERATOR_KEY);
-        couponRedisTemplate.delete(ALL_COUPONS_KEY);
+        RedisKeyspaceCleaner.unlinkByPattern(couponRedisTemplate, COUPON_PREFIX + "*", SCAN_BATCH_SIZE);
+        couponNearCache.invalidateAll();
         log.debug("모든 쿠폰 데이터 삭제 완료");
     }
 
     private void saveCouponToRedis(Coupon coupon) {
         String key = getCouponKey(coupon.getId());
 
-        // 도메인 -> DTO 변환 후 JSON 직렬화하여 저장
+        // 도메인 -> DTO 변환 후 JSON 직렬화하여 저장 (GETSET 으로 덮어쓰기 전 값을 함께 받아 메타데이터 변경 여부 판단)
         CouponCacheDto dto = CouponCacheDto.from(coupon);
-        couponRedisTemplate.opsForValue().set(key, dto);
+        Object previous = couponRedisTemplate.opsForValue().getAndSet(key, dto);
+        couponRedisTemplate.opsForValue().set(getAvailableKey(coupon.getId()), coupon.getAvailableQuantity());
 
         // 전체 쿠폰 목록에 추가
         couponRedisTemplate.opsForSet().add(ALL_COUPONS_KEY, String.valueOf(coupon.getId()));
 
+        // 메타데이터가 바뀐 경우에만 전 노드 near-cache 무효화 (수량만 바뀐 경우는 카운터로 반영됨)
+        couponNearCache.onSaved(previous instanceof CouponCacheDto previousDto ? previousDto.toDomain() : null, coupon);
+
         log.debug("Redis에 쿠폰 저장 완료: key={}, availableQuantity={}", key, coupon.getAvailableQuantity());
     }
 
     private String getCouponKey(Long id) {
         return COUPON_PREFIX + id;
     }
+
+    private String getAvailableKey(Long id) {
+        return AVAILABLE_PREFIX + id;
+    }
 }
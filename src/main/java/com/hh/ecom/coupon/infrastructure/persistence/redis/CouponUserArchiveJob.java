@@ -0,0 +1,145 @@
+package com.hh.ecom.coupon.infrastructure.persistence.redis;
+
+import com.hh.ecom.coupon.domain.Coupon;
+import com.hh.ecom.coupon.domain.CouponRepository;
+import com.hh.ecom.coupon.domain.CouponUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 종료된 쿠폰 캠페인의 만료 발급 이력 아카이빙 스케줄러 (Redis → MySQL)
+ * - 종료일 + 유예 기간이 지난 쿠폰마다 발급 사용자를 SSCAN 커서로 batch 단위로 읽는다
+ * - batch 마다 MySQL 에 INSERT IGNORE 로 옮긴 뒤, Redis 의 본문/인덱스를 pipeline UNLINK 로 지운다
+ * - Redis 발급 이력 ID 를 그대로 PK 로 넣어 orders.coupon_user_id 가 아카이빙 후에도 같은 행을 가리키게 한다
+ *   (MySQL AUTO_INCREMENT 는 명시적으로 넣은 ID 뒤로 밀려나므로 이후 자동 발급 ID 와 겹치지 않는다)
+ * - MySQL 기록이 먼저이고 PK / (user_id, coupon_id) 유니크 제약으로 중복을 무시하므로, 중간에 실패해도 재실행하면 이어서 처리된다
+ * - 무시된 행이 다른 발급 이력과 충돌한 경우(같은 ID 의 다른 행)에는 Redis 에서 지우지 않고 오류로 남긴다
+ * - 기본 비활성화 (coupon.archive.enabled=true 로 켠다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.archive.enabled", havingValue = "true")
+public class CouponUserArchiveJob {
+    private static final String ARCHIVE_SQL = """
+            INSERT IGNORE INTO coupon_user (id, user_id, coupon_id, order_id, issued_at, used_at, expire_date, is_used, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+    private static final String ARCHIVED_KEYS_SQL = """
+            SELECT id, user_id, coupon_id FROM coupon_user WHERE id IN (%s)
+            """;
+
+    private final CouponRepository couponRepository;
+    private final CouponUserRedisRepository couponUserRedisRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${coupon.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${coupon.archive.grace-days:7}")
+    private long graceDays;
+
+    @Scheduled(fixedDelayString = "${coupon.archive.fixed-delay-ms:3600000}")
+    public void archiveExpired() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minusDays(graceDays);
+        int totalArchived = 0;
+
+        for (Coupon coupon : couponRepository.findAll()) {
+            if (!coupon.getEndDate().isBefore(expiredBefore)) {
+                continue;
+            }
+            try {
+                totalArchived += archiveCoupon(coupon.getId(), expiredBefore);
+            } catch (Exception e) {
+                log.error("쿠폰 발급 이력 아카이빙 실패 - 다음 실행에서 재시도합니다: couponId={}", coupon.getId(), e);
+            }
+        }
+
+        if (totalArchived > 0) {
+            log.info("만료 쿠폰 발급 이력 아카이빙 완료: count={}", totalArchived);
+        }
+    }
+
+    int archiveCoupon(Long couponId, LocalDateTime expiredBefore) {
+        int archived = 0;
+
+        try (Stream<List<CouponUser>> batches = couponUserRedisRepository.streamBatchesByCouponId(couponId, batchSize)) {
+            Iterator<List<CouponUser>> iterator = batches.iterator();
+            while (iterator.hasNext()) {
+                List<CouponUser> expired = iterator.next().stream()
+                        .filter(couponUser -> couponUser.getExpireDate().isBefore(expiredBefore))
+                        .toList();
+                if (expired.isEmpty()) {
+                    continue;
+                }
+
+                insertIgnore(expired);
+                List<CouponUser> stored = filterStored(expired);
+                couponUserRedisRepository.unlinkAll(stored);
+                archived += stored.size();
+            }
+        }
+
+        log.debug("쿠폰 발급 이력 아카이빙: couponId={}, count={}", couponId, archived);
+        return archived;
+    }
+
+    private void insertIgnore(List<CouponUser> couponUsers) {
+        jdbcTemplate.batchUpdate(ARCHIVE_SQL, couponUsers, couponUsers.size(), (ps, couponUser) -> {
+            ps.setLong(1, couponUser.getId());
+            ps.setLong(2, couponUser.getUserId());
+            ps.setLong(3, couponUser.getCouponId());
+            ps.setObject(4, couponUser.getOrderId());
+            ps.setTimestamp(5, toTimestamp(couponUser.getIssuedAt()));
+            ps.setTimestamp(6, toTimestamp(couponUser.getUsedAt()));
+            ps.setTimestamp(7, toTimestamp(couponUser.getExpireDate()));
+            ps.setBoolean(8, couponUser.isUsed());
+        });
+    }
+
+    /**
+     * MySQL 에 같은 ID / 사용자 / 쿠폰으로 저장된 발급 이력만 골라낸다 (IN 조회 1회)
+     */
+    private List<CouponUser> filterStored(List<CouponUser> couponUsers) {
+        String placeholders = String.join(",", Collections.nCopies(couponUsers.size(), "?"));
+        Set<String> storedKeys = new HashSet<>(jdbcTemplate.query(
+                ARCHIVED_KEYS_SQL.formatted(placeholders),
+                (rs, rowNum) -> archiveKey(rs.getLong("id"), rs.getLong("user_id"), rs.getLong("coupon_id")),
+                couponUsers.stream().map(CouponUser::getId).toArray()
+        ));
+
+        List<CouponUser> stored = new ArrayList<>(couponUsers.size());
+        for (CouponUser couponUser : couponUsers) {
+            if (storedKeys.contains(archiveKey(couponUser.getId(), couponUser.getUserId(), couponUser.getCouponId()))) {
+                stored.add(couponUser);
+            } else {
+                log.error("쿠폰 발급 이력 아카이빙 충돌 - Redis 에 남겨 둡니다: id={}, userId={}, couponId={}",
+                        couponUser.getId(), couponUser.getUserId(), couponUser.getCouponId());
+            }
+        }
+        return stored;
+    }
+
+    private static String archiveKey(long id, long userId, long couponId) {
+        return id + ":" + userId + ":" + couponId;
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+}
@@ -0,0 +1,30 @@
+package com.hh.ecom.coupon.infrastructure.persistence.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 이전 버전의 사용자별 발급 인덱스(user:coupons:{userId} Set)를 Hash 인덱스로 옮긴다
+ * - 옮긴 키는 지우므로 두 번째 기동부터는 SCAN 만 하고 끝난다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponUserIndexMigrator implements ApplicationRunner {
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    private final CouponUserRedisRepository couponUserRedisRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            couponUserRedisRepository.migrateLegacyUserIndexes(SCAN_BATCH_SIZE);
+        } catch (Exception e) {
+            // 이전 실패 시에도 기동은 계속 - 다음 기동 때 남은 키부터 다시 옮긴다
+            log.error("이전 사용자별 발급 인덱스 이전 중 오류 발생", e);
+        }
+    }
+}
@@ -6,12 +6,40 @@ import com.hh.ecom.coupon.infrastructure.persistence.redis.dto.CouponUserCacheDt
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
-
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 쿠폰 발급 이력 Redis 저장소
+ *
+ * <p>키 구성
+ * <ul>
+ *   <li>coupon:user:{id} - 발급 이력 본문</li>
+ *   <li>user:coupon-index:{userId} - 사용자별 발급 인덱스 Hash (couponId → couponUserId)</li>
+ *   <li>coupon:issued:{couponId} - 쿠폰별 발급 사용자 Set (중복 발급 체크용)</li>
+ * </ul>
+ * 사용자+쿠폰 단건 조회는 HGET → GET, 사용자별 목록은 HVALS → MGET 으로 사용자가 가진 쿠폰 수와 무관하게 2 RTT 입니다.
+ *
+ * <p>이전 버전의 사용자별 발급 인덱스(user:coupons:{userId}, couponUserId Set)는 키 이름을 바꿔 WRONGTYPE 을 피하고,
+ * 기동 시 {@link #migrateLegacyUserIndexes(int)} 로 Hash 인덱스에 옮긴 뒤 지웁니다.
+ *
+ * <p>쿠폰별 발급 사용자는 수십만 명까지 늘 수 있으므로 SMEMBERS / KEYS 대신 SSCAN / SCAN 커서로 batch 단위로 읽습니다.
+ */
 @Slf4j
 @Repository
 @Primary
@@ -25,8 +53,41 @@ public class CouponUserRedisRepository implements CouponUserRepository {
 
     private static final String COUPON_USER_PREFIX = "coupon:user:";
     private static final String COUPON_USER_ID_GENERATOR_KEY = "coupon:user:id:generator";
-    private static final String USER_COUPONS_PREFIX = "user:coupons:";
+    private static final String USER_COUPONS_PREFIX = "user:coupon-index:";
+    private static final String LEGACY_USER_COUPONS_PREFIX = "user:coupons:";
     private static final String COUPON_ISSUED_PREFIX = "coupon:issued:";
+    private static final String COUPON_USER_FENCE_PREFIX = "coupon:user:fence:";
+    private static final int SCAN_BATCH_SIZE = 500;
+    private static final RedisSerializer<Long> LONG_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    /**
+     * KEYS[1]=fence 키, KEYS[2]=발급 이력 키, ARGV[1]=fencing token, ARGV[2]=발급 이력 DTO
+     * 기록된 토큰 이하일 때만 토큰과 본문을 함께 쓴다 (비교와 쓰기 사이에 다른 보유자가 끼어들지 못하도록)
+     */
+    private static final RedisScript<Long> FENCED_UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            local fence = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local token = tonumber(ARGV[1])
+            if token < fence then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1])
+            redis.call('SET', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]=발급 이력 키, KEYS[2]=사용자별 발급 인덱스, KEYS[3]=쿠폰별 발급 사용자 Set
+     * ARGV[1]=발급 이력 DTO, ARGV[2]=couponId, ARGV[3]=couponUserId, ARGV[4]=userId
+     * 본문과 두 인덱스를 한 번에 기록해 인덱스만 남거나 빠지는 구간이 없도록 한다
+     * - ARGV 는 그대로 기록되므로 opsForHash / opsForSet 이 쓰는 것과 같은 바이트로 미리 직렬화해 넘긴다
+     *   (Hash field 는 문자열 그대로, Hash value / Set member / 본문은 JSON)
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[1])
+            redis.call('HSET', KEYS[2], ARGV[2], ARGV[3])
+            redis.call('SADD', KEYS[3], ARGV[4])
+            return 1
+            """, Long.class);
 
     @Override
     public CouponUser save(CouponUser couponUser) {
@@ -56,46 +117,148 @@ public class CouponUserRedisRepository implements CouponUserRepository {
     }
 
     @Override
-    public Optional<CouponUser> findByUserIdAndCouponId(Long userId, Long couponId) {
-        // coupon:issued:{couponId} Set에서 중복 발급 체크
-        String issuedKey = getCouponIssuedKey(couponId);
-        Boolean isMember = couponRedisTemplate.opsForSet().isMember(issuedKey, String.valueOf(userId));
+    public List<CouponUser> findByIdsIn(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // MGET 1회로 조회
+        List<Object> values = couponRedisTemplate.opsForValue()
+                .multiGet(ids.stream().map(this::getCouponUserKey).toList());
+        if (values == null) {
+            return Collections.emptyList();
+        }
+
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(value -> ((CouponUserCacheDto) value).toDomain())
+                .collect(Collectors.toList());
+    }
 
-        if (Boolean.FALSE.equals(isMember)) {
+    /**
+     * ID 는 INCRBY 1회로 한꺼번에 할당하고, 본문 MSET 과 사용자/쿠폰별 인덱스 등록은 pipeline 1회로 보낸다
+     */
+    @Override
+    public List<CouponUser> insertAll(List<CouponUser> couponUsers) {
+        if (couponUsers.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Long lastId = couponRedisTemplate.opsForValue().increment(COUPON_USER_ID_GENERATOR_KEY, couponUsers.size());
+        long firstId = Objects.requireNonNull(lastId) - couponUsers.size() + 1;
+
+        List<CouponUser> saved = new ArrayList<>(couponUsers.size());
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < couponUsers.size(); i++) {
+            CouponUser couponUser = couponUsers.get(i);
+            if (couponUser.getId() != null) {
+                throw new IllegalArgumentException("insertAll 은 신규 발급 이력만 저장할 수 있습니다.");
+            }
+            CouponUser withId = couponUser.toBuilder().id(firstId + i).build();
+            saved.add(withId);
+            values.put(getCouponUserKey(withId.getId()), CouponUserCacheDto.from(withId));
+        }
+
+        couponRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.opsForValue().multiSet(values);
+                for (CouponUser couponUser : saved) {
+                    ops.opsForHash().put(getUserCouponsKey(couponUser.getUserId()),
+                            String.valueOf(couponUser.getCouponId()), String.valueOf(couponUser.getId()));
+                    ops.opsForSet().add(getCouponIssuedKey(couponUser.getCouponId()), String.valueOf(couponUser.getUserId()));
+                }
+                return null;
+            }
+        });
+
+        log.debug("쿠폰 발급 일괄 생성: count={}, ids={}~{}", saved.size(), firstId, lastId);
+        return saved;
+    }
+
+    /**
+     * coupon:issued:{couponId} Set 에 SMISMEMBER 1회로 확인
+     */
+    @Override
+    public Set<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Object[] members = userIds.stream().map(String::valueOf).toArray();
+        Map<Object, Boolean> memberships = couponRedisTemplate.opsForSet().isMember(getCouponIssuedKey(couponId), members);
+        if (memberships == null) {
+            return Collections.emptySet();
+        }
+
+        return memberships.entrySet().stream()
+                .filter(entry -> Boolean.TRUE.equals(entry.getValue()))
+                .map(entry -> Long.parseLong(String.valueOf(entry.getKey())))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 발급 시 사용자/쿠폰별 인덱스에 이미 등록되어 있으므로 본문(coupon:user:{id})만 MSET 1회로 덮어쓴다
+     */
+    @Override
+    public List<CouponUser> updateAll(List<CouponUser> couponUsers) {
+        if (couponUsers.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (CouponUser couponUser : couponUsers) {
+            Objects.requireNonNull(couponUser.getId(), "updateAll 은 기존 발급 이력만 갱신할 수 있습니다.");
+            values.put(getCouponUserKey(couponUser.getId()), CouponUserCacheDto.from(couponUser));
+        }
+        couponRedisTemplate.opsForValue().multiSet(values);
+
+        log.debug("쿠폰 발급 이력 일괄 수정: count={}", couponUsers.size());
+        return couponUsers;
+    }
+
+    /**
+     * 사용/복원은 본문만 바뀌므로 사용자/쿠폰별 인덱스는 건드리지 않는다
+     */
+    @Override
+    public Optional<CouponUser> updateIfFenceValid(CouponUser couponUser, long token) {
+        Objects.requireNonNull(couponUser.getId(), "updateIfFenceValid 는 기존 발급 이력만 갱신할 수 있습니다.");
+
+        Long result = couponRedisTemplate.execute(
+                FENCED_UPDATE_SCRIPT,
+                List.of(getCouponUserFenceKey(couponUser.getId()), getCouponUserKey(couponUser.getId())),
+                token, CouponUserCacheDto.from(couponUser)
+        );
+        if (!Long.valueOf(1L).equals(result)) {
+            log.debug("오래된 fencing token 으로 쿠폰 발급 이력 수정 거부: id={}, token={}", couponUser.getId(), token);
             return Optional.empty();
         }
+        return Optional.of(couponUser);
+    }
 
-        // 실제 데이터는 user:coupons:{userId} Set에서 조회
-        String userCouponsKey = getUserCouponsKey(userId);
-        Set<Object> couponUserIds = couponRedisTemplate.opsForSet().members(userCouponsKey);
+    @Override
+    public Optional<CouponUser> findByUserIdAndCouponId(Long userId, Long couponId) {
+        Object couponUserId = couponRedisTemplate.opsForHash()
+                .get(getUserCouponsKey(userId), String.valueOf(couponId));
 
-        if (couponUserIds == null || couponUserIds.isEmpty()) {
+        if (couponUserId == null) {
             return Optional.empty();
         }
 
-        // 각 CouponUser를 조회해서 couponId가 일치하는 것 찾기
-        return couponUserIds.stream()
-                .map(id -> findById(Long.parseLong(String.valueOf(id))))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .filter(cu -> cu.getCouponId().equals(couponId))
-                .findFirst();
+        return findById(Long.parseLong(String.valueOf(couponUserId)));
     }
 
     @Override
     public List<CouponUser> findByUserId(Long userId) {
-        String userCouponsKey = getUserCouponsKey(userId);
-        Set<Object> couponUserIds = couponRedisTemplate.opsForSet().members(userCouponsKey);
+        List<Object> couponUserIds = couponRedisTemplate.opsForHash().values(getUserCouponsKey(userId));
 
         if (couponUserIds == null || couponUserIds.isEmpty()) {
             return Collections.emptyList();
         }
 
-        return couponUserIds.stream()
-                .map(id -> findById(Long.parseLong(String.valueOf(id))))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
+        return findByIdsIn(toIds(couponUserIds));
     }
 
     @Override
@@ -107,45 +270,137 @@ public class CouponUserRedisRepository implements CouponUserRepository {
 
     @Override
     public List<CouponUser> findByCouponId(Long couponId) {
-        // coupon:issued:{couponId} Set에서 이 쿠폰을 받은 모든 사용자 ID 조회
-        String issuedKey = getCouponIssuedKey(couponId);
-        Set<Object> userIds = couponRedisTemplate.opsForSet().members(issuedKey);
-
-        if (userIds == null || userIds.isEmpty()) {
-            return Collections.emptyList();
+        try (Stream<List<CouponUser>> batches = streamBatchesByCouponId(couponId, SCAN_BATCH_SIZE)) {
+            return batches.flatMap(List::stream).collect(Collectors.toList());
         }
+    }
 
-        // 각 사용자에 대해 해당 쿠폰 조회
-        return userIds.stream()
-                .map(userIdObj -> Long.parseLong(String.valueOf(userIdObj)))
-                .map(userId -> findByUserIdAndCouponId(userId, couponId))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
+    /**
+     * coupon:issued:{couponId} 를 SSCAN 커서로 batchSize 씩 읽는 lazy Stream (사용 후 close 필요)
+     * - 순회 중 추가/삭제된 사용자는 포함될 수도, 빠질 수도 있다 (SSCAN 보장 범위)
+     */
+    public Stream<Long> streamIssuedUserIds(Long couponId, int batchSize) {
+        Cursor<Object> cursor = couponRedisTemplate.opsForSet()
+                .scan(getCouponIssuedKey(couponId), ScanOptions.scanOptions().count(batchSize).build());
+        return cursor.stream()
+                .map(userId -> Long.parseLong(String.valueOf(userId)));
     }
 
-    @Override
-    public void deleteAll() {
-        // 모든 CouponUser 데이터 삭제
-        Set<String> couponUserKeys = couponRedisTemplate.keys(COUPON_USER_PREFIX + "*");
-        if (!couponUserKeys.isEmpty()) {
-            couponRedisTemplate.delete(couponUserKeys);
+    /**
+     * 쿠폰별 발급 이력을 batchSize 명 단위로 읽는 lazy Stream (사용 후 close 필요)
+     * - batch 마다 사용자 인덱스 HGET pipeline 1회 + 본문 MGET 1회
+     */
+    public Stream<List<CouponUser>> streamBatchesByCouponId(Long couponId, int batchSize) {
+        Stream<Long> userIds = streamIssuedUserIds(couponId, batchSize);
+        Iterator<Long> iterator = userIds.iterator();
+
+        Iterator<List<Long>> userIdBatches = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public List<Long> next() {
+                List<Long> batch = new ArrayList<>(batchSize);
+                while (iterator.hasNext() && batch.size() < batchSize) {
+                    batch.add(iterator.next());
+                }
+                return batch;
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(userIdBatches, Spliterator.ORDERED), false)
+                .map(batch -> findByUserIdsAndCouponId(batch, couponId))
+                .onClose(userIds::close);
+    }
+
+    /**
+     * 발급 이력을 Redis 에서 제거한다 (아카이빙 이후 메모리 회수용)
+     * - 본문/fence 키 UNLINK, 사용자 인덱스 HDEL, 쿠폰별 발급 사용자 SREM 을 pipeline 1회로 보낸다
+     */
+    public void unlinkAll(List<CouponUser> couponUsers) {
+        if (couponUsers.isEmpty()) {
+            return;
         }
 
-        // 모든 사용자의 쿠폰 목록 삭제
-        Set<String> userCouponsKeys = couponRedisTemplate.keys(USER_COUPONS_PREFIX + "*");
-        if (!userCouponsKeys.isEmpty()) {
-            couponRedisTemplate.delete(userCouponsKeys);
+        List<String> keys = new ArrayList<>(couponUsers.size() * 2);
+        for (CouponUser couponUser : couponUsers) {
+            keys.add(getCouponUserKey(couponUser.getId()));
+            keys.add(getCouponUserFenceKey(couponUser.getId()));
         }
 
-        // 모든 쿠폰의 발급 목록 삭제
-        Set<String> couponIssuedKeys = couponRedisTemplate.keys(COUPON_ISSUED_PREFIX + "*");
-        if (!couponIssuedKeys.isEmpty()) {
-            couponRedisTemplate.delete(couponIssuedKeys);
+        couponRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.unlink(keys);
+                for (CouponUser couponUser : couponUsers) {
+                    ops.opsForHash().delete(getUserCouponsKey(couponUser.getUserId()), String.valueOf(couponUser.getCouponId()));
+                    ops.opsForSet().remove(getCouponIssuedKey(couponUser.getCouponId()), String.valueOf(couponUser.getUserId()));
+                }
+                return null;
+            }
+        });
+
+        log.debug("쿠폰 발급 이력 Redis 제거: count={}", couponUsers.size());
+    }
+
+    /**
+     * 이전 버전의 사용자별 발급 인덱스(user:coupons:{userId} Set, 멤버는 couponUserId)를 Hash 인덱스로 옮기고 지운다 (멱등)
+     * - 키마다 SMEMBERS → 본문 MGET 으로 couponId 를 얻어 HSETNX (이미 새 인덱스에 기록된 값은 덮어쓰지 않는다)
+     *
+     * @return 옮긴 사용자 인덱스 키 수
+     */
+    public long migrateLegacyUserIndexes(int batchSize) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(LEGACY_USER_COUPONS_PREFIX + "*")
+                .type(DataType.SET)
+                .count(batchSize)
+                .build();
+        long migrated = 0;
+
+        try (Cursor<String> cursor = couponRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String legacyKey = cursor.next();
+                Set<Object> couponUserIds = couponRedisTemplate.opsForSet().members(legacyKey);
+                List<CouponUser> couponUsers = couponUserIds == null ? List.of() : findByIdsIn(toIds(couponUserIds));
+
+                couponRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) {
+                        RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                        for (CouponUser couponUser : couponUsers) {
+                            ops.opsForHash().putIfAbsent(getUserCouponsKey(couponUser.getUserId()),
+                                    String.valueOf(couponUser.getCouponId()), String.valueOf(couponUser.getId()));
+                        }
+                        ops.unlink(legacyKey);
+                        return null;
+                    }
+                });
+                migrated++;
+            }
+        }
+
+        if (migrated > 0) {
+            log.info("이전 사용자별 발급 인덱스(Set) → Hash 이전 완료: keys={}", migrated);
         }
+        return migrated;
+    }
 
-        // ID 생성기 삭제
-        couponRedisTemplate.delete(COUPON_USER_ID_GENERATOR_KEY);
+    @Override
+    public void deleteAll() {
+        // 모든 CouponUser 데이터 삭제 (ID 생성기 / fence 키 포함)
+        RedisKeyspaceCleaner.unlinkByPattern(couponRedisTemplate, COUPON_USER_PREFIX + "*", SCAN_BATCH_SIZE);
+
+        // 모든 사용자의 발급 인덱스 삭제 (이전 버전 Set 인덱스 포함)
+        RedisKeyspaceCleaner.unlinkByPattern(couponRedisTemplate, USER_COUPONS_PREFIX + "*", SCAN_BATCH_SIZE);
+        RedisKeyspaceCleaner.unlinkByPattern(couponRedisTemplate, LEGACY_USER_COUPONS_PREFIX + "*", SCAN_BATCH_SIZE);
+
+        // 모든 쿠폰의 발급 목록 삭제
+        RedisKeyspaceCleaner.unlinkByPattern(couponRedisTemplate, COUPON_ISSUED_PREFIX + "*", SCAN_BATCH_SIZE);
 
         log.debug("모든 쿠폰 발급 데이터 삭제 완료");
     }
@@ -153,26 +408,62 @@ public class CouponUserRedisRepository implements CouponUserRepository {
     private void saveCouponUserToRedis(CouponUser couponUser) {
         String key = getCouponUserKey(couponUser.getId());
 
-        // 도메인 -> DTO 변환 후 JSON 직렬화하여 저장
-        CouponUserCacheDto dto = CouponUserCacheDto.from(couponUser);
-        couponRedisTemplate.opsForValue().set(key, dto);
-
-        // 사용자별 보유 쿠폰 목록에 추가
-        String userCouponsKey = getUserCouponsKey(couponUser.getUserId());
-        couponRedisTemplate.opsForSet().add(userCouponsKey, String.valueOf(couponUser.getId()));
-
-        // 쿠폰별 발급된 사용자 목록에 추가 (중복 발급 체크용)
-        String issuedKey = getCouponIssuedKey(couponUser.getCouponId());
-        couponRedisTemplate.opsForSet().add(issuedKey, String.valueOf(couponUser.getUserId()));
+        // 본문 + 사용자별 발급 인덱스 + 쿠폰별 발급 사용자 Set 을 스크립트 1회로 원자적으로 기록
+        couponRedisTemplate.execute(
+                SAVE_SCRIPT,
+                RedisSerializer.string(),
+                LONG_RESULT_SERIALIZER,
+                List.of(key, getUserCouponsKey(couponUser.getUserId()), getCouponIssuedKey(couponUser.getCouponId())),
+                toJson(CouponUserCacheDto.from(couponUser)),
+                String.valueOf(couponUser.getCouponId()),
+                toJson(String.valueOf(couponUser.getId())),
+                toJson(String.valueOf(couponUser.getUserId()))
+        );
 
         log.debug("Redis에 쿠폰 발급 저장 완료: key={}, userId={}, couponId={}",
                 key, couponUser.getUserId(), couponUser.getCouponId());
     }
 
+    private List<CouponUser> findByUserIdsAndCouponId(List<Long> userIds, Long couponId) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String couponIdField = String.valueOf(couponId);
+        List<Object> couponUserIds = couponRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (Long userId : userIds) {
+                    ops.opsForHash().get(getUserCouponsKey(userId), couponIdField);
+                }
+                return null;
+            }
+        });
+
+        return findByIdsIn(toIds(couponUserIds.stream().filter(Objects::nonNull).toList()));
+    }
+
+    private String toJson(Object value) {
+        byte[] serialized = couponRedisTemplate.getValueSerializer().serialize(value);
+        return new String(Objects.requireNonNull(serialized), StandardCharsets.UTF_8);
+    }
+
+    private static List<Long> toIds(Collection<Object> values) {
+        return values.stream()
+                .map(value -> Long.parseLong(String.valueOf(value)))
+                .toList();
+    }
+
     private String getCouponUserKey(Long id) {
         return COUPON_USER_PREFIX + id;
     }
 
+    private String getCouponUserFenceKey(Long id) {
+        return COUPON_USER_FENCE_PREFIX + id;
+    }
+
     private String getUserCouponsKey(Long userId) {
         return USER_COUPONS_PREFIX + userId;
     }
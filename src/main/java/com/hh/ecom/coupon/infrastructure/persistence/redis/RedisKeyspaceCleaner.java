@@ -0,0 +1,48 @@
+package com.hh.ecom.coupon.infrastructure.persistence.redis;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * KEYS 대신 SCAN 커서로 키를 나눠 훑고, batch 단위 UNLINK 로 지운다
+ * - KEYS / DEL 은 키 수·값 크기에 비례해 Redis 를 멈추게 하므로, 스캔은 batch 마다 양보하고 메모리 회수는 백그라운드 스레드에 맡긴다
+ */
+final class RedisKeyspaceCleaner {
+
+    private RedisKeyspaceCleaner() {
+    }
+
+    /**
+     * @return 삭제 요청한 키 수
+     */
+    static long unlinkByPattern(RedisTemplate<String, ?> redisTemplate, String pattern, int batchSize) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+        long unlinked = 0;
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(batchSize);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= batchSize) {
+                    unlinked += unlink(redisTemplate, batch);
+                }
+            }
+            unlinked += unlink(redisTemplate, batch);
+        }
+        return unlinked;
+    }
+
+    private static int unlink(RedisTemplate<String, ?> redisTemplate, List<String> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int size = batch.size();
+        redisTemplate.unlink(List.copyOf(batch));
+        batch.clear();
+        return size;
+    }
+}
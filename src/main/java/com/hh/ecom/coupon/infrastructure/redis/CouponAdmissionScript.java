@@ -0,0 +1,162 @@
+package com.hh.ecom.coupon.infrastructure.redis;
+
+import com.hh.ecom.coupon.domain.exception.CouponErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 선착순 쿠폰 발급 입장(admission) 판정 - Lua 스크립트 1회(EVALSHA) 호출
+ *
+ * <p>중복 체크 → 잔여 수량 체크 → 참여자 등록(+ 선택적으로 큐 적재)을 원자적으로 처리합니다.
+ * 기존 SADD → SCARD → GET → (SREM) 의 3~4 RTT 를 1 RTT 로 줄이고,
+ * 먼저 SADD 한 뒤 인원을 세던 방식에서 생기던 순간적인 초과 입장 구간을 없앱니다.
+ *
+ * <p>스크립트는 기동 시 {@link #preload()} 로 SCRIPT LOAD 해 두고, 이후 호출은 EVALSHA 로 보냅니다.
+ * (Redis 재시작 등으로 캐시가 비면 RedisTemplate 이 NOSCRIPT 를 받고 EVAL 로 재전송)
+ *
+ * <p>재고가 샤딩된 쿠폰({@link CouponStockShards})은 같은 스크립트를 샤드 단위로 실행합니다.
+ * 홈 샤드에서 바로 판정되는 것이 보통이고, 홈 샤드가 소진된 경우에만 다음 샤드로 넘어갑니다.
+ */
+@Slf4j
+@Component
+public class CouponAdmissionScript {
+
+    /**
+     * KEYS[1]=참여자 Set, KEYS[2]=잔여 수량, KEYS[3]=발급 큐(선택)
+     * ARGV[1]=userId, ARGV[2]=큐 적재 값(선택)
+     */
+    private static final RedisScript<Long> ADMISSION_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                return 1
+            end
+            local stock = redis.call('GET', KEYS[2])
+            if stock == false then
+                return 2
+            end
+            if redis.call('SCARD', KEYS[1]) >= tonumber(stock) then
+                return 3
+            end
+            redis.call('SADD', KEYS[1], ARGV[1])
+            if #KEYS > 2 then
+                redis.call('RPUSH', KEYS[3], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCouponKeyGenerator redisCouponKeyGenerator;
+    private final CouponStockShards couponStockShards;
+
+    public CouponAdmissionScript(
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisCouponKeyGenerator redisCouponKeyGenerator,
+            CouponStockShards couponStockShards
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisCouponKeyGenerator = redisCouponKeyGenerator;
+        this.couponStockShards = couponStockShards;
+    }
+
+    /**
+     * 참여자로 등록 가능한지 판정하고, 가능하면 등록까지 한다
+     */
+    public Result admit(Long userId, Long couponId) {
+        int shardCount = couponStockShards.shardCountOf(couponId);
+        if (shardCount > CouponStockShards.UNSHARDED) {
+            return admitSharded(userId, couponId, shardCount);
+        }
+
+        List<String> keys = List.of(
+                redisCouponKeyGenerator.generateUsersSetKey(couponId),
+                redisCouponKeyGenerator.generateStockKey(couponId)
+        );
+        return execute(keys, userId.toString());
+    }
+
+    /**
+     * admit 과 같은 판정 후, 입장한 경우 발급 큐에도 같은 스크립트 안에서 적재한다
+     * (Redis 큐 방식 전용 - 샤딩하지 않은 쿠폰만 지원)
+     */
+    public Result admitAndEnqueue(Long userId, Long couponId, String queueEntry) {
+        List<String> keys = List.of(
+                redisCouponKeyGenerator.generateUsersSetKey(couponId),
+                redisCouponKeyGenerator.generateStockKey(couponId),
+                redisCouponKeyGenerator.generateQueueKey(couponId)
+        );
+        return execute(keys, userId.toString(), queueEntry);
+    }
+
+    /**
+     * 스크립트를 Redis 스크립트 캐시에 미리 올린다 - 첫 요청부터 EVALSHA 가 바로 맞도록
+     */
+    public void preload() {
+        String sha = redisTemplate.execute((RedisCallback<String>) CouponAdmissionScript::scriptLoad);
+        log.info("쿠폰 입장 스크립트 로드 완료: sha={}", sha);
+    }
+
+    /**
+     * 홈 샤드부터 차례로 시도 - 소진(SOLD_OUT)인 샤드만 건너뛰고, 입장/중복/미초기화는 그 샤드의 결과로 확정한다
+     */
+    private Result admitSharded(Long userId, Long couponId, int shardCount) {
+        for (int attempt = 0; attempt < shardCount; attempt++) {
+            int shard = couponStockShards.shardAt(userId, shardCount, attempt);
+            List<String> keys = List.of(
+                    redisCouponKeyGenerator.generateShardUsersSetKey(couponId, shard),
+                    redisCouponKeyGenerator.generateShardStockKey(couponId, shard)
+            );
+            Result result = execute(keys, userId.toString());
+            if (result != Result.SOLD_OUT) {
+                return result;
+            }
+        }
+        return Result.SOLD_OUT;
+    }
+
+    private Result execute(List<String> keys, String... args) {
+        Long code = redisTemplate.execute(ADMISSION_SCRIPT, keys, (Object[]) args);
+        return Result.of(code);
+    }
+
+    private static String scriptLoad(RedisConnection connection) {
+        return connection.scriptingCommands()
+                .scriptLoad(ADMISSION_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Result {
+        ADMITTED(0, null),
+        ALREADY_ISSUED(1, CouponErrorCode.COUPON_ALREADY_ISSUED),
+        NOT_INITIALIZED(2, CouponErrorCode.COUPON_NOT_FOUND),
+        SOLD_OUT(3, CouponErrorCode.COUPON_SOLD_OUT);
+
+        private final long code;
+        private final CouponErrorCode errorCode;
+
+        public boolean isAdmitted() {
+            return this == ADMITTED;
+        }
+
+        static Result of(Long code) {
+            if (code == null) {
+                throw new IllegalStateException("쿠폰 입장 스크립트 결과가 없습니다.");
+            }
+            return Arrays.stream(values())
+                    .filter(result -> result.code == code)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("알 수 없는 쿠폰 입장 스크립트 결과: " + code));
+        }
+    }
+}
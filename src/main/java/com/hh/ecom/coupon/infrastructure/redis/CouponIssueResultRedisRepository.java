@@ -0,0 +1,146 @@
+package com.hh.ecom.coupon.infrastructure.redis;
+
+import com.hh.ecom.coupon.domain.CouponIssueResultRepository;
+import com.hh.ecom.coupon.domain.event.CouponIssuedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 비동기 쿠폰 발급 결과 저장소
+ * - Key: coupon:issue:result:{requestId} (Hash)
+ * - 조회 전용 상태 정보이므로 TTL 이후 자동 만료
+ */
+@Slf4j
+@Repository
+public class CouponIssueResultRedisRepository implements CouponIssueResultRepository {
+    private static final String RESULT_KEY_PREFIX = "coupon:issue:result:";
+    private static final Duration RESULT_TTL = Duration.ofMinutes(10);
+
+    private static final String FIELD_USER_ID = "userId";
+    private static final String FIELD_COUPON_ID = "couponId";
+    private static final String FIELD_COUPON_USER_ID = "couponUserId";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_FAILURE_REASON = "failureReason";
+    private static final String FIELD_ISSUED_AT = "issuedAt";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public CouponIssueResultRedisRepository(
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 결과마다 HSET + EXPIRE 를 pipeline 1회로 보낸다
+     */
+    @Override
+    public void saveAll(List<CouponIssuedEvent> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (CouponIssuedEvent result : results) {
+                    String key = getResultKey(result.requestId());
+                    ops.opsForHash().putAll(key, toFields(result));
+                    ops.expire(key, RESULT_TTL);
+                }
+                return null;
+            }
+        });
+
+        log.debug("쿠폰 발급 결과 저장: count={}", results.size());
+    }
+
+    @Override
+    public Optional<CouponIssuedEvent> findByRequestId(String requestId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(getResultKey(requestId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toResult(requestId, fields));
+    }
+
+    /**
+     * 요청마다 HGETALL 을 pipeline 1회로 보낸다
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CouponIssuedEvent> findAllByRequestIds(List<String> requestIds) {
+        if (requestIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> entries = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String requestId : requestIds) {
+                    ops.opsForHash().entries(getResultKey(requestId));
+                }
+                return null;
+            }
+        });
+
+        List<CouponIssuedEvent> results = new ArrayList<>(requestIds.size());
+        for (int i = 0; i < requestIds.size(); i++) {
+            Map<Object, Object> fields = (Map<Object, Object>) entries.get(i);
+            if (fields != null && !fields.isEmpty()) {
+                results.add(toResult(requestIds.get(i), fields));
+            }
+        }
+        return results;
+    }
+
+    private CouponIssuedEvent toResult(String requestId, Map<Object, Object> fields) {
+        return new CouponIssuedEvent(
+                requestId,
+                Long.parseLong((String) fields.get(FIELD_USER_ID)),
+                Long.parseLong((String) fields.get(FIELD_COUPON_ID)),
+                parseLongOrNull(fields.get(FIELD_COUPON_USER_ID)),
+                CouponIssuedEvent.IssueStatus.valueOf((String) fields.get(FIELD_STATUS)),
+                (String) fields.get(FIELD_FAILURE_REASON),
+                LocalDateTime.parse((String) fields.get(FIELD_ISSUED_AT))
+        );
+    }
+
+    private Map<String, String> toFields(CouponIssuedEvent result) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_USER_ID, String.valueOf(result.userId()));
+        fields.put(FIELD_COUPON_ID, String.valueOf(result.couponId()));
+        fields.put(FIELD_STATUS, result.status().name());
+        fields.put(FIELD_ISSUED_AT, result.issuedAt().toString());
+        if (result.couponUserId() != null) {
+            fields.put(FIELD_COUPON_USER_ID, String.valueOf(result.couponUserId()));
+        }
+        if (result.failureReason() != null) {
+            fields.put(FIELD_FAILURE_REASON, result.failureReason());
+        }
+        return fields;
+    }
+
+    private Long parseLongOrNull(Object value) {
+        return value == null ? null : Long.parseLong((String) value);
+    }
+
+    private String getResultKey(String requestId) {
+        return RESULT_KEY_PREFIX + requestId;
+    }
+}
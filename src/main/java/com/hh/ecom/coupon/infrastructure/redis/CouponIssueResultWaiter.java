@@ -0,0 +1,141 @@
+package com.hh.ecom.coupon.infrastructure.redis;
+
+import com.hh.ecom.coupon.domain.CouponIssueResultRepository;
+import com.hh.ecom.coupon.domain.event.CouponIssuedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 발급 결과 대기자 관리 (long-poll)
+ *
+ * <p>결과를 기록한 노드가 requestId 목록을 Redis pub/sub 으로 알리면,
+ * 각 노드는 자기 노드에서 대기 중인 요청만 골라 저장소에서 결과를 읽어 완료시킵니다.
+ * 대기 중인 요청이 없는 노드는 메시지를 받아도 Redis 를 읽지 않습니다.
+ *
+ * <p>리스너 스레드는 Redisson 의 모든 topic 이 공유하므로 대기 요청을 고르는 일만 하고,
+ * 결과 조회(pipeline 1회)와 대기 요청 완료(응답 작성 포함)는 전용 Executor 로 넘깁니다.
+ */
+@Slf4j
+@Component
+public class CouponIssueResultWaiter {
+    private static final String NOTIFY_CHANNEL = "coupon:issue:result:notify";
+    private static final String DELIMITER = ",";
+
+    private final RedissonClient redissonClient;
+    private final CouponIssueResultRepository couponIssueResultRepository;
+    private final Executor notifyExecutor;
+
+    private final Map<String, Set<CompletableFuture<CouponIssuedEvent>>> waiters = new ConcurrentHashMap<>();
+    private RTopic topic;
+    private int listenerId;
+
+    public CouponIssueResultWaiter(
+            RedissonClient redissonClient,
+            CouponIssueResultRepository couponIssueResultRepository,
+            @Qualifier("couponResultNotifyExecutor") Executor notifyExecutor
+    ) {
+        this.redissonClient = redissonClient;
+        this.couponIssueResultRepository = couponIssueResultRepository;
+        this.notifyExecutor = notifyExecutor;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        topic = redissonClient.getTopic(NOTIFY_CHANNEL, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> onNotified(message));
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        topic.removeListener(listenerId);
+    }
+
+    /**
+     * 결과가 기록될 때까지 기다리는 future 를 등록한다 - timeout 이 지나면 TimeoutException 으로 완료
+     */
+    public CompletableFuture<CouponIssuedEvent> register(String requestId, Duration timeout) {
+        CompletableFuture<CouponIssuedEvent> future = new CompletableFuture<>();
+        waiters.compute(requestId, (id, futures) -> {
+            Set<CompletableFuture<CouponIssuedEvent>> registered = futures != null ? futures : ConcurrentHashMap.newKeySet();
+            registered.add(future);
+            return registered;
+        });
+        future.whenComplete((result, e) -> remove(requestId, future));
+
+        // 등록 직전에 결과가 기록되고 알림이 지나갔을 수 있으므로 등록 후 한 번 더 확인
+        couponIssueResultRepository.findByRequestId(requestId).ifPresent(future::complete);
+        return future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 결과 기록 후 호출 - 모든 노드에 requestId 목록을 한 메시지로 알린다
+     */
+    public void notifyRecorded(List<String> requestIds) {
+        if (requestIds.isEmpty()) {
+            return;
+        }
+        try {
+            topic.publish(String.join(DELIMITER, requestIds));
+        } catch (Exception e) {
+            // 알림이 유실되면 대기자는 timeout 후 다시 조회한다
+            log.warn("쿠폰 발급 결과 알림 발행 실패: count={}, error={}", requestIds.size(), e.getMessage());
+        }
+    }
+
+    private void onNotified(String message) {
+        List<String> waiting = new ArrayList<>();
+        for (String requestId : message.split(DELIMITER)) {
+            Set<CompletableFuture<CouponIssuedEvent>> futures = waiters.get(requestId);
+            if (futures != null && !futures.isEmpty()) {
+                waiting.add(requestId);
+            }
+        }
+        if (waiting.isEmpty()) {
+            return;
+        }
+
+        try {
+            notifyExecutor.execute(() -> completeWaiters(waiting));
+        } catch (RejectedExecutionException e) {
+            // 대기 요청은 timeout 후 다시 조회한다
+            log.warn("쿠폰 발급 결과 알림 처리 거절: count={}", waiting.size());
+        }
+    }
+
+    private void completeWaiters(List<String> requestIds) {
+        try {
+            for (CouponIssuedEvent result : couponIssueResultRepository.findAllByRequestIds(requestIds)) {
+                Set<CompletableFuture<CouponIssuedEvent>> futures = waiters.get(result.requestId());
+                if (futures != null) {
+                    List.copyOf(futures).forEach(future -> future.complete(result));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("쿠폰 발급 결과 조회 실패: count={}, error={}", requestIds.size(), e.getMessage());
+        }
+    }
+
+    private void remove(String requestId, CompletableFuture<CouponIssuedEvent> future) {
+        waiters.computeIfPresent(requestId, (id, futures) -> {
+            futures.remove(future);
+            return futures.isEmpty() ? null : futures;
+        });
+    }
+}
@@ -22,12 +22,15 @@ public class CouponRedisInitializer implements ApplicationRunner {
 
     private final CouponRepository couponRepository;
     private final RedisCouponService redisCouponService;
+    private final CouponAdmissionScript couponAdmissionScript;
 
     @Override
     public void run(ApplicationArguments args) {
         log.info("쿠폰 Redis 초기화 시작");
 
         try {
+            couponAdmissionScript.preload();
+
             List<Coupon> allCoupons = couponRepository.findAll();
             int initializedCount = 0;
 
@@ -0,0 +1,117 @@
+package com.hh.ecom.coupon.infrastructure.redis;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 선착순 쿠폰 품절 게이트 (프로세스 로컬)
+ *
+ * <p>입장 스크립트가 SOLD_OUT 을 돌려준 쿠폰을 노드 메모리에 표시해 두고, 이후 요청은 Redis 를 거치지 않고 바로 거절합니다.
+ * 품절 표시는 Redis pub/sub({@value #CHANNEL})으로 모든 노드에 전파되고, 재고를 다시 초기화하면 전 노드에서 해제됩니다.
+ *
+ * <p>게이트는 사용자를 구분하지 않으므로, 품절 이후에는 이미 입장한 사용자의 재요청도 중복 발급(CP104) 대신 품절로 거절됩니다.
+ *
+ * <p>선착순 재고는 늘어나지 않으므로 품절 표시가 잘못 남을 일은 없지만, 메시지 유실에 대비해 항목마다 TTL 을 두어
+ * 만료 후 첫 요청은 Redis 로 다시 확인합니다.
+ */
+@Slf4j
+@Component
+public class CouponSoldOutGate {
+    static final String CHANNEL = "coupon:issue:sold-out";
+    private static final String REOPEN_PREFIX = "-";
+
+    private final RedissonClient redissonClient;
+    private final long ttlMs;
+    private final LongSupplier clock;
+
+    // couponId → 품절 표시 시각
+    private final Map<Long, Long> soldOut = new ConcurrentHashMap<>();
+    private RTopic topic;
+    private int listenerId;
+
+    public CouponSoldOutGate(
+            RedissonClient redissonClient,
+            @Value("${coupon.issue.sold-out-gate.ttl-ms:60000}") long ttlMs
+    ) {
+        this.redissonClient = redissonClient;
+        this.ttlMs = ttlMs;
+        this.clock = System::currentTimeMillis;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        topic = redissonClient.getTopic(CHANNEL, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> applyLocal(message));
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        topic.removeListener(listenerId);
+    }
+
+    /**
+     * @return 이 노드에 품절로 표시되어 있고 TTL 이 지나지 않았으면 true
+     */
+    public boolean isSoldOut(Long couponId) {
+        Long markedAt = soldOut.get(couponId);
+        if (markedAt == null) {
+            return false;
+        }
+        if (clock.getAsLong() - markedAt >= ttlMs) {
+            soldOut.remove(couponId, markedAt);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 입장 스크립트가 SOLD_OUT 을 돌려줬을 때 호출 - 이 노드에 바로 표시하고 전 노드에 발행한다
+     * (이미 표시된 쿠폰은 다시 발행하지 않는다)
+     */
+    public void markSoldOut(Long couponId) {
+        if (soldOut.put(couponId, clock.getAsLong()) != null) {
+            return;
+        }
+        log.info("쿠폰 품절 게이트 닫힘: couponId={}", couponId);
+        publish(String.valueOf(couponId));
+    }
+
+    /**
+     * 재고를 다시 초기화했을 때 호출 - 전 노드의 품절 표시를 해제한다
+     */
+    public void reopen(Long couponId) {
+        soldOut.remove(couponId);
+        publish(REOPEN_PREFIX + couponId);
+    }
+
+    private void publish(String message) {
+        try {
+            topic.publish(message);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드는 Redis 입장 스크립트로 계속 판정한다 (TTL 만료 후 해제도 동일)
+            log.warn("쿠폰 품절 게이트 발행 실패: message={}, error={}", message, e.getMessage());
+        }
+    }
+
+    private void applyLocal(String message) {
+        try {
+            if (message.startsWith(REOPEN_PREFIX)) {
+                soldOut.remove(Long.parseLong(message.substring(REOPEN_PREFIX.length())));
+            } else {
+                soldOut.putIfAbsent(Long.parseLong(message), clock.getAsLong());
+            }
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 쿠폰 품절 게이트 메시지: {}", message);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.hh.ecom.coupon.infrastructure.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 선착순 쿠폰 재고 샤딩 (핫 쿠폰 전용, 선택)
+ *
+ * <p>재고가 큰 쿠폰은 재고를 N 개의 샤드(재고 카운트 + 참여자 Set)로 나눠, 한 쿠폰의 오픈 트래픽이
+ * Redis 한 슬롯/스레드에 몰리지 않도록 합니다. 사용자는 userId 로 정해진 홈 샤드부터,
+ * 홈 샤드가 소진되면 정해진 순서(홈 + 1, 홈 + 2, ...)로 다음 샤드에 입장을 시도합니다.
+ *
+ * <p>샤드 재고는 늘어나지 않으므로 같은 사용자는 항상 같은 순서로 샤드를 훑고,
+ * 이미 입장한 샤드에 닿기 전에 입장 가능한 샤드가 생길 수 없어 샤드 간 중복 입장이 생기지 않습니다.
+ *
+ * <p>샤드 수는 초기화 시 한 번 정해지면 바뀌지 않으므로 노드별로 캐시합니다.
+ */
+@Slf4j
+@Component
+public class CouponStockShards {
+    static final int UNSHARDED = 1;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisCouponKeyGenerator redisCouponKeyGenerator;
+    private final boolean enabled;
+    private final int shardCount;
+    private final int minStock;
+
+    private final Map<Long, Integer> shardCounts = new ConcurrentHashMap<>();
+
+    public CouponStockShards(
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisCouponKeyGenerator redisCouponKeyGenerator,
+            @Value("${coupon.issue.sharding.enabled:false}") boolean enabled,
+            @Value("${coupon.issue.sharding.shard-count:8}") int shardCount,
+            @Value("${coupon.issue.sharding.min-stock:1000}") int minStock
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisCouponKeyGenerator = redisCouponKeyGenerator;
+        this.enabled = enabled;
+        this.shardCount = shardCount;
+        this.minStock = minStock;
+    }
+
+    /**
+     * 샤딩 대상이면 재고를 샤드별로 나눠 기록한다 (멱등, 이미 단일 키로 초기화된 쿠폰은 그대로 둔다)
+     *
+     * @return 샤딩 모드로 초기화(또는 이미 초기화)되었으면 true
+     */
+    public boolean initializeIfHot(Long couponId, int stock) {
+        if (!enabled || shardCount <= UNSHARDED || stock < minStock) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(redisCouponKeyGenerator.generateStockKey(couponId)))) {
+            log.info("단일 키로 초기화된 쿠폰은 샤딩하지 않습니다: couponId={}", couponId);
+            return false;
+        }
+
+        // 샤드 재고를 먼저 기록하고 샤드 수를 마지막에 기록 - 샤드 수가 보이면 모든 샤드가 준비된 상태
+        for (int shard = 0; shard < shardCount; shard++) {
+            int shardStock = stock / shardCount + (shard < stock % shardCount ? 1 : 0);
+            redisTemplate.opsForValue().setIfAbsent(
+                    redisCouponKeyGenerator.generateShardStockKey(couponId, shard), String.valueOf(shardStock));
+        }
+        Boolean created = redisTemplate.opsForValue().setIfAbsent(
+                redisCouponKeyGenerator.generateShardCountKey(couponId), String.valueOf(shardCount));
+
+        int resolved = Boolean.TRUE.equals(created) ? shardCount : resolveShardCount(couponId);
+        shardCounts.put(couponId, resolved);
+        log.info("Redis 쿠폰 재고 샤딩 초기화: couponId={}, stock={}, shards={}", couponId, stock, resolved);
+        return true;
+    }
+
+    /**
+     * 쿠폰의 샤드 수 (샤딩하지 않은 쿠폰은 1)
+     */
+    public int shardCountOf(Long couponId) {
+        Integer cached = shardCounts.get(couponId);
+        if (cached != null) {
+            return cached;
+        }
+
+        int resolved = resolveShardCount(couponId);
+        // 아직 어느 쪽으로도 초기화되지 않은 쿠폰은 캐시하지 않는다
+        if (resolved > UNSHARDED
+                || Boolean.TRUE.equals(redisTemplate.hasKey(redisCouponKeyGenerator.generateStockKey(couponId)))) {
+            shardCounts.put(couponId, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * 사용자가 입장을 시도할 샤드 순서 - 홈 샤드부터 한 칸씩
+     */
+    public int shardAt(Long userId, int shardCount, int attempt) {
+        return Math.floorMod(Long.hashCode(userId) + attempt, shardCount);
+    }
+
+    /**
+     * 전체 잔여 수량 (표시용) - 샤드별 재고 GET / 참여자 SCARD 를 pipeline 1회로 모아 합산
+     */
+    public long remaining(Long couponId) {
+        int shards = shardCountOf(couponId);
+        if (shards <= UNSHARDED) {
+            return remainingOf(Arrays.asList(
+                    redisTemplate.opsForValue().get(redisCouponKeyGenerator.generateStockKey(couponId)),
+                    redisTemplate.opsForSet().size(redisCouponKeyGenerator.generateUsersSetKey(couponId))
+            ));
+        }
+
+        List<Object> values = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (int shard = 0; shard < shards; shard++) {
+                    ops.opsForValue().get(redisCouponKeyGenerator.generateShardStockKey(couponId, shard));
+                    ops.opsForSet().size(redisCouponKeyGenerator.generateShardUsersSetKey(couponId, shard));
+                }
+                return null;
+            }
+        });
+
+        long remaining = 0;
+        for (int i = 0; i < values.size(); i += 2) {
+            remaining += remainingOf(values.subList(i, i + 2));
+        }
+        return remaining;
+    }
+
+    /**
+     * 전체 참여자 수 - 샤드별 SCARD 합산
+     */
+    public long participantCount(Long couponId) {
+        int shards = shardCountOf(couponId);
+        if (shards <= UNSHARDED) {
+            Long count = redisTemplate.opsForSet().size(redisCouponKeyGenerator.generateUsersSetKey(couponId));
+            return count != null ? count : 0L;
+        }
+
+        List<Object> sizes = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (int shard = 0; shard < shards; shard++) {
+                    ops.opsForSet().size(redisCouponKeyGenerator.generateShardUsersSetKey(couponId, shard));
+                }
+                return null;
+            }
+        });
+        return sizes.stream().mapToLong(size -> size != null ? ((Number) size).longValue() : 0L).sum();
+    }
+
+    private int resolveShardCount(Long couponId) {
+        String value = redisTemplate.opsForValue().get(redisCouponKeyGenerator.generateShardCountKey(couponId));
+        return value != null ? Integer.parseInt(value) : UNSHARDED;
+    }
+
+    private static long remainingOf(List<?> stockAndParticipants) {
+        Object stock = stockAndParticipants.get(0);
+        Object participants = stockAndParticipants.get(1);
+        if (stock == null) {
+            return 0L;
+        }
+        long admitted = participants != null ? ((Number) participants).longValue() : 0L;
+        return Math.max(Long.parseLong(String.valueOf(stock)) - admitted, 0L);
+    }
+}
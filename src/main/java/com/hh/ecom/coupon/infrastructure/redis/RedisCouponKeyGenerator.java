@@ -10,6 +10,9 @@ import org.springframework.stereotype.Component;
  *
  * 다른 쿠폰 관련 Redis 키와 명확히 구분하기 위해
  * 'issue:async' 네임스페이스 사용
+ *
+ * 샤딩 모드의 샤드별 키는 {couponId:shard} 해시 태그를 붙여
+ * 같은 샤드의 재고/참여자 키는 같은 슬롯에, 샤드끼리는 서로 다른 슬롯에 놓이도록 한다
  */
 @Component
 public class RedisCouponKeyGenerator {
@@ -18,6 +21,9 @@ public class RedisCouponKeyGenerator {
     private static final String STOCK_PREFIX = BASE_PREFIX + ":stock:%d";
     private static final String USERS_SET_PREFIX = BASE_PREFIX + ":participants:%d";
     private static final String QUEUE_PREFIX = BASE_PREFIX + ":queue:%d";
+    private static final String SHARD_COUNT_PREFIX = BASE_PREFIX + ":shards:%d";
+    private static final String SHARD_STOCK_PREFIX = BASE_PREFIX + ":{%d:%d}:stock";
+    private static final String SHARD_USERS_SET_PREFIX = BASE_PREFIX + ":{%d:%d}:participants";
 
     /**
      * 재고 카운트 저장용 키 생성
@@ -46,6 +52,33 @@ public class RedisCouponKeyGenerator {
         return String.format(QUEUE_PREFIX, couponId);
     }
 
+    /**
+     * 샤드 수 저장용 키 생성 (키가 없으면 샤딩하지 않은 쿠폰)
+     * Format: coupon:issue:async:shards:{couponId}
+     */
+    public String generateShardCountKey(Long couponId) {
+        validateCouponId(couponId);
+        return String.format(SHARD_COUNT_PREFIX, couponId);
+    }
+
+    /**
+     * 샤드별 재고 카운트 키 생성
+     * Format: coupon:issue:async:{couponId:shard}:stock
+     */
+    public String generateShardStockKey(Long couponId, int shard) {
+        validateCouponId(couponId);
+        return String.format(SHARD_STOCK_PREFIX, couponId, shard);
+    }
+
+    /**
+     * 샤드별 참여자 Set 키 생성
+     * Format: coupon:issue:async:{couponId:shard}:participants
+     */
+    public String generateShardUsersSetKey(Long couponId, int shard) {
+        validateCouponId(couponId);
+        return String.format(SHARD_USERS_SET_PREFIX, couponId, shard);
+    }
+
     private void validateCouponId(Long couponId) {
         if (couponId == null) {
             throw new IllegalArgumentException("Coupon ID cannot be null");
@@ -0,0 +1,56 @@
+package com.hh.ecom.coupon.presentation;
+
+import com.hh.ecom.coupon.application.CouponIssueResultService;
+import com.hh.ecom.coupon.presentation.api.CouponIssueResultApi;
+import com.hh.ecom.coupon.presentation.dto.response.CouponIssueResultResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+@RestController
+@RequestMapping("/coupons/requests")
+@RequiredArgsConstructor
+public class CouponIssueResultController implements CouponIssueResultApi {
+    // 서비스 쪽 대기가 먼저 끝나 PENDING 으로 응답하도록 서블릿 비동기 타임아웃에 여유를 둔다
+    private static final long ASYNC_TIMEOUT_MARGIN_MS = 1000;
+
+    private final CouponIssueResultService couponIssueResultService;
+
+    @Value("${coupon.issue.result.long-poll-timeout-ms:30000}")
+    private long longPollTimeoutMs;
+
+    @Override
+    @GetMapping("/{requestId}")
+    public DeferredResult<ResponseEntity<CouponIssueResultResponse>> getIssueResult(
+            @RequestHeader("userId") Long userId,
+            @PathVariable String requestId
+    ) {
+        ResponseEntity<CouponIssueResultResponse> pending =
+                ResponseEntity.status(HttpStatus.ACCEPTED).body(CouponIssueResultResponse.pending(requestId));
+        DeferredResult<ResponseEntity<CouponIssueResultResponse>> deferred =
+                new DeferredResult<>(longPollTimeoutMs + ASYNC_TIMEOUT_MARGIN_MS, () -> pending);
+
+        couponIssueResultService.awaitResult(requestId, userId, Duration.ofMillis(longPollTimeoutMs))
+                .whenComplete((result, e) -> {
+                    if (e == null) {
+                        deferred.setResult(ResponseEntity.ok(CouponIssueResultResponse.from(result)));
+                        return;
+                    }
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        deferred.setResult(pending);
+                    } else {
+                        deferred.setErrorResult(cause);
+                    }
+                });
+
+        return deferred;
+    }
+}
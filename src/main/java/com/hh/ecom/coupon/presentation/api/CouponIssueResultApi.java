@@ -0,0 +1,46 @@
+package com.hh.ecom.coupon.presentation.api;
+
+import com.hh.ecom.coupon.presentation.dto.response.CouponIssueResultResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@Tag(name = "Coupon", description = "쿠폰 관리 API")
+public interface CouponIssueResultApi {
+
+    @Operation(
+            summary = "쿠폰 발급 결과 조회 (long-poll)",
+            description = "쿠폰 발급 요청(requestId)의 처리 결과를 조회합니다. 아직 처리 중이면 결과가 나올 때까지 최대 대기 시간만큼 응답을 보류하고, "
+                    + "대기 시간 안에 결과가 나오지 않으면 202 와 PENDING 상태를 반환합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "발급 처리 완료 (성공/실패 포함)",
+                    content = @Content(schema = @Schema(implementation = CouponIssueResultResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "아직 처리 중 - 다시 요청",
+                    content = @Content(schema = @Schema(implementation = CouponIssueResultResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "다른 사용자의 요청",
+                    content = @Content(schema = @Schema(implementation = com.hh.ecom.common.exception.ErrorResponse.class))
+            )
+    })
+    DeferredResult<ResponseEntity<CouponIssueResultResponse>> getIssueResult(
+            @Parameter(name = "userId", description = "사용자 ID", required = true, in = ParameterIn.HEADER, example = "1", schema = @Schema(type = "integer"))
+            Long userId,
+            @Parameter(name = "requestId", description = "쿠폰 발급 요청 ID", required = true, in = ParameterIn.PATH)
+            String requestId
+    );
+}
@@ -0,0 +1,46 @@
+package com.hh.ecom.coupon.presentation.dto.response;
+
+import com.hh.ecom.coupon.domain.event.CouponIssuedEvent;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "비동기 쿠폰 발급 결과 응답")
+public record CouponIssueResultResponse(
+        @Schema(description = "요청 ID (UUID)", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
+        String requestId,
+
+        @Schema(description = "사용자 ID (처리 중이면 null)", example = "1")
+        Long userId,
+
+        @Schema(description = "쿠폰 ID (처리 중이면 null)", example = "1")
+        Long couponId,
+
+        @Schema(description = "발급된 쿠폰 ID (발급 성공 시에만)", example = "1")
+        Long couponUserId,
+
+        @Schema(description = "처리 상태 (PENDING | SUCCESS | FAILED | OUT_OF_STOCK | DUPLICATE | EXPIRED)", example = "SUCCESS")
+        String status,
+
+        @Schema(description = "실패 사유 (실패한 경우에만)", example = "쿠폰 수량이 소진되었습니다.")
+        String failureReason,
+
+        @Schema(description = "처리일시 (처리 중이면 null)", example = "2025-01-07T10:30:01")
+        LocalDateTime processedAt
+) {
+    public static CouponIssueResultResponse from(CouponIssuedEvent result) {
+        return new CouponIssueResultResponse(
+                result.requestId(),
+                result.userId(),
+                result.couponId(),
+                result.couponUserId(),
+                result.status().name(),
+                result.failureReason(),
+                result.issuedAt()
+        );
+    }
+
+    public static CouponIssueResultResponse pending(String requestId) {
+        return new CouponIssueResultResponse(requestId, null, null, null, "PENDING", null, null);
+    }
+}
@@ -1,25 +1,24 @@
 package com.hh.ecom.order.application;
 
 import com.hh.ecom.cart.application.CartService;
-import com.hh.ecom.cart.application.dto.OrderPreparationResult;
 import com.hh.ecom.cart.domain.CartItem;
+import com.hh.ecom.common.id.SnowflakeIdGenerator;
 import com.hh.ecom.common.lock.OrderLockContext;
 import com.hh.ecom.common.lock.util.RedisLockExecutor;
+import com.hh.ecom.common.transaction.OptimisticLockRetryExecutor;
 import com.hh.ecom.coupon.application.CouponCommandService;
-import com.hh.ecom.coupon.application.CouponQueryService;
-import com.hh.ecom.coupon.domain.Coupon;
-import com.hh.ecom.coupon.domain.CouponUser;
-import com.hh.ecom.coupon.domain.CouponUserWithCoupon;
 import com.hh.ecom.order.application.dto.CreateOrderCommand;
-import com.hh.ecom.order.application.dto.DiscountInfo;
+import com.hh.ecom.order.application.dto.OrderSnapshot;
 import com.hh.ecom.order.domain.*;
 import com.hh.ecom.order.domain.event.OrderCompletedEvent;
 import com.hh.ecom.order.domain.exception.OrderErrorCode;
 import com.hh.ecom.order.domain.exception.OrderException;
-import com.hh.ecom.order.infrastructure.kafka.OrderCompletedKafkaProducer;
+import com.hh.ecom.outbox.domain.OutboxEvent;
+import com.hh.ecom.outbox.domain.OutboxEventRepository;
 import com.hh.ecom.point.application.PointService;
-import com.hh.ecom.point.domain.Point;
+import com.hh.ecom.product.application.ProductContentionTracker;
 import com.hh.ecom.product.application.ProductService;
+import com.hh.ecom.product.application.StockReservationService;
 import com.hh.ecom.product.domain.Product;
 
 import lombok.RequiredArgsConstructor;
@@ -31,53 +30,93 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderCommandService {
+    private static final int MAX_STOCK_CONFLICT_ATTEMPTS = 5;
+
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
 
     private final CartService cartService;
     private final ProductService productService;
 
-    private final CouponQueryService couponQueryService;
     private final CouponCommandService couponCommandService;
 
     private final PointService pointService;
 
     private final ApplicationEventPublisher eventPublisher;
-    private final OrderCompletedKafkaProducer orderCompletedKafkaProducer;
+    private final OutboxEventRepository outboxEventRepository;
     private final RedisLockExecutor redisLockExecutor;
 
     private final TransactionTemplate transactionTemplate;
+    private final OrderFactory orderFactory;
+    private final SnowflakeIdGenerator idGenerator;
+    private final StockReservationService stockReservationService;
+    private final ProductContentionTracker productContentionTracker;
+    private final OptimisticLockRetryExecutor optimisticLockRetryExecutor;
 
     public Order createOrder(Long userId, CreateOrderCommand createOrderCommand) {
-        createOrderCommand.validate();
-        validateOrderPaymentAbility(userId);
+        return createOrder(userId, createOrderCommand, true);
+    }
+
+    /**
+     * 사용자 단위 직렬 처리가 보장된 경우의 주문 생성 (order-create Kafka Consumer 전용)
+     * - userId 파티션 키로 동일 사용자의 주문이 순차 처리되므로 USER_POINT 락을 생략하고 상품/쿠폰 락만 획득
+     * - 포인트는 락 없이 주문 트랜잭션 안에서 차감하며, 충전/환불 등 다른 경로와는 포인트 row FOR UPDATE 로 직렬화된다
+     */
+    public Order createOrderSerializedByUser(Long userId, CreateOrderCommand createOrderCommand) {
+        return createOrder(userId, createOrderCommand, false);
+    }
 
-        List<Long> cartItemIds = createOrderCommand.cartItemIds();
+    private Order createOrder(Long userId, CreateOrderCommand createOrderCommand, boolean lockUserPoint) {
+        createOrderCommand.validate();
         log.info("주문 생성 시작합니다. (userId: {}, create command: {})", userId, createOrderCommand);
 
-        List<Long> productIds = extractProductIdsFromCart(cartItemIds);
-        Long couponUserId = extractCouponUserId(userId, createOrderCommand.couponId());
+        OrderSnapshot snapshot = orderFactory.assemble(userId, createOrderCommand);
 
-        // 주문 내부 분산락 필요 도메인: [Product, Point, Coupon]
-        List<String> lockKeys = new OrderLockContext()
-            .withUserPoint(userId)
-            .withProducts(productIds)
-            .withCoupon(couponUserId)
-            .buildSortedLockKeys();
-        log.debug("분산락 키 생성 완료: keys={}", lockKeys);
+        // 락 진입 전 Redis 재고 예약: 품절 주문은 여기서 거절되어 상품 락/DB 트랜잭션을 잡지 않는다
+        String reservationId = stockReservationService.reserve(snapshot.productQuantities(), snapshot.productStocks());
+        try {
+            // 재고 버전 충돌 시 backoff 후 재시도 - 매 시도마다 락 대상 상품을 다시 골라 그 사이 승격된 상품은 락으로 보호
+            Order order = optimisticLockRetryExecutor.retryOnConflict(() -> {
+                List<String> lockKeys = buildLockKeys(snapshot, lockUserPoint);
+                log.debug("분산락 키 생성 완료: keys={}", lockKeys);
+                return redisLockExecutor.executeWithAllLocks(lockKeys, () ->
+                    transactionTemplate.execute(status ->
+                        executeOrderCreation(snapshot, lockUserPoint)
+                    )
+                );
+            }, MAX_STOCK_CONFLICT_ATTEMPTS);
+            stockReservationService.confirm(reservationId);
+            return order;
+        } catch (RuntimeException e) {
+            stockReservationService.release(reservationId);
+            throw e;
+        }
+    }
 
-        return redisLockExecutor.executeWithLock(lockKeys, () ->
-            transactionTemplate.execute(status ->
-                executeOrderCreation(userId, createOrderCommand, couponUserId)
-            )
-        );
+    /**
+     * 주문 취소 요청
+     * - 상태만 CANCEL_REQUESTED 로 바꾸고 즉시 반환한다. 재고/포인트/쿠폰 보상은 OrderCompensationSweeper 가 묶어서 처리
+     * - 조건부 UPDATE 로 전환하므로 동시에 상태가 바뀐 주문은 취소 요청이 거절된다
+     */
+    @Transactional
+    public Order requestCancel(Long orderId, Long userId) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new OrderException(OrderErrorCode.ORDER_NOT_FOUND));
+        order.validateOwner(userId);
+
+        Order cancelRequested = order.requestCancel();
+        int updated = orderRepository.updateStatusIfIn(List.of(orderId), List.of(order.getStatus()), cancelRequested.getStatus());
+        if (updated == 0) {
+            throw new OrderException(OrderErrorCode.ORDER_NOT_CANCELABLE, "주문 상태가 변경되었습니다. orderId: " + orderId);
+        }
+
+        log.info("주문 취소 요청 접수: orderId={}, userId={}", orderId, userId);
+        return cancelRequested;
     }
 
     /**
@@ -104,53 +143,47 @@ public class OrderCommandService {
     }
 
     // ------------------------------ Private Methods ------------------------------
-    private Order executeOrderCreation(Long userId, CreateOrderCommand createOrderCommand, Long couponUserId) {
-        List<Long> cartItemIds = createOrderCommand.cartItemIds();
-
-        OrderPreparationResult preparationResult = cartService.prepareOrderFromCart(userId, cartItemIds);
-
-        List<CartItem> validatedCartItems = preparationResult.validatedCartItems();
-        BigDecimal totalAmount = preparationResult.totalAmount();
-        List<Long> productIds = preparationResult.productIds();
-
-        DiscountInfo discountInfo = couponUserId != null
-            ? calculateDiscountInfo(userId, createOrderCommand.couponId())
-            : DiscountInfo.NONE;
-        BigDecimal discountAmount = discountInfo.discountAmount();
-
-        final BigDecimal finalAmount = calculateValidFinalAmount(totalAmount, discountAmount);
 
-        BigDecimal userBalance = Optional.ofNullable(pointService.getPoint(userId))
-                .map(Point::getBalance)
-                .orElse(BigDecimal.ZERO);
+    /**
+     * 주문 내부 분산락 필요 도메인: [Product, Point, Coupon]
+     * - 상품은 최근 재고 충돌률이 높은 상품만 락을 잡고, 나머지는 재고 버전 조건부 UPDATE 로 차감한다
+     */
+    private List<String> buildLockKeys(OrderSnapshot snapshot, boolean lockUserPoint) {
+        OrderLockContext lockContext = new OrderLockContext();
+        if (lockUserPoint) {
+            lockContext.withUserPoint(snapshot.userId());
+        }
+        return lockContext
+            .withProducts(productContentionTracker.selectLockRequired(snapshot.productIds()))
+            .withCoupon(snapshot.couponUserId())
+            .buildSortedLockKeys();
+    }
 
-        validateSufficientUserBalance(userBalance, finalAmount);
+    private Order executeOrderCreation(OrderSnapshot snapshot, boolean lockUserPoint) {
+        final Long userId = snapshot.userId();
+        final Long couponUserId = snapshot.couponUserId();
 
-        final String orderNumber = generateOrderNumber();
-        Order order = Order.create(userId, orderNumber, totalAmount, discountAmount, couponUserId);
+        final String orderNumber = idGenerator.nextOrderNumber();
+        Order order = Order.create(userId, orderNumber, snapshot.totalAmount(), snapshot.discountAmount(), couponUserId);
         Order savedOrder = orderRepository.save(order);
 
-        List<Product> products = productService.getProductList(productIds);
-        Map<Long, Product> productMap = products.stream()
-                .collect(Collectors.toMap(Product::getId, Function.identity()));
-
-        List<OrderItem> savedOrderItems = saveAndGetOrderItemList(validatedCartItems, productMap, savedOrder);
+        List<OrderItem> savedOrderItems = saveAndGetOrderItemList(snapshot.cartItems(), snapshot.productMap(), savedOrder);
 
-        decreaseProductStockInCart(validatedCartItems, productMap);
+        productService.decreaseProductStocks(snapshot.productQuantities());
 
-        usePoint(userId, finalAmount, savedOrder);
+        usePoint(userId, snapshot.finalAmount(), savedOrder, lockUserPoint);
 
         useCoupon(couponUserId, savedOrder);
 
         Order paidOrder = savedOrder.processPayment();
         Order updatedOrder = orderRepository.save(paidOrder);
 
-        cartService.completeOrderCheckout(userId, productIds);
+        cartService.checkoutCartItems(userId, snapshot.cartItemIds());
 
         // 결제 완료 이벤트 발행 (두 가지 경로)
 
-        // 1. Kafka 발행 (외부 시스템 알림)
-        orderCompletedKafkaProducer.publishOrderCompletedEvent(updatedOrder);
+        // 1. Outbox 저장 (외부 시스템 알림) - 같은 트랜잭션에 INSERT 만 하고, Kafka 발행은 OutboxRelay 가 커밋 후 수행
+        outboxEventRepository.save(OutboxEvent.create(updatedOrder.getId(), updatedOrder.getStatus()));
 
         // 2. Spring Event 발행 (내부 로직: SalesRanking)
         eventPublisher.publishEvent(OrderCompletedEvent.from(updatedOrder));
@@ -159,69 +192,6 @@ public class OrderCommandService {
         return updatedOrder.setOrderItems(savedOrderItems);
     }
 
-    private List<Long> extractProductIdsFromCart(List<Long> cartItemIds) {
-        return cartItemIds.stream()
-            .map(cartService::getCartItemById)
-            .map(CartItem::getProductId)
-            .distinct()
-            .toList();
-    }
-
-    private Long extractCouponUserId(Long userId, Long couponId) {
-        if (couponId == null) {
-            return null;
-        }
-
-        try {
-            DiscountInfo discountInfo = calculateDiscountInfo(userId, couponId);
-            return discountInfo.couponUserId();
-        } catch (Exception e) {
-            log.warn("쿠폰 정보 조회 실패, 쿠폰 없이 진행: userId={}, couponId={}", userId, couponId);
-            return null;
-        }
-    }
-
-    private static BigDecimal calculateValidFinalAmount(BigDecimal totalAmount, BigDecimal discountAmount) {
-        BigDecimal result = totalAmount.subtract(discountAmount).max(BigDecimal.ZERO);
-        if (result.compareTo(BigDecimal.ZERO) < 0) {
-            throw new OrderException(OrderErrorCode.INVALID_DISCOUNT_AMOUNT);
-        }
-
-        return result;
-    }
-
-    private String generateOrderNumber() {
-        return "ORDER-" + System.currentTimeMillis();
-    }
-
-    private DiscountInfo calculateDiscountInfo(Long userId, Long couponId) {
-        if (couponId == null) {
-            return DiscountInfo.NONE;
-        }
-
-        Coupon coupon = couponQueryService.getCoupon(couponId);
-        if (coupon == null) {
-            throw new OrderException(OrderErrorCode.COUPON_IN_ORDER_NOT_FOUND, "쿠폰을 찾을 수 없습니다. id=" + couponId);
-        }
-
-        CouponUser validCouponUser = findValidCouponUser(userId, couponId);
-        return DiscountInfo.of(coupon.getDiscountAmount(), validCouponUser.getId());
-    }
-
-    private CouponUser findValidCouponUser(Long userId, Long couponId) {
-        List<CouponUserWithCoupon> userCoupons =
-                Optional.ofNullable(couponQueryService.getAllMyCoupons(userId))
-                        .orElse(Collections.emptyList());
-
-        return userCoupons.stream()
-                .filter(cwc -> cwc.isSameCouponId(couponId))
-                .map(CouponUserWithCoupon::getCouponUser)
-                .filter(Objects::nonNull)
-                .filter(CouponUser::isUsable)
-                .findFirst()
-                .orElseThrow(() -> new OrderException(OrderErrorCode.INVALID_ORDER_STATUS, "사용 가능한 쿠폰이 없습니다. id=" + couponId));
-    }
-
     private void useCoupon(Long couponUserId, Order savedOrder) {
         if (couponUserId != null) {
             // OrderService가 이미 락을 보유한 상태지만, 같은 스레드에서 재진입 허용됨 (Reentrant Lock)
@@ -229,20 +199,16 @@ public class OrderCommandService {
         }
     }
 
-    private void usePoint(Long userId, BigDecimal finalAmount, Order savedOrder) {
+    private void usePoint(Long userId, BigDecimal finalAmount, Order savedOrder, boolean lockUserPoint) {
+        if (!lockUserPoint) {
+            // 사용자 단위 직렬 처리 경로 - 트랜잭션 안에서 포인트 락을 새로 잡지 않는다
+            pointService.usePointWithoutLock(userId, finalAmount, savedOrder.getId());
+            return;
+        }
         // OrderService가 이미 락을 보유한 상태지만, 같은 스레드에서 재진입 허용 (Reentrant Lock)
         pointService.usePoint(userId, finalAmount, savedOrder.getId());
     }
 
-    private void decreaseProductStockInCart(List<CartItem> cartItems, Map<Long, Product> productMap) {
-        cartItems.forEach(cartItem -> {
-            Product product = productMap.get(cartItem.getProductId());
-            if (product != null) {
-                productService.decreaseProductStock(product.getId(), cartItem.getQuantity());
-            }
-        });
-    }
-
     private List<OrderItem> saveAndGetOrderItemList(List<CartItem> cartItems, Map<Long, Product> productMap, Order savedOrder) {
         List<OrderItem> orderItems = cartItems.stream()
                 .map(item -> OrderItem.fromCartItem(
@@ -253,17 +219,4 @@ public class OrderCommandService {
 
         return orderItemRepository.saveAll(orderItems);
     }
-
-    private static void validateSufficientUserBalance(BigDecimal userBalance, BigDecimal finalAmount) {
-        if (userBalance.compareTo(finalAmount) < 0) {
-            throw new OrderException(OrderErrorCode.INVALID_ORDER_STATUS,
-                    "포인트 잔액이 부족합니다. 필요: %s, 보유: %s".formatted(finalAmount, userBalance));
-        }
-    }
-
-    private void validateOrderPaymentAbility(Long userId) {
-        if (!pointService.hasPointAccount(userId)) {
-            throw new OrderException(OrderErrorCode.INVALID_ORDER_STATUS, "포인트 계정이 없습니다. 포인트를 충전해주세요.");
-        }
-    }
 }
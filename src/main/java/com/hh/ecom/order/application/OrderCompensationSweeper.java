@@ -0,0 +1,108 @@
+package com.hh.ecom.order.application;
+
+import com.hh.ecom.coupon.application.CouponCommandService;
+import com.hh.ecom.order.domain.Order;
+import com.hh.ecom.order.domain.OrderItemRepository;
+import com.hh.ecom.order.domain.OrderRepository;
+import com.hh.ecom.order.domain.OrderStatus;
+import com.hh.ecom.point.application.PointService;
+import com.hh.ecom.product.application.ProductService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 취소 요청(CANCEL_REQUESTED) / 방치된(PENDING) 주문 일괄 보상 스케줄러
+ * - chunk 단위로 주문을 FOR UPDATE SKIP LOCKED 로 점유하고, 한 트랜잭션 안에서 집합 단위 SQL 로 보상한다
+ *   재고 복원(상품별 합계 batch UPDATE) → 포인트 환불(잔액 batch UPDATE + REFUND 내역 batch INSERT) → 쿠폰 복원(일괄 갱신) → CANCELED
+ * - 주문별 Redis 락/트랜잭션을 잡지 않으므로 한 번 실행에 수만 건을 처리할 수 있다
+ * - 보상은 원장 기준(NORMAL 주문상품, 주문별 순사용 포인트, 해당 주문에 사용된 쿠폰)으로만 수행하므로 재실행해도 중복 보상되지 않는다
+ * - Redis 재고 미러는 StockReservationReconciler 가 DB 재고 기준으로 다시 맞춘다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.compensation.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderCompensationSweeper {
+    private static final List<OrderStatus> COMPENSATABLE_STATUSES = List.of(OrderStatus.PENDING, OrderStatus.CANCEL_REQUESTED);
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ProductService productService;
+    private final PointService pointService;
+    private final CouponCommandService couponCommandService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.compensation.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${order.compensation.max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+
+    @Value("${order.compensation.pending-timeout-minutes:30}")
+    private long pendingTimeoutMinutes;
+
+    @Scheduled(fixedDelayString = "${order.compensation.fixed-delay-ms:60000}")
+    public void sweep() {
+        LocalDateTime pendingCreatedBefore = LocalDateTime.now().minusMinutes(pendingTimeoutMinutes);
+        int totalCompensated = 0;
+
+        for (int i = 0; i < maxChunksPerRun; i++) {
+            int compensated;
+            try {
+                compensated = compensateChunk(pendingCreatedBefore);
+            } catch (Exception e) {
+                log.error("주문 보상 chunk 처리 실패 - 다음 실행에서 재시도합니다.", e);
+                break;
+            }
+
+            totalCompensated += compensated;
+            if (compensated < chunkSize) {
+                break;
+            }
+        }
+
+        if (totalCompensated > 0) {
+            log.info("주문 일괄 보상 완료: count={}", totalCompensated);
+        }
+    }
+
+    int compensateChunk(LocalDateTime pendingCreatedBefore) {
+        Integer compensated = transactionTemplate.execute(status -> {
+            List<Order> orders = orderRepository.claimCompensationTargets(pendingCreatedBefore, chunkSize);
+            if (orders.isEmpty()) {
+                return 0;
+            }
+            List<Long> orderIds = orders.stream().map(Order::getId).toList();
+
+            Map<Long, Integer> restoreQuantities = orderItemRepository.sumNormalQuantitiesByProduct(orderIds);
+            productService.increaseProductStocks(restoreQuantities);
+            orderItemRepository.cancelByOrderIds(orderIds);
+
+            int refundedOrders = pointService.refundCanceledOrders(orderIds);
+
+            Map<Long, Long> orderIdsByCouponUserId = orders.stream()
+                    .filter(Order::hasCoupon)
+                    .collect(Collectors.toMap(Order::getCouponUserId, Order::getId, (first, second) -> first));
+            int restoredCoupons = couponCommandService.restoreCouponsForOrders(orderIdsByCouponUserId);
+
+            int canceled = orderRepository.updateStatusIfIn(orderIds, COMPENSATABLE_STATUSES, OrderStatus.CANCELED);
+
+            log.debug("주문 보상 chunk 완료: orders={}, products={}, refundedOrders={}, restoredCoupons={}, canceled={}",
+                    orders.size(), restoreQuantities.size(), refundedOrders, restoredCoupons, canceled);
+            return orders.size();
+        });
+        return Objects.requireNonNullElse(compensated, 0);
+    }
+}
@@ -4,9 +4,11 @@ import com.hh.ecom.cart.application.CartService;
 import com.hh.ecom.cart.domain.CartItem;
 import com.hh.ecom.cart.domain.CartItemList;
 import com.hh.ecom.coupon.application.CouponQueryService;
+import com.hh.ecom.coupon.domain.CouponUserWithCoupon;
+import com.hh.ecom.coupon.domain.exception.CouponException;
 import com.hh.ecom.order.application.dto.CreateOrderCommand;
 import com.hh.ecom.order.application.dto.DiscountInfo;
-import com.hh.ecom.order.domain.Order;
+import com.hh.ecom.order.application.dto.OrderSnapshot;
 import com.hh.ecom.order.domain.exception.OrderErrorCode;
 import com.hh.ecom.order.domain.exception.OrderException;
 import com.hh.ecom.point.application.PointService;
@@ -15,13 +17,22 @@ import com.hh.ecom.product.application.ProductService;
 import com.hh.ecom.product.domain.Product;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Optional;
-
-// todo: order create refactor용 클래스 (구현 필요)
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 생성 데이터 조립기
+ * - 장바구니(IN 쿼리 1회), 상품(IN 쿼리 1회), 쿠폰/발급 내역(단건), 포인트(단건)를 한 번씩만 읽어 OrderSnapshot 으로 만든다
+ * - 장바구니 크기와 무관하게 조회 횟수가 고정된다
+ * - 스냅샷은 락 획득 전에 만들어지므로, 락 안의 쓰기(조건부 재고 차감, 포인트/쿠폰 사용, 장바구니 삭제 건수 검증)가 최종 정합성을 보장한다
+ */
 @Slf4j
+@Component
 @RequiredArgsConstructor
 public class OrderFactory {
     private final CartService cartService;
@@ -29,64 +40,49 @@ public class OrderFactory {
     private final PointService pointService;
     private final CouponQueryService couponQueryService;
 
-    public Order assembleOrder(Long userId, CreateOrderCommand createOrderCommand) {
-        log.info("order 생성 시작합니다. (userId: {}, create command: {})", userId, createOrderCommand );
+    public OrderSnapshot assemble(Long userId, CreateOrderCommand createOrderCommand) {
         createOrderCommand.validate();
-        validateEnoughAmount(userId);
 
-        CartItemList cart = getCart(userId, createOrderCommand);
-        List<Product> products = productService.getProductList(cart.getProductIdList());
-        cart.validateEnoughStock(products);
+        Point point = pointService.findPoint(userId)
+                .orElseThrow(() -> new OrderException(OrderErrorCode.INVALID_ORDER_STATUS, "포인트 계정이 없습니다. 포인트를 충전해주세요."));
 
-        final Long couponId = createOrderCommand.couponId();
-        DiscountInfo discountInfo = couponQueryService.calculateDiscountInfo(userId, couponId);
+        List<CartItem> cartItems = cartService.getCartItemsForOrder(userId, createOrderCommand.cartItemIds());
+        CartItemList cart = CartItemList.from(cartItems);
+
+        List<Long> productIds = cart.getProductIdList().stream().distinct().toList();
+        List<Product> products = productService.getProductList(productIds);
+        cart.validateEnoughStock(products);
 
-        BigDecimal discountAmount = discountInfo.discountAmount();
+        DiscountInfo discountInfo = resolveDiscountInfo(userId, createOrderCommand.couponId());
 
         final BigDecimal totalAmount = cart.calculateTotalPrice(products);
-        final BigDecimal finalAmount = calculateValidFinalAmount(totalAmount, discountAmount);
+        final BigDecimal finalAmount = calculateValidFinalAmount(totalAmount, discountInfo.discountAmount());
 
-        BigDecimal userBalance = getUserBalance(userId);
+        BigDecimal userBalance = point.getBalance();
         validateEnoughUserBalance(userBalance, finalAmount);
 
-        final String orderNumber = generateOrderNumber();
-        return Order.create(userId, orderNumber, totalAmount, discountAmount, discountInfo.couponUserId());
-    }
+        Map<Long, Product> productMap = products.stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
 
-    private BigDecimal getUserBalance(Long userId) {
-        return Optional.ofNullable(pointService.getPoint(userId))
-                .map(Point::getBalance)
-                .orElse(BigDecimal.ZERO);
+        log.debug("주문 스냅샷 조립 완료: userId={}, cartItems={}, totalAmount={}, finalAmount={}",
+                userId, cartItems.size(), totalAmount, finalAmount);
+        return new OrderSnapshot(userId, cartItems, productMap, discountInfo, userBalance, totalAmount, finalAmount);
     }
 
-    private CartItemList getCart(Long userId, CreateOrderCommand createOrderCommand) {
-        List<Long> cartItemIds = createOrderCommand.cartItemIds();
-        List<CartItem> findCartItems = cartItemIds.stream()
-                .map(cartService::getCartItemById)
-                .toList();
-
-        validateCartItemsInOrderExists(findCartItems);
-        CartItemList cart = CartItemList.from(findCartItems);
-        cart.validateCartItemOwnership(userId);
-        return cart;
-    }
-
-    private void validateEnoughAmount(Long userId) {
-        if (!pointService.hasPointAccount(userId)) {
-            throw new OrderException(OrderErrorCode.INVALID_ORDER_STATUS, "포인트 계정이 없습니다. 포인트를 충전해주세요.");
+    private DiscountInfo resolveDiscountInfo(Long userId, Long couponId) {
+        if (couponId == null) {
+            return DiscountInfo.NONE;
         }
-    }
 
-    private static void validateCartItemsInOrderExists(List<CartItem> findCartItems) {
-        if (findCartItems.isEmpty()) {
-            throw new OrderException(OrderErrorCode.EMPTY_ORDER_CART_ITEM);
+        try {
+            CouponUserWithCoupon usableCoupon = couponQueryService.getUsableCouponUser(userId, couponId);
+            return DiscountInfo.of(usableCoupon.getCoupon().getDiscountAmount(), usableCoupon.getCouponUser().getId());
+        } catch (CouponException | OrderException e) {
+            log.warn("쿠폰 정보 조회 실패, 쿠폰 없이 진행: userId={}, couponId={}", userId, couponId);
+            return DiscountInfo.NONE;
         }
     }
 
-    private String generateOrderNumber() {
-        return "ORDER-" + System.currentTimeMillis();
-    }
-
     private static BigDecimal calculateValidFinalAmount(BigDecimal totalAmount, BigDecimal discountAmount) {
         BigDecimal result = totalAmount.subtract(discountAmount).max(BigDecimal.ZERO);
         if (result.compareTo(BigDecimal.ZERO) < 0) {
@@ -96,12 +92,10 @@ public class OrderFactory {
         return result;
     }
 
-
     private static void validateEnoughUserBalance(BigDecimal userBalance, BigDecimal finalAmount) {
         if (userBalance.compareTo(finalAmount) < 0) {
             throw new OrderException(OrderErrorCode.INVALID_ORDER_STATUS,
                     "포인트 잔액이 부족합니다. 필요: %s, 보유: %s".formatted(finalAmount, userBalance));
         }
     }
-
 }
@@ -0,0 +1,174 @@
+package com.hh.ecom.order.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hh.ecom.order.domain.OrderIdempotencyRecord;
+import com.hh.ecom.order.domain.OrderIdempotencyRepository;
+import com.hh.ecom.order.domain.exception.OrderErrorCode;
+import com.hh.ecom.order.domain.exception.OrderException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 주문 생성 Idempotency-Key 처리
+ * - 노드 내 동시 중복 요청: in-flight 맵의 Future 를 기다려 최초 실행 결과를 그대로 받는다 (분산락 경합 없음)
+ * - 노드 간/재시도 요청: Redis 기록으로 판정. 완료된 키는 저장된 응답을 DB 조회 없이 반환하고, 처리 중이면 409
+ * - 같은 키로 다른 요청 본문이 오면 422 로 거절한다
+ * - 실행이 실패하면 기록을 지워 같은 키로 다시 시도할 수 있게 한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderIdempotencyService {
+    static final int MAX_KEY_LENGTH = 100;
+
+    private final OrderIdempotencyRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentMap<String, InFlight> inFlightRequests = new ConcurrentHashMap<>();
+
+    @Value("${order.idempotency.result-ttl-hours:24}")
+    private long resultTtlHours;
+
+    @Value("${order.idempotency.in-progress-ttl-ms:30000}")
+    private long inProgressTtlMs;
+
+    @Value("${order.idempotency.wait-timeout-ms:10000}")
+    private long waitTimeoutMs;
+
+    public <T> T execute(Long userId, String idempotencyKey, Object request, Class<T> resultType, Supplier<T> action) {
+        validateKey(idempotencyKey);
+        final String fingerprint = fingerprint(request);
+        final String slot = userId + ":" + idempotencyKey;
+
+        InFlight mine = new InFlight(fingerprint, new CompletableFuture<>());
+        InFlight existing = inFlightRequests.putIfAbsent(slot, mine);
+        if (existing != null) {
+            validateSameRequest(existing.fingerprint(), fingerprint);
+            log.debug("진행 중인 동일 요청 대기: userId={}, idempotencyKey={}", userId, idempotencyKey);
+            return read(await(existing.payload()), resultType);
+        }
+
+        try {
+            String payload = executeOnce(userId, idempotencyKey, fingerprint, action);
+            mine.payload().complete(payload);
+            return read(payload, resultType);
+        } catch (RuntimeException e) {
+            mine.payload().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(slot, mine);
+        }
+    }
+
+    private String executeOnce(Long userId, String idempotencyKey, String fingerprint, Supplier<?> action) {
+        if (!idempotencyRepository.tryBegin(userId, idempotencyKey, fingerprint, Duration.ofMillis(inProgressTtlMs))) {
+            return idempotencyRepository.find(userId, idempotencyKey)
+                    .map(record -> replay(record, fingerprint))
+                    // 선점 실패 직후 키가 만료/해제된 경우
+                    .orElseThrow(() -> new OrderException(OrderErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS));
+        }
+
+        String payload;
+        try {
+            payload = write(action.get());
+        } catch (RuntimeException e) {
+            idempotencyRepository.release(userId, idempotencyKey, fingerprint);
+            throw e;
+        }
+
+        try {
+            if (!idempotencyRepository.complete(userId, idempotencyKey, fingerprint, payload, Duration.ofHours(resultTtlHours))) {
+                // 처리 도중 IN_PROGRESS TTL 이 지나 선점을 잃음 - 응답은 정상 반환하고, 다른 요청의 기록은 건드리지 않는다
+                log.warn("Idempotency 선점 만료로 결과 저장 생략: userId={}, idempotencyKey={}", userId, idempotencyKey);
+            }
+        } catch (RuntimeException e) {
+            // 주문은 이미 생성됨 - 응답은 정상 반환하고, 키는 IN_PROGRESS TTL 만료 후 풀린다
+            log.error("Idempotency 결과 저장 실패: userId={}, idempotencyKey={}", userId, idempotencyKey, e);
+        }
+        return payload;
+    }
+
+    private String replay(OrderIdempotencyRecord record, String fingerprint) {
+        if (!record.isSameRequest(fingerprint)) {
+            throw new OrderException(OrderErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        if (!record.isCompleted()) {
+            throw new OrderException(OrderErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+        }
+        return record.payload();
+    }
+
+    private String await(CompletableFuture<String> payload) {
+        try {
+            return payload.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new OrderException(OrderErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderException(OrderErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+        }
+    }
+
+    private static void validateKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new OrderException(OrderErrorCode.INVALID_IDEMPOTENCY_KEY, idempotencyKey);
+        }
+    }
+
+    private static void validateSameRequest(String storedFingerprint, String fingerprint) {
+        if (!storedFingerprint.equals(fingerprint)) {
+            throw new OrderException(OrderErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+
+    String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 fingerprint 생성 실패", e);
+        }
+    }
+
+    private String write(Object result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    private <T> T read(String payload, Class<T> resultType) {
+        try {
+            return objectMapper.readValue(payload, resultType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답 역직렬화 실패", e);
+        }
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<String> payload) {
+    }
+}
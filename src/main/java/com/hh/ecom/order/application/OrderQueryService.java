@@ -1,6 +1,8 @@
 package com.hh.ecom.order.application;
 
+import com.hh.ecom.order.application.dto.OrderPage;
 import com.hh.ecom.order.domain.Order;
+import com.hh.ecom.order.domain.OrderCursor;
 import com.hh.ecom.order.domain.OrderItem;
 import com.hh.ecom.order.domain.OrderItemRepository;
 import com.hh.ecom.order.domain.OrderRepository;
@@ -13,12 +15,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class OrderQueryService {
+    static final int MAX_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
 
@@ -26,6 +32,27 @@ public class OrderQueryService {
         return orderRepository.findByUserId(userId);
     }
 
+    /**
+     * 주문 목록 keyset 페이지 조회
+     * - (createdAt, id) 커서 이후 size + 1 건을 읽어 다음 페이지 존재 여부를 판단한다 (COUNT 쿼리 없음)
+     * - includeItems 이면 페이지 내 주문상품을 IN 쿼리 1회로 읽어 붙인다 (주문별 N+1 조회 방지)
+     */
+    public OrderPage getOrderPage(Long userId, String cursor, int size, boolean includeItems) {
+        final int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        OrderCursor orderCursor = cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+
+        List<Order> fetched = orderRepository.findPageByUserId(userId, orderCursor, pageSize + 1);
+        boolean hasNext = fetched.size() > pageSize;
+        List<Order> orders = hasNext ? fetched.subList(0, pageSize) : fetched;
+
+        if (includeItems && !orders.isEmpty()) {
+            orders = attachOrderItems(orders);
+        }
+
+        String nextCursor = hasNext ? OrderCursor.from(orders.get(orders.size() - 1)).encode() : null;
+        return new OrderPage(orders, nextCursor, hasNext);
+    }
+
     public Order getOrder(Long orderId, Long userId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new OrderException(OrderErrorCode.ORDER_NOT_FOUND));
@@ -43,4 +70,15 @@ public class OrderQueryService {
         List<OrderItem> orderItems = orderItemRepository.findByOrderId(orderId);
         return order.setOrderItems(orderItems);
     }
+
+    private List<Order> attachOrderItems(List<Order> orders) {
+        List<Long> orderIds = orders.stream().map(Order::getId).toList();
+        Map<Long, List<OrderItem>> itemsByOrderId = orderItemRepository.findByOrderIdIn(orderIds)
+                .stream()
+                .collect(Collectors.groupingBy(OrderItem::getOrderId));
+
+        return orders.stream()
+                .map(order -> order.setOrderItems(itemsByOrderId.getOrDefault(order.getId(), List.of())))
+                .toList();
+    }
 }
@@ -0,0 +1,25 @@
+package com.hh.ecom.order.application;
+
+import com.hh.ecom.order.domain.OrderTicket;
+import com.hh.ecom.order.domain.OrderTicketRepository;
+import com.hh.ecom.order.domain.exception.OrderErrorCode;
+import com.hh.ecom.order.domain.exception.OrderException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비동기 주문 접수 티켓 조회 서비스
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderTicketService {
+    private final OrderTicketRepository orderTicketRepository;
+
+    public OrderTicket getTicket(String ticketId, Long userId) {
+        OrderTicket ticket = orderTicketRepository.findById(ticketId)
+                .orElseThrow(() -> new OrderException(OrderErrorCode.ORDER_TICKET_NOT_FOUND, "ticketId: " + ticketId));
+
+        ticket.validateOwner(userId);
+        return ticket;
+    }
+}
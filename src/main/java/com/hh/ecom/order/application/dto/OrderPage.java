@@ -0,0 +1,12 @@
+package com.hh.ecom.order.application.dto;
+
+import com.hh.ecom.order.domain.Order;
+
+import java.util.List;
+
+/**
+ * 주문 목록 한 페이지
+ * - nextCursor 는 다음 페이지 요청에 그대로 전달한다 (마지막 페이지면 null)
+ */
+public record OrderPage(List<Order> orders, String nextCursor, boolean hasNext) {
+}
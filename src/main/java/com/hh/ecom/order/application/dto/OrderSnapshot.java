@@ -0,0 +1,54 @@
+package com.hh.ecom.order.application.dto;
+
+import com.hh.ecom.cart.domain.CartItem;
+import com.hh.ecom.product.domain.Product;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 생성에 필요한 데이터를 한 번에 읽어 담은 불변 스냅샷
+ * - OrderFactory 가 조립하고, 이후 주문 파이프라인(락 키 생성, 주문/주문상품 저장, 재고/포인트/쿠폰 차감)은 재조회 없이 이 값을 사용한다
+ */
+public record OrderSnapshot(
+        Long userId,
+        List<CartItem> cartItems,
+        Map<Long, Product> productMap,
+        DiscountInfo discountInfo,
+        BigDecimal userBalance,
+        BigDecimal totalAmount,
+        BigDecimal finalAmount
+) {
+    public OrderSnapshot {
+        cartItems = List.copyOf(cartItems);
+        productMap = Map.copyOf(productMap);
+    }
+
+    public List<Long> cartItemIds() {
+        return cartItems.stream().map(CartItem::getId).toList();
+    }
+
+    public List<Long> productIds() {
+        return cartItems.stream().map(CartItem::getProductId).distinct().toList();
+    }
+
+    public Map<Long, Integer> productQuantities() {
+        return cartItems.stream()
+                .collect(Collectors.toMap(CartItem::getProductId, CartItem::getQuantity, Integer::sum));
+    }
+
+    public Map<Long, Integer> productStocks() {
+        return productMap.values().stream()
+                .collect(Collectors.toMap(Product::getId, Product::getStockQuantity));
+    }
+
+    public BigDecimal discountAmount() {
+        return discountInfo.discountAmount();
+    }
+
+    public Long couponUserId() {
+        return discountInfo.couponUserId();
+    }
+}
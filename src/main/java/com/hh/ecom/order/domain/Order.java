@@ -119,6 +119,11 @@ public class Order {
         }
     }
 
+    public Order requestCancel() {
+        validateCancelable();
+        return updateStatus(OrderStatus.CANCEL_REQUESTED);
+    }
+
     public void validateOwner(Long requestUserId) {
         if (!this.userId.equals(requestUserId)) {
             throw new OrderException(OrderErrorCode.UNAUTHORIZED_ORDER_ACCESS);
@@ -0,0 +1,47 @@
+package com.hh.ecom.order.domain;
+
+import com.hh.ecom.order.domain.exception.OrderErrorCode;
+import com.hh.ecom.order.domain.exception.OrderException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 주문 목록 keyset 페이지네이션 커서
+ * - 정렬 기준 (created_at DESC, id DESC) 의 마지막 행 위치
+ * - 클라이언트에는 불투명한 Base64 문자열로 전달한다
+ */
+public record OrderCursor(LocalDateTime createdAt, Long id) {
+    private static final String DELIMITER = "|";
+
+    public OrderCursor {
+        if (createdAt == null || id == null) {
+            throw new OrderException(OrderErrorCode.INVALID_ORDER_CURSOR);
+        }
+    }
+
+    public static OrderCursor from(Order order) {
+        return new OrderCursor(order.getCreatedAt(), order.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (OrderException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new OrderException(OrderErrorCode.INVALID_ORDER_CURSOR, "cursor: " + cursor);
+        }
+    }
+}
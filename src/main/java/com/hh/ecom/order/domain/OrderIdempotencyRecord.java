@@ -0,0 +1,19 @@
+package com.hh.ecom.order.domain;
+
+import java.util.Objects;
+
+/**
+ * Idempotency-Key 처리 기록
+ *
+ * @param fingerprint 최초 요청 본문의 해시 - 같은 키로 다른 요청이 들어오면 거절한다
+ * @param payload     완료된 요청의 응답(JSON), 처리 중이면 null
+ */
+public record OrderIdempotencyRecord(OrderIdempotencyStatus status, String fingerprint, String payload) {
+    public boolean isCompleted() {
+        return status == OrderIdempotencyStatus.COMPLETED;
+    }
+
+    public boolean isSameRequest(String otherFingerprint) {
+        return Objects.equals(fingerprint, otherFingerprint);
+    }
+}
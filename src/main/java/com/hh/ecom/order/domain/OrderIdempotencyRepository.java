@@ -0,0 +1,30 @@
+package com.hh.ecom.order.domain;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface OrderIdempotencyRepository {
+    /**
+     * 키가 없을 때만 IN_PROGRESS 기록을 만든다 (원자적 선점)
+     *
+     * @param ttl 처리 중 상태 유지 시간 - 처리 노드가 죽어도 이 시간이 지나면 키가 풀린다
+     * @return 선점에 성공하면 true
+     */
+    boolean tryBegin(Long userId, String idempotencyKey, String fingerprint, Duration ttl);
+
+    Optional<OrderIdempotencyRecord> find(Long userId, String idempotencyKey);
+
+    /**
+     * 선점한 기록을 COMPLETED 로 바꾸고 응답을 저장한다 (기록이 같은 fingerprint 의 IN_PROGRESS 일 때만)
+     *
+     * @return 저장에 성공하면 true, 선점이 만료되었거나 다른 요청이 다시 선점했으면 false
+     */
+    boolean complete(Long userId, String idempotencyKey, String fingerprint, String payload, Duration ttl);
+
+    /**
+     * 처리 실패 시 선점을 해제하여 같은 키로 재시도할 수 있게 한다 (기록이 같은 fingerprint 의 IN_PROGRESS 일 때만)
+     *
+     * @return 해제했으면 true
+     */
+    boolean release(Long userId, String idempotencyKey, String fingerprint);
+}
@@ -0,0 +1,6 @@
+package com.hh.ecom.order.domain;
+
+public enum OrderIdempotencyStatus {
+    IN_PROGRESS, // 최초 요청 처리 중
+    COMPLETED    // 처리 완료 (응답 저장됨)
+}
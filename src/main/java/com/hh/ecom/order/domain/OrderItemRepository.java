@@ -1,6 +1,7 @@
 package com.hh.ecom.order.domain;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface OrderItemRepository {
@@ -10,8 +11,24 @@ public interface OrderItemRepository {
 
     List<OrderItem> findByOrderId(Long orderId);
 
+    List<OrderItem> findByOrderIdIn(List<Long> orderIds);
+
     List<OrderItem> saveAll(List<OrderItem> orderItems);
 
+    /**
+     * 주문들의 NORMAL 상태 주문상품을 상품별 수량 합계로 집계한다 (GROUP BY 1회)
+     *
+     * @return 상품 ID → 복원할 수량
+     */
+    Map<Long, Integer> sumNormalQuantitiesByProduct(List<Long> orderIds);
+
+    /**
+     * 주문들의 NORMAL 상태 주문상품을 CANCELED 로 일괄 변경한다
+     *
+     * @return 변경된 주문상품 수
+     */
+    int cancelByOrderIds(List<Long> orderIds);
+
     List<OrderItem> findAll();
 
     /**
@@ -1,5 +1,7 @@
 package com.hh.ecom.order.domain;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,6 +10,28 @@ public interface OrderRepository {
 
     Optional<Order> findById(Long id);
     List<Order> findByUserId(Long userId);
+
+    /**
+     * 사용자 주문을 (createdAt DESC, id DESC) 순으로 커서 이후부터 최대 limit 건 조회한다 (keyset 페이지네이션)
+     *
+     * @param cursor 이전 페이지의 마지막 주문 위치 (첫 페이지는 null)
+     */
+    List<Order> findPageByUserId(Long userId, OrderCursor cursor, int limit);
+
+    /**
+     * 보상 대상 주문(CANCEL_REQUESTED, 또는 pendingCreatedBefore 이전에 생성된 PENDING)을 id 순으로 최대 limit 건 점유한다
+     * - FOR UPDATE SKIP LOCKED 로 조회하므로 여러 노드가 동시에 실행해도 서로 다른 주문을 가져간다
+     * - 호출 측 트랜잭션 안에서 사용해야 하며, 커밋/롤백 시 점유가 해제된다
+     */
+    List<Order> claimCompensationTargets(LocalDateTime pendingCreatedBefore, int limit);
+
+    /**
+     * 현재 상태가 expectedStatuses 중 하나인 주문만 newStatus 로 일괄 변경한다 (조건부 UPDATE, version 증가)
+     *
+     * @return 변경된 주문 수
+     */
+    int updateStatusIfIn(List<Long> orderIds, Collection<OrderStatus> expectedStatuses, OrderStatus newStatus);
+
     List<Order> findAll();
     Optional<Order> findByOrderNumber(String orderNumber);
     void deleteAll(); // for testing
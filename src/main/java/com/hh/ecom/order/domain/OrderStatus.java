@@ -4,5 +4,6 @@ public enum OrderStatus {
     PENDING,    // 주문 대기
     PAID,       // 결제 완료
     COMPLETED,  // 주문 완료
+    CANCEL_REQUESTED, // 취소 요청 (보상 대기 - OrderCompensationSweeper 가 일괄 처리)
     CANCELED    // 주문 취소
 }
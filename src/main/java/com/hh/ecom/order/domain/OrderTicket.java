@@ -0,0 +1,72 @@
+package com.hh.ecom.order.domain;
+
+import com.hh.ecom.order.domain.exception.OrderErrorCode;
+import com.hh.ecom.order.domain.exception.OrderException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 비동기 주문 접수 티켓
+ * - POST /orders/tickets 로 접수된 주문 요청의 처리 상태를 추적한다
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OrderTicket {
+    private final String ticketId;
+    private final Long userId;
+    private final OrderTicketStatus status;
+    private final Long orderId;
+    private final String failureReason;
+    private final LocalDateTime requestedAt;
+    private final LocalDateTime updatedAt;
+
+    public static OrderTicket queued(String ticketId, Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return OrderTicket.builder()
+                .ticketId(ticketId)
+                .userId(userId)
+                .status(OrderTicketStatus.QUEUED)
+                .requestedAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    public OrderTicket processing() {
+        return this.toBuilder()
+                .status(OrderTicketStatus.PROCESSING)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public OrderTicket complete(Long orderId) {
+        return this.toBuilder()
+                .status(OrderTicketStatus.COMPLETED)
+                .orderId(orderId)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public OrderTicket fail(String failureReason) {
+        return this.toBuilder()
+                .status(OrderTicketStatus.FAILED)
+                .failureReason(failureReason)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public boolean isFinished() {
+        return status == OrderTicketStatus.COMPLETED || status == OrderTicketStatus.FAILED;
+    }
+
+    public void validateOwner(Long userId) {
+        if (!Objects.equals(this.userId, userId)) {
+            throw new OrderException(OrderErrorCode.UNAUTHORIZED_ORDER_ACCESS, "ticketId: " + ticketId);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.hh.ecom.order.domain;
+
+import java.util.Optional;
+
+public interface OrderTicketRepository {
+    OrderTicket save(OrderTicket ticket);
+    Optional<OrderTicket> findById(String ticketId);
+}
@@ -0,0 +1,8 @@
+package com.hh.ecom.order.domain;
+
+public enum OrderTicketStatus {
+    QUEUED,      // 접수됨 (Kafka 발행 완료)
+    PROCESSING,  // Consumer 처리 중
+    COMPLETED,   // 주문 생성 완료
+    FAILED       // 주문 생성 실패
+}
@@ -0,0 +1,21 @@
+package com.hh.ecom.order.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 비동기 주문 생성 요청 이벤트
+ * - Kafka Topic: order-create로 발행됨
+ * - Partition Key: userId (동일 사용자의 주문은 동일 파티션에서 순차 처리)
+ */
+public record OrderCreateRequestEvent(
+    String ticketId, // UUID (접수 티켓 추적용)
+    Long userId,
+    List<Long> cartItemIds,
+    Long couponId,
+    LocalDateTime requestedAt
+) {
+    public static OrderCreateRequestEvent of(String ticketId, Long userId, List<Long> cartItemIds, Long couponId) {
+        return new OrderCreateRequestEvent(ticketId, userId, cartItemIds, couponId, LocalDateTime.now());
+    }
+}
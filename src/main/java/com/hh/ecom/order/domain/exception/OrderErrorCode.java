@@ -19,6 +19,12 @@ public enum OrderErrorCode {
     COUPON_IN_ORDER_NOT_FOUND("ORDER_010", "주문에 사용할 쿠폰을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     EMPTY_ORDER_CART_ITEM("ORDER_011", "주문에 사용할 장바구니가 비어있습니다.", HttpStatus.BAD_REQUEST),
     ORDER_CART_ITEM_NOT_FOUND("ORDER_012", "주문에 사용할 장바구니 항목을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    ORDER_TICKET_NOT_FOUND("ORDER_013", "주문 접수 내역을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    INVALID_ORDER_CURSOR("ORDER_014", "유효하지 않은 주문 목록 커서입니다.", HttpStatus.BAD_REQUEST),
+    INVALID_IDEMPOTENCY_KEY("ORDER_015", "유효하지 않은 Idempotency-Key 입니다.", HttpStatus.BAD_REQUEST),
+    IDEMPOTENCY_KEY_IN_PROGRESS("ORDER_016", "같은 Idempotency-Key 로 처리 중인 주문 요청이 있습니다.", HttpStatus.CONFLICT),
+    IDEMPOTENCY_KEY_REUSED("ORDER_017", "Idempotency-Key 가 다른 주문 요청에 이미 사용되었습니다.", HttpStatus.UNPROCESSABLE_ENTITY),
+    ORDER_REQUEST_PUBLISH_FAILED("ORDER_018", "주문 요청 접수에 실패했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
     ;
 
     private final String code;
@@ -0,0 +1,80 @@
+package com.hh.ecom.order.infrastructure.kafka;
+
+import com.hh.ecom.cart.domain.exception.CartException;
+import com.hh.ecom.coupon.domain.exception.CouponException;
+import com.hh.ecom.order.application.OrderCommandService;
+import com.hh.ecom.order.application.dto.CreateOrderCommand;
+import com.hh.ecom.order.domain.Order;
+import com.hh.ecom.order.domain.OrderTicket;
+import com.hh.ecom.order.domain.OrderTicketRepository;
+import com.hh.ecom.order.domain.event.OrderCreateRequestEvent;
+import com.hh.ecom.order.domain.exception.OrderException;
+import com.hh.ecom.outbox.infrastructure.kafka.KafkaTopics;
+import com.hh.ecom.point.domain.exception.PointException;
+import com.hh.ecom.product.domain.exception.ProductException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 주문 생성 요청 Kafka Consumer
+ * - Topic: order-create
+ * - Consumer Group: order-create-group
+ * - Partition Key: userId → 동일 사용자의 주문은 하나의 consumer thread 에서 순차 처리
+ * - 사용자 단위 직렬화가 파티션으로 보장되므로 USER_POINT 분산락 없이 주문을 생성한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.async.enabled", havingValue = "true")
+public class OrderCreateKafkaConsumer {
+    private final OrderCommandService orderCommandService;
+    private final OrderTicketRepository orderTicketRepository;
+
+    /**
+     * 주문 생성 요청 메시지 처리
+     * - 이미 완료/실패 처리된 티켓은 건너뜀 (재전달 대비)
+     * - 비즈니스 실패(주문/장바구니/상품/쿠폰/포인트 예외)는 티켓에 FAILED 로 기록하고 커밋 (재시도 대상 아님)
+     * - Redis/DB/락 획득 실패, 티켓 저장 실패 등 인프라 오류는 예외를 전파하여 ErrorHandler 재시도/DLT 로 위임
+     *   (티켓은 PROCESSING 으로 남고, 재전달 시 다시 처리된다)
+     */
+    @KafkaListener(
+        topics = KafkaTopics.ORDER_CREATE,
+        groupId = "order-create-group",
+        concurrency = "3",
+        containerFactory = "orderCreateKafkaListenerContainerFactory"
+    )
+    public void consumeOrderCreateRequest(OrderCreateRequestEvent event, Acknowledgment acknowledgment) {
+        log.info("주문 생성 요청 수신: ticketId={}, userId={}", event.ticketId(), event.userId());
+
+        OrderTicket ticket = orderTicketRepository.findById(event.ticketId())
+                .orElseGet(() -> OrderTicket.queued(event.ticketId(), event.userId()));
+
+        if (ticket.isFinished()) {
+            log.debug("이미 처리된 주문 티켓 건너뜀: ticketId={}, status={}", ticket.getTicketId(), ticket.getStatus());
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        OrderTicket processingTicket = orderTicketRepository.save(ticket.processing());
+        orderTicketRepository.save(processOrder(event, processingTicket));
+        acknowledgment.acknowledge();
+    }
+
+    private OrderTicket processOrder(OrderCreateRequestEvent event, OrderTicket ticket) {
+        try {
+            CreateOrderCommand command = new CreateOrderCommand(event.cartItemIds(), event.couponId());
+            Order order = orderCommandService.createOrderSerializedByUser(event.userId(), command);
+
+            log.info("비동기 주문 생성 완료: ticketId={}, orderId={}", ticket.getTicketId(), order.getId());
+            return ticket.complete(order.getId());
+        } catch (OrderException | CartException | ProductException | CouponException | PointException e) {
+            log.warn("비동기 주문 생성 실패: ticketId={}, userId={}, error={}",
+                ticket.getTicketId(), event.userId(), e.getMessage());
+            return ticket.fail(e.getMessage());
+        }
+    }
+}
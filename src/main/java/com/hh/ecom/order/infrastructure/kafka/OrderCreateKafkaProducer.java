@@ -0,0 +1,93 @@
+package com.hh.ecom.order.infrastructure.kafka;
+
+import com.hh.ecom.order.application.dto.CreateOrderCommand;
+import com.hh.ecom.order.domain.OrderTicket;
+import com.hh.ecom.order.domain.OrderTicketRepository;
+import com.hh.ecom.order.domain.OrderTicketStatus;
+import com.hh.ecom.order.domain.event.OrderCreateRequestEvent;
+import com.hh.ecom.order.domain.exception.OrderErrorCode;
+import com.hh.ecom.order.domain.exception.OrderException;
+import com.hh.ecom.outbox.domain.MessagePublisher;
+import com.hh.ecom.outbox.infrastructure.kafka.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비동기 주문 생성 요청 Kafka Producer
+ * - 요청 검증 후 접수 티켓(QUEUED)을 저장하고 Kafka 발행
+ * - userId를 Partition Key로 사용 → 동일 사용자의 주문은 순차 처리
+ * - 브로커 ack 를 제한 시간 동안 기다리고, 실패하면 티켓을 FAILED 로 기록한 뒤 503 으로 응답한다
+ *   (ack 없이 202 를 돌려주면 아무도 처리하지 않는 QUEUED 티켓이 TTL 까지 남는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.async.enabled", havingValue = "true")
+public class OrderCreateKafkaProducer {
+    private static final String PUBLISH_FAILURE_REASON = "주문 요청 발행 실패";
+
+    private final MessagePublisher messagePublisher;
+    private final OrderTicketRepository orderTicketRepository;
+
+    @Value("${order.async.publish-timeout-ms:3000}")
+    private long publishTimeoutMs;
+
+    /**
+     * 주문 생성 요청을 Kafka로 발행
+     * @param userId 사용자 ID
+     * @param command 주문 생성 커맨드
+     * @return 접수 티켓 (ticketId로 처리 상태 조회)
+     * @throws OrderException ORDER_REQUEST_PUBLISH_FAILED - 제한 시간 안에 브로커 ack 를 받지 못한 경우
+     */
+    public OrderTicket publishOrderCreateRequest(Long userId, CreateOrderCommand command) {
+        command.validate();
+
+        // 1. 접수 티켓 저장 (Consumer 보다 먼저 저장되어야 상태 추적 가능)
+        String ticketId = UUID.randomUUID().toString();
+        OrderTicket ticket = orderTicketRepository.save(OrderTicket.queued(ticketId, userId));
+
+        // 2. Kafka 발행 (userId를 Partition Key로 사용) 후 ack 대기
+        OrderCreateRequestEvent event = OrderCreateRequestEvent.of(ticketId, userId, command.cartItemIds(), command.couponId());
+        try {
+            messagePublisher.publishAsync(
+                KafkaTopics.ORDER_CREATE,
+                userId.toString(),  // Partition Key: 동일 사용자는 동일 파티션에서 순차 처리
+                event
+            ).get(publishTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failTicket(ticket, e);
+        } catch (ExecutionException | TimeoutException e) {
+            return failTicket(ticket, e);
+        }
+
+        log.info("주문 생성 요청 Kafka 발행 완료: ticketId={}, userId={}", ticketId, userId);
+        return ticket;
+    }
+
+    /**
+     * 발행 실패 시 티켓을 FAILED 로 기록하고 예외로 응답
+     * - 타임아웃 뒤 늦게 전달된 메시지를 Consumer 가 이미 집어 갔다면(QUEUED 가 아님) 접수된 것으로 보고 그 티켓을 돌려준다
+     * - FAILED 로 기록한 뒤 늦게 전달된 메시지는 Consumer 가 완료/실패 티켓으로 보고 건너뛴다
+     */
+    private OrderTicket failTicket(OrderTicket ticket, Exception cause) {
+        OrderTicket current = orderTicketRepository.findById(ticket.getTicketId()).orElse(ticket);
+        if (current.getStatus() != OrderTicketStatus.QUEUED) {
+            log.warn("주문 요청 ack 대기 실패했으나 이미 처리 중: ticketId={}, status={}", current.getTicketId(), current.getStatus());
+            return current;
+        }
+
+        orderTicketRepository.save(current.fail(PUBLISH_FAILURE_REASON));
+        log.error("주문 생성 요청 Kafka 발행 실패: ticketId={}, userId={}, error={}",
+            ticket.getTicketId(), ticket.getUserId(), cause.getMessage());
+        throw new OrderException(OrderErrorCode.ORDER_REQUEST_PUBLISH_FAILED, cause, "ticketId: " + ticket.getTicketId());
+    }
+}
@@ -15,16 +15,19 @@ import java.time.LocalDateTime;
 
 /**
  * JPA entity for Order
+ * - ID 는 SnowflakeIdGenerator 로 애플리케이션에서 할당한다 (IDENTITY 미사용 → INSERT 배칭 가능)
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_created_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_orders_status_created", columnList = "status, created_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class OrderEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
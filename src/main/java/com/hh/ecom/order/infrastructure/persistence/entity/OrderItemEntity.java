@@ -9,22 +9,24 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
  * JPA entity for OrderItem
+ * - ID 는 SnowflakeIdGenerator 로 애플리케이션에서 할당한다 (IDENTITY 미사용 → INSERT 배칭 가능)
+ * - version 컬럼이 없으므로 Persistable 로 신규 여부를 알려 save() 시 merge(SELECT) 없이 persist 되도록 한다
  */
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items", indexes = @Index(name = "idx_order_items_order_id", columnList = "order_id"))
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
-public class OrderItemEntity {
+public class OrderItemEntity implements Persistable<Long> {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(nullable = false)
@@ -55,6 +57,15 @@ public class OrderItemEntity {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Transient
+    private boolean isNew;
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public OrderItem toDomain() {
         return OrderItem.builder()
                 .id(this.id)
@@ -82,4 +93,11 @@ public class OrderItemEntity {
                 .updatedAt(orderItem.getUpdatedAt())
                 .build();
     }
+
+    public static OrderItemEntity newEntity(OrderItem orderItem, Long id) {
+        return OrderItemEntity.from(orderItem).toBuilder()
+                .id(id)
+                .isNew(true)
+                .build();
+    }
 }
@@ -1,16 +1,36 @@
 package com.hh.ecom.order.infrastructure.persistence.jpa;
 
+import com.hh.ecom.order.domain.OrderItemStatus;
 import com.hh.ecom.order.infrastructure.persistence.entity.OrderItemEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface OrderItemJpaRepository extends JpaRepository<OrderItemEntity, Long> {
     List<OrderItemEntity> findByOrderId(Long orderId);
 
+    List<OrderItemEntity> findByOrderIdIn(List<Long> orderIds);
+
+    @Query("SELECT oi.productId AS productId, SUM(oi.quantity) AS quantity " +
+           "FROM OrderItemEntity oi " +
+           "WHERE oi.orderId IN :orderIds AND oi.status = :status " +
+           "GROUP BY oi.productId")
+    List<ProductQuantityProjection> sumQuantityByProductId(@Param("orderIds") List<Long> orderIds,
+                                                           @Param("status") OrderItemStatus status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderItemEntity oi SET oi.status = :newStatus, oi.updatedAt = :updatedAt " +
+           "WHERE oi.orderId IN :orderIds AND oi.status = :currentStatus")
+    int updateStatusByOrderIdIn(@Param("orderIds") List<Long> orderIds,
+                                @Param("currentStatus") OrderItemStatus currentStatus,
+                                @Param("newStatus") OrderItemStatus newStatus,
+                                @Param("updatedAt") LocalDateTime updatedAt);
+
     /**
      * 상품별 판매 수량 집계
      * - COMPLETED 상태의 주문만 집계
@@ -80,4 +100,9 @@ public interface OrderItemJpaRepository extends JpaRepository<OrderItemEntity, L
         Long getProductId();
         Long getSalesCount();
     }
+
+    interface ProductQuantityProjection {
+        Long getProductId();
+        Long getQuantity();
+    }
 }
@@ -1,26 +1,44 @@
 package com.hh.ecom.order.infrastructure.persistence.jpa;
 
+import com.hh.ecom.common.id.SnowflakeIdGenerator;
 import com.hh.ecom.order.domain.OrderItem;
 import com.hh.ecom.order.domain.OrderItemRepository;
+import com.hh.ecom.order.domain.OrderItemStatus;
 import com.hh.ecom.order.domain.ProductSalesCount;
 import com.hh.ecom.order.infrastructure.persistence.entity.OrderItemEntity;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 @Primary
 public class OrderItemRepositoryImpl implements OrderItemRepository {
+    private static final String INSERT_ORDER_ITEM_SQL =
+            "INSERT INTO order_items (id, order_id, product_id, product_name, price, quantity, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final OrderItemJpaRepository orderItemJpaRepository;
+    private final SnowflakeIdGenerator idGenerator;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
     @Override
     public OrderItem save(OrderItem orderItem) {
-        OrderItemEntity entity = OrderItemEntity.from(orderItem);
+        OrderItemEntity entity = toEntity(orderItem);
         OrderItemEntity savedEntity = orderItemJpaRepository.save(entity);
         return savedEntity.toDomain();
     }
@@ -40,16 +58,93 @@ public class OrderItemRepositoryImpl implements OrderItemRepository {
     }
 
     @Override
-    public List<OrderItem> saveAll(List<OrderItem> orderItems) {
-        List<OrderItemEntity> entities = orderItems.stream()
-                .map(OrderItemEntity::from)
+    public List<OrderItem> findByOrderIdIn(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return orderItemJpaRepository.findByOrderIdIn(orderIds)
+                .stream()
+                .map(OrderItemEntity::toDomain)
                 .toList();
+    }
 
-        List<OrderItemEntity> savedEntities = orderItemJpaRepository.saveAll(entities);
+    @Override
+    public Map<Long, Integer> sumNormalQuantitiesByProduct(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+        return orderItemJpaRepository.sumQuantityByProductId(orderIds, OrderItemStatus.NORMAL)
+                .stream()
+                .collect(Collectors.toMap(
+                        OrderItemJpaRepository.ProductQuantityProjection::getProductId,
+                        projection -> projection.getQuantity().intValue()
+                ));
+    }
 
-        return savedEntities.stream()
-                .map(OrderItemEntity::toDomain)
+    @Override
+    public int cancelByOrderIds(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        return orderItemJpaRepository.updateStatusByOrderIdIn(
+                orderIds, OrderItemStatus.NORMAL, OrderItemStatus.CANCELED, LocalDateTime.now());
+    }
+
+    /**
+     * 신규 주문상품은 JDBC batch INSERT 한 번으로 저장한다 (rewriteBatchedStatements 로 multi-row INSERT 1회 왕복)
+     * - ID 는 SnowflakeIdGenerator 로 미리 할당하므로 생성 키 조회가 필요 없다
+     * - 이미 ID 가 있는 항목(수정)은 JPA 로 저장하며, 결과는 신규 → 기존 순서로 반환된다
+     */
+    @Override
+    public List<OrderItem> saveAll(List<OrderItem> orderItems) {
+        Map<Boolean, List<OrderItem>> partitioned = orderItems.stream()
+                .collect(Collectors.partitioningBy(item -> item.getId() == null));
+
+        List<OrderItem> saved = new ArrayList<>(batchInsert(partitioned.get(true)));
+
+        List<OrderItem> existingItems = partitioned.get(false);
+        if (!existingItems.isEmpty()) {
+            orderItemJpaRepository.saveAll(existingItems.stream().map(OrderItemEntity::from).toList())
+                    .forEach(entity -> saved.add(entity.toDomain()));
+        }
+        return saved;
+    }
+
+    private List<OrderItem> batchInsert(List<OrderItem> newItems) {
+        if (newItems.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderItem> itemsWithId = newItems.stream()
+                .map(item -> item.toBuilder()
+                        .id(idGenerator.nextId())
+                        .createdAt(Objects.requireNonNullElse(item.getCreatedAt(), now))
+                        .updatedAt(Objects.requireNonNullElse(item.getUpdatedAt(), now))
+                        .build())
                 .toList();
+
+        List<Object[]> batchArgs = itemsWithId.stream()
+                .map(item -> new Object[]{
+                        item.getId(),
+                        item.getOrderId(),
+                        item.getProductId(),
+                        item.getProductName(),
+                        item.getPrice(),
+                        item.getQuantity(),
+                        item.getStatus().name(),
+                        Timestamp.valueOf(item.getCreatedAt()),
+                        Timestamp.valueOf(item.getUpdatedAt())
+                })
+                .toList();
+
+        // JPA 로 persist 된 주문(orders) INSERT 가 쓰기 지연 중일 수 있으므로 먼저 flush (order_id FK)
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM_SQL, batchArgs);
+
+        return itemsWithId;
     }
 
     @Override
@@ -94,4 +189,11 @@ public class OrderItemRepositoryImpl implements OrderItemRepository {
     public void deleteAll() {
         orderItemJpaRepository.deleteAll();
     }
+
+    private OrderItemEntity toEntity(OrderItem orderItem) {
+        if (orderItem.getId() == null) {
+            return OrderItemEntity.newEntity(orderItem, idGenerator.nextId());
+        }
+        return OrderItemEntity.from(orderItem);
+    }
 }
@@ -1,12 +1,57 @@
 package com.hh.ecom.order.infrastructure.persistence.jpa;
 
+import com.hh.ecom.order.domain.OrderStatus;
 import com.hh.ecom.order.infrastructure.persistence.entity.OrderEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, Long> {
     List<OrderEntity> findByUserIdOrderByCreatedAtDesc(Long userId);
     Optional<OrderEntity> findByOrderNumber(String orderNumber);
+
+    // keyset 페이지네이션 - idx_orders_user_created_id(user_id, created_at, id) 를 역방향으로 스캔
+    @Query("SELECT o FROM OrderEntity o WHERE o.userId = :userId ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderEntity> findFirstPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Query("SELECT o FROM OrderEntity o " +
+           "WHERE o.userId = :userId " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderEntity> findPageByUserIdAfter(@Param("userId") Long userId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Limit limit);
+
+    // lock.timeout = -2 → Hibernate 가 MySQL 에서 FOR UPDATE SKIP LOCKED 로 변환
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OrderEntity o " +
+           "WHERE o.status = :cancelRequested " +
+           "OR (o.status = :pending AND o.createdAt < :pendingCreatedBefore) " +
+           "ORDER BY o.id ASC")
+    List<OrderEntity> findCompensationTargetsForUpdateSkipLocked(@Param("cancelRequested") OrderStatus cancelRequested,
+                                                                 @Param("pending") OrderStatus pending,
+                                                                 @Param("pendingCreatedBefore") LocalDateTime pendingCreatedBefore,
+                                                                 Limit limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OrderEntity o " +
+           "SET o.status = :newStatus, o.updatedAt = :updatedAt, o.version = o.version + 1 " +
+           "WHERE o.id IN :ids AND o.status IN :expectedStatuses")
+    int updateStatusByIdInAndStatusIn(@Param("ids") List<Long> ids,
+                                      @Param("expectedStatuses") Collection<OrderStatus> expectedStatuses,
+                                      @Param("newStatus") OrderStatus newStatus,
+                                      @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -1,14 +1,20 @@
 package com.hh.ecom.order.infrastructure.persistence.jpa;
 
+import com.hh.ecom.common.id.SnowflakeIdGenerator;
 import com.hh.ecom.order.domain.Order;
+import com.hh.ecom.order.domain.OrderCursor;
 import com.hh.ecom.order.domain.OrderRepository;
+import com.hh.ecom.order.domain.OrderStatus;
 import com.hh.ecom.order.domain.exception.OrderErrorCode;
 import com.hh.ecom.order.domain.exception.OrderException;
 import com.hh.ecom.order.infrastructure.persistence.entity.OrderEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,13 +23,15 @@ import java.util.Optional;
 @Primary
 public class OrderRepositoryImpl implements OrderRepository {
     private final OrderJpaRepository orderJpaRepository;
+    private final SnowflakeIdGenerator idGenerator;
 
     @Override
     public Order save(Order order) {
         OrderEntity savedEntity;
 
         if (order.getId() == null) {
-            OrderEntity entity = OrderEntity.from(order);
+            // 애플리케이션에서 ID 할당 (version 이 null 이므로 persist 로 INSERT)
+            OrderEntity entity = OrderEntity.from(order.toBuilder().id(idGenerator.nextId()).build());
             savedEntity = orderJpaRepository.save(entity);
         } else {
             OrderEntity existingEntity = orderJpaRepository.findById(order.getId())
@@ -63,6 +71,34 @@ public class OrderRepositoryImpl implements OrderRepository {
                 .toList();
     }
 
+    @Override
+    public List<Order> findPageByUserId(Long userId, OrderCursor cursor, int limit) {
+        List<OrderEntity> entities = cursor == null
+                ? orderJpaRepository.findFirstPageByUserId(userId, Limit.of(limit))
+                : orderJpaRepository.findPageByUserIdAfter(userId, cursor.createdAt(), cursor.id(), Limit.of(limit));
+
+        return entities.stream()
+                .map(OrderEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Order> claimCompensationTargets(LocalDateTime pendingCreatedBefore, int limit) {
+        return orderJpaRepository.findCompensationTargetsForUpdateSkipLocked(
+                        OrderStatus.CANCEL_REQUESTED, OrderStatus.PENDING, pendingCreatedBefore, Limit.of(limit))
+                .stream()
+                .map(OrderEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int updateStatusIfIn(List<Long> orderIds, Collection<OrderStatus> expectedStatuses, OrderStatus newStatus) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        return orderJpaRepository.updateStatusByIdInAndStatusIn(orderIds, expectedStatuses, newStatus, LocalDateTime.now());
+    }
+
     @Override
     public List<Order> findAll() {
         return orderJpaRepository.findAll()
@@ -0,0 +1,128 @@
+package com.hh.ecom.order.infrastructure.redis;
+
+import com.hh.ecom.order.domain.OrderIdempotencyRecord;
+import com.hh.ecom.order.domain.OrderIdempotencyRepository;
+import com.hh.ecom.order.domain.OrderIdempotencyStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 주문 생성 Idempotency-Key 저장소
+ * - Key: order:idempotency:{userId}:{idempotencyKey} (Hash: status, fingerprint, payload)
+ * - IN_PROGRESS 는 짧은 TTL, COMPLETED 는 재시도 허용 기간만큼의 TTL 로 자동 만료
+ */
+@Slf4j
+@Repository
+public class OrderIdempotencyRedisRepository implements OrderIdempotencyRepository {
+    private static final String KEY_PREFIX = "order:idempotency:";
+
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_FINGERPRINT = "fingerprint";
+    private static final String FIELD_PAYLOAD = "payload";
+
+    /**
+     * KEYS[1]=기록 키, ARGV[1]=fingerprint, ARGV[2]=TTL(ms)
+     * 키가 없을 때만 IN_PROGRESS 기록 + TTL 을 한 번에 설정 (HSETNX 후 EXPIRE 사이 장애로 TTL 없는 키가 남지 않도록)
+     */
+    private static final RedisScript<Long> BEGIN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'status', 'IN_PROGRESS', 'fingerprint', ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]=기록 키, ARGV[1]=fingerprint, ARGV[2]=응답 payload, ARGV[3]=TTL(ms)
+     * 내가 선점한 IN_PROGRESS 기록일 때만 COMPLETED 로 바꾸고 TTL 을 함께 갱신한다
+     * (IN_PROGRESS TTL 이 지나 키가 사라졌거나 다른 요청이 다시 선점한 경우에는 아무것도 쓰지 않는다)
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'status') ~= 'IN_PROGRESS'
+                    or redis.call('HGET', KEYS[1], 'fingerprint') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'status', 'COMPLETED', 'payload', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]=기록 키, ARGV[1]=fingerprint
+     * 내가 선점한 IN_PROGRESS 기록일 때만 지운다
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'status') ~= 'IN_PROGRESS'
+                    or redis.call('HGET', KEYS[1], 'fingerprint') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public OrderIdempotencyRedisRepository(
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public boolean tryBegin(Long userId, String idempotencyKey, String fingerprint, Duration ttl) {
+        Long result = redisTemplate.execute(
+                BEGIN_SCRIPT,
+                List.of(getKey(userId, idempotencyKey)),
+                fingerprint, String.valueOf(ttl.toMillis())
+        );
+        return Long.valueOf(1L).equals(result);
+    }
+
+    @Override
+    public Optional<OrderIdempotencyRecord> find(Long userId, String idempotencyKey) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(getKey(userId, idempotencyKey));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new OrderIdempotencyRecord(
+                OrderIdempotencyStatus.valueOf((String) fields.get(FIELD_STATUS)),
+                (String) fields.get(FIELD_FINGERPRINT),
+                (String) fields.get(FIELD_PAYLOAD)
+        ));
+    }
+
+    @Override
+    public boolean complete(Long userId, String idempotencyKey, String fingerprint, String payload, Duration ttl) {
+        Long result = redisTemplate.execute(
+                COMPLETE_SCRIPT,
+                List.of(getKey(userId, idempotencyKey)),
+                fingerprint, payload, String.valueOf(ttl.toMillis())
+        );
+        return Long.valueOf(1L).equals(result);
+    }
+
+    @Override
+    public boolean release(Long userId, String idempotencyKey, String fingerprint) {
+        Long result = redisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(getKey(userId, idempotencyKey)),
+                fingerprint
+        );
+        return Long.valueOf(1L).equals(result);
+    }
+
+    private String getKey(Long userId, String idempotencyKey) {
+        return KEY_PREFIX + userId + ":" + idempotencyKey;
+    }
+}
@@ -0,0 +1,89 @@
+package com.hh.ecom.order.infrastructure.redis;
+
+import com.hh.ecom.order.domain.OrderTicket;
+import com.hh.ecom.order.domain.OrderTicketRepository;
+import com.hh.ecom.order.domain.OrderTicketStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 비동기 주문 접수 티켓 저장소
+ * - Key: order:ticket:{ticketId} (Hash)
+ * - 조회 전용 상태 정보이므로 TTL 이후 자동 만료
+ */
+@Slf4j
+@Repository
+public class OrderTicketRedisRepository implements OrderTicketRepository {
+    private static final String TICKET_KEY_PREFIX = "order:ticket:";
+    private static final Duration TICKET_TTL = Duration.ofHours(1);
+
+    private static final String FIELD_USER_ID = "userId";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_ORDER_ID = "orderId";
+    private static final String FIELD_FAILURE_REASON = "failureReason";
+    private static final String FIELD_REQUESTED_AT = "requestedAt";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public OrderTicketRedisRepository(
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public OrderTicket save(OrderTicket ticket) {
+        String key = getTicketKey(ticket.getTicketId());
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_USER_ID, String.valueOf(ticket.getUserId()));
+        fields.put(FIELD_STATUS, ticket.getStatus().name());
+        fields.put(FIELD_REQUESTED_AT, ticket.getRequestedAt().toString());
+        fields.put(FIELD_UPDATED_AT, ticket.getUpdatedAt().toString());
+        if (ticket.getOrderId() != null) {
+            fields.put(FIELD_ORDER_ID, String.valueOf(ticket.getOrderId()));
+        }
+        if (ticket.getFailureReason() != null) {
+            fields.put(FIELD_FAILURE_REASON, ticket.getFailureReason());
+        }
+
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, TICKET_TTL);
+        return ticket;
+    }
+
+    @Override
+    public Optional<OrderTicket> findById(String ticketId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(getTicketKey(ticketId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(OrderTicket.builder()
+                .ticketId(ticketId)
+                .userId(Long.parseLong((String) fields.get(FIELD_USER_ID)))
+                .status(OrderTicketStatus.valueOf((String) fields.get(FIELD_STATUS)))
+                .orderId(parseLongOrNull(fields.get(FIELD_ORDER_ID)))
+                .failureReason((String) fields.get(FIELD_FAILURE_REASON))
+                .requestedAt(LocalDateTime.parse((String) fields.get(FIELD_REQUESTED_AT)))
+                .updatedAt(LocalDateTime.parse((String) fields.get(FIELD_UPDATED_AT)))
+                .build());
+    }
+
+    private Long parseLongOrNull(Object value) {
+        return value == null ? null : Long.parseLong((String) value);
+    }
+
+    private String getTicketKey(String ticketId) {
+        return TICKET_KEY_PREFIX + ticketId;
+    }
+}
@@ -1,7 +1,9 @@
 package com.hh.ecom.order.presentation;
 
 import com.hh.ecom.order.application.OrderCommandService;
+import com.hh.ecom.order.application.OrderIdempotencyService;
 import com.hh.ecom.order.application.OrderQueryService;
+import com.hh.ecom.order.application.dto.OrderPage;
 import com.hh.ecom.order.domain.Order;
 import com.hh.ecom.order.presentation.api.OrderApi;
 import com.hh.ecom.order.presentation.dto.response.OrderListResponse;
@@ -11,8 +13,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/orders")
 @RequiredArgsConstructor
@@ -20,25 +20,35 @@ public class OrderController implements OrderApi {
 
     private final OrderCommandService orderCommandService;
     private final OrderQueryService orderQueryService;
+    private final OrderIdempotencyService orderIdempotencyService;
 
     @Override
     @PostMapping
     public ResponseEntity<OrderResponse> createOrder(
             @RequestHeader("userId") Long userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody CreateOrderRequest request
     ) {
-        Order order = orderCommandService.createOrder(userId, request.toCommand());
-        OrderResponse response = OrderResponse.from(order);
+        if (idempotencyKey == null) {
+            Order order = orderCommandService.createOrder(userId, request.toCommand());
+            return ResponseEntity.ok(OrderResponse.from(order));
+        }
+
+        OrderResponse response = orderIdempotencyService.execute(userId, idempotencyKey, request, OrderResponse.class,
+                () -> OrderResponse.from(orderCommandService.createOrder(userId, request.toCommand())));
         return ResponseEntity.ok(response);
     }
 
     @Override
     @GetMapping
     public ResponseEntity<OrderListResponse> getOrders(
-            @RequestHeader("userId") Long userId
+            @RequestHeader("userId") Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(defaultValue = "false") boolean includeItems
     ) {
-        List<Order> orders = orderQueryService.getOrders(userId);
-        OrderListResponse response = OrderListResponse.from(orders);
+        OrderPage page = orderQueryService.getOrderPage(userId, cursor, size, includeItems);
+        OrderListResponse response = OrderListResponse.from(page, includeItems);
         return ResponseEntity.ok(response);
     }
 
@@ -52,5 +62,15 @@ public class OrderController implements OrderApi {
         OrderResponse response = OrderResponse.from(order);
         return ResponseEntity.ok(response);
     }
-}
 
+    @Override
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<OrderResponse> cancelOrder(
+            @RequestHeader("userId") Long userId,
+            @PathVariable Long id
+    ) {
+        Order order = orderCommandService.requestCancel(id, userId);
+        OrderResponse response = OrderResponse.fromWithoutItems(order);
+        return ResponseEntity.ok(response);
+    }
+}
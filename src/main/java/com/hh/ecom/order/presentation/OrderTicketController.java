@@ -0,0 +1,44 @@
+package com.hh.ecom.order.presentation;
+
+import com.hh.ecom.order.application.OrderTicketService;
+import com.hh.ecom.order.domain.OrderTicket;
+import com.hh.ecom.order.infrastructure.kafka.OrderCreateKafkaProducer;
+import com.hh.ecom.order.presentation.api.OrderTicketApi;
+import com.hh.ecom.order.presentation.dto.response.OrderTicketResponse;
+import com.hh.ecom.product.presentation.dto.request.CreateOrderRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/orders/tickets")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.async.enabled", havingValue = "true")
+public class OrderTicketController implements OrderTicketApi {
+
+    private final OrderCreateKafkaProducer orderCreateKafkaProducer;
+    private final OrderTicketService orderTicketService;
+
+    @Override
+    @PostMapping
+    public ResponseEntity<OrderTicketResponse> submitOrder(
+            @RequestHeader("userId") Long userId,
+            @RequestBody CreateOrderRequest request
+    ) {
+        // Kafka 기반 비동기 주문 접수 (userId 파티션에서 순차 처리)
+        OrderTicket ticket = orderCreateKafkaProducer.publishOrderCreateRequest(userId, request.toCommand());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(OrderTicketResponse.from(ticket));
+    }
+
+    @Override
+    @GetMapping("/{ticketId}")
+    public ResponseEntity<OrderTicketResponse> getTicket(
+            @RequestHeader("userId") Long userId,
+            @PathVariable String ticketId
+    ) {
+        OrderTicket ticket = orderTicketService.getTicket(ticketId, userId);
+        return ResponseEntity.ok(OrderTicketResponse.from(ticket));
+    }
+}
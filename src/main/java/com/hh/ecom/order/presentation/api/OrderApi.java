@@ -28,12 +28,22 @@ public interface OrderApi {
             ),
             @ApiResponse(
                     responseCode = "400",
-                    description = "잘못된 요청 (주문 아이템 비어있음, 유효하지 않은 금액 등)"
+                    description = "잘못된 요청 (주문 아이템 비어있음, 유효하지 않은 금액, 유효하지 않은 Idempotency-Key 등)"
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "같은 Idempotency-Key 로 처리 중인 요청이 있음"
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Idempotency-Key 가 다른 요청 본문에 이미 사용됨"
             )
     })
     ResponseEntity<OrderResponse> createOrder(
             @Parameter(name = "userId", description = "사용자 ID", required = true, in = ParameterIn.HEADER, example = "1", schema = @Schema(type = "integer"))
             Long userId,
+            @Parameter(name = "Idempotency-Key", description = "재시도 시 같은 값을 보내면 최초 응답을 그대로 돌려받음 (최대 100자, 24시간 보관)", in = ParameterIn.HEADER, example = "7f3c9a2e-0b1d-4e5f-9a8b-1c2d3e4f5a6b")
+            String idempotencyKey,
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "주문 생성 요청",
                     required = true,
@@ -44,18 +54,28 @@ public interface OrderApi {
 
     @Operation(
             summary = "주문 목록 조회",
-            description = "현재 사용자의 전체 주문 내역을 조회합니다."
+            description = "현재 사용자의 주문 내역을 최신순으로 커서 기반 페이지 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
                     description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = OrderListResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서"
             )
     })
     ResponseEntity<OrderListResponse> getOrders(
             @Parameter(name = "userId", description = "사용자 ID", required = true, in = ParameterIn.HEADER, example = "1", schema = @Schema(type = "integer"))
-            Long userId
+            Long userId,
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)", in = ParameterIn.QUERY)
+            String cursor,
+            @Parameter(name = "size", description = "페이지 크기 (최대 100)", in = ParameterIn.QUERY, example = "20")
+            Integer size,
+            @Parameter(name = "includeItems", description = "주문상품 포함 여부", in = ParameterIn.QUERY, example = "false")
+            boolean includeItems
     );
 
     @Operation(
@@ -83,4 +103,34 @@ public interface OrderApi {
             @Parameter(name = "id", description = "주문 ID", required = true, in = ParameterIn.PATH, example = "1")
             Long id
     );
+
+    @Operation(
+            summary = "주문 취소 요청",
+            description = "결제 완료(PAID/COMPLETED) 주문의 취소를 요청합니다. 재고/포인트/쿠폰 보상은 비동기로 일괄 처리되며, 완료되면 주문 상태가 CANCELED 로 바뀝니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "취소 요청 접수 (status = CANCEL_REQUESTED)",
+                    content = @Content(schema = @Schema(implementation = OrderResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "취소할 수 없는 주문 상태"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "주문을 찾을 수 없음"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "주문에 대한 접근 권한 없음"
+            )
+    })
+    ResponseEntity<OrderResponse> cancelOrder(
+            @Parameter(name = "userId", description = "사용자 ID", required = true, in = ParameterIn.HEADER, example = "1", schema = @Schema(type = "integer"))
+            Long userId,
+            @Parameter(name = "id", description = "주문 ID", required = true, in = ParameterIn.PATH, example = "1")
+            Long id
+    );
 }
@@ -0,0 +1,69 @@
+package com.hh.ecom.order.presentation.api;
+
+import com.hh.ecom.order.presentation.dto.response.OrderTicketResponse;
+import com.hh.ecom.product.presentation.dto.request.CreateOrderRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+@Tag(name = "Order Ticket", description = "비동기 주문 접수 API (order.async.enabled=true 인 경우에만 활성화)")
+public interface OrderTicketApi {
+
+    @Operation(
+            summary = "비동기 주문 접수",
+            description = "주문 요청을 큐에 적재하고 즉시 접수 티켓을 반환합니다. 주문은 사용자별로 순차 처리됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "주문 접수 성공",
+                    content = @Content(schema = @Schema(implementation = OrderTicketResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (주문 아이템 비어있음 등)"
+            )
+    })
+    ResponseEntity<OrderTicketResponse> submitOrder(
+            @Parameter(name = "userId", description = "사용자 ID", required = true, in = ParameterIn.HEADER, example = "1", schema = @Schema(type = "integer"))
+            Long userId,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "주문 생성 요청",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = CreateOrderRequest.class))
+            )
+            CreateOrderRequest request
+    );
+
+    @Operation(
+            summary = "주문 접수 상태 조회",
+            description = "접수 티켓의 처리 상태와 생성된 주문 ID를 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = OrderTicketResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "티켓을 찾을 수 없음 (만료 포함)"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "티켓에 대한 접근 권한 없음"
+            )
+    })
+    ResponseEntity<OrderTicketResponse> getTicket(
+            @Parameter(name = "userId", description = "사용자 ID", required = true, in = ParameterIn.HEADER, example = "1", schema = @Schema(type = "integer"))
+            Long userId,
+            @Parameter(name = "ticketId", description = "티켓 ID", required = true, in = ParameterIn.PATH)
+            String ticketId
+    );
+}
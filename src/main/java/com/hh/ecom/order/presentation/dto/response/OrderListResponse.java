@@ -1,5 +1,6 @@
 package com.hh.ecom.order.presentation.dto.response;
 
+import com.hh.ecom.order.application.dto.OrderPage;
 import com.hh.ecom.order.domain.Order;
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -10,8 +11,14 @@ public record OrderListResponse(
         @Schema(description = "주문 목록")
         List<OrderResponse> orders,
 
-        @Schema(description = "전체 개수", example = "10")
-        Integer totalCount
+        @Schema(description = "현재 페이지의 주문 개수", example = "10")
+        Integer totalCount,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0wMS0wMVQxMjowMDowMHwxMjM0NQ")
+        String nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext
 ) {
     public static OrderListResponse from(List<Order> orders) {
         List<OrderResponse> orderResponses = orders.stream()
@@ -20,7 +27,22 @@ public record OrderListResponse(
 
         return new OrderListResponse(
                 orderResponses,
-                orderResponses.size()
+                orderResponses.size(),
+                null,
+                false
+        );
+    }
+
+    public static OrderListResponse from(OrderPage page, boolean includeItems) {
+        List<OrderResponse> orderResponses = page.orders().stream()
+                .map(order -> includeItems ? OrderResponse.from(order) : OrderResponse.fromWithoutItems(order))
+                .toList();
+
+        return new OrderListResponse(
+                orderResponses,
+                orderResponses.size(),
+                page.nextCursor(),
+                page.hasNext()
         );
     }
 }
@@ -0,0 +1,43 @@
+package com.hh.ecom.order.presentation.dto.response;
+
+import com.hh.ecom.order.domain.OrderTicket;
+import com.hh.ecom.order.domain.OrderTicketStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "비동기 주문 접수 티켓 응답")
+public record OrderTicketResponse(
+        @Schema(description = "티켓 ID (UUID)", example = "a1b2c3d4-e5f6-7890-abcd-ef1234567890")
+        String ticketId,
+
+        @Schema(description = "사용자 ID", example = "1")
+        Long userId,
+
+        @Schema(description = "처리 상태 (QUEUED | PROCESSING | COMPLETED | FAILED)", example = "QUEUED")
+        OrderTicketStatus status,
+
+        @Schema(description = "생성된 주문 ID (완료 전에는 null)", example = "1")
+        Long orderId,
+
+        @Schema(description = "실패 사유 (실패한 경우에만)", example = "포인트 잔액이 부족합니다.")
+        String failureReason,
+
+        @Schema(description = "접수일시", example = "2025-01-07T10:30:00")
+        LocalDateTime requestedAt,
+
+        @Schema(description = "상태 변경일시", example = "2025-01-07T10:30:01")
+        LocalDateTime updatedAt
+) {
+    public static OrderTicketResponse from(OrderTicket ticket) {
+        return new OrderTicketResponse(
+                ticket.getTicketId(),
+                ticket.getUserId(),
+                ticket.getStatus(),
+                ticket.getOrderId(),
+                ticket.getFailureReason(),
+                ticket.getRequestedAt(),
+                ticket.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,143 @@
+package com.hh.ecom.outbox.application;
+
+import com.hh.ecom.order.domain.event.OrderCompletedEvent;
+import com.hh.ecom.outbox.domain.MessagePublisher;
+import com.hh.ecom.outbox.domain.OutboxEvent;
+import com.hh.ecom.outbox.domain.OutboxEventRepository;
+import com.hh.ecom.outbox.infrastructure.kafka.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Transactional Outbox Relay
+ * - 주문 트랜잭션이 저장한 PENDING outbox 행을 배치 단위로 점유하여 Kafka 로 발행
+ * - 점유는 짧은 트랜잭션(FOR UPDATE SKIP LOCKED + 점유 만료 시각 기록)으로 끝내고, ack 를 기다리는 동안 row 락/트랜잭션을 잡지 않는다
+ * - 배치 내 메시지는 ack 를 기다리지 않고 모두 전송한 뒤, ack 를 한 번에 모아 성공한 행만 SENT 로 일괄 변경
+ * - 실패/타임아웃된 행은 점유를 풀어 PENDING 으로 남기고 다음 주기에 재발행 (at-least-once 이므로 Consumer 는 orderId 기준으로 멱등해야 한다)
+ * - 배치에 실패가 하나라도 있으면 그 주기를 멈춘다 (브로커 장애 중 같은 행을 반복 점유하며 ack 타임아웃만큼 거듭 대기하지 않음)
+ * - relay 가 점유 후 죽으면 점유 만료(claim-timeout-ms) 뒤 다른 인스턴스가 다시 점유한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final MessagePublisher messagePublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${outbox.relay.ack-timeout-ms:5000}")
+    private long ackTimeoutMs;
+
+    @Value("${outbox.relay.claim-timeout-ms:30000}")
+    private long claimTimeoutMs;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay-ms:500}")
+    public void relayPendingEvents() {
+        try {
+            // 밀린 이벤트가 많으면 한 주기에 여러 배치를 연속 처리
+            // - 가득 찬 배치를 모두 발행한 경우에만 이어서 처리하고, 일부라도 실패하면(sent < claimed) 이번 주기를 멈춘다
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int sent = relayBatch();
+                if (sent < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Outbox relay 중 예상치 못한 오류 발생. 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    /**
+     * 배치 1회 처리 (점유 트랜잭션 → 비동기 발행 → ack 수집 → SENT 처리/점유 해제 트랜잭션)
+     *
+     * @return 발행(ack 수신)에 성공한 outbox 행 수
+     */
+    public int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = transactionTemplate.execute(status ->
+                outboxEventRepository.claimPendingBatch(batchSize, now, now.plus(Duration.ofMillis(claimTimeoutMs))));
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> sentIds = publishAndAwaitAcks(events);
+        Set<Long> sent = new HashSet<>(sentIds);
+        List<Long> failedIds = events.stream()
+                .map(OutboxEvent::getId)
+                .filter(id -> !sent.contains(id))
+                .toList();
+
+        Integer updated = transactionTemplate.execute(status -> {
+            outboxEventRepository.releaseClaims(failedIds);
+            return outboxEventRepository.markSent(sentIds, LocalDateTime.now());
+        });
+
+        if (!failedIds.isEmpty()) {
+            log.warn("Outbox 발행 일부 실패: claimed={}, sent={}, 실패 건은 다음 주기에 재시도",
+                    events.size(), updated);
+        } else {
+            log.debug("Outbox 발행 완료: sent={}", updated);
+        }
+        return sentIds.size();
+    }
+
+    private List<Long> publishAndAwaitAcks(List<OutboxEvent> events) {
+        Map<Long, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            futures.put(event.getId(), publish(event));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Outbox ack 대기 시간 초과: timeoutMs={}", ackTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 개별 실패는 아래에서 future 별로 판별
+        }
+
+        List<Long> sentIds = new ArrayList<>(futures.size());
+        futures.forEach((id, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                sentIds.add(id);
+            }
+        });
+        return sentIds;
+    }
+
+    private CompletableFuture<Void> publish(OutboxEvent event) {
+        try {
+            OrderCompletedEvent message = new OrderCompletedEvent(
+                    event.getOrderId(), event.getOrderStatus(), event.getCreatedAt());
+            return messagePublisher.publishAsync(
+                    KafkaTopics.ORDER_COMPLETED, event.getOrderId().toString(), message);
+        } catch (Exception e) {
+            log.error("Outbox 발행 실패: outboxId={}, orderId={}", event.getId(), event.getOrderId(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
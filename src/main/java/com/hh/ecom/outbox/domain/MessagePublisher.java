@@ -1,5 +1,17 @@
 package com.hh.ecom.outbox.domain;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface MessagePublisher {
     void publish(String topic, String key, Object message);
+
+    /**
+     * 브로커 ack 를 기다릴 수 있는 비동기 발행
+     * - 발행 실패 시 예외로 완료되는 future 를 반환한다 (publish 와 달리 실패를 삼키지 않음)
+     * - 기본 구현은 동기 publish 후 완료된 future 반환
+     */
+    default CompletableFuture<Void> publishAsync(String topic, String key, Object message) {
+        publish(topic, key, message);
+        return CompletableFuture.completedFuture(null);
+    }
 }
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
  * Outbox Event Domain Model
  * - 주문 관련 이벤트를 외부 시스템에 발행하기 위한 도메인 모델
  * - Transactional Outbox Pattern 구현
+ * - 주문 트랜잭션에서 PENDING 으로 저장되고, OutboxRelay 가 발행 후 SENT 로 일괄 변경한다
  */
 @Getter
 @Builder(toBuilder = true)
@@ -20,7 +21,9 @@ public class OutboxEvent {
     private final Long id;
     private final Long orderId;
     private final OrderStatus orderStatus;
+    private final OutboxStatus status;
     private final LocalDateTime createdAt;
+    private final LocalDateTime sentAt;
 
     public static OutboxEvent create(Long orderId, OrderStatus orderStatus) {
         validateParams(orderId, orderStatus);
@@ -28,6 +31,7 @@ public class OutboxEvent {
         return OutboxEvent.builder()
                 .orderId(orderId)
                 .orderStatus(orderStatus)
+                .status(OutboxStatus.PENDING)
                 .createdAt(LocalDateTime.now())
                 .build();
     }
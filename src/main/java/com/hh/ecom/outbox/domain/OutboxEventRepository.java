@@ -1,15 +1,29 @@
 package com.hh.ecom.outbox.domain;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-
 public interface OutboxEventRepository {
 
     OutboxEvent save(OutboxEvent outboxEvent);
 
     Optional<OutboxEvent> findById(Long id);
 
+    /**
+     * 점유되지 않은(또는 점유가 만료된) PENDING 이벤트를 id 순으로 최대 limit 건 골라 claimedUntil 까지 점유
+     * - 짧은 트랜잭션 안에서 호출한다. SELECT ... FOR UPDATE SKIP LOCKED 로 고른 뒤 점유 만료 시각을 기록하므로,
+     *   커밋 후에는 row 락 없이도 다른 relay 인스턴스가 만료 전까지 같은 행을 가져가지 않는다
+     */
+    List<OutboxEvent> claimPendingBatch(int limit, LocalDateTime now, LocalDateTime claimedUntil);
+
+    int markSent(List<Long> ids, LocalDateTime sentAt);
+
+    /**
+     * 발행에 실패한 행의 점유 해제 - 다음 주기에 다시 점유할 수 있다
+     */
+    int releaseClaims(List<Long> ids);
+
     List<OutboxEvent> findByOrderId(Long orderId);
 
     List<OutboxEvent> findAll();
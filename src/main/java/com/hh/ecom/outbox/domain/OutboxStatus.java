@@ -0,0 +1,6 @@
+package com.hh.ecom.outbox.domain;
+
+public enum OutboxStatus {
+    PENDING,    // 발행 대기
+    SENT        // 브로커 ack 수신 완료
+}
@@ -1,7 +1,9 @@
 package com.hh.ecom.outbox.infrastructure.kafka;
 
 import com.hh.ecom.coupon.domain.event.CouponIssueRequestEvent;
+import com.hh.ecom.coupon.domain.event.CouponIssuedEvent;
 import com.hh.ecom.order.domain.event.OrderCompletedEvent;
+import com.hh.ecom.order.domain.event.OrderCreateRequestEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -192,4 +194,140 @@ public class KafkaConsumerConfig {
 
         return factory;
     }
+
+    /**
+     * 쿠폰 발급 배치 리스너 - poll 1회 분량(최대 500건)을 List 로 받아 쿠폰별로 묶어 처리
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, CouponIssueRequestEvent> couponBatchKafkaListenerContainerFactory(
+            KafkaTemplate<String, Object> kafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<String, CouponIssueRequestEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(couponConsumerFactory());
+        factory.setBatchListener(true);
+
+        // 수동 커밋 (배치 전체 처리 및 결과 발행 후 커밋)
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+
+        // ErrorHandler 설정 (재시도 + DLT) - 배치 처리 중 예외 시 배치 전체 재전달, 중복은 멱등 처리로 걸러짐
+        factory.setCommonErrorHandler(errorHandler(kafkaTemplate));
+
+        return factory;
+    }
+
+    // ============================================================
+    // 쿠폰 발급 결과 Consumer 설정
+    // ============================================================
+
+    @Bean
+    public ConsumerFactory<String, CouponIssuedEvent> couponIssuedConsumerFactory() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, "coupon-issued-result-group");
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+
+        // JSON 역직렬화 설정
+        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, CouponIssuedEvent.class.getName());
+
+        // Poll 설정 (선착순 오픈 직후 결과가 몰려 들어오므로 한 번에 최대한 모아 기록)
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 500);
+        config.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, 300000);
+        config.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 1);
+        config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, 500);
+
+        // 세션 관리
+        config.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 10000);
+        config.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, 3000);
+
+        // 오프셋 관리
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        // 모니터링
+        config.put(ConsumerConfig.CLIENT_ID_CONFIG, "ecom-coupon-issued-consumer");
+
+        return new DefaultKafkaConsumerFactory<>(
+                config,
+                new StringDeserializer(),
+                new JsonDeserializer<>(CouponIssuedEvent.class, false)
+        );
+    }
+
+    /**
+     * 쿠폰 발급 결과 배치 리스너 - poll 1회 분량을 pipeline 1회로 결과 저장소에 기록
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, CouponIssuedEvent> couponIssuedKafkaListenerContainerFactory(
+            KafkaTemplate<String, Object> kafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<String, CouponIssuedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(couponIssuedConsumerFactory());
+        factory.setBatchListener(true);
+
+        // 수동 커밋 (결과 기록 후 커밋)
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+
+        // ErrorHandler 설정 (재시도 + DLT) - 결과 기록은 덮어쓰기이므로 재전달되어도 안전
+        factory.setCommonErrorHandler(errorHandler(kafkaTemplate));
+
+        return factory;
+    }
+
+    // ============================================================
+    // 비동기 주문 생성 Consumer 설정
+    // ============================================================
+
+    @Bean
+    public ConsumerFactory<String, OrderCreateRequestEvent> orderCreateConsumerFactory() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, "order-create-group");
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+
+        // JSON 역직렬화 설정
+        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, OrderCreateRequestEvent.class.getName());
+
+        // Poll 설정 (주문 1건 처리 시간이 길어 poll 당 레코드 수를 제한)
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 50);
+        config.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, 300000);
+        config.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 1);
+        config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, 500);
+
+        // 세션 관리
+        config.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 10000);
+        config.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, 3000);
+
+        // 오프셋 관리
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        // 모니터링
+        config.put(ConsumerConfig.CLIENT_ID_CONFIG, "ecom-order-create-consumer");
+
+        return new DefaultKafkaConsumerFactory<>(
+                config,
+                new StringDeserializer(),
+                new JsonDeserializer<>(OrderCreateRequestEvent.class, false)
+        );
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, OrderCreateRequestEvent> orderCreateKafkaListenerContainerFactory(
+            KafkaTemplate<String, Object> kafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<String, OrderCreateRequestEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(orderCreateConsumerFactory());
+
+        // 수동 커밋 (티켓 상태 기록 후 커밋)
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+
+        // ErrorHandler 설정 (재시도 + DLT)
+        factory.setCommonErrorHandler(errorHandler(kafkaTemplate));
+
+        return factory;
+    }
 }
@@ -7,6 +7,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Kafka를 사용한 메시지 발행 구현체
  * - 범용 메시지 발행을 Kafka Topic으로 전송
@@ -36,4 +38,16 @@ public class KafkaMessagePublisher implements MessagePublisher {
                     topic, key, e.getMessage(), e);
         }
     }
+
+    @Override
+    public CompletableFuture<Void> publishAsync(String topic, String key, Object message) {
+        try {
+            return kafkaTemplate.send(topic, key, message)
+                    .thenAccept(result -> log.debug("Kafka 메시지 ack 수신: topic={}, key={}, offset={}",
+                            topic, key, result.getRecordMetadata().offset()));
+        } catch (Exception e) {
+            // send 자체가 동기적으로 실패한 경우 (직렬화, 메타데이터 조회 타임아웃 등)
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -9,6 +9,7 @@ public final class KafkaTopics {
     private KafkaTopics() {}
 
     public static final String ORDER_COMPLETED = "order-completed";
+    public static final String ORDER_CREATE = "order-create";
     public static final String COUPON_ISSUE = "coupon-issue";
     public static final String COUPON_ISSUED = "coupon-issued";
 }
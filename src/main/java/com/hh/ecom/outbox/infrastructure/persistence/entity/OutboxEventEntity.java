@@ -2,6 +2,7 @@ package com.hh.ecom.outbox.infrastructure.persistence.entity;
 
 import com.hh.ecom.order.domain.OrderStatus;
 import com.hh.ecom.outbox.domain.OutboxEvent;
+import com.hh.ecom.outbox.domain.OutboxStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,7 +13,7 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "outbox_event")
+@Table(name = "outbox_event", indexes = @Index(name = "idx_outbox_event_status_id", columnList = "status, id"))
 @Getter
 @Builder
 @NoArgsConstructor
@@ -29,16 +30,29 @@ public class OutboxEventEntity {
     @Column(nullable = false, length = 20)
     private OrderStatus orderStatus;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @Column
+    private LocalDateTime sentAt;
+
+    // relay 점유 만료 시각 - 이 시각 전까지 다른 relay 가 같은 행을 점유하지 않는다
+    @Column
+    private LocalDateTime claimedUntil;
+
     public OutboxEvent toDomain() {
         return OutboxEvent.builder()
                 .id(this.id)
                 .orderId(this.orderId)
                 .orderStatus(this.orderStatus)
+                .status(this.status)
                 .createdAt(this.createdAt)
+                .sentAt(this.sentAt)
                 .build();
     }
 
@@ -47,7 +61,9 @@ public class OutboxEventEntity {
                 .id(outboxEvent.getId())
                 .orderId(outboxEvent.getOrderId())
                 .orderStatus(outboxEvent.getOrderStatus())
+                .status(outboxEvent.getStatus())
                 .createdAt(outboxEvent.getCreatedAt())
+                .sentAt(outboxEvent.getSentAt())
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,40 @@
 package com.hh.ecom.outbox.infrastructure.persistence.jpa;
 
+import com.hh.ecom.outbox.domain.OutboxStatus;
 import com.hh.ecom.outbox.infrastructure.persistence.entity.OutboxEventEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, Long> {
     List<OutboxEventEntity> findByOrderId(Long orderId);
+
+    // lock.timeout = -2 → Hibernate 가 MySQL 에서 FOR UPDATE SKIP LOCKED 로 변환
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEventEntity e WHERE e.status = :status " +
+           "AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) ORDER BY e.id ASC")
+    List<OutboxEventEntity> findClaimableForUpdateSkipLocked(@Param("status") OutboxStatus status,
+                                                             @Param("now") LocalDateTime now,
+                                                             Limit limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEventEntity e SET e.claimedUntil = :claimedUntil WHERE e.id IN :ids")
+    int updateClaimedUntilByIdIn(@Param("ids") List<Long> ids,
+                                 @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEventEntity e SET e.status = :status, e.sentAt = :sentAt WHERE e.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") List<Long> ids,
+                           @Param("status") OutboxStatus status,
+                           @Param("sentAt") LocalDateTime sentAt);
 }
@@ -2,10 +2,13 @@ package com.hh.ecom.outbox.infrastructure.persistence.jpa;
 
 import com.hh.ecom.outbox.domain.OutboxEvent;
 import com.hh.ecom.outbox.domain.OutboxEventRepository;
+import com.hh.ecom.outbox.domain.OutboxStatus;
 import com.hh.ecom.outbox.infrastructure.persistence.entity.OutboxEventEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +30,35 @@ public class OutboxEventRepositoryImpl implements OutboxEventRepository {
                 .map(OutboxEventEntity::toDomain);
     }
 
+    @Override
+    public List<OutboxEvent> claimPendingBatch(int limit, LocalDateTime now, LocalDateTime claimedUntil) {
+        List<OutboxEvent> events = outboxEventJpaRepository
+                .findClaimableForUpdateSkipLocked(OutboxStatus.PENDING, now, Limit.of(limit))
+                .stream()
+                .map(OutboxEventEntity::toDomain)
+                .toList();
+        if (!events.isEmpty()) {
+            outboxEventJpaRepository.updateClaimedUntilByIdIn(events.stream().map(OutboxEvent::getId).toList(), claimedUntil);
+        }
+        return events;
+    }
+
+    @Override
+    public int releaseClaims(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return outboxEventJpaRepository.updateClaimedUntilByIdIn(ids, null);
+    }
+
+    @Override
+    public int markSent(List<Long> ids, LocalDateTime sentAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return outboxEventJpaRepository.updateStatusByIdIn(ids, OutboxStatus.SENT, sentAt);
+    }
+
     @Override
     public List<OutboxEvent> findByOrderId(Long orderId) {
         return outboxEventJpaRepository.findByOrderId(orderId)
@@ -1,8 +1,12 @@
 package com.hh.ecom.point.application;
 
+import com.hh.ecom.common.lock.LockDomain;
+import com.hh.ecom.common.lock.LockFencingContext;
+import com.hh.ecom.common.lock.exception.StaleLockTokenException;
 import com.hh.ecom.common.lock.util.LockKeyGenerator;
 import com.hh.ecom.common.lock.util.RedisLockExecutor;
 import com.hh.ecom.point.domain.Point;
+import com.hh.ecom.point.domain.PointRefundTarget;
 import com.hh.ecom.point.domain.PointRepository;
 import com.hh.ecom.point.domain.PointTransaction;
 import com.hh.ecom.point.domain.PointTransactionRepository;
@@ -14,11 +18,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -36,33 +47,27 @@ public class PointService {
         log.debug("포인트 사용 락 획득 시도: lockKey={}, userId={}, amount={}", lockKey, userId, amount);
 
         return redisLockExecutor.executeWithLock(List.of(lockKey), () ->
-            transactionTemplate.execute(status -> {
-                Point point = findPointByUserId(userId);
-
-                Point usedPoint = point.use(amount);
-                Point savedPoint = pointRepository.save(usedPoint);
-
-                savePointTransaction(PointTransactionCommand.builder()
-                        .pointId(savedPoint.getId())
-                        .amount(amount)
-                        .transactionType(TransactionType.USE)
-                        .orderId(orderId)
-                        .balanceAfter(savedPoint.getBalance())
-                        .build());
-
-                log.info("포인트 사용 완료: userId={}, amount={}, orderId={}, balance={}", userId, amount, orderId, savedPoint.getBalance());
-                return savedPoint;
-            })
+            transactionTemplate.execute(status -> usePointInternal(userId, amount, orderId))
         );
     }
 
+    /**
+     * 분산락 없이 호출 측 트랜잭션 안에서 포인트를 사용한다 (사용자 단위 직렬 처리가 보장된 주문 생성 전용)
+     * - 포인트 row 를 FOR UPDATE 로 읽으므로 충전/환불 등 다른 경로와는 DB row 락으로 직렬화된다
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Point usePointWithoutLock(Long userId, BigDecimal amount, Long orderId) {
+        return usePointInternal(userId, amount, orderId);
+    }
+
     public Point refundPoint(Long userId, BigDecimal amount, Long orderId) {
         String lockKey = lockKeyGenerator.generatePointLockKey(userId);
         log.debug("포인트 환불 락 획득 시도: lockKey={}, userId={}, amount={}", lockKey, userId, amount);
 
         return redisLockExecutor.executeWithLock(List.of(lockKey), () ->
             transactionTemplate.execute(status -> {
-                Point point = findPointByUserId(userId);
+                Point point = findPointByUserIdForUpdate(userId);
+                validateLockFence(userId);
 
                 Point refundedPoint = point.refund(amount);
                 Point savedPoint = pointRepository.save(refundedPoint);
@@ -81,6 +86,47 @@ public class PointService {
         );
     }
 
+    /**
+     * 취소/만료 주문의 포인트 일괄 환불 (OrderCompensationSweeper 전용, 호출 측 트랜잭션에 참여)
+     * - 주문별 순사용액(USE - REFUND)만 환불하므로 같은 주문을 다시 처리해도 중복 환불되지 않는다
+     * - 사용자별 분산락 없이 상대값 UPDATE 로 잔액을 올린다. 단건 경로는 포인트 row 를 FOR UPDATE 로 읽으므로 갱신이 유실되지 않는다
+     * - 환불 내역(REFUND)은 batch INSERT 로 한 번에 남긴다
+     *
+     * @return 환불된 주문 수
+     */
+    @Transactional
+    public int refundCanceledOrders(List<Long> orderIds) {
+        List<PointRefundTarget> targets = transactionRepository.findRefundTargetsByOrderIds(orderIds).stream()
+                .filter(PointRefundTarget::isRefundable)
+                .sorted(Comparator.comparing(PointRefundTarget::pointId).thenComparing(PointRefundTarget::orderId))
+                .toList();
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, BigDecimal> amountsByPointId = targets.stream()
+                .collect(Collectors.groupingBy(PointRefundTarget::pointId, TreeMap::new,
+                        Collectors.reducing(BigDecimal.ZERO, PointRefundTarget::amount, BigDecimal::add)));
+        pointRepository.increaseBalances(amountsByPointId);
+
+        // 갱신된 잔액에서 거꾸로 빼 가며 환불 건별 balanceAfter 를 계산한다 (같은 포인트의 여러 주문 환불 시 순차 잔액)
+        Map<Long, BigDecimal> balances = pointRepository.findByIdsIn(List.copyOf(amountsByPointId.keySet())).stream()
+                .collect(Collectors.toMap(Point::getId, Point::getBalance));
+        Map<Long, BigDecimal> remaining = new HashMap<>(amountsByPointId);
+
+        List<PointTransaction> ledger = targets.stream()
+                .map(target -> {
+                    BigDecimal balanceAfter = balances.get(target.pointId()).subtract(remaining.get(target.pointId())).add(target.amount());
+                    remaining.merge(target.pointId(), target.amount(), BigDecimal::subtract);
+                    return PointTransaction.create(target.pointId(), target.amount(), TransactionType.REFUND, target.orderId(), balanceAfter);
+                })
+                .toList();
+        transactionRepository.saveAll(ledger);
+
+        log.info("포인트 일괄 환불 완료: orders={}, points={}", targets.size(), amountsByPointId.size());
+        return targets.size();
+    }
+
     public Point chargePoint(Long userId, BigDecimal amount) {
         final String lockKey = lockKeyGenerator.generatePointLockKey(userId);
         log.debug("포인트 충전 락 획득 시도: lockKey={}, userId={}, amount={}", lockKey, userId, amount);
@@ -92,14 +138,34 @@ public class PointService {
         );
     }
 
+    private Point usePointInternal(Long userId, BigDecimal amount, Long orderId) {
+        Point point = findPointByUserIdForUpdate(userId);
+        validateLockFence(userId);
+
+        Point usedPoint = point.use(amount);
+        Point savedPoint = pointRepository.save(usedPoint);
+
+        savePointTransaction(PointTransactionCommand.builder()
+                .pointId(savedPoint.getId())
+                .amount(amount)
+                .transactionType(TransactionType.USE)
+                .orderId(orderId)
+                .balanceAfter(savedPoint.getBalance())
+                .build());
+
+        log.info("포인트 사용 완료: userId={}, amount={}, orderId={}, balance={}", userId, amount, orderId, savedPoint.getBalance());
+        return savedPoint;
+    }
+
     private Point chargePointInternal(Long userId, BigDecimal amount) {
         try {
-            Point point = pointRepository.findByUserId(userId)
+            Point point = pointRepository.findByUserIdForUpdate(userId)
                     .orElseGet(() -> {
                         // 계좌가 없으면 새로 생성
                         Point newPoint = Point.createWithUserId(userId);
                         return pointRepository.save(newPoint);
                     });
+            validateLockFence(userId);
 
             Point chargedPoint = point.charge(amount);
             Point savedPoint = pointRepository.save(chargedPoint);
@@ -116,8 +182,9 @@ public class PointService {
         } catch (DataIntegrityViolationException e) {
             log.debug("포인트 계좌 동시 생성 감지, 재조회 후 처리. userId={}", userId);
 
-            Point point = pointRepository.findByUserId(userId)
+            Point point = pointRepository.findByUserIdForUpdate(userId)
                     .orElseThrow(() -> new PointException(PointErrorCode.POINT_NOT_FOUND));
+            validateLockFence(userId);
 
             Point chargedPoint = point.charge(amount);
             Point savedPoint = pointRepository.save(chargedPoint);
@@ -159,10 +226,35 @@ public class PointService {
         return transactionRepository.findByPointId(point.getId());
     }
 
+    @Transactional(readOnly = true)
+    public Optional<Point> findPoint(Long userId) {
+        return pointRepository.findByUserId(userId);
+    }
+
     public boolean hasPointAccount(Long userId) {
         return pointRepository.findByUserId(userId).isPresent();
     }
 
+    private Point findPointByUserIdForUpdate(Long userId) {
+        return pointRepository.findByUserIdForUpdate(userId)
+                .orElseThrow(() -> new PointException(PointErrorCode.POINT_NOT_FOUND, "userId: " + userId));
+    }
+
+    /**
+     * 포인트 락을 보유 중이면 fencing token 을 row 에 기록한다
+     * - 더 큰 토큰이 이미 기록되어 있으면 lease 가 만료되어 다른 요청이 락을 가져간 것이므로 쓰기를 거부한다
+     * - 커밋 직전에 lease 유실 여부를 한 번 더 확인한다
+     */
+    private void validateLockFence(Long userId) {
+        LockFencingContext.currentToken(LockDomain.USER_POINT, userId).ifPresent(token -> {
+            LockFencingContext.guardCommit();
+            if (!pointRepository.advanceLockFence(userId, token)) {
+                log.warn("오래된 fencing token 으로 포인트 쓰기 거부: userId={}, token={}", userId, token);
+                throw new StaleLockTokenException("포인트 락이 만료되어 다른 요청이 선점했습니다. userId: " + userId);
+            }
+        });
+    }
+
     private Point findPointByUserId(Long userId) {
         return pointRepository.findByUserId(userId)
                 .orElseThrow(() -> new PointException(PointErrorCode.POINT_NOT_FOUND, "userId: " + userId));
@@ -0,0 +1,13 @@
+package com.hh.ecom.point.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 보상 시 환불해야 할 포인트
+ * - amount 는 해당 주문의 USE 합계에서 이미 환불된 REFUND 합계를 뺀 순사용액
+ */
+public record PointRefundTarget(Long pointId, Long orderId, BigDecimal amount) {
+    public boolean isRefundable() {
+        return amount != null && amount.signum() > 0;
+    }
+}
@@ -1,10 +1,33 @@
 package com.hh.ecom.point.domain;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PointRepository {
     Point save(Point point);
     Optional<Point> findById(Long id);
     Optional<Point> findByUserId(Long userId);
+
+    /**
+     * 잔액 변경 전 조회용 - 포인트 row 에 쓰기 락(SELECT ... FOR UPDATE)을 건다
+     * - 분산락 없이 상대값으로 잔액을 바꾸는 일괄 환불과 read-modify-write 가 섞여도 갱신이 유실되지 않는다
+     */
+    Optional<Point> findByUserIdForUpdate(Long userId);
+
+    List<Point> findByIdsIn(List<Long> ids);
+
+    /**
+     * 포인트별 금액만큼 잔액을 상대값으로 일괄 증가시킨다 (주문 보상 환불)
+     */
+    void increaseBalances(Map<Long, BigDecimal> amountsByPointId);
+
+    /**
+     * 사용자 포인트 row 의 fencing token 을 전진시킨다 (lock_fence <= token 일 때만)
+     *
+     * @return 이미 더 큰 토큰으로 쓰인 row 면 false
+     */
+    boolean advanceLockFence(Long userId, long token);
     void deleteAll(); // for testing
 }
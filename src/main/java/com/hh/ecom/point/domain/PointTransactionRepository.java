@@ -5,7 +5,17 @@ import java.util.Optional;
 
 public interface PointTransactionRepository {
     PointTransaction save(PointTransaction transaction);
+
+    /**
+     * 신규 거래 내역을 한 번의 batch INSERT 로 저장하고, DB 가 생성한 ID 를 채워 반환한다
+     */
+    List<PointTransaction> saveAll(List<PointTransaction> transactions);
     Optional<PointTransaction> findById(Long id);
+
+    /**
+     * 주문별 순사용액(USE - REFUND)을 (pointId, orderId) 단위로 집계한다 (GROUP BY 1회)
+     */
+    List<PointRefundTarget> findRefundTargetsByOrderIds(List<Long> orderIds);
     List<PointTransaction> findByPointId(Long pointId);
     void deleteAll(); // for testing
 }
@@ -31,6 +31,13 @@ public class PointEntity {
     @Column(nullable = false, precision = 19, scale = 2)
     private BigDecimal balance;
 
+    /**
+     * 마지막으로 쓰기에 성공한 분산 락 fencing token - 조건부 UPDATE 로만 갱신한다
+     */
+    @Column(name = "lock_fence", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long lockFence;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
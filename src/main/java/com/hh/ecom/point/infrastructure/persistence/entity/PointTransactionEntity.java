@@ -18,7 +18,7 @@ import java.util.function.Supplier;
  * PointTransaction JPA Entity
  */
 @Entity
-@Table(name = "point_transactions")
+@Table(name = "point_transactions", indexes = @Index(name = "idx_point_transactions_order_id", columnList = "order_id"))
 @Getter
 @Builder
 @NoArgsConstructor
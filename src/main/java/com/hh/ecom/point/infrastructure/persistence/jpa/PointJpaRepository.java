@@ -1,10 +1,26 @@
 package com.hh.ecom.point.infrastructure.persistence.jpa;
 
 import com.hh.ecom.point.infrastructure.persistence.entity.PointEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PointJpaRepository extends JpaRepository<PointEntity, Long> {
     Optional<PointEntity> findByUserId(Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PointEntity p WHERE p.userId = :userId")
+    Optional<PointEntity> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    List<PointEntity> findByIdIn(List<Long> ids);
+
+    @Modifying
+    @Query(value = "UPDATE points SET lock_fence = :token WHERE user_id = :userId AND lock_fence <= :token", nativeQuery = true)
+    int advanceLockFence(@Param("userId") Long userId, @Param("token") long token);
 }
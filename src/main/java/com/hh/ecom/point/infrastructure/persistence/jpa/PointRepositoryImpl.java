@@ -5,15 +5,24 @@ import com.hh.ecom.point.domain.PointRepository;
 import com.hh.ecom.point.infrastructure.persistence.entity.PointEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 @Repository
 @Primary
 @RequiredArgsConstructor
 public class PointRepositoryImpl implements PointRepository {
+    private static final String INCREASE_BALANCE_SQL =
+            "UPDATE points SET balance = balance + ?, updated_at = CURRENT_TIMESTAMP(6) WHERE id = ?";
+
     private final PointJpaRepository pointJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Point save(Point point) {
@@ -54,6 +63,42 @@ public class PointRepositoryImpl implements PointRepository {
                 .map(PointEntity::toDomain);
     }
 
+    @Override
+    public Optional<Point> findByUserIdForUpdate(Long userId) {
+        return pointJpaRepository.findByUserIdForUpdate(userId)
+                .map(PointEntity::toDomain);
+    }
+
+    @Override
+    public List<Point> findByIdsIn(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return pointJpaRepository.findByIdIn(ids).stream()
+                .map(PointEntity::toDomain)
+                .toList();
+    }
+
+    /**
+     * 상대값 UPDATE 를 JDBC batch 로 한 번에 전송한다 - 포인트 ID 오름차순으로 row lock 획득 순서를 고정한다
+     */
+    @Override
+    public void increaseBalances(Map<Long, BigDecimal> amountsByPointId) {
+        if (amountsByPointId == null || amountsByPointId.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new TreeMap<>(amountsByPointId).entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate(INCREASE_BALANCE_SQL, batchArgs);
+    }
+
+    @Override
+    public boolean advanceLockFence(Long userId, long token) {
+        return pointJpaRepository.advanceLockFence(userId, token) > 0;
+    }
+
     @Override
     public void deleteAll() {
         pointJpaRepository.deleteAll();
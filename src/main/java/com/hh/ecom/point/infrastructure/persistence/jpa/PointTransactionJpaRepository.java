@@ -1,10 +1,29 @@
 package com.hh.ecom.point.infrastructure.persistence.jpa;
 
+import com.hh.ecom.point.domain.TransactionType;
 import com.hh.ecom.point.infrastructure.persistence.entity.PointTransactionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 public interface PointTransactionJpaRepository extends JpaRepository<PointTransactionEntity, Long> {
     List<PointTransactionEntity> findByPointId(Long pointId);
+
+    @Query("SELECT t.pointId AS pointId, t.orderId AS orderId, " +
+           "SUM(CASE WHEN t.type = :use THEN t.amount ELSE -t.amount END) AS netAmount " +
+           "FROM PointTransactionEntity t " +
+           "WHERE t.orderId IN :orderIds AND t.type IN (:use, :refund) " +
+           "GROUP BY t.pointId, t.orderId")
+    List<OrderNetAmountProjection> sumNetUsedAmountByOrderIdIn(@Param("orderIds") List<Long> orderIds,
+                                                               @Param("use") TransactionType use,
+                                                               @Param("refund") TransactionType refund);
+
+    interface OrderNetAmountProjection {
+        Long getPointId();
+        Long getOrderId();
+        BigDecimal getNetAmount();
+    }
 }
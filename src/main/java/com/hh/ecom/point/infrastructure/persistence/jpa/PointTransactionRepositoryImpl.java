@@ -1,20 +1,42 @@
 package com.hh.ecom.point.infrastructure.persistence.jpa;
 
+import com.hh.ecom.point.domain.PointRefundTarget;
 import com.hh.ecom.point.domain.PointTransaction;
 import com.hh.ecom.point.domain.PointTransactionRepository;
+import com.hh.ecom.point.domain.TransactionType;
 import com.hh.ecom.point.infrastructure.persistence.entity.PointTransactionEntity;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Repository
 @Primary
 @RequiredArgsConstructor
 public class PointTransactionRepositoryImpl implements PointTransactionRepository {
+    private static final String INSERT_POINT_TRANSACTION_SQL =
+            "INSERT INTO point_transactions (point_id, amount, type, order_id, balance_after, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
     private final PointTransactionJpaRepository pointTransactionJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
     @Override
     public PointTransaction save(PointTransaction transaction) {
@@ -23,12 +45,80 @@ public class PointTransactionRepositoryImpl implements PointTransactionRepositor
         return saved.toDomain();
     }
 
+    /**
+     * JDBC batch INSERT (rewriteBatchedStatements 로 multi-row INSERT 1회 왕복) 후 생성 키를 순서대로 매핑한다
+     */
+    @Override
+    public List<PointTransaction> saveAll(List<PointTransaction> transactions) {
+        if (transactions.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PointTransaction> rows = transactions.stream()
+                .map(tx -> tx.toBuilder()
+                        .createdAt(Objects.requireNonNullElse(tx.getCreatedAt(), now))
+                        .build())
+                .toList();
+
+        // 같은 트랜잭션에서 JPA 로 변경된 포인트(points) 가 쓰기 지연 중일 수 있으므로 먼저 flush (point_id FK)
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_POINT_TRANSACTION_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PointTransaction tx = rows.get(i);
+                        ps.setLong(1, tx.getPointId());
+                        ps.setBigDecimal(2, tx.getAmount());
+                        ps.setString(3, tx.getType().name());
+                        if (tx.getOrderId() != null) {
+                            ps.setLong(4, tx.getOrderId());
+                        } else {
+                            ps.setNull(4, Types.BIGINT);
+                        }
+                        ps.setBigDecimal(5, tx.getBalanceAfter());
+                        ps.setTimestamp(6, Timestamp.valueOf(tx.getCreatedAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<PointTransaction> saved = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            saved.add(rows.get(i).toBuilder().id(id.longValue()).build());
+        }
+        return saved;
+    }
+
     @Override
     public Optional<PointTransaction> findById(Long id) {
         return pointTransactionJpaRepository.findById(id)
                 .map(PointTransactionEntity::toDomain);
     }
 
+    @Override
+    public List<PointRefundTarget> findRefundTargetsByOrderIds(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return pointTransactionJpaRepository.sumNetUsedAmountByOrderIdIn(orderIds, TransactionType.USE, TransactionType.REFUND)
+                .stream()
+                .map(row -> new PointRefundTarget(row.getPointId(), row.getOrderId(), row.getNetAmount()))
+                .toList();
+    }
+
     @Override
     public List<PointTransaction> findByPointId(Long pointId) {
         return pointTransactionJpaRepository.findByPointId(pointId).stream()
@@ -0,0 +1,140 @@
+package com.hh.ecom.product.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 상품별 재고 쓰기 충돌률 추적 및 동시성 제어 방식 선택
+ *
+ * <p>대부분의 상품은 동시 주문이 드물어 분산 락 없이 버전 조건부 UPDATE(낙관적 방식)로 충분합니다.
+ * 낙관적 차감의 결과(성공/버전 충돌)를 상품별 지수 이동 평균으로 집계하고,
+ * 충돌률이 임계치를 넘은 상품만 일정 시간(hot-hold) 동안 분산 락 대상으로 승격합니다.
+ * 락 아래에서는 충돌이 관측되지 않으므로, hold 가 끝나면 다시 낙관적 방식으로 돌아가 충돌률을 새로 잽니다.
+ *
+ * <p>추적 상품 수가 상한을 넘으면 가장 오래 관측되지 않은 절반을 버립니다.
+ */
+@Slf4j
+@Component
+public class ProductContentionTracker {
+    private final double conflictRateThreshold;
+    private final double smoothingFactor;
+    private final long hotHoldMs;
+    private final int maxTrackedProducts;
+    private final LongSupplier clock;
+
+    private final Map<Long, ContentionStats> stats = new ConcurrentHashMap<>();
+
+    public ProductContentionTracker(
+            @Value("${product.contention.conflict-rate-threshold:0.2}") double conflictRateThreshold,
+            @Value("${product.contention.smoothing-factor:0.1}") double smoothingFactor,
+            @Value("${product.contention.hot-hold-ms:30000}") long hotHoldMs,
+            @Value("${product.contention.max-tracked-products:10000}") int maxTrackedProducts
+    ) {
+        this(conflictRateThreshold, smoothingFactor, hotHoldMs, maxTrackedProducts, System::currentTimeMillis);
+    }
+
+    ProductContentionTracker(double conflictRateThreshold, double smoothingFactor, long hotHoldMs,
+                             int maxTrackedProducts, LongSupplier clock) {
+        this.conflictRateThreshold = conflictRateThreshold;
+        this.smoothingFactor = smoothingFactor;
+        this.hotHoldMs = hotHoldMs;
+        this.maxTrackedProducts = maxTrackedProducts;
+        this.clock = clock;
+    }
+
+    /**
+     * 분산 락으로 보호해야 하는(최근 충돌률이 높은) 상품만 골라낸다
+     */
+    public List<Long> selectLockRequired(Collection<Long> productIds) {
+        long now = clock.getAsLong();
+        return productIds.stream()
+                .distinct()
+                .filter(productId -> isHot(productId, now))
+                .toList();
+    }
+
+    public void recordSuccesses(Collection<Long> productIds) {
+        productIds.forEach(productId -> record(productId, false));
+    }
+
+    public void recordConflicts(Collection<Long> productIds) {
+        productIds.forEach(productId -> record(productId, true));
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    private boolean isHot(Long productId, long now) {
+        ContentionStats productStats = stats.get(productId);
+        return productStats != null && productStats.isHot(now);
+    }
+
+    private void record(Long productId, boolean conflicted) {
+        long now = clock.getAsLong();
+        ContentionStats productStats = statsOf(productId);
+        if (productStats.record(conflicted, now)) {
+            log.info("재고 충돌률 임계치 초과 - 분산 락으로 전환: productId={}, holdMs={}", productId, hotHoldMs);
+        }
+    }
+
+    private ContentionStats statsOf(Long productId) {
+        ContentionStats productStats = stats.get(productId);
+        if (productStats != null) {
+            return productStats;
+        }
+        if (stats.size() >= maxTrackedProducts) {
+            evictIdleProducts();
+        }
+        return stats.computeIfAbsent(productId, id -> new ContentionStats());
+    }
+
+    private synchronized void evictIdleProducts() {
+        if (stats.size() < maxTrackedProducts) {
+            return;
+        }
+        stats.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastSeenAt))
+                .limit(stats.size() / 2)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(stats::remove);
+    }
+
+    private class ContentionStats {
+        private double conflictRate;
+        private long hotUntil;
+        private volatile long lastSeenAt;
+
+        synchronized boolean isHot(long now) {
+            return now < hotUntil;
+        }
+
+        /**
+         * @return 이번 기록으로 새로 분산 락 대상이 되었으면 true
+         */
+        synchronized boolean record(boolean conflicted, long now) {
+            lastSeenAt = now;
+            conflictRate += smoothingFactor * ((conflicted ? 1.0 : 0.0) - conflictRate);
+            if (conflictRate < conflictRateThreshold) {
+                return false;
+            }
+
+            boolean escalated = now >= hotUntil;
+            hotUntil = now + hotHoldMs;
+            if (escalated) {
+                // hold 가 끝난 뒤 다시 충돌하면 빠르게 재승격되도록 임계치 절반에서 다시 잰다
+                conflictRate = conflictRateThreshold / 2;
+            }
+            return escalated;
+        }
+    }
+}
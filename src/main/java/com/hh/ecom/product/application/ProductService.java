@@ -1,24 +1,36 @@
 package com.hh.ecom.product.application;
 
+import com.hh.ecom.common.lock.LockDomain;
+import com.hh.ecom.common.lock.LockFencingContext;
+import com.hh.ecom.common.lock.exception.StaleLockTokenException;
 import com.hh.ecom.product.domain.Product;
 import com.hh.ecom.product.domain.ProductRepository;
+import com.hh.ecom.product.domain.StockDecreaseResult;
 import com.hh.ecom.product.domain.ViewCountRepository;
 import com.hh.ecom.product.domain.exception.ProductErrorCode;
 import com.hh.ecom.product.domain.exception.ProductException;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 상품 서비스
  * - 상품 조회 및 재고 관리만 담당
  */
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -29,6 +41,7 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final ViewCountRepository viewCountRepository;
     private final SalesRankingRepository salesRankingRepository;
+    private final ProductContentionTracker contentionTracker;
 
     public Page<Product> getProductList(Pageable pageable) {
         return productRepository.findAll(pageable);
@@ -48,11 +61,99 @@ public class ProductService {
         return findProductById(id);
     }
 
+    /**
+     * 여러 상품의 재고를 한 번에 차감한다.
+     * - 하나라도 차감에 실패하면 예외를 던져 트랜잭션 전체를 롤백한다
+     * - 상품 락을 보유 중인 상품: fencing token 을 먼저 기록하여 lease 만료 후 늦게 도착한 쓰기를 거부하고, 조건부 UPDATE 로 차감
+     * - 락 없이 들어온 상품: 재고 버전 조건부 UPDATE 로 차감하고, 버전 충돌 시 OptimisticLockingFailureException
+     *   (호출 측이 backoff 후 재시도하며, 충돌률이 높은 상품은 ProductContentionTracker 가 분산 락 대상으로 올린다)
+     */
     @Transactional
-    public void decreaseProductStock(Long productId, Integer quantity) {
-        Product product = findProductById(productId);
-        Product decreased = product.decreaseStock(quantity);
-        productRepository.save(decreased);
+    public void decreaseProductStocks(Map<Long, Integer> productQuantities) {
+        if (productQuantities == null || productQuantities.isEmpty()) {
+            return;
+        }
+        productQuantities.forEach((productId, quantity) -> {
+            if (quantity == null || quantity <= 0) {
+                throw new ProductException(ProductErrorCode.INVALID_STOCK_QUANTITY, "ID: " + productId, quantity);
+            }
+        });
+
+        Map<Long, Long> tokens = LockFencingContext.currentTokens(LockDomain.PRODUCT, productQuantities.keySet());
+        Map<Long, Integer> lockedQuantities = new HashMap<>();
+        Map<Long, Integer> optimisticQuantities = new HashMap<>();
+        productQuantities.forEach((productId, quantity) ->
+                (tokens.containsKey(productId) ? lockedQuantities : optimisticQuantities).put(productId, quantity));
+
+        decreaseLockedStocks(lockedQuantities, tokens);
+        decreaseStocksOptimistically(optimisticQuantities);
+    }
+
+    private void decreaseLockedStocks(Map<Long, Integer> productQuantities, Map<Long, Long> tokens) {
+        if (productQuantities.isEmpty()) {
+            return;
+        }
+        validateLockFences(tokens);
+
+        StockDecreaseResult result = productRepository.decreaseStocks(productQuantities);
+        if (!result.isAllSucceeded()) {
+            throw new ProductException(ProductErrorCode.INSUFFICIENT_STOCK, "IDs: " + result.getFailedProductIds());
+        }
+    }
+
+    private void validateLockFences(Map<Long, Long> tokens) {
+        LockFencingContext.guardCommit();
+        List<Long> rejected = productRepository.advanceLockFences(tokens);
+        if (!rejected.isEmpty()) {
+            log.warn("오래된 fencing token 으로 재고 쓰기 거부: productIds={}", rejected);
+            throw new StaleLockTokenException("상품 락이 만료되어 다른 요청이 선점했습니다. productIds: " + rejected);
+        }
+    }
+
+    /**
+     * 재고와 버전을 읽고, 재고가 충분하면 읽은 버전 그대로일 때만 차감한다
+     * - 재고 부족은 읽은 값으로 판단하여 ProductException, 그 사이 다른 쓰기가 끼어든 경우만 버전 충돌로 본다
+     */
+    private void decreaseStocksOptimistically(Map<Long, Integer> productQuantities) {
+        if (productQuantities.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Product> products = productRepository.findByIdsIn(List.copyOf(productQuantities.keySet())).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Long> insufficient = productQuantities.entrySet().stream()
+                .filter(entry -> !products.containsKey(entry.getKey()) || !products.get(entry.getKey()).hasEnoughStock(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        if (!insufficient.isEmpty()) {
+            throw new ProductException(ProductErrorCode.INSUFFICIENT_STOCK, "IDs: " + insufficient);
+        }
+
+        Map<Long, Long> versions = products.values().stream()
+                .collect(Collectors.toMap(Product::getId, product -> Objects.requireNonNullElse(product.getStockVersion(), 0L)));
+        StockDecreaseResult result = productRepository.decreaseStocksIfUnchanged(productQuantities, versions);
+        if (!result.isAllSucceeded()) {
+            contentionTracker.recordConflicts(result.getFailedProductIds());
+            log.debug("재고 버전 충돌: productIds={}", result.getFailedProductIds());
+            throw new OptimisticLockingFailureException("재고 버전 충돌: productIds=" + result.getFailedProductIds());
+        }
+        contentionTracker.recordSuccesses(productQuantities.keySet());
+    }
+
+    /**
+     * 여러 상품의 재고를 한 번에 복원한다 (주문 보상 전용, 호출 측 트랜잭션에 참여)
+     */
+    @Transactional
+    public void increaseProductStocks(Map<Long, Integer> productQuantities) {
+        if (productQuantities == null || productQuantities.isEmpty()) {
+            return;
+        }
+
+        int restored = productRepository.increaseStocks(productQuantities);
+        if (restored < productQuantities.size()) {
+            log.warn("재고 복원 대상 상품 일부가 존재하지 않습니다: requested={}, restored={}", productQuantities.size(), restored);
+        }
     }
 
     public List<Product> getTopBySalesCount(int limit) {
@@ -0,0 +1,85 @@
+package com.hh.ecom.product.application;
+
+import com.hh.ecom.product.domain.StockReservationRepository;
+import com.hh.ecom.product.domain.exception.ProductErrorCode;
+import com.hh.ecom.product.domain.exception.ProductException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 주문 전 재고 예약 서비스
+ * - 주문 락/트랜잭션 진입 전에 Redis Lua 스크립트 1회로 주문의 모든 상품 라인을 예약하여, 품절 주문을 DB 락 없이 거절한다
+ * - 예약은 주문 커밋 후 확정(confirm), 실패 시 해제(release) 하며, 어느 쪽도 호출되지 못한 예약은 만료 후 reconciler 가 해제한다
+ * - Redis 장애 시에는 예약을 건너뛰고 DB 조건부 재고 차감에 정합성을 맡긴다 (예약 ID = null)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+    private final StockReservationRepository stockReservationRepository;
+
+    @Value("${product.stock-reservation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${product.stock-reservation.ttl-ms:30000}")
+    private long reservationTtlMs;
+
+    /**
+     * @param productQuantities 상품별 주문 수량
+     * @param dbStocks          주문 스냅샷에서 읽은 상품별 DB 재고
+     * @return 예약 ID (예약을 건너뛴 경우 null)
+     * @throws ProductException 재고가 부족한 상품이 있는 경우 (INSUFFICIENT_STOCK)
+     */
+    public String reserve(Map<Long, Integer> productQuantities, Map<Long, Integer> dbStocks) {
+        if (!enabled || productQuantities.isEmpty()) {
+            return null;
+        }
+
+        String reservationId = UUID.randomUUID().toString();
+        List<Long> insufficientProductIds;
+        try {
+            insufficientProductIds = stockReservationRepository.reserve(
+                    reservationId, productQuantities, dbStocks, System.currentTimeMillis() + reservationTtlMs);
+        } catch (Exception e) {
+            log.warn("재고 예약 실패 (Redis), DB 재고 차감으로 진행: error={}", e.getMessage());
+            return null;
+        }
+
+        if (!insufficientProductIds.isEmpty()) {
+            throw new ProductException(ProductErrorCode.INSUFFICIENT_STOCK, "IDs: " + insufficientProductIds);
+        }
+
+        log.debug("재고 예약 완료: reservationId={}, quantities={}", reservationId, productQuantities);
+        return reservationId;
+    }
+
+    public void confirm(String reservationId) {
+        if (reservationId == null) {
+            return;
+        }
+        try {
+            stockReservationRepository.confirm(reservationId);
+        } catch (Exception e) {
+            // 만료 후 reconciler 가 해제하더라도 미러는 주기적 동기화로 DB 재고에 수렴한다
+            log.warn("재고 예약 확정 실패: reservationId={}, error={}", reservationId, e.getMessage());
+        }
+    }
+
+    public void release(String reservationId) {
+        if (reservationId == null) {
+            return;
+        }
+        try {
+            stockReservationRepository.release(reservationId);
+        } catch (Exception e) {
+            log.warn("재고 예약 해제 실패, 만료 후 reconciler 가 해제합니다: reservationId={}, error={}",
+                    reservationId, e.getMessage());
+        }
+    }
+}
@@ -24,6 +24,11 @@ public class Product {
     private final Boolean isActive;
     private final LocalDateTime deletedAt;
 
+    /**
+     * 재고 변경 시마다 1 증가 - 분산 락 없이 재고를 차감할 때 조회 이후 변경 여부를 판단한다
+     */
+    private final Long stockVersion;
+
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
 
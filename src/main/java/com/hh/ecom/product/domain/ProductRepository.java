@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductRepository {
@@ -13,6 +14,38 @@ public interface ProductRepository {
     List<Product> findByIdsIn(List<Long> ids);
     List<Product> findByIdsInForUpdate(List<Long> ids);
 
+    /**
+     * 상품별 수량만큼 재고를 일괄 차감한다.
+     * - 재고가 충분한 상품만 차감되며(stock_quantity >= 수량), 차감되지 않은 상품은 결과에 담긴다
+     * - 일부 실패 시 롤백은 호출 측 트랜잭션의 책임이다
+     */
+    StockDecreaseResult decreaseStocks(Map<Long, Integer> productQuantities);
+
+    /**
+     * 상품별 수량만큼 재고를 일괄 복원한다 (주문 취소/만료 보상)
+     *
+     * @return 복원된 상품 수
+     */
+    int increaseStocks(Map<Long, Integer> productQuantities);
+
+    /**
+     * 조회한 재고 버전이 그대로인 상품만 재고를 차감한다 (분산 락 없는 낙관적 차감)
+     *
+     * @param productQuantities 상품 ID → 차감 수량
+     * @param expectedVersions 상품 ID → 조회 시점의 재고 버전
+     * @return 버전이 바뀌었거나 재고가 부족해 차감되지 않은 상품 ID
+     */
+    StockDecreaseResult decreaseStocksIfUnchanged(Map<Long, Integer> productQuantities, Map<Long, Long> expectedVersions);
+
+    /**
+     * 상품별 fencing token 을 기록한다. 이미 더 큰 토큰이 기록된 상품은 갱신하지 않는다
+     * - 갱신된 행은 트랜잭션 종료까지 row lock 이 잡히므로, 이후 같은 트랜잭션의 재고 쓰기는 오래된 락 보유자와 섞이지 않는다
+     *
+     * @param tokensByProductId 상품 ID → 현재 보유한 락의 fencing token
+     * @return 더 큰 토큰이 이미 기록되어 거부된 상품 ID
+     */
+    List<Long> advanceLockFences(Map<Long, Long> tokensByProductId);
+
     List<Product> findTopByViewCount(Integer limit);
     List<Product> findTopBySalesCount(Integer limit);
     List<Product> findTopByViewCountInRecentDays(Integer days, Integer limit);
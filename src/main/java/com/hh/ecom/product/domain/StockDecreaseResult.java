@@ -0,0 +1,26 @@
+package com.hh.ecom.product.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 재고 차감 결과
+ * - 재고 부족 또는 존재하지 않는 상품으로 차감되지 않은 상품 ID 목록을 담는다
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StockDecreaseResult {
+    private final int requestedCount;
+    private final List<Long> failedProductIds;
+
+    public static StockDecreaseResult of(final int requestedCount, final List<Long> failedProductIds) {
+        return new StockDecreaseResult(requestedCount, List.copyOf(failedProductIds));
+    }
+
+    public boolean isAllSucceeded() {
+        return failedProductIds.isEmpty();
+    }
+}
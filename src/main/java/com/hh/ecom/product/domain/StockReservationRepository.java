@@ -0,0 +1,57 @@
+package com.hh.ecom.product.domain;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문 전 재고 예약 저장소 (Redis 재고 미러)
+ * - 상품 재고의 최종 원본은 DB(products.stock_quantity) 이며, 미러는 품절 주문을 DB 락 이전에 빠르게 거절하기 위한 용도
+ * - 미러 값 = DB 재고 - 아직 확정/해제되지 않은 예약 수량
+ */
+public interface StockReservationRepository {
+
+    /**
+     * 주문의 모든 상품 라인을 원자적으로 예약한다 (하나라도 부족하면 아무것도 차감하지 않음)
+     *
+     * @param reservationId   예약 ID
+     * @param quantities      상품별 예약 수량
+     * @param dbStocks        호출 측이 읽은 상품별 DB 재고 (미러가 없을 때 초기값 계산에만 사용)
+     * @param expireAtMillis  예약 만료 시각 (epoch ms) - 만료된 예약은 reconciler 가 해제
+     * @return 재고가 부족한 상품 ID 목록 (비어있으면 예약 성공)
+     */
+    List<Long> reserve(String reservationId, Map<Long, Integer> quantities, Map<Long, Integer> dbStocks, long expireAtMillis);
+
+    /**
+     * 예약을 해제하고 미러 재고를 복구한다 (주문 실패)
+     *
+     * @return 해제된 예약이 있었는지 여부
+     */
+    boolean release(String reservationId);
+
+    /**
+     * 예약을 확정한다 (DB 재고 차감 커밋 완료, 미러 재고는 차감된 상태 유지)
+     *
+     * @return 확정된 예약이 있었는지 여부
+     */
+    boolean confirm(String reservationId);
+
+    List<String> findExpiredReservationIds(long nowMillis, int limit);
+
+    Set<Long> findMirroredProductIds();
+
+    /**
+     * 상품별 예약 epoch (확정/해제될 때마다 증가) - DB 재고를 읽기 전에 조회해 {@link #syncStocks} 에 넘긴다
+     */
+    Map<Long, Long> findReservationEpochs(List<Long> productIds);
+
+    /**
+     * DB 재고 기준으로 미러를 재계산한다
+     * - 진행 중 예약이 있거나 epochs 조회 이후 확정/해제된 상품은 DB 재고가 예약 반영 전/후 어느 쪽인지 알 수 없으므로 건너뛴다
+     *
+     * @param dbStocks 상품별 DB 재고
+     * @param epochs   DB 재고를 읽기 전에 조회한 상품별 예약 epoch
+     * @return 미러를 갱신한 상품 수
+     */
+    int syncStocks(Map<Long, Integer> dbStocks, Map<Long, Long> epochs);
+}
@@ -45,6 +45,20 @@ public class ProductEntity {
 
     private LocalDateTime deletedAt;
 
+    /**
+     * 마지막으로 쓰기에 성공한 분산 락 fencing token - JDBC 조건부 UPDATE 로만 갱신한다
+     */
+    @Column(name = "lock_fence", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long lockFence;
+
+    /**
+     * 재고 변경 버전 - 재고를 바꾸는 JDBC UPDATE 가 함께 증가시킨다
+     */
+    @Column(name = "stock_version", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long stockVersion;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -63,6 +77,7 @@ public class ProductEntity {
                 .viewCount(this.viewCount)
                 .isActive(this.isActive)
                 .deletedAt(this.deletedAt)
+                .stockVersion(this.stockVersion)
                 .createdAt(this.createdAt)
                 .updatedAt(this.updatedAt)
                 .build();
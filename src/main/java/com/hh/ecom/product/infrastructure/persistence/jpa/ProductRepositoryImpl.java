@@ -4,27 +4,45 @@ import com.hh.ecom.order.domain.ProductSalesCount;
 import com.hh.ecom.order.infrastructure.persistence.jpa.OrderItemJpaRepository;
 import com.hh.ecom.product.domain.Product;
 import com.hh.ecom.product.domain.ProductRepository;
+import com.hh.ecom.product.domain.StockDecreaseResult;
 import com.hh.ecom.product.domain.ViewCountRepository;
 import com.hh.ecom.product.infrastructure.persistence.entity.ProductEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Primary
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepository {
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE products SET stock_quantity = stock_quantity - ?, stock_version = stock_version + 1, " +
+            "updated_at = CURRENT_TIMESTAMP(6) WHERE id = ? AND stock_quantity >= ?";
+    private static final String DECREASE_STOCK_IF_UNCHANGED_SQL =
+            "UPDATE products SET stock_quantity = stock_quantity - ?, stock_version = stock_version + 1, " +
+            "updated_at = CURRENT_TIMESTAMP(6) WHERE id = ? AND stock_version = ? AND stock_quantity >= ?";
+    private static final String INCREASE_STOCK_SQL =
+            "UPDATE products SET stock_quantity = stock_quantity + ?, stock_version = stock_version + 1, " +
+            "updated_at = CURRENT_TIMESTAMP(6) WHERE id = ?";
+    private static final String ADVANCE_LOCK_FENCE_SQL =
+            "UPDATE products SET lock_fence = ? WHERE id = ? AND lock_fence <= ?";
+
     private final ProductJpaRepository productJpaRepository;
     private final OrderItemJpaRepository orderItemJpaRepository;
     private final ViewCountRepository viewCountRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Page<Product> findAll(Pageable pageable) {
@@ -60,6 +78,90 @@ public class ProductRepositoryImpl implements ProductRepository {
                 .toList();
     }
 
+    /**
+     * 조건부 UPDATE 를 JDBC batch 로 한 번에 전송한다 (rewriteBatchedStatements 사용 시 단일 round trip).
+     * - 영향받은 row 가 0 인 상품은 재고 부족(또는 미존재)으로 판단한다
+     * - 상품 ID 오름차순으로 전송하여 row lock 획득 순서를 고정한다
+     */
+    @Override
+    public StockDecreaseResult decreaseStocks(Map<Long, Integer> productQuantities) {
+        if (productQuantities == null || productQuantities.isEmpty()) {
+            return StockDecreaseResult.of(0, List.of());
+        }
+
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(new TreeMap<>(productQuantities).entrySet());
+        List<Object[]> batchArgs = entries.stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey(), entry.getValue()})
+                .toList();
+
+        int[] affectedRows = jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, batchArgs);
+        return toStockDecreaseResult(entries, affectedRows);
+    }
+
+    /**
+     * decreaseStocks 와 같은 batch 에 버전 조건만 더한다 - 0 row 는 버전 충돌 또는 재고 부족
+     */
+    @Override
+    public StockDecreaseResult decreaseStocksIfUnchanged(Map<Long, Integer> productQuantities, Map<Long, Long> expectedVersions) {
+        if (productQuantities == null || productQuantities.isEmpty()) {
+            return StockDecreaseResult.of(0, List.of());
+        }
+
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(new TreeMap<>(productQuantities).entrySet());
+        List<Object[]> batchArgs = entries.stream()
+                .map(entry -> new Object[]{
+                        entry.getValue(), entry.getKey(), expectedVersions.get(entry.getKey()), entry.getValue()
+                })
+                .toList();
+
+        int[] affectedRows = jdbcTemplate.batchUpdate(DECREASE_STOCK_IF_UNCHANGED_SQL, batchArgs);
+        return toStockDecreaseResult(entries, affectedRows);
+    }
+
+    /**
+     * 상대값 UPDATE 를 JDBC batch 로 한 번에 전송한다 - 읽기 없이 더하므로 동시 차감과 경합해도 유실되지 않는다
+     * - decreaseStocks 와 같은 상품 ID 오름차순으로 전송하여 row lock 획득 순서를 맞춘다
+     */
+    @Override
+    public int increaseStocks(Map<Long, Integer> productQuantities) {
+        if (productQuantities == null || productQuantities.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> batchArgs = new TreeMap<>(productQuantities).entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        int[] affectedRows = jdbcTemplate.batchUpdate(INCREASE_STOCK_SQL, batchArgs);
+        return (int) Arrays.stream(affectedRows).filter(rows -> rows > 0).count();
+    }
+
+    /**
+     * MySQL Connector/J 기본값(useAffectedRows=false)에서는 값이 같아도 매칭된 행 수를 반환하므로,
+     * 같은 토큰으로 다시 기록(재진입)해도 거부로 판단하지 않는다
+     */
+    @Override
+    public List<Long> advanceLockFences(Map<Long, Long> tokensByProductId) {
+        if (tokensByProductId == null || tokensByProductId.isEmpty()) {
+            return List.of();
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(tokensByProductId).entrySet());
+        List<Object[]> batchArgs = entries.stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey(), entry.getValue()})
+                .toList();
+
+        int[] affectedRows = jdbcTemplate.batchUpdate(ADVANCE_LOCK_FENCE_SQL, batchArgs);
+
+        List<Long> rejectedProductIds = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (affectedRows[i] == 0) {
+                rejectedProductIds.add(entries.get(i).getKey());
+            }
+        }
+        return rejectedProductIds;
+    }
+
     @Override
     public List<Product> findTopByViewCount(Integer limit) {
         if (limit == null || limit <= 0) {
@@ -127,6 +229,16 @@ public class ProductRepositoryImpl implements ProductRepository {
         productJpaRepository.deleteAll();
     }
 
+    private static StockDecreaseResult toStockDecreaseResult(List<Map.Entry<Long, Integer>> entries, int[] affectedRows) {
+        List<Long> failedProductIds = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (affectedRows[i] == 0) {
+                failedProductIds.add(entries.get(i).getKey());
+            }
+        }
+        return StockDecreaseResult.of(entries.size(), failedProductIds);
+    }
+
     private List<Product> getTopProductsInSalesCount(List<ProductSalesCount> salesCounts) {
         List<Long> topProductIds = salesCounts.stream()
                 .map(ProductSalesCount::getProductId)
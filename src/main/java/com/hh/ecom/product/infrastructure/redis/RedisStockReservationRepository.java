@@ -0,0 +1,248 @@
+package com.hh.ecom.product.infrastructure.redis;
+
+import com.hh.ecom.product.domain.StockReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 재고 미러 + 예약 원장
+ *
+ * <pre>
+ * {stock}:product:{productId}        STRING  미러 재고
+ * {stock}:reserved                   HASH    productId → 진행 중 예약 수량 합계
+ * {stock}:reservation:{reservationId} HASH   productId → 예약 수량
+ * {stock}:reservations               ZSET    reservationId (score = 만료 시각 ms)
+ * {stock}:products                   SET     미러가 존재하는 productId
+ * {stock}:epochs                     HASH    productId → 확정/해제된 예약 수 (동기화 스냅샷 비교용)
+ * </pre>
+ *
+ * - 모든 키가 같은 hash tag({stock}) 를 가지므로 Lua 스크립트에서 함께 다룰 수 있다
+ * - 예약/해제/확정은 각각 Lua 스크립트 1회 호출로 원자적으로 처리된다
+ */
+@Slf4j
+@Repository
+public class RedisStockReservationRepository implements StockReservationRepository {
+    private static final String STOCK_KEY_PREFIX = "{stock}:product:";
+    private static final String RESERVED_KEY = "{stock}:reserved";
+    private static final String RESERVATION_KEY_PREFIX = "{stock}:reservation:";
+    private static final String RESERVATIONS_KEY = "{stock}:reservations";
+    private static final String PRODUCTS_KEY = "{stock}:products";
+    private static final String EPOCHS_KEY = "{stock}:epochs";
+
+    /**
+     * KEYS[1]=reserved, KEYS[2]=reservations, KEYS[3]=reservation, KEYS[4]=products, KEYS[5..]=상품별 미러 재고
+     * ARGV[1]=reservationId, ARGV[2]=만료 시각, 이후 상품별 (productId, 수량, DB 재고)
+     * 미러가 없을 때만 (DB 재고 - 예약 수량) 으로 채운 뒤 판정 → 부족 상품 ID 목록 반환
+     * - DB 재고는 락 없이 읽은 스냅샷이라 오래된 값일 수 있으므로 기존 미러를 덮어쓰지 않는다 (품절 상품이 다시 열리는 것 방지)
+     * - 미러가 어긋난 경우의 보정은 StockReservationReconciler 의 주기적 동기화에 맡긴다
+     */
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+                return {}
+            end
+            local n = #KEYS - 4
+            local insufficient = {}
+            for i = 1, n do
+                local base = 2 + (i - 1) * 3
+                local pid = ARGV[base + 1]
+                local qty = tonumber(ARGV[base + 2])
+                local current = redis.call('GET', KEYS[4 + i])
+                if current == false then
+                    local fresh = tonumber(ARGV[base + 3]) - tonumber(redis.call('HGET', KEYS[1], pid) or '0')
+                    redis.call('SET', KEYS[4 + i], fresh)
+                    redis.call('SADD', KEYS[4], pid)
+                    current = fresh
+                end
+                if tonumber(current) < qty then
+                    table.insert(insufficient, pid)
+                end
+            end
+            if #insufficient > 0 then
+                return insufficient
+            end
+            for i = 1, n do
+                local base = 2 + (i - 1) * 3
+                local pid = ARGV[base + 1]
+                local qty = tonumber(ARGV[base + 2])
+                redis.call('DECRBY', KEYS[4 + i], qty)
+                redis.call('HINCRBY', KEYS[1], pid, qty)
+                redis.call('HSET', KEYS[3], pid, qty)
+            end
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            return {}
+            """, List.class);
+
+    /**
+     * KEYS[1]=reserved, KEYS[2]=reservations, KEYS[3]=reservation, KEYS[4]=epochs
+     * ARGV[1]=reservationId, ARGV[2]=미러 재고 키 prefix, ARGV[3]=미러 복구 여부(1: 해제, 0: 확정)
+     * - 예약이 끝난 상품은 epoch 를 올려, 그 전에 읽은 DB 재고로 동기화하지 않도록 한다
+     */
+    private static final RedisScript<Long> FINISH_SCRIPT = new DefaultRedisScript<>("""
+            local items = redis.call('HGETALL', KEYS[3])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            if #items == 0 then
+                return 0
+            end
+            for i = 1, #items, 2 do
+                local pid = items[i]
+                local qty = tonumber(items[i + 1])
+                if ARGV[3] == '1' then
+                    local stockKey = ARGV[2] .. pid
+                    if redis.call('EXISTS', stockKey) == 1 then
+                        redis.call('INCRBY', stockKey, qty)
+                    end
+                end
+                if redis.call('HINCRBY', KEYS[1], pid, -qty) <= 0 then
+                    redis.call('HDEL', KEYS[1], pid)
+                end
+                redis.call('HINCRBY', KEYS[4], pid, 1)
+            end
+            redis.call('DEL', KEYS[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1]=reserved, KEYS[2]=epochs, ARGV[1]=미러 재고 키 prefix, 이후 상품별 (productId, DB 재고, DB 조회 전 epoch)
+     * 아래 상품은 DB 재고가 예약 반영 전/후 어느 쪽인지 알 수 없으므로 건너뛴다 → 동기화한 상품 수 반환
+     * - 진행 중 예약이 있는 상품: DB 커밋 후 확정 전이면 예약 수량이 DB 재고와 reserved 양쪽에서 빠진다 (이중 차감)
+     * - DB 조회 이후 확정/해제된 상품(epoch 변경): 커밋 전에 읽은 재고라면 미러가 실제보다 높아진다
+     * 두 조건을 모두 통과하면 DB 조회 시점부터 지금까지 이 상품의 예약이 없었으므로 미러 = DB 재고 로 맞춘다
+     */
+    private static final RedisScript<Long> SYNC_SCRIPT = new DefaultRedisScript<>("""
+            local synced = 0
+            for i = 2, #ARGV, 3 do
+                local pid = ARGV[i]
+                local reserved = tonumber(redis.call('HGET', KEYS[1], pid) or '0')
+                local epoch = redis.call('HGET', KEYS[2], pid) or '0'
+                if reserved <= 0 and epoch == ARGV[i + 2] then
+                    redis.call('SET', ARGV[1] .. pid, ARGV[i + 1])
+                    synced = synced + 1
+                end
+            end
+            return synced
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RedisStockReservationRepository(
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> reserve(String reservationId, Map<Long, Integer> quantities, Map<Long, Integer> dbStocks, long expireAtMillis) {
+        // 상품 ID 순으로 정렬하여 키/인자 순서를 고정
+        Map<Long, Integer> sorted = new TreeMap<>(quantities);
+
+        List<String> keys = new ArrayList<>(sorted.size() + 4);
+        keys.add(RESERVED_KEY);
+        keys.add(RESERVATIONS_KEY);
+        keys.add(RESERVATION_KEY_PREFIX + reservationId);
+        keys.add(PRODUCTS_KEY);
+
+        List<String> args = new ArrayList<>(sorted.size() * 3 + 2);
+        args.add(reservationId);
+        args.add(String.valueOf(expireAtMillis));
+
+        sorted.forEach((productId, quantity) -> {
+            keys.add(STOCK_KEY_PREFIX + productId);
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+            args.add(String.valueOf(dbStocks.getOrDefault(productId, 0)));
+        });
+
+        List<Object> insufficient = redisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+        if (insufficient == null || insufficient.isEmpty()) {
+            return List.of();
+        }
+        return insufficient.stream()
+                .map(id -> Long.valueOf(id.toString()))
+                .toList();
+    }
+
+    @Override
+    public boolean release(String reservationId) {
+        return finish(reservationId, true);
+    }
+
+    @Override
+    public boolean confirm(String reservationId) {
+        return finish(reservationId, false);
+    }
+
+    private boolean finish(String reservationId, boolean restoreStock) {
+        Long result = redisTemplate.execute(
+                FINISH_SCRIPT,
+                List.of(RESERVED_KEY, RESERVATIONS_KEY, RESERVATION_KEY_PREFIX + reservationId, EPOCHS_KEY),
+                reservationId, STOCK_KEY_PREFIX, restoreStock ? "1" : "0"
+        );
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public List<String> findExpiredReservationIds(long nowMillis, int limit) {
+        Set<String> expired = redisTemplate.opsForZSet()
+                .rangeByScore(RESERVATIONS_KEY, Double.NEGATIVE_INFINITY, nowMillis, 0, limit);
+        return expired == null ? List.of() : List.copyOf(expired);
+    }
+
+    @Override
+    public Set<Long> findMirroredProductIds() {
+        Set<String> members = redisTemplate.opsForSet().members(PRODUCTS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Map<Long, Long> findReservationEpochs(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> fields = productIds.stream().map(String::valueOf).collect(Collectors.toList());
+        List<Object> values = redisTemplate.opsForHash().multiGet(EPOCHS_KEY, fields);
+
+        Map<Long, Long> epochs = new HashMap<>(productIds.size());
+        for (int i = 0; i < productIds.size(); i++) {
+            Object value = values == null ? null : values.get(i);
+            epochs.put(productIds.get(i), value == null ? 0L : Long.parseLong(value.toString()));
+        }
+        return epochs;
+    }
+
+    @Override
+    public int syncStocks(Map<Long, Integer> dbStocks, Map<Long, Long> epochs) {
+        if (dbStocks.isEmpty()) {
+            return 0;
+        }
+
+        List<String> args = new ArrayList<>(dbStocks.size() * 3 + 1);
+        args.add(STOCK_KEY_PREFIX);
+        dbStocks.forEach((productId, stock) -> {
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(stock));
+            args.add(String.valueOf(epochs.getOrDefault(productId, 0L)));
+        });
+
+        Long synced = redisTemplate.execute(SYNC_SCRIPT, List.of(RESERVED_KEY, EPOCHS_KEY), args.toArray());
+        return synced == null ? 0 : synced.intValue();
+    }
+}
@@ -0,0 +1,83 @@
+package com.hh.ecom.product.infrastructure.redis;
+
+import com.hh.ecom.product.domain.Product;
+import com.hh.ecom.product.domain.ProductRepository;
+import com.hh.ecom.product.domain.StockReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 재고 미러 정합성 보정 스케줄러
+ * 1. 만료된 예약(확정/해제 호출 없이 남은 예약 - 인스턴스 장애 등) 을 해제하여 미러 재고를 복구
+ * 2. DB 재고(최종 원본) 를 읽어 미러를 재계산
+ *    (관리자 재고 변경, 보상 트랜잭션 등 예약 경로 밖의 재고 변화를 반영)
+ *    - DB 는 락 없이 읽으므로 주문 커밋과 확정 사이에 끼어들 수 있다. 읽기 전에 예약 epoch 를 먼저 조회하고,
+ *      진행 중 예약이 있거나 그 사이 확정/해제된 상품은 이번 주기에서 건너뛴다 (해당 상품의 미러는 예약 경로가 맞춰 둔다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.stock-reservation.enabled", havingValue = "true", matchIfMissing = true)
+public class StockReservationReconciler {
+    private static final long RECONCILE_RATE_MS = 10 * 1000;
+    private static final int EXPIRED_BATCH_SIZE = 500;
+    private static final int SYNC_CHUNK_SIZE = 500;
+
+    private final StockReservationRepository stockReservationRepository;
+    private final ProductRepository productRepository;
+
+    @Scheduled(fixedDelay = RECONCILE_RATE_MS)
+    public void reconcile() {
+        try {
+            int released = releaseExpiredReservations();
+            int synced = syncMirrorsWithDatabase();
+
+            if (released > 0) {
+                log.warn("만료된 재고 예약 해제: count={}", released);
+            }
+            log.debug("재고 미러 동기화 완료: products={}", synced);
+        } catch (Exception e) {
+            log.error("재고 미러 보정 중 오류 발생. 다음 스케줄에서 재시도합니다.", e);
+        }
+    }
+
+    private int releaseExpiredReservations() {
+        int released = 0;
+        List<String> expiredIds;
+        do {
+            expiredIds = stockReservationRepository.findExpiredReservationIds(System.currentTimeMillis(), EXPIRED_BATCH_SIZE);
+            for (String reservationId : expiredIds) {
+                if (stockReservationRepository.release(reservationId)) {
+                    released++;
+                }
+            }
+        } while (expiredIds.size() == EXPIRED_BATCH_SIZE);
+        return released;
+    }
+
+    private int syncMirrorsWithDatabase() {
+        List<Long> productIds = new ArrayList<>(stockReservationRepository.findMirroredProductIds());
+
+        int synced = 0;
+        for (int from = 0; from < productIds.size(); from += SYNC_CHUNK_SIZE) {
+            List<Long> chunk = productIds.subList(from, Math.min(from + SYNC_CHUNK_SIZE, productIds.size()));
+            // epoch 는 반드시 DB 조회 전에 읽는다 - 조회 도중 끝난 예약을 스크립트가 알아보는 기준
+            Map<Long, Long> epochs = stockReservationRepository.findReservationEpochs(chunk);
+            Map<Long, Integer> dbStocks = productRepository.findByIdsIn(chunk).stream()
+                    .collect(Collectors.toMap(Product::getId, Product::getStockQuantity));
+            synced += stockReservationRepository.syncStocks(dbStocks, epochs);
+        }
+        if (synced < productIds.size()) {
+            log.debug("진행 중 예약으로 동기화를 미룬 상품: count={}", productIds.size() - synced);
+        }
+        return synced;
+    }
+}
@@ -493,4 +493,69 @@ class CartServiceTest {
                     .isEqualTo(CartErrorCode.CART_ITEM_NOT_FOUND);
         }
     }
+
+    @Nested
+    @DisplayName("주문용 장바구니 아이템 일괄 조회/삭제 테스트")
+    class OrderCartItemsTest {
+
+        private CartItem cartItem(Long id, Long userId, Long productId) {
+            return CartItem.builder()
+                    .id(id)
+                    .userId(userId)
+                    .productId(productId)
+                    .quantity(1)
+                    .createdAt(java.time.LocalDateTime.now())
+                    .build();
+        }
+
+        @Test
+        @DisplayName("주문 대상 장바구니 아이템을 IN 쿼리 한 번으로 조회한다")
+        void getCartItemsForOrder_success() {
+            // given
+            Long userId = 1L;
+            List<Long> cartItemIds = List.of(10L, 11L);
+            given(cartItemRepository.findAllByIdIn(cartItemIds))
+                    .willReturn(List.of(cartItem(10L, userId, 100L), cartItem(11L, userId, 101L)));
+
+            // when
+            List<CartItem> result = cartService.getCartItemsForOrder(userId, cartItemIds);
+
+            // then
+            assertThat(result).hasSize(2);
+            verify(cartItemRepository, times(1)).findAllByIdIn(cartItemIds);
+            verify(cartItemRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("요청한 아이템 중 없는 것이 있으면 예외가 발생한다")
+        void getCartItemsForOrder_missingItem() {
+            // given
+            Long userId = 1L;
+            List<Long> cartItemIds = List.of(10L, 11L);
+            given(cartItemRepository.findAllByIdIn(cartItemIds))
+                    .willReturn(List.of(cartItem(10L, userId, 100L)));
+
+            // when & then
+            assertThatThrownBy(() -> cartService.getCartItemsForOrder(userId, cartItemIds))
+                    .isInstanceOf(CartException.class)
+                    .hasMessageContaining("11")
+                    .extracting("errorCode")
+                    .isEqualTo(CartErrorCode.CART_ITEM_NOT_FOUND);
+        }
+
+        @Test
+        @DisplayName("삭제 건수가 요청과 다르면 이미 주문 처리된 것으로 보고 예외가 발생한다")
+        void checkoutCartItems_alreadyCheckedOut() {
+            // given
+            Long userId = 1L;
+            List<Long> cartItemIds = List.of(10L, 11L);
+            given(cartItemRepository.deleteAllByUserIdAndIdIn(userId, cartItemIds)).willReturn(1);
+
+            // when & then
+            assertThatThrownBy(() -> cartService.checkoutCartItems(userId, cartItemIds))
+                    .isInstanceOf(CartException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(CartErrorCode.CART_ITEM_NOT_FOUND);
+        }
+    }
 }
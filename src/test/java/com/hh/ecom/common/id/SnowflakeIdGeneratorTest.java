@@ -0,0 +1,113 @@
+package com.hh.ecom.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SnowflakeIdGenerator 단위 테스트")
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("멀티스레드 환경에서 중복 없는 ID를 발급한다")
+    void nextId_uniqueUnderConcurrency() throws InterruptedException {
+        // given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        int threadCount = 16;
+        int idsPerThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < idsPerThread; j++) {
+                        ids.add(generator.nextId());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(ids).hasSize(threadCount * idsPerThread);
+    }
+
+    @Test
+    @DisplayName("같은 ms 안에서 시퀀스가 소진되어도 단조 증가하는 ID를 발급한다")
+    void nextId_sequenceOverflow() {
+        // given: 시계가 멈춰 있는 상황
+        long fixedNow = SnowflakeIdGenerator.EPOCH + 1_000L;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, () -> fixedNow);
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < (SnowflakeIdGenerator.MAX_SEQUENCE + 1) * 3; i++) {
+            ids.add(generator.nextId());
+        }
+
+        // then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 이전보다 큰 ID를 발급한다")
+    void nextId_clockMovedBackwards() {
+        // given
+        AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH + 10_000L);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, clock::get);
+        long before = generator.nextId();
+
+        // when
+        clock.addAndGet(-5_000L);
+        long after = generator.nextId();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("노드 ID가 다르면 같은 시각에도 서로 다른 ID를 발급한다")
+    void nextId_differentNodes() {
+        // given
+        long fixedNow = SnowflakeIdGenerator.EPOCH + 1_000L;
+        SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1, () -> fixedNow);
+        SnowflakeIdGenerator node2 = new SnowflakeIdGenerator(2, () -> fixedNow);
+
+        // when & then
+        assertThat(node1.nextId()).isNotEqualTo(node2.nextId());
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 예외가 발생한다")
+    void constructor_invalidNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("주문 번호는 ORDER- 접두사와 ID로 구성된다")
+    void nextOrderNumber() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0);
+
+        assertThat(generator.nextOrderNumber()).matches("ORDER-\\d+");
+    }
+}
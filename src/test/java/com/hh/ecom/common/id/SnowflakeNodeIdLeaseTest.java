@@ -0,0 +1,45 @@
+package com.hh.ecom.common.id;
+
+import com.hh.ecom.config.TestContainersConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("Snowflake 노드 ID lease 통합 테스트")
+class SnowflakeNodeIdLeaseTest extends TestContainersConfig {
+
+    @Autowired
+    @Qualifier("customStringRedisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Test
+    @DisplayName("node-id 를 설정하지 않은 인스턴스끼리는 서로 다른 노드 ID 를 선점하고, 반납한 ID 는 다시 선점할 수 있다")
+    void leasesDistinctNodeIds() {
+        // given
+        SnowflakeNodeIdLease first = new SnowflakeNodeIdLease(redisTemplate, 60_000);
+        SnowflakeNodeIdLease second = new SnowflakeNodeIdLease(redisTemplate, 60_000);
+
+        // when
+        long firstNodeId = first.acquire();
+        long secondNodeId = second.acquire();
+
+        // then
+        assertThat(firstNodeId).isNotEqualTo(secondNodeId);
+        assertThat(first.acquire()).isEqualTo(firstNodeId);
+        assertThat(redisTemplate.hasKey("id-generator:node:" + firstNodeId)).isTrue();
+
+        // when - 반납
+        first.release();
+        second.release();
+
+        // then
+        assertThat(redisTemplate.hasKey("id-generator:node:" + firstNodeId)).isFalse();
+        assertThat(redisTemplate.hasKey("id-generator:node:" + secondNodeId)).isFalse();
+    }
+}
@@ -80,4 +80,15 @@ class LockDomainTest {
         // then
         assertThat(lockKey1).isEqualTo(lockKey2);
     }
+
+    @Test
+    @DisplayName("락 키의 prefix 로 도메인을 찾는다")
+    void shouldResolveDomainFromKey() {
+        assertThat(LockDomain.fromKey("lock:point:user:1")).contains(LockDomain.USER_POINT);
+        assertThat(LockDomain.fromKey("lock:product:42")).contains(LockDomain.PRODUCT);
+        assertThat(LockDomain.fromKey("lock:coupon:user:7")).contains(LockDomain.COUPON_USER);
+        assertThat(LockDomain.fromKey("lock:coupon:issue:3")).contains(LockDomain.COUPON_ISSUE);
+        assertThat(LockDomain.fromKey("lock:sales-ranking:init")).isEmpty();
+        assertThat(LockDomain.fromKey(null)).isEmpty();
+    }
 }
@@ -0,0 +1,192 @@
+package com.hh.ecom.common.lock;
+
+import com.hh.ecom.common.lock.exception.StaleLockTokenException;
+import com.hh.ecom.common.lock.util.RedisLockExecutor;
+import com.hh.ecom.config.TestContainersConfig;
+import com.hh.ecom.coupon.domain.CouponUser;
+import com.hh.ecom.coupon.domain.CouponUserRepository;
+import com.hh.ecom.point.application.PointService;
+import com.hh.ecom.point.domain.PointRepository;
+import com.hh.ecom.product.application.ProductService;
+import com.hh.ecom.product.domain.Product;
+import com.hh.ecom.product.domain.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("분산 락 fencing token / lease 갱신 통합 테스트")
+class LockFencingTest extends TestContainersConfig {
+
+    @Autowired
+    private RedisLockExecutor redisLockExecutor;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private CouponUserRepository couponUserRepository;
+
+    @Test
+    @DisplayName("같은 키의 fencing token 은 단건/멀티 락 획득을 통틀어 단조 증가하고, 해제 후에는 바인딩이 사라진다")
+    void tokensIncreaseMonotonically() {
+        // given
+        String lockKey = "lock:test:fencing:monotonic";
+
+        // when
+        long first = redisLockExecutor.executeWithLock(List.of(lockKey),
+                () -> LockFencingContext.currentToken(lockKey).getAsLong());
+        long second = redisLockExecutor.executeWithAllLocks(List.of(lockKey),
+                () -> LockFencingContext.currentToken(lockKey).getAsLong());
+        long third = redisLockExecutor.executeWithLock(List.of(lockKey),
+                () -> LockFencingContext.currentToken(lockKey).getAsLong());
+
+        // then
+        assertThat(second).isGreaterThan(first);
+        assertThat(third).isGreaterThan(second);
+        assertThat(LockFencingContext.currentToken(lockKey)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재진입한 호출은 바깥 호출이 발급받은 토큰을 그대로 사용한다")
+    void reentrantCallKeepsOuterToken() {
+        // given
+        String lockKey = "lock:test:fencing:reentrant";
+
+        // when & then
+        redisLockExecutor.executeWithAllLocks(List.of(lockKey), () -> {
+            long outer = LockFencingContext.currentToken(lockKey).getAsLong();
+            long inner = redisLockExecutor.executeWithLock(List.of(lockKey),
+                    () -> LockFencingContext.currentToken(lockKey).getAsLong());
+
+            assertThat(inner).isEqualTo(outer);
+            assertThat(LockFencingContext.currentToken(lockKey)).hasValue(outer);
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("작업이 lease(500ms)보다 오래 걸려도 watchdog 이 갱신하여 락이 유지된다")
+    void watchdogRenewsShortLease() {
+        // given
+        String lockKey = "lock:test:fencing:watchdog";
+        RLock lock = redissonClient.getLock(lockKey);
+
+        // when & then
+        redisLockExecutor.executeWithLock(List.of(lockKey), () -> {
+            sleep(1500);
+            assertThat(lock.isLocked()).isTrue();
+            assertThat(lock.remainTimeToLive()).isPositive();
+            return null;
+        });
+        assertThat(lock.isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("lease 만료 후 더 큰 토큰으로 재고가 쓰였다면 이전 보유자의 재고 차감은 거부된다")
+    void staleTokenRejectedOnStockDecrease() {
+        // given
+        Product product = productRepository.save(Product.create("fencing 상품", "설명", BigDecimal.valueOf(1000), 10));
+        String lockKey = LockDomain.PRODUCT.formatKey(product.getId());
+
+        // when & then
+        redisLockExecutor.executeWithLock(List.of(lockKey), () -> {
+            long token = LockFencingContext.currentToken(lockKey).getAsLong();
+            // 새 보유자가 더 큰 토큰으로 먼저 쓴 상황
+            productRepository.advanceLockFences(Map.of(product.getId(), token + 1));
+
+            assertThatThrownBy(() -> productService.decreaseProductStocks(Map.of(product.getId(), 1)))
+                    .isInstanceOf(StaleLockTokenException.class);
+            return null;
+        });
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("lease 만료 후 더 큰 토큰으로 포인트가 쓰였다면 이전 보유자의 포인트 사용은 거부된다")
+    void staleTokenRejectedOnPointUse() {
+        // given
+        Long userId = 91_001L;
+        pointService.chargePoint(userId, BigDecimal.valueOf(10000));
+        String lockKey = LockDomain.USER_POINT.formatKey(userId);
+
+        // when & then
+        redisLockExecutor.executeWithLock(List.of(lockKey), () -> {
+            long token = LockFencingContext.currentToken(lockKey).getAsLong();
+            pointRepository.advanceLockFence(userId, token + 1);
+
+            assertThatThrownBy(() -> pointService.usePoint(userId, BigDecimal.valueOf(1000), 1L))
+                    .isInstanceOf(StaleLockTokenException.class);
+            return null;
+        });
+        assertThat(pointService.getBalance(userId)).isEqualByComparingTo(BigDecimal.valueOf(10000));
+    }
+
+    @Test
+    @DisplayName("보유 중인 락을 잃으면 watchdog 이 lease 유실을 기록하고, 그 뒤의 포인트 사용은 커밋 직전에 실패한다")
+    void lostLeaseFailsBeforeCommit() {
+        // given
+        Long userId = 91_003L;
+        pointService.chargePoint(userId, BigDecimal.valueOf(10000));
+        String lockKey = LockDomain.USER_POINT.formatKey(userId);
+
+        // when & then
+        redisLockExecutor.executeWithLock(List.of(lockKey), () -> {
+            // lease 가 만료되어 락이 풀린 상황
+            redissonClient.getLock(lockKey).forceUnlock();
+            sleep(500);
+
+            assertThatThrownBy(() -> pointService.usePoint(userId, BigDecimal.valueOf(1000), 1L))
+                    .isInstanceOf(StaleLockTokenException.class);
+            return null;
+        });
+        assertThat(pointService.getBalance(userId)).isEqualByComparingTo(BigDecimal.valueOf(10000));
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 이력은 기록된 토큰보다 작은 토큰으로 갱신할 수 없다")
+    void couponUserFencedUpdate() {
+        // given
+        CouponUser issued = couponUserRepository.save(CouponUser.issue(91_002L, 91_002L, LocalDateTime.now().plusDays(1)));
+
+        // when
+        boolean newer = couponUserRepository.updateIfFenceValid(issued.use(1L), 5L).isPresent();
+        boolean stale = couponUserRepository.updateIfFenceValid(issued.use(2L), 4L).isPresent();
+
+        // then
+        assertThat(newer).isTrue();
+        assertThat(stale).isFalse();
+        assertThat(couponUserRepository.findById(issued.getId()).orElseThrow().getOrderId()).isEqualTo(1L);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
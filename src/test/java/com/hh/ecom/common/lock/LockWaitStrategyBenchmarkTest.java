@@ -0,0 +1,119 @@
+package com.hh.ecom.common.lock;
+
+import com.hh.ecom.common.lock.util.RedisLockExecutor;
+import com.hh.ecom.config.TestContainersConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단일 hot key(lock:product) 경합 시 락 대기 방식별 획득 지연 비교 (Testcontainers Redis)
+ * - SPIN     : tryLock(0) + 50ms sleep 반복
+ * - SUBSCRIBE: 해제 알림(pub/sub) 대기
+ * - FAIR     : 해제 알림 + FIFO 대기열
+ */
+@SpringBootTest
+@DisplayName("분산 락 대기 방식별 경합 벤치마크")
+class LockWaitStrategyBenchmarkTest extends TestContainersConfig {
+    private static final int THREAD_COUNT = 100;
+    private static final long WAIT_TIME_MS = 30_000;
+    private static final long LEASE_TIME_MS = 5_000;
+
+    @Autowired
+    private RedisLockExecutor redisLockExecutor;
+
+    @Test
+    @DisplayName("스레드 100개가 하나의 상품 락을 경합할 때 대기 방식별 p99 획득 지연")
+    void hotProductLock_acquisitionLatencyByStrategy() throws InterruptedException {
+        // warm-up (Redisson 커넥션/구독 채널 초기화)
+        for (LockWaitStrategy strategy : LockWaitStrategy.values()) {
+            runContention(LockDomain.PRODUCT.formatKey(0L), strategy, 10);
+        }
+
+        System.out.printf("%n========== lock:product 경합 벤치마크 (%d threads, 1 key) ==========%n", THREAD_COUNT);
+        long id = 1L;
+        for (LockWaitStrategy strategy : LockWaitStrategy.values()) {
+            ContentionResult result = runContention(LockDomain.PRODUCT.formatKey(id++), strategy, THREAD_COUNT);
+            result.print(strategy);
+
+            assertThat(result.acquired()).isEqualTo(THREAD_COUNT);
+            assertThat(result.maxConcurrent()).isEqualTo(1);
+        }
+    }
+
+    private ContentionResult runContention(String lockKey, LockWaitStrategy strategy, int threadCount)
+            throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        List<Long> latenciesNanos = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    long requestedAt = System.nanoTime();
+                    redisLockExecutor.executeWithLock(List.of(lockKey), () -> {
+                        latenciesNanos.add(System.nanoTime() - requestedAt);
+                        int running = current.incrementAndGet();
+                        maxConcurrent.updateAndGet(max -> Math.max(max, running));
+                        current.decrementAndGet();
+                        return null;
+                    }, WAIT_TIME_MS, LEASE_TIME_MS, strategy);
+                } catch (Exception e) {
+                    // 획득 실패는 acquired 건수로 확인
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await(60, TimeUnit.SECONDS);
+        long totalElapsed = System.nanoTime() - startedAt;
+        executorService.shutdown();
+
+        List<Long> sorted = new ArrayList<>(latenciesNanos);
+        Collections.sort(sorted);
+        return new ContentionResult(sorted, maxConcurrent.get(), totalElapsed);
+    }
+
+    private record ContentionResult(List<Long> sortedLatenciesNanos, int maxConcurrent, long totalElapsedNanos) {
+        int acquired() {
+            return sortedLatenciesNanos.size();
+        }
+
+        long percentileMs(double percentile) {
+            if (sortedLatenciesNanos.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sortedLatenciesNanos.size()) - 1;
+            return sortedLatenciesNanos.get(Math.max(index, 0)) / 1_000_000;
+        }
+
+        void print(LockWaitStrategy strategy) {
+            System.out.printf("%-9s | 획득 %3d건 | p50 %,6d ms | p99 %,6d ms | max %,6d ms | 전체 %,6d ms%n",
+                    strategy, acquired(), percentileMs(50), percentileMs(99), percentileMs(100),
+                    totalElapsedNanos / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.hh.ecom.common.lock;
+
+import com.hh.ecom.common.lock.exception.LockAcquisitionException;
+import com.hh.ecom.common.lock.util.RedisAsyncLockExecutor;
+import com.hh.ecom.common.lock.util.RedisLockExecutor;
+import com.hh.ecom.config.TestContainersConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("RedisAsyncLockExecutor 비동기 락 통합 테스트")
+class RedisAsyncLockExecutorTest extends TestContainersConfig {
+
+    @Autowired
+    private RedisAsyncLockExecutor redisAsyncLockExecutor;
+
+    @Autowired
+    private RedisLockExecutor redisLockExecutor;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Test
+    @DisplayName("락은 호출 스레드가 아닌 소유자 ID 로 잡히고, future 완료 시점에는 해제되어 있다")
+    void executeWithLockAsync_ownerIdInsteadOfThread() throws Exception {
+        // given
+        String lockKey = "lock:test:async:owner";
+        long ownerId = LockOwnerContext.newOwnerId();
+        RLock lock = redissonClient.getLock(lockKey);
+        Thread caller = Thread.currentThread();
+
+        // when
+        String result = redisAsyncLockExecutor.executeWithLockAsync(List.of(lockKey), ownerId, () -> {
+            assertThat(Thread.currentThread()).isNotEqualTo(caller);
+            assertThat(lock.isHeldByThread(ownerId)).isTrue();
+            assertThat(LockFencingContext.currentToken(lockKey)).isPresent();
+            return "success";
+        }).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result).isEqualTo("success");
+        assertThat(lock.isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 소유자 ID 로 다시 호출하면 재진입하고 바깥 호출의 fencing token 을 그대로 쓴다")
+    void executeWithLockAsync_reentrantBySameOwner() throws Exception {
+        // given
+        String lockKey = "lock:test:async:reentrant";
+        long ownerId = LockOwnerContext.newOwnerId();
+
+        // when
+        long[] tokens = redisAsyncLockExecutor.executeWithLockAsync(List.of(lockKey), ownerId, () -> {
+            long outer = LockFencingContext.currentToken(lockKey).getAsLong();
+            long inner = redisAsyncLockExecutor.executeWithLockAsync(List.of(lockKey), ownerId, () ->
+                    LockFencingContext.currentToken(lockKey).getAsLong(), 200, 500).join();
+            return new long[]{outer, inner};
+        }).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(tokens[1]).isEqualTo(tokens[0]);
+        assertThat(redissonClient.getLock(lockKey).isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("작업 안에서 호출한 동기 RedisLockExecutor 도 같은 소유자로 재진입한다")
+    void executeWithLockAsync_reentrantWithExecuteWithLock() throws Exception {
+        // given
+        String lockKey = "lock:test:async:sync-reentrant";
+
+        // when
+        String result = redisAsyncLockExecutor.executeWithLockAsync(List.of(lockKey), () ->
+                redisLockExecutor.executeWithLock(List.of(lockKey), () -> "inner", 200, 500)
+        ).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result).isEqualTo("inner");
+        assertThat(redissonClient.getLock(lockKey).isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시에 여러 요청이 같은 키를 잡아도 작업은 한 번에 하나씩 실행된다")
+    void executeWithLockAsync_mutualExclusion() {
+        // given
+        String lockKey = "lock:test:async:mutex";
+        int requestCount = 50;
+        AtomicInteger counter = new AtomicInteger();
+
+        // when
+        List<CompletableFuture<Integer>> futures = IntStream.range(0, requestCount)
+                .mapToObj(i -> redisAsyncLockExecutor.executeWithLockAsync(List.of(lockKey), LockOwnerContext.newOwnerId(), () -> {
+                    // get/set 을 따로 호출 - 락이 없으면 갱신이 유실된다
+                    int current = counter.get();
+                    Thread.yield();
+                    counter.set(current + 1);
+                    return current;
+                }, 10_000, 500))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(counter.get()).isEqualTo(requestCount);
+        assertThat(futures.stream().map(CompletableFuture::join).distinct().count()).isEqualTo(requestCount);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 락을 잡지 못하면 future 가 LockAcquisitionException 으로 실패하고 작업은 실행되지 않는다")
+    void executeWithLockAsync_timeout() throws Exception {
+        // given
+        String lockKey = "lock:test:async:timeout";
+        ExecutorService holder = Executors.newSingleThreadExecutor();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        holder.submit(() -> {
+            RLock lock = redissonClient.getLock(lockKey);
+            lock.lock(10, TimeUnit.SECONDS);
+            locked.countDown();
+            finish.await();
+            lock.unlock();
+            return null;
+        });
+        locked.await(5, TimeUnit.SECONDS);
+        boolean[] executed = {false};
+
+        // when
+        CompletableFuture<String> future = redisAsyncLockExecutor.executeWithLockAsync(List.of(lockKey),
+                LockOwnerContext.newOwnerId(), () -> {
+                    executed[0] = true;
+                    return "never";
+                }, 200, 500);
+
+        // then
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(LockAcquisitionException.class);
+        assertThat(executed[0]).isFalse();
+
+        finish.countDown();
+        holder.shutdown();
+    }
+
+    @Test
+    @DisplayName("뒤쪽 키를 기다리는 동안 먼저 잡은 키의 lease 가 만료되지 않는다")
+    void executeWithLockAsync_keepsEarlyKeysWhileWaiting() throws Exception {
+        // given - 두 번째 키를 lease(500ms)보다 오래 점유
+        String firstKey = "lock:test:async:chain:1";
+        String secondKey = "lock:test:async:chain:2";
+        ExecutorService holder = Executors.newSingleThreadExecutor();
+        CountDownLatch locked = new CountDownLatch(1);
+        holder.submit(() -> {
+            RLock lock = redissonClient.getLock(secondKey);
+            lock.lock(10, TimeUnit.SECONDS);
+            locked.countDown();
+            Thread.sleep(1500);
+            lock.unlock();
+            return null;
+        });
+        locked.await(5, TimeUnit.SECONDS);
+        long ownerId = LockOwnerContext.newOwnerId();
+        RLock firstLock = redissonClient.getLock(firstKey);
+
+        // when
+        CompletableFuture<String> future = redisAsyncLockExecutor.executeWithLockAsync(List.of(firstKey, secondKey),
+                ownerId, () -> "acquired", 5000, 500);
+        Thread.sleep(1000);
+
+        // then - 첫 번째 키는 lease 가 두 번 지날 시간 동안에도 같은 소유자가 보유
+        assertThat(firstLock.isHeldByThread(ownerId)).isTrue();
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("acquired");
+        assertThat(firstLock.isLocked()).isFalse();
+
+        holder.shutdown();
+    }
+}
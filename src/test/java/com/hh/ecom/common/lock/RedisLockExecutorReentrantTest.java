@@ -268,4 +268,22 @@ class RedisLockExecutorReentrantTest extends TestContainersConfig {
 
         // then: 테스트 완료
     }
+
+    @Test
+    @DisplayName("FAIR 대기 방식에서도 같은 스레드의 재진입이 허용된다")
+    void shouldAllowReentrantWithFairLock() {
+        // given
+        String lockKey = "lock:test:reentrant:fair";
+
+        // when
+        String result = redisLockExecutor.executeWithLock(List.of(lockKey), () ->
+                redisLockExecutor.executeWithLock(List.of(lockKey), () -> {
+                    assertThat(redissonClient.getFairLock(lockKey).getHoldCount()).isEqualTo(2);
+                    return "fair-reentrant-success";
+                }, LockWaitStrategy.FAIR), LockWaitStrategy.FAIR);
+
+        // then
+        assertThat(result).isEqualTo("fair-reentrant-success");
+        assertThat(redissonClient.getFairLock(lockKey).isLocked()).isFalse();
+    }
 }
@@ -0,0 +1,131 @@
+package com.hh.ecom.common.lock;
+
+import com.hh.ecom.common.lock.exception.LockAcquisitionException;
+import com.hh.ecom.common.lock.util.RedisLockExecutor;
+import com.hh.ecom.config.TestContainersConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("RedisLockExecutor 멀티 락(all-or-nothing) 통합 테스트")
+class RedisMultiLockTest extends TestContainersConfig {
+
+    @Autowired
+    private RedisLockExecutor redisLockExecutor;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Test
+    @DisplayName("모든 키를 한 번에 획득하고 작업 후 모두 해제한다")
+    void executeWithAllLocks_acquiresAndReleasesAllKeys() {
+        // given
+        List<String> lockKeys = new OrderLockContext()
+                .withUserPoint(1L)
+                .withProducts(List.of(10L, 20L, 30L))
+                .withCoupon(5L)
+                .buildSortedLockKeys();
+
+        // when
+        String result = redisLockExecutor.executeWithAllLocks(lockKeys, () -> {
+            lockKeys.forEach(key -> assertThat(redissonClient.getLock(key).isHeldByCurrentThread()).isTrue());
+            return "success";
+        });
+
+        // then
+        assertThat(result).isEqualTo("success");
+        lockKeys.forEach(key -> assertThat(redissonClient.getLock(key).isLocked()).isFalse());
+    }
+
+    @Test
+    @DisplayName("한 키라도 다른 스레드가 보유 중이면 아무 키도 잡지 않고 실패한다")
+    void executeWithAllLocks_allOrNothing() throws Exception {
+        // given
+        List<String> lockKeys = List.of("lock:test:multi:all:1", "lock:test:multi:all:2", "lock:test:multi:all:3");
+        ExecutorService holder = Executors.newSingleThreadExecutor();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Future<?> holding = holder.submit(() -> {
+            RLock lock = redissonClient.getLock(lockKeys.get(2));
+            lock.lock(10, TimeUnit.SECONDS);
+            locked.countDown();
+            finish.await();
+            lock.unlock();
+            return null;
+        });
+        locked.await(5, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> redisLockExecutor.executeWithAllLocks(lockKeys, () -> "never", 300, 5000))
+                .isInstanceOf(LockAcquisitionException.class);
+        assertThat(redissonClient.getLock(lockKeys.get(0)).isLocked()).isFalse();
+        assertThat(redissonClient.getLock(lockKeys.get(1)).isLocked()).isFalse();
+
+        finish.countDown();
+        holding.get(5, TimeUnit.SECONDS);
+        holder.shutdown();
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 RLock 을 해제하면 해제 알림을 받고 바로 모든 키를 획득한다")
+    void executeWithAllLocks_wakesUpOnRelease() throws Exception {
+        // given
+        List<String> lockKeys = List.of("lock:test:multi:wait:1", "lock:test:multi:wait:2");
+        ExecutorService holder = Executors.newSingleThreadExecutor();
+        CountDownLatch locked = new CountDownLatch(1);
+        holder.submit(() -> {
+            RLock lock = redissonClient.getLock(lockKeys.get(1));
+            lock.lock(10, TimeUnit.SECONDS);
+            locked.countDown();
+            Thread.sleep(300);
+            lock.unlock();
+            return null;
+        });
+        locked.await(5, TimeUnit.SECONDS);
+
+        // when
+        long startedAt = System.currentTimeMillis();
+        String result = redisLockExecutor.executeWithAllLocks(lockKeys, () -> "acquired", 5000, 5000);
+        long elapsed = System.currentTimeMillis() - startedAt;
+        holder.shutdown();
+
+        // then - lease(10초) 만료가 아니라 해제 시점에 깨어난다
+        assertThat(result).isEqualTo("acquired");
+        assertThat(elapsed).isLessThan(3000);
+    }
+
+    @Test
+    @DisplayName("멀티 락 보유 중 같은 스레드의 executeWithLock 재진입이 허용되고, 재진입 해제 후에도 멀티 락은 유지된다")
+    void executeWithAllLocks_reentrantWithExecuteWithLock() {
+        // given
+        String pointKey = LockDomain.USER_POINT.formatKey(1L);
+        List<String> lockKeys = List.of(pointKey, LockDomain.PRODUCT.formatKey(1L));
+
+        // when
+        redisLockExecutor.executeWithAllLocks(lockKeys, () -> {
+            redisLockExecutor.executeWithLock(List.of(pointKey), () -> {
+                assertThat(redissonClient.getLock(pointKey).getHoldCount()).isEqualTo(2);
+                return null;
+            });
+            assertThat(redissonClient.getLock(pointKey).isHeldByCurrentThread()).isTrue();
+            return null;
+        });
+
+        // then
+        assertThat(redissonClient.getLock(pointKey).isLocked()).isFalse();
+    }
+}
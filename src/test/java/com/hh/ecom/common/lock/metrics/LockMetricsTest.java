@@ -0,0 +1,83 @@
+package com.hh.ecom.common.lock.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LockMetrics 단위 테스트")
+class LockMetricsTest {
+    private SimpleMeterRegistry meterRegistry;
+    private LockHotKeyTracker hotKeyTracker;
+    private LockMetrics lockMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hotKeyTracker = new LockHotKeyTracker();
+        lockMetrics = new LockMetrics(meterRegistry, hotKeyTracker);
+    }
+
+    @Test
+    @DisplayName("여러 키를 한 번에 잡으면 도메인마다 한 번씩 대기 시간을 기록한다")
+    void recordAcquired_taggedByDomain() {
+        // when
+        lockMetrics.recordAcquired(
+                List.of("lock:point:user:1", "lock:product:10", "lock:product:20"),
+                TimeUnit.MILLISECONDS.toNanos(30));
+
+        // then
+        assertThat(meterRegistry.get("lock.wait").tags("domain", "PRODUCT", "result", "acquired").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("lock.wait").tags("domain", "USER_POINT", "result", "acquired").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("획득 실패, 보유 시간, 재진입을 도메인 태그로 기록하고 알 수 없는 키는 OTHER 로 묶는다")
+    void recordFailureHoldAndReentrant() {
+        // when
+        lockMetrics.recordFailed(List.of("lock:coupon:issue:1"), TimeUnit.SECONDS.toNanos(3));
+        lockMetrics.recordReleased(List.of("lock:coupon:user:5"), TimeUnit.MILLISECONDS.toNanos(12));
+        lockMetrics.recordReentrant("lock:point:user:1");
+        lockMetrics.recordReentrant("lock:sales-ranking:init");
+
+        // then
+        assertThat(meterRegistry.get("lock.failures").tag("domain", "COUPON_ISSUE").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.wait").tags("domain", "COUPON_ISSUE", "result", "failed").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("lock.hold").tag("domain", "COUPON_USER").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(12);
+        assertThat(meterRegistry.get("lock.reentrant").tag("domain", "USER_POINT").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.reentrant").tag("domain", "OTHER").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("hot key 는 누적 대기 시간이 큰 순서로 반환된다")
+    void topKeys_orderedByTotalWait() {
+        // given
+        lockMetrics.recordAcquired(List.of("lock:product:42"), TimeUnit.MILLISECONDS.toNanos(400));
+        lockMetrics.recordAcquired(List.of("lock:product:42"), TimeUnit.MILLISECONDS.toNanos(200));
+        lockMetrics.recordFailed(List.of("lock:product:42"), TimeUnit.MILLISECONDS.toNanos(3000));
+        lockMetrics.recordAcquired(List.of("lock:product:7"), TimeUnit.MILLISECONDS.toNanos(50));
+        lockMetrics.recordAcquired(List.of("lock:point:user:1"), TimeUnit.MILLISECONDS.toNanos(100));
+
+        // when
+        List<LockHotKeyTracker.HotLockKey> top = hotKeyTracker.topKeys(2);
+
+        // then
+        assertThat(top).extracting(LockHotKeyTracker.HotLockKey::lockKey)
+                .containsExactly("lock:product:42", "lock:point:user:1");
+        LockHotKeyTracker.HotLockKey hottest = top.get(0);
+        assertThat(hottest.acquisitions()).isEqualTo(2);
+        assertThat(hottest.failures()).isEqualTo(1);
+        assertThat(hottest.totalWaitMs()).isEqualTo(3600);
+        assertThat(hottest.avgWaitMs()).isEqualTo(1200);
+        assertThat(hottest.maxWaitMs()).isEqualTo(3000);
+    }
+}
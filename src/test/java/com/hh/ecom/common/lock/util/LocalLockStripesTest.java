@@ -0,0 +1,91 @@
+package com.hh.ecom.common.lock.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LocalLockStripes 단위 테스트")
+class LocalLockStripesTest {
+
+    @Test
+    @DisplayName("같은 키는 같은 stripe 로 묶이고, 키 순서와 무관하게 같은 순서로 반환된다")
+    void stripesFor_dedupAndStableOrder() {
+        // given
+        LocalLockStripes stripes = new LocalLockStripes(16);
+
+        // when
+        List<ReentrantLock> forward = stripes.stripesFor(List.of("lock:product:1", "lock:product:2", "lock:product:1"));
+        List<ReentrantLock> backward = stripes.stripesFor(List.of("lock:product:2", "lock:product:1"));
+
+        // then
+        assertThat(forward).doesNotHaveDuplicates();
+        assertThat(forward).containsExactlyElementsOf(backward);
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 stripe 를 보유 중이면 대기 시간 후 실패하고, 먼저 잡은 stripe 는 풀어준다")
+    void tryLockAll_timeoutReleasesPartiallyAcquired() throws Exception {
+        // given
+        LocalLockStripes stripes = new LocalLockStripes(1024);
+        List<ReentrantLock> locks = stripes.stripesFor(List.of("lock:a", "lock:b"));
+        assertThat(locks).hasSize(2);
+
+        ExecutorService holder = Executors.newSingleThreadExecutor();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Future<?> holding = holder.submit(() -> {
+            locks.get(1).lock();
+            locked.countDown();
+            finish.await();
+            locks.get(1).unlock();
+            return null;
+        });
+        locked.await(5, TimeUnit.SECONDS);
+
+        // when
+        boolean acquired = stripes.tryLockAll(locks, 100);
+
+        // then
+        assertThat(acquired).isFalse();
+        assertThat(locks.get(0).isLocked()).isFalse();
+
+        finish.countDown();
+        holding.get(5, TimeUnit.SECONDS);
+        holder.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 스레드는 재진입할 수 있고, 해제 횟수만큼 풀어야 완전히 해제된다")
+    void tryLockAll_reentrant() {
+        // given
+        LocalLockStripes stripes = new LocalLockStripes(16);
+        List<ReentrantLock> locks = stripes.stripesFor(List.of("lock:product:1"));
+
+        // when
+        assertThat(stripes.tryLockAll(locks, 0)).isTrue();
+        assertThat(stripes.tryLockAll(locks, 0)).isTrue();
+        stripes.unlockAll(locks);
+
+        // then
+        assertThat(locks.get(0).isHeldByCurrentThread()).isTrue();
+        stripes.unlockAll(locks);
+        assertThat(locks.get(0).isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("stripe 개수는 2의 거듭제곱이어야 한다")
+    void constructor_requiresPowerOfTwo() {
+        assertThatThrownBy(() -> new LocalLockStripes(100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -16,6 +16,7 @@ public abstract class TestContainersConfig {
                 .withDatabaseName("testdb")
                 .withUsername("test")
                 .withPassword("test")
+                .withUrlParam("rewriteBatchedStatements", "true")
                 .withReuse(true);
         mysqlContainer.start();
 
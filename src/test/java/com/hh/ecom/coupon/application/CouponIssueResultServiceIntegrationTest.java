@@ -0,0 +1,107 @@
+package com.hh.ecom.coupon.application;
+
+import com.hh.ecom.config.TestContainersConfig;
+import com.hh.ecom.coupon.domain.event.CouponIssuedEvent;
+import com.hh.ecom.coupon.domain.exception.CouponErrorCode;
+import com.hh.ecom.coupon.domain.exception.CouponException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("쿠폰 발급 결과 기록 / long-poll 대기 통합 테스트")
+class CouponIssueResultServiceIntegrationTest extends TestContainersConfig {
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    @Autowired
+    private CouponIssueResultService couponIssueResultService;
+
+    @Test
+    @DisplayName("이미 기록된 결과는 바로 반환한다")
+    void returnsRecordedResultImmediately() throws Exception {
+        // given
+        String requestId = UUID.randomUUID().toString();
+        couponIssueResultService.recordResults(List.of(CouponIssuedEvent.success(requestId, 1L, 10L, 100L)));
+
+        // when
+        CouponIssuedEvent result = couponIssueResultService.awaitResult(requestId, 1L, WAIT).get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.status()).isEqualTo(CouponIssuedEvent.IssueStatus.SUCCESS);
+        assertThat(result.couponUserId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청은 결과가 기록되면 깨어난다")
+    void wakesUpWaiterWhenResultRecorded() throws Exception {
+        // given
+        String requestId = UUID.randomUUID().toString();
+        CompletableFuture<CouponIssuedEvent> waiting = couponIssueResultService.awaitResult(requestId, 2L, WAIT);
+        assertThat(waiting).isNotDone();
+
+        // when
+        couponIssueResultService.recordResults(List.of(CouponIssuedEvent.failure(
+                requestId, 2L, 10L, CouponIssuedEvent.IssueStatus.OUT_OF_STOCK, "쿠폰 수량이 소진되었습니다.")));
+
+        // then
+        CouponIssuedEvent result = waiting.get(WAIT.toMillis(), TimeUnit.MILLISECONDS);
+        assertThat(result.status()).isEqualTo(CouponIssuedEvent.IssueStatus.OUT_OF_STOCK);
+        assertThat(result.failureReason()).isEqualTo("쿠폰 수량이 소진되었습니다.");
+    }
+
+    @Test
+    @DisplayName("한 번에 기록된 여러 결과의 대기 요청은 pub/sub 리스너 스레드가 아닌 전용 Executor 에서 함께 깨어난다")
+    void wakesUpBatchOnNotifyExecutor() throws Exception {
+        // given
+        List<String> requestIds = IntStream.range(0, 20).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        Set<String> completingThreads = ConcurrentHashMap.newKeySet();
+        List<CompletableFuture<CouponIssuedEvent>> waiting = requestIds.stream()
+                .map(requestId -> couponIssueResultService.awaitResult(requestId, 5L, WAIT)
+                        .whenComplete((result, e) -> completingThreads.add(Thread.currentThread().getName())))
+                .toList();
+
+        // when
+        couponIssueResultService.recordResults(requestIds.stream()
+                .map(requestId -> CouponIssuedEvent.success(requestId, 5L, 10L, 500L))
+                .toList());
+
+        // then
+        CompletableFuture.allOf(waiting.toArray(CompletableFuture[]::new)).get(WAIT.toMillis(), TimeUnit.MILLISECONDS);
+        assertThat(waiting).allSatisfy(future -> assertThat(future.get().couponUserId()).isEqualTo(500L));
+        assertThat(completingThreads).allSatisfy(name -> assertThat(name).startsWith("coupon-result-notify-"));
+    }
+
+    @Test
+    @DisplayName("결과가 없으면 대기 시간 후 TimeoutException, 다른 사용자의 요청이면 요청 내역 없음으로 끝난다")
+    void timesOutOrRejectsOtherUser() {
+        // given
+        String pendingRequestId = UUID.randomUUID().toString();
+        String otherUsersRequestId = UUID.randomUUID().toString();
+        couponIssueResultService.recordResults(List.of(CouponIssuedEvent.success(otherUsersRequestId, 3L, 10L, 300L)));
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueResultService.awaitResult(pendingRequestId, 3L, Duration.ofMillis(200)).get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThatThrownBy(() -> couponIssueResultService.awaitResult(otherUsersRequestId, 4L, WAIT).get())
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOfSatisfying(CouponException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CouponErrorCode.COUPON_ISSUE_REQUEST_NOT_FOUND));
+    }
+}
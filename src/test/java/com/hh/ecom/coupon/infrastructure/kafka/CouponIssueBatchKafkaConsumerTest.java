@@ -0,0 +1,134 @@
+package com.hh.ecom.coupon.infrastructure.kafka;
+
+import com.hh.ecom.coupon.domain.Coupon;
+import com.hh.ecom.coupon.domain.CouponRepository;
+import com.hh.ecom.coupon.domain.CouponUser;
+import com.hh.ecom.coupon.domain.CouponUserRepository;
+import com.hh.ecom.coupon.domain.event.CouponIssueRequestEvent;
+import com.hh.ecom.coupon.domain.event.CouponIssuedEvent;
+import com.hh.ecom.outbox.domain.MessagePublisher;
+import com.hh.ecom.outbox.infrastructure.kafka.KafkaTopics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponIssueBatchKafkaConsumer 단위 테스트")
+class CouponIssueBatchKafkaConsumerTest {
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private CouponRepository couponRepository;
+    @Mock
+    private CouponUserRepository couponUserRepository;
+    @Mock
+    private MessagePublisher messagePublisher;
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @InjectMocks
+    private CouponIssueBatchKafkaConsumer consumer;
+
+    private static final Long COUPON_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().when(messagePublisher.publishAsync(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    @DisplayName("같은 쿠폰 요청은 수량 1회 차감, 발급 이력 1회 생성으로 처리하고 요청마다 결과를 발행한다")
+    void consume_groupsByCoupon() {
+        // given - 잔여 2개, user 1 은 이미 발급, user 2 는 배치 안에서 재요청
+        Coupon coupon = couponWithQuantity(2);
+        given(couponRepository.findById(COUPON_ID)).willReturn(Optional.of(coupon));
+        given(couponUserRepository.findIssuedUserIds(eq(COUPON_ID), anyCollection())).willReturn(Set.of(1L));
+        AtomicLong ids = new AtomicLong(100);
+        given(couponUserRepository.insertAll(anyList())).willAnswer(invocation -> {
+            List<CouponUser> couponUsers = invocation.getArgument(0);
+            return couponUsers.stream().map(couponUser -> couponUser.toBuilder().id(ids.incrementAndGet()).build()).toList();
+        });
+
+        List<CouponIssueRequestEvent> events = List.of(
+                request("r1", 1L), request("r2", 2L), request("r2-retry", 2L), request("r3", 3L), request("r4", 4L));
+
+        // when
+        consumer.consumeCouponIssueRequests(events, acknowledgment);
+
+        // then
+        ArgumentCaptor<Coupon> savedCoupon = ArgumentCaptor.forClass(Coupon.class);
+        verify(couponRepository, times(1)).save(savedCoupon.capture());
+        assertThat(savedCoupon.getValue().getAvailableQuantity()).isZero();
+        verify(couponUserRepository, times(1)).insertAll(anyList());
+
+        ArgumentCaptor<CouponIssuedEvent> results = ArgumentCaptor.forClass(CouponIssuedEvent.class);
+        verify(messagePublisher, times(5)).publishAsync(eq(KafkaTopics.COUPON_ISSUED), eq(COUPON_ID.toString()), results.capture());
+        assertThat(results.getAllValues())
+                .extracting(CouponIssuedEvent::requestId, CouponIssuedEvent::status)
+                .containsExactlyInAnyOrder(
+                        tuple("r1", CouponIssuedEvent.IssueStatus.DUPLICATE),
+                        tuple("r2", CouponIssuedEvent.IssueStatus.SUCCESS),
+                        tuple("r2-retry", CouponIssuedEvent.IssueStatus.DUPLICATE),
+                        tuple("r3", CouponIssuedEvent.IssueStatus.SUCCESS),
+                        tuple("r4", CouponIssuedEvent.IssueStatus.OUT_OF_STOCK)
+                );
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("쿠폰이 없으면 해당 쿠폰 요청 전체를 실패로 응답하고 배치는 커밋한다")
+    void consume_couponNotFound() {
+        // given
+        given(couponUserRepository.findIssuedUserIds(eq(COUPON_ID), anyCollection())).willReturn(Set.of());
+        given(couponRepository.findById(COUPON_ID)).willReturn(Optional.empty());
+
+        // when
+        consumer.consumeCouponIssueRequests(List.of(request("r1", 1L), request("r2", 2L)), acknowledgment);
+
+        // then
+        ArgumentCaptor<CouponIssuedEvent> results = ArgumentCaptor.forClass(CouponIssuedEvent.class);
+        verify(messagePublisher, times(2)).publishAsync(anyString(), anyString(), results.capture());
+        assertThat(results.getAllValues()).extracting(CouponIssuedEvent::status)
+                .containsOnly(CouponIssuedEvent.IssueStatus.EXPIRED);
+        verify(couponUserRepository, never()).insertAll(anyList());
+        verify(acknowledgment).acknowledge();
+    }
+
+    private static CouponIssueRequestEvent request(String requestId, Long userId) {
+        return CouponIssueRequestEvent.of(requestId, userId, COUPON_ID);
+    }
+
+    private static Coupon couponWithQuantity(int quantity) {
+        return Coupon.create("배치 쿠폰", BigDecimal.valueOf(1000), quantity,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1)).toBuilder().id(COUPON_ID).build();
+    }
+}
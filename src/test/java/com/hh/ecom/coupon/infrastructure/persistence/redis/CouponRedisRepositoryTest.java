@@ -0,0 +1,123 @@
+package com.hh.ecom.coupon.infrastructure.persistence.redis;
+
+import com.hh.ecom.config.TestContainersConfig;
+import com.hh.ecom.coupon.domain.Coupon;
+import com.hh.ecom.coupon.domain.CouponStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest
+@DisplayName("쿠폰 Redis 저장소 목록 조회 / near-cache 통합 테스트")
+class CouponRedisRepositoryTest extends TestContainersConfig {
+
+    @Autowired
+    private CouponRedisRepository couponRedisRepository;
+
+    @Autowired
+    private CouponNearCache couponNearCache;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @AfterEach
+    void tearDown() {
+        couponRedisRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("수량만 바뀐 경우에도 목록 조회에 최신 잔여 수량과 상태가 반영된다")
+    void findAllReflectsLatestQuantity() {
+        // given
+        Coupon saved = couponRedisRepository.save(newCoupon("선착순 쿠폰", 2));
+        couponRedisRepository.findAll(); // near-cache 적재
+
+        // when
+        Coupon soldOut = couponRedisRepository.save(saved.decreaseQuantity(2));
+
+        // then
+        List<Coupon> coupons = couponRedisRepository.findAll();
+        assertThat(coupons).hasSize(1);
+        assertThat(coupons.get(0).getAvailableQuantity()).isZero();
+        assertThat(coupons.get(0).getStatus()).isEqualTo(CouponStatus.SOLD_OUT);
+        assertThat(couponRedisRepository.findAllIssuable()).isEmpty();
+        assertThat(couponNearCache.get(soldOut.getId())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("메타데이터가 바뀌면 저장 즉시 near-cache 가 비워져 목록 조회에 반영된다")
+    void metadataChangeInvalidatesNearCache() {
+        // given
+        Coupon saved = couponRedisRepository.save(newCoupon("신규 가입 쿠폰", 10));
+        couponRedisRepository.findAll();
+
+        // when
+        couponRedisRepository.save(saved.disable());
+
+        // then
+        List<Coupon> coupons = couponRedisRepository.findAll();
+        assertThat(coupons).extracting(Coupon::getStatus).containsExactly(CouponStatus.DISABLED);
+        assertThat(couponRedisRepository.findAllIssuable()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 무효화 메시지를 받으면 해당 쿠폰을 near-cache 에서 제거한다")
+    void evictsOnInvalidationMessage() {
+        // given
+        Coupon saved = couponRedisRepository.save(newCoupon("이벤트 쿠폰", 5));
+        couponRedisRepository.findAll();
+        assertThat(couponNearCache.get(saved.getId())).isNotNull();
+
+        // when
+        redissonClient.getTopic(CouponNearCache.INVALIDATION_CHANNEL, StringCodec.INSTANCE)
+                .publish(String.valueOf(saved.getId()));
+
+        // then
+        await().untilAsserted(() -> assertThat(couponNearCache.get(saved.getId())).isNull());
+    }
+
+    @Test
+    @DisplayName("캐시가 비어 있는 노드에서도 수량만 바뀐 저장은 무효화를 발행하지 않는다")
+    void quantityOnlySaveDoesNotPublishFromColdNode() {
+        // given - findAll 을 거치지 않아 이 노드의 near-cache 는 비어 있음
+        Coupon saved = couponRedisRepository.save(newCoupon("발급 전용 노드 쿠폰", 5));
+        List<String> messages = new CopyOnWriteArrayList<>();
+        RTopic topic = redissonClient.getTopic(CouponNearCache.INVALIDATION_CHANNEL, StringCodec.INSTANCE);
+        int listenerId = topic.addListener(String.class, (channel, message) -> messages.add(message));
+
+        try {
+            // 생성 시 발행된 메시지가 섞이지 않도록, 구분용 메시지가 도착한 뒤부터 기록
+            topic.publish("sentinel");
+            await().untilAsserted(() -> assertThat(messages).contains("sentinel"));
+            messages.clear();
+
+            // when - 수량만 바뀐 저장 후 메타데이터 변경 저장
+            Coupon issued = couponRedisRepository.save(saved.decreaseQuantity(1));
+            couponRedisRepository.save(issued.disable());
+
+            // then - 같은 채널 메시지는 순서대로 도착하므로, 메타데이터 변경 1건만 받았으면 수량 변경은 발행되지 않은 것
+            await().untilAsserted(() -> assertThat(messages).isNotEmpty());
+            assertThat(messages).containsExactly(String.valueOf(saved.getId()));
+        } finally {
+            topic.removeListener(listenerId);
+        }
+    }
+
+    private Coupon newCoupon(String name, int quantity) {
+        LocalDateTime now = LocalDateTime.now();
+        return Coupon.create(name, BigDecimal.valueOf(1000), quantity, now.minusDays(1), now.plusDays(7));
+    }
+}
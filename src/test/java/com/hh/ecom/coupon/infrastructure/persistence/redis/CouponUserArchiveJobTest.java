@@ -0,0 +1,114 @@
+package com.hh.ecom.coupon.infrastructure.persistence.redis;
+
+import com.hh.ecom.config.TestContainersConfig;
+import com.hh.ecom.coupon.domain.CouponUser;
+import com.hh.ecom.coupon.infrastructure.persistence.entity.CouponUserEntity;
+import com.hh.ecom.coupon.infrastructure.persistence.jpa.CouponUserJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "coupon.archive.enabled=true")
+@DisplayName("쿠폰 발급 이력 스트리밍 조회 / 아카이빙 통합 테스트")
+class CouponUserArchiveJobTest extends TestContainersConfig {
+    private static final Long EXPIRED_COUPON_ID = 93_001L;
+
+    @Autowired
+    private CouponUserArchiveJob couponUserArchiveJob;
+
+    @Autowired
+    private CouponUserRedisRepository couponUserRedisRepository;
+
+    @Autowired
+    private CouponUserJpaRepository couponUserJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        couponUserRedisRepository.deleteAll();
+        couponUserJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("발급 사용자를 batch 크기와 무관하게 빠짐없이 스트리밍한다")
+    void streamsAllIssuedUsersInBatches() {
+        // given
+        issue(EXPIRED_COUPON_ID, 25, LocalDateTime.now().plusDays(1));
+
+        // when
+        List<List<CouponUser>> batches;
+        try (Stream<List<CouponUser>> stream = couponUserRedisRepository.streamBatchesByCouponId(EXPIRED_COUPON_ID, 10)) {
+            batches = stream.toList();
+        }
+
+        // then
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(10));
+        assertThat(batches.stream().flatMap(List::stream).map(CouponUser::getUserId))
+                .containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, 25).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("만료된 발급 이력은 MySQL 로 옮겨지고 Redis 에서 제거되며, 재실행해도 중복 저장되지 않는다")
+    void archivesExpiredCouponUsers() {
+        // given
+        LocalDateTime expireDate = LocalDateTime.now().minusDays(30);
+        List<CouponUser> issued = issue(EXPIRED_COUPON_ID, 12, expireDate);
+        LocalDateTime expiredBefore = LocalDateTime.now().minusDays(7);
+
+        // when
+        int archived = couponUserArchiveJob.archiveCoupon(EXPIRED_COUPON_ID, expiredBefore);
+        int rerun = couponUserArchiveJob.archiveCoupon(EXPIRED_COUPON_ID, expiredBefore);
+
+        // then
+        assertThat(archived).isEqualTo(12);
+        assertThat(rerun).isZero();
+        assertThat(couponUserRedisRepository.findByCouponId(EXPIRED_COUPON_ID)).isEmpty();
+        assertThat(couponUserRedisRepository.findByUserId(1L)).isEmpty();
+        assertThat(couponUserJpaRepository.findByCouponId(EXPIRED_COUPON_ID))
+                .hasSize(12)
+                .allSatisfy(entity -> assertThat(entity.getExpireDate()).isBefore(expiredBefore));
+        // Redis 발급 이력 ID 가 그대로 PK 로 옮겨져 orders.coupon_user_id 가 계속 같은 행을 가리킨다
+        assertThat(couponUserJpaRepository.findByCouponId(EXPIRED_COUPON_ID))
+                .extracting(CouponUserEntity::getId)
+                .containsExactlyInAnyOrderElementsOf(issued.stream().map(CouponUser::getId).toList());
+    }
+
+    @Test
+    @DisplayName("같은 ID 의 다른 발급 이력이 MySQL 에 이미 있으면 Redis 에서 지우지 않고 남겨 둔다")
+    void keepsConflictingCouponUserInRedis() {
+        // given
+        List<CouponUser> issued = issue(EXPIRED_COUPON_ID, 2, LocalDateTime.now().minusDays(30));
+        CouponUser conflicting = issued.get(0);
+        jdbcTemplate.update("""
+                INSERT INTO coupon_user (id, user_id, coupon_id, issued_at, expire_date, is_used, version)
+                VALUES (?, ?, ?, NOW(), NOW(), false, 0)
+                """, conflicting.getId(), 999_999L, 1L);
+
+        // when
+        int archived = couponUserArchiveJob.archiveCoupon(EXPIRED_COUPON_ID, LocalDateTime.now().minusDays(7));
+
+        // then
+        assertThat(archived).isEqualTo(1);
+        assertThat(couponUserRedisRepository.findByCouponId(EXPIRED_COUPON_ID))
+                .extracting(CouponUser::getId)
+                .containsExactly(conflicting.getId());
+    }
+
+    private List<CouponUser> issue(Long couponId, int count, LocalDateTime expireDate) {
+        return couponUserRedisRepository.insertAll(LongStream.rangeClosed(1, count)
+                .mapToObj(userId -> CouponUser.issue(userId, couponId, expireDate))
+                .toList());
+    }
+}
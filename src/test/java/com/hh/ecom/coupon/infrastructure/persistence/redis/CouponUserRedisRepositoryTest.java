@@ -0,0 +1,110 @@
+package com.hh.ecom.coupon.infrastructure.persistence.redis;
+
+import com.hh.ecom.config.TestContainersConfig;
+import com.hh.ecom.coupon.domain.CouponUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("쿠폰 발급 이력 Redis 저장소 사용자 인덱스 통합 테스트")
+class CouponUserRedisRepositoryTest extends TestContainersConfig {
+
+    @Autowired
+    private CouponUserRedisRepository couponUserRedisRepository;
+
+    @Autowired
+    @Qualifier("couponRedisTemplate")
+    private RedisTemplate<String, Object> couponRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        couponUserRedisRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("save 와 insertAll 로 저장한 발급 이력을 사용자+쿠폰, 사용자, 쿠폰 기준으로 모두 찾을 수 있다")
+    void indexesAreMaintainedOnSaveAndInsertAll() {
+        // given
+        LocalDateTime expireDate = LocalDateTime.now().plusDays(7);
+        CouponUser single = couponUserRedisRepository.save(CouponUser.issue(1L, 10L, expireDate));
+        List<CouponUser> batch = couponUserRedisRepository.insertAll(List.of(
+                CouponUser.issue(1L, 20L, expireDate),
+                CouponUser.issue(2L, 20L, expireDate)
+        ));
+
+        // when & then - 사용자+쿠폰
+        assertThat(couponUserRedisRepository.findByUserIdAndCouponId(1L, 10L))
+                .hasValueSatisfying(found -> assertThat(found.getId()).isEqualTo(single.getId()));
+        assertThat(couponUserRedisRepository.findByUserIdAndCouponId(1L, 20L))
+                .hasValueSatisfying(found -> assertThat(found.getId()).isEqualTo(batch.get(0).getId()));
+        assertThat(couponUserRedisRepository.findByUserIdAndCouponId(2L, 10L)).isEmpty();
+
+        // when & then - 사용자별
+        assertThat(couponUserRedisRepository.findByUserId(1L))
+                .extracting(CouponUser::getCouponId)
+                .containsExactlyInAnyOrder(10L, 20L);
+
+        // when & then - 쿠폰별
+        assertThat(couponUserRedisRepository.findByCouponId(20L))
+                .extracting(CouponUser::getUserId)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("사용 처리로 본문을 다시 저장해도 인덱스는 같은 발급 이력을 가리킨다")
+    void resaveKeepsSingleIndexEntry() {
+        // given
+        CouponUser issued = couponUserRedisRepository.save(CouponUser.issue(3L, 30L, LocalDateTime.now().plusDays(7)));
+
+        // when
+        couponUserRedisRepository.save(issued.use(100L));
+
+        // then
+        List<CouponUser> coupons = couponUserRedisRepository.findByUserId(3L);
+        assertThat(coupons).hasSize(1);
+        assertThat(coupons.get(0).isUsed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("save 로 기록한 인덱스는 insertAll 과 같은 형식이라 쿠폰별 발급 여부 조회에도 잡힌다")
+    void saveWritesIndexesInSameFormatAsInsertAll() {
+        // given
+        CouponUser saved = couponUserRedisRepository.save(CouponUser.issue(4L, 40L, LocalDateTime.now().plusDays(7)));
+
+        // then
+        assertThat(couponRedisTemplate.opsForHash().get("user:coupon-index:4", "40"))
+                .isEqualTo(String.valueOf(saved.getId()));
+        assertThat(couponUserRedisRepository.findIssuedUserIds(40L, List.of(4L, 5L))).containsExactly(4L);
+        assertThat(couponUserRedisRepository.findByCouponId(40L))
+                .extracting(CouponUser::getId)
+                .containsExactly(saved.getId());
+    }
+
+    @Test
+    @DisplayName("이전 버전의 사용자별 Set 인덱스는 Hash 인덱스로 옮겨지고 지워진다")
+    void migratesLegacySetIndex() {
+        // given - 이전 버전 형식: user:coupons:{userId} Set 에 couponUserId
+        CouponUser saved = couponUserRedisRepository.save(CouponUser.issue(6L, 60L, LocalDateTime.now().plusDays(7)));
+        couponRedisTemplate.delete("user:coupon-index:6");
+        couponRedisTemplate.opsForSet().add("user:coupons:6", String.valueOf(saved.getId()));
+
+        // when
+        long migrated = couponUserRedisRepository.migrateLegacyUserIndexes(100);
+
+        // then
+        assertThat(migrated).isEqualTo(1);
+        assertThat(couponRedisTemplate.hasKey("user:coupons:6")).isFalse();
+        assertThat(couponUserRedisRepository.findByUserIdAndCouponId(6L, 60L))
+                .hasValueSatisfying(found -> assertThat(found.getId()).isEqualTo(saved.getId()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.hh.ecom.coupon.infrastructure.redis;
+
+import com.hh.ecom.config.TestContainersConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("쿠폰 입장 Lua 스크립트 통합 테스트")
+class CouponAdmissionScriptTest extends TestContainersConfig {
+    private static final Long COUPON_ID = 92_001L;
+
+    @Autowired
+    private CouponAdmissionScript couponAdmissionScript;
+
+    @Autowired
+    private RedisCouponKeyGenerator keyGenerator;
+
+    @Autowired
+    @Qualifier("customStringRedisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(
+                keyGenerator.generateStockKey(COUPON_ID),
+                keyGenerator.generateUsersSetKey(COUPON_ID),
+                keyGenerator.generateQueueKey(COUPON_ID)
+        ));
+    }
+
+    @Test
+    @DisplayName("중복 요청은 ALREADY_ISSUED, 재고 정보가 없으면 NOT_INITIALIZED 를 반환하고 참여자를 등록하지 않는다")
+    void rejectedRequestsLeaveNoParticipant() {
+        // when & then - 재고 미초기화
+        assertThat(couponAdmissionScript.admit(1L, COUPON_ID)).isEqualTo(CouponAdmissionScript.Result.NOT_INITIALIZED);
+        assertThat(redisTemplate.opsForSet().size(keyGenerator.generateUsersSetKey(COUPON_ID))).isZero();
+
+        // when & then - 중복 요청
+        redisTemplate.opsForValue().set(keyGenerator.generateStockKey(COUPON_ID), "10");
+        assertThat(couponAdmissionScript.admit(1L, COUPON_ID)).isEqualTo(CouponAdmissionScript.Result.ADMITTED);
+        assertThat(couponAdmissionScript.admit(1L, COUPON_ID)).isEqualTo(CouponAdmissionScript.Result.ALREADY_ISSUED);
+        assertThat(redisTemplate.opsForSet().size(keyGenerator.generateUsersSetKey(COUPON_ID))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 요청이 몰려도 잔여 수량만큼만 입장시킨다")
+    void admitsExactlyStockUnderConcurrency() {
+        // given
+        int stock = 30;
+        int requestCount = 200;
+        redisTemplate.opsForValue().set(keyGenerator.generateStockKey(COUPON_ID), String.valueOf(stock));
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+
+        // when
+        List<CompletableFuture<CouponAdmissionScript.Result>> futures = LongStream.rangeClosed(1, requestCount)
+                .mapToObj(userId -> CompletableFuture.supplyAsync(() -> couponAdmissionScript.admit(userId, COUPON_ID), executor))
+                .toList();
+        List<CouponAdmissionScript.Result> results = futures.stream().map(CompletableFuture::join).toList();
+        executor.shutdown();
+
+        // then
+        assertThat(results).filteredOn(CouponAdmissionScript.Result::isAdmitted).hasSize(stock);
+        assertThat(results).filteredOn(result -> result == CouponAdmissionScript.Result.SOLD_OUT).hasSize(requestCount - stock);
+        assertThat(redisTemplate.opsForSet().size(keyGenerator.generateUsersSetKey(COUPON_ID))).isEqualTo(stock);
+    }
+
+    @Test
+    @DisplayName("admitAndEnqueue 는 입장한 요청만 발급 큐에 적재한다")
+    void admitAndEnqueuePushesOnlyAdmitted() {
+        // given
+        redisTemplate.opsForValue().set(keyGenerator.generateStockKey(COUPON_ID), "1");
+
+        // when
+        couponAdmissionScript.admitAndEnqueue(1L, COUPON_ID, "entry-1");
+        couponAdmissionScript.admitAndEnqueue(2L, COUPON_ID, "entry-2");
+
+        // then
+        assertThat(redisTemplate.opsForList().range(keyGenerator.generateQueueKey(COUPON_ID), 0, -1))
+                .containsExactly("entry-1");
+    }
+}
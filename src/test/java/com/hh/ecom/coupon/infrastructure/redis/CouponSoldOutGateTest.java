@@ -0,0 +1,107 @@
+package com.hh.ecom.coupon.infrastructure.redis;
+
+import com.hh.ecom.config.TestContainersConfig;
+import com.hh.ecom.coupon.application.RedisCouponService;
+import com.hh.ecom.coupon.domain.exception.CouponErrorCode;
+import com.hh.ecom.coupon.domain.exception.CouponException;
+import com.hh.ecom.coupon.infrastructure.kafka.CouponIssueKafkaProducer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest
+@DisplayName("쿠폰 품절 게이트 통합 테스트")
+class CouponSoldOutGateTest extends TestContainersConfig {
+    private static final Long COUPON_ID = 95_001L;
+
+    @Autowired
+    private CouponSoldOutGate couponSoldOutGate;
+
+    @Autowired
+    private CouponIssueKafkaProducer couponIssueKafkaProducer;
+
+    @Autowired
+    private RedisCouponService redisCouponService;
+
+    @Autowired
+    private RedisCouponKeyGenerator keyGenerator;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    @Qualifier("customStringRedisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(
+                keyGenerator.generateStockKey(COUPON_ID),
+                keyGenerator.generateUsersSetKey(COUPON_ID)
+        ));
+        couponSoldOutGate.reopen(COUPON_ID);
+    }
+
+    @Test
+    @DisplayName("입장 결과가 SOLD_OUT 이면 게이트가 닫히고, 이후 요청은 Redis 참여자 등록 없이 거절된다")
+    void closesGateOnSoldOut() {
+        // given - 재고 1장
+        redisCouponService.initializeCouponStock(COUPON_ID, 1);
+        couponIssueKafkaProducer.publishCouponIssueRequest(1L, COUPON_ID);
+
+        // when - 두 번째 사용자가 품절을 확인
+        assertThatThrownBy(() -> couponIssueKafkaProducer.publishCouponIssueRequest(2L, COUPON_ID))
+                .isInstanceOfSatisfying(CouponException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CouponErrorCode.COUPON_SOLD_OUT));
+
+        // then - 이미 입장한 사용자도 Redis 중복 판정 전에 품절로 거절 (의도된 동작 - 게이트는 사용자를 구분하지 않는다)
+        assertThat(couponSoldOutGate.isSoldOut(COUPON_ID)).isTrue();
+        assertThatThrownBy(() -> couponIssueKafkaProducer.publishCouponIssueRequest(1L, COUPON_ID))
+                .isInstanceOfSatisfying(CouponException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(CouponErrorCode.COUPON_SOLD_OUT));
+        assertThat(redisCouponService.getParticipantCount(COUPON_ID)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 품절/해제 메시지를 받으면 이 노드의 게이트에 반영한다")
+    void appliesRemoteMessages() {
+        // when
+        redissonClient.getTopic(CouponSoldOutGate.CHANNEL, StringCodec.INSTANCE)
+                .publish(String.valueOf(COUPON_ID));
+
+        // then
+        await().untilAsserted(() -> assertThat(couponSoldOutGate.isSoldOut(COUPON_ID)).isTrue());
+
+        // when - 재고 재초기화로 해제
+        redissonClient.getTopic(CouponSoldOutGate.CHANNEL, StringCodec.INSTANCE)
+                .publish("-" + COUPON_ID);
+
+        // then
+        await().untilAsserted(() -> assertThat(couponSoldOutGate.isSoldOut(COUPON_ID)).isFalse());
+    }
+
+    @Test
+    @DisplayName("재고를 다시 초기화하면 게이트가 열린다")
+    void reopensOnStockInitialization() {
+        // given
+        couponSoldOutGate.markSoldOut(COUPON_ID);
+
+        // when
+        redisCouponService.initializeCouponStock(COUPON_ID, 3);
+
+        // then
+        assertThat(couponSoldOutGate.isSoldOut(COUPON_ID)).isFalse();
+    }
+}
@@ -0,0 +1,115 @@
+package com.hh.ecom.coupon.infrastructure.redis;
+
+import com.hh.ecom.config.TestContainersConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("핫 쿠폰 재고 샤딩 통합 테스트")
+class CouponStockShardsTest extends TestContainersConfig {
+    private static final Long COUPON_ID = 94_001L;
+    private static final int SHARD_COUNT = 4;
+
+    @Autowired
+    private RedisCouponKeyGenerator keyGenerator;
+
+    @Autowired
+    @Qualifier("customStringRedisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    private CouponStockShards couponStockShards;
+    private CouponAdmissionScript couponAdmissionScript;
+
+    @BeforeEach
+    void setUp() {
+        couponStockShards = new CouponStockShards(redisTemplate, keyGenerator, true, SHARD_COUNT, 8);
+        couponAdmissionScript = new CouponAdmissionScript(redisTemplate, keyGenerator, couponStockShards);
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<String> keys = new ArrayList<>();
+        keys.add(keyGenerator.generateShardCountKey(COUPON_ID));
+        keys.add(keyGenerator.generateStockKey(COUPON_ID));
+        IntStream.range(0, SHARD_COUNT).forEach(shard -> {
+            keys.add(keyGenerator.generateShardStockKey(COUPON_ID, shard));
+            keys.add(keyGenerator.generateShardUsersSetKey(COUPON_ID, shard));
+        });
+        redisTemplate.delete(keys);
+    }
+
+    @Test
+    @DisplayName("재고가 기준 이상이면 샤드별로 나눠 기록하고, 잔여 수량은 샤드 합으로 계산한다")
+    void splitsStockAcrossShards() {
+        // when
+        boolean sharded = couponStockShards.initializeIfHot(COUPON_ID, 10);
+
+        // then - 10 = 3 + 3 + 2 + 2
+        assertThat(sharded).isTrue();
+        assertThat(couponStockShards.shardCountOf(COUPON_ID)).isEqualTo(SHARD_COUNT);
+        assertThat(IntStream.range(0, SHARD_COUNT)
+                .mapToObj(shard -> redisTemplate.opsForValue().get(keyGenerator.generateShardStockKey(COUPON_ID, shard))))
+                .containsExactly("3", "3", "2", "2");
+        assertThat(couponStockShards.remaining(COUPON_ID)).isEqualTo(10);
+        assertThat(couponStockShards.initializeIfHot(COUPON_ID, 7)).isFalse();
+    }
+
+    @Test
+    @DisplayName("홈 샤드가 소진되면 다음 샤드로 넘어가고, 이미 입장한 사용자는 어느 샤드에서든 중복으로 거절된다")
+    void fallsBackToSiblingShards() {
+        // given - 샤드당 2장, 모든 사용자의 홈 샤드가 0 이 되도록 4의 배수 userId 사용
+        couponStockShards.initializeIfHot(COUPON_ID, 8);
+        List<Long> userIds = LongStream.rangeClosed(1, 9).map(i -> i * SHARD_COUNT).boxed().toList();
+
+        // when
+        List<CouponAdmissionScript.Result> results = userIds.stream()
+                .map(userId -> couponAdmissionScript.admit(userId, COUPON_ID))
+                .toList();
+
+        // then
+        assertThat(results.subList(0, 8)).containsOnly(CouponAdmissionScript.Result.ADMITTED);
+        assertThat(results.get(8)).isEqualTo(CouponAdmissionScript.Result.SOLD_OUT);
+        assertThat(couponAdmissionScript.admit(userIds.get(7), COUPON_ID))
+                .isEqualTo(CouponAdmissionScript.Result.ALREADY_ISSUED);
+        assertThat(couponStockShards.remaining(COUPON_ID)).isZero();
+        assertThat(couponStockShards.participantCount(COUPON_ID)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("동시 요청이 몰려도 샤드 재고의 합만큼만 입장시킨다")
+    void admitsExactlyTotalStockUnderConcurrency() {
+        // given
+        int stock = 50;
+        couponStockShards.initializeIfHot(COUPON_ID, stock);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+
+        // when - 300명이 각각 두 번씩 요청
+        List<CompletableFuture<CouponAdmissionScript.Result>> futures = LongStream.rangeClosed(1, 600)
+                .mapToObj(i -> CompletableFuture.supplyAsync(
+                        () -> couponAdmissionScript.admit((i + 1) / 2, COUPON_ID), executor))
+                .toList();
+        List<CouponAdmissionScript.Result> results = futures.stream().map(CompletableFuture::join).toList();
+        executor.shutdown();
+
+        // then
+        assertThat(results).filteredOn(CouponAdmissionScript.Result::isAdmitted).hasSize(stock);
+        assertThat(couponStockShards.participantCount(COUPON_ID)).isEqualTo(stock);
+        assertThat(couponStockShards.remaining(COUPON_ID)).isZero();
+    }
+}
@@ -0,0 +1,128 @@
+package com.hh.ecom.order.application;
+
+import com.hh.ecom.config.TestContainersConfig;
+import com.hh.ecom.order.domain.OrderItem;
+import com.hh.ecom.order.domain.OrderItemRepository;
+import com.hh.ecom.point.domain.PointTransaction;
+import com.hh.ecom.point.domain.PointTransactionRepository;
+import com.hh.ecom.point.domain.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * order_items / point_transactions 저장 방식별 처리량 비교 (Testcontainers MySQL)
+ * - before: 행마다 JPA save (INSERT 1회 왕복/행)
+ * - after : JDBC batch INSERT (rewriteBatchedStatements → multi-row INSERT)
+ */
+@SpringBootTest
+@DisplayName("주문상품/포인트 거래내역 batch INSERT 벤치마크")
+class BatchInsertBenchmarkTest extends TestContainersConfig {
+    private static final int ROW_COUNT = 2_000;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        orderItemRepository.deleteAll();
+        pointTransactionRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("order_items - 행 단위 save vs batch saveAll")
+    void orderItems_rowByRowVsBatch() {
+        // warm-up
+        insertOrderItemsRowByRow(createOrderItems(1L, 100));
+        orderItemRepository.saveAll(createOrderItems(2L, 100));
+        orderItemRepository.deleteAll();
+
+        // before
+        long rowStart = System.nanoTime();
+        insertOrderItemsRowByRow(createOrderItems(10L, ROW_COUNT));
+        long rowElapsed = System.nanoTime() - rowStart;
+
+        // after
+        long batchStart = System.nanoTime();
+        List<OrderItem> saved = transactionTemplate.execute(status ->
+                orderItemRepository.saveAll(createOrderItems(20L, ROW_COUNT)));
+        long batchElapsed = System.nanoTime() - batchStart;
+
+        printResult("order_items", rowElapsed, batchElapsed);
+
+        assertThat(saved).hasSize(ROW_COUNT);
+        assertThat(saved).extracting(OrderItem::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(orderItemRepository.findByOrderId(20L)).hasSize(ROW_COUNT);
+    }
+
+    @Test
+    @DisplayName("point_transactions - 행 단위 save vs batch saveAll (생성 키 반환)")
+    void pointTransactions_rowByRowVsBatch() {
+        // warm-up
+        insertPointTransactionsRowByRow(createPointTransactions(1L, 100));
+        pointTransactionRepository.saveAll(createPointTransactions(2L, 100));
+        pointTransactionRepository.deleteAll();
+
+        // before
+        long rowStart = System.nanoTime();
+        insertPointTransactionsRowByRow(createPointTransactions(10L, ROW_COUNT));
+        long rowElapsed = System.nanoTime() - rowStart;
+
+        // after
+        long batchStart = System.nanoTime();
+        List<PointTransaction> saved = transactionTemplate.execute(status ->
+                pointTransactionRepository.saveAll(createPointTransactions(20L, ROW_COUNT)));
+        long batchElapsed = System.nanoTime() - batchStart;
+
+        printResult("point_transactions", rowElapsed, batchElapsed);
+
+        assertThat(saved).hasSize(ROW_COUNT);
+        assertThat(saved).extracting(PointTransaction::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(pointTransactionRepository.findById(saved.get(0).getId())).isPresent();
+        assertThat(pointTransactionRepository.findByPointId(20L)).hasSize(ROW_COUNT);
+    }
+
+    private void insertOrderItemsRowByRow(List<OrderItem> items) {
+        transactionTemplate.executeWithoutResult(status -> items.forEach(orderItemRepository::save));
+    }
+
+    private void insertPointTransactionsRowByRow(List<PointTransaction> transactions) {
+        transactionTemplate.executeWithoutResult(status -> transactions.forEach(pointTransactionRepository::save));
+    }
+
+    private List<OrderItem> createOrderItems(Long orderId, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> OrderItem.create(orderId, (long) i + 1, "상품" + i, BigDecimal.valueOf(1000), 1))
+                .toList();
+    }
+
+    private List<PointTransaction> createPointTransactions(Long pointId, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> PointTransaction.create(
+                        pointId, BigDecimal.valueOf(100), TransactionType.CHARGE, null, BigDecimal.valueOf(100L * (i + 1))))
+                .toList();
+    }
+
+    private void printResult(String table, long rowElapsedNanos, long batchElapsedNanos) {
+        double rowPerSec = ROW_COUNT / (rowElapsedNanos / 1_000_000_000.0);
+        double batchPerSec = ROW_COUNT / (batchElapsedNanos / 1_000_000_000.0);
+
+        System.out.printf("%n========== %s batch INSERT 벤치마크 (%,d rows) ==========%n", table, ROW_COUNT);
+        System.out.printf("행 단위 save : %,8d ms (%,.0f rows/sec)%n", rowElapsedNanos / 1_000_000, rowPerSec);
+        System.out.printf("batch saveAll: %,8d ms (%,.0f rows/sec)%n", batchElapsedNanos / 1_000_000, batchPerSec);
+        System.out.printf("처리량 향상   : %.1fx%n", batchPerSec / rowPerSec);
+    }
+}
@@ -0,0 +1,134 @@
+package com.hh.ecom.order.application;
+
+import com.hh.ecom.config.TestContainersConfig;
+import com.hh.ecom.coupon.domain.CouponUser;
+import com.hh.ecom.coupon.domain.CouponUserRepository;
+import com.hh.ecom.order.domain.*;
+import com.hh.ecom.point.application.PointService;
+import com.hh.ecom.point.domain.PointRepository;
+import com.hh.ecom.point.domain.PointTransaction;
+import com.hh.ecom.point.domain.PointTransactionRepository;
+import com.hh.ecom.product.domain.Product;
+import com.hh.ecom.product.domain.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("OrderCompensationSweeper 통합 테스트")
+class OrderCompensationSweeperIntegrationTest extends TestContainersConfig {
+
+    @Autowired
+    private OrderCompensationSweeper sweeper;
+    @Autowired
+    private OrderCommandService orderCommandService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private PointService pointService;
+    @Autowired
+    private PointRepository pointRepository;
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+    @Autowired
+    private CouponUserRepository couponUserRepository;
+
+    private static final Long USER_ID = 7_001L;
+
+    @BeforeEach
+    void setUp() {
+        orderItemRepository.deleteAll();
+        orderRepository.deleteAll();
+        pointTransactionRepository.deleteAll();
+        pointRepository.deleteAll();
+        couponUserRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("취소 요청 주문의 재고/포인트/쿠폰을 일괄 보상하고 CANCELED 로 바꾸며, 재실행해도 중복 보상하지 않는다")
+    void compensateChunk_restoresAndIsIdempotent() {
+        // given
+        Product product = productRepository.save(Product.create("키보드", "기계식", BigDecimal.valueOf(10000), 10));
+        pointService.chargePoint(USER_ID, BigDecimal.valueOf(50000));
+
+        CouponUser couponUser = couponUserRepository.save(
+                CouponUser.issue(USER_ID, 1L, LocalDateTime.now().plusDays(7)));
+
+        Order first = placePaidOrder(product, 3, BigDecimal.valueOf(30000), BigDecimal.valueOf(5000), couponUser.getId());
+        Order second = placePaidOrder(product, 2, BigDecimal.valueOf(20000), BigDecimal.ZERO, null);
+        couponUserRepository.save(couponUser.use(first.getId()));
+
+        orderCommandService.requestCancel(first.getId(), USER_ID);
+        orderCommandService.requestCancel(second.getId(), USER_ID);
+
+        // 주문 후: 재고 10 - 5 = 5, 포인트 50000 - 25000 - 20000 = 5000
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(5);
+        assertThat(pointService.getBalance(USER_ID)).isEqualByComparingTo(BigDecimal.valueOf(5000));
+
+        // when
+        sweeper.compensateChunk(LocalDateTime.now());
+        sweeper.compensateChunk(LocalDateTime.now()); // 재실행
+
+        // then
+        assertThat(orderRepository.findById(first.getId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(orderRepository.findById(second.getId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(orderItemRepository.findByOrderIdIn(List.of(first.getId(), second.getId())))
+                .allMatch(item -> item.getStatus() == OrderItemStatus.CANCELED);
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(10);
+        assertThat(pointService.getBalance(USER_ID)).isEqualByComparingTo(BigDecimal.valueOf(50000));
+
+        List<PointTransaction> refunds = pointService.getTransactionHistory(USER_ID).stream()
+                .filter(PointTransaction::isRefund)
+                .toList();
+        assertThat(refunds).hasSize(2);
+        assertThat(refunds).extracting(PointTransaction::getOrderId)
+                .containsExactlyInAnyOrder(first.getId(), second.getId());
+
+        CouponUser restoredCoupon = couponUserRepository.findById(couponUser.getId()).orElseThrow();
+        assertThat(restoredCoupon.isUsed()).isFalse();
+        assertThat(restoredCoupon.getOrderId()).isNull();
+    }
+
+    @Test
+    @DisplayName("결제 완료 주문은 취소 요청 전까지 보상 대상이 아니다")
+    void compensateChunk_ignoresPaidOrders() {
+        // given
+        Product product = productRepository.save(Product.create("마우스", "무선", BigDecimal.valueOf(5000), 10));
+        pointService.chargePoint(USER_ID, BigDecimal.valueOf(10000));
+        Order paid = placePaidOrder(product, 1, BigDecimal.valueOf(5000), BigDecimal.ZERO, null);
+
+        // when
+        sweeper.compensateChunk(LocalDateTime.now());
+
+        // then
+        assertThat(orderRepository.findById(paid.getId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(9);
+    }
+
+    /**
+     * 주문 생성 트랜잭션이 남기는 것과 같은 상태(주문상품, 재고 차감, 포인트 USE 내역)를 직접 만든다
+     */
+    private Order placePaidOrder(Product product, int quantity, BigDecimal totalAmount, BigDecimal discountAmount, Long couponUserId) {
+        Order order = orderRepository.save(
+                Order.create(USER_ID, "ORDER-" + System.nanoTime(), totalAmount, discountAmount, couponUserId));
+        orderItemRepository.saveAll(List.of(
+                OrderItem.create(order.getId(), product.getId(), product.getName(), product.getPrice(), quantity)));
+        productRepository.decreaseStocks(Map.of(product.getId(), quantity));
+        pointService.usePoint(USER_ID, order.getFinalAmount(), order.getId());
+        return orderRepository.save(order.processPayment());
+    }
+}
@@ -0,0 +1,187 @@
+package com.hh.ecom.order.application;
+
+import com.hh.ecom.cart.application.CartService;
+import com.hh.ecom.cart.domain.CartItem;
+import com.hh.ecom.coupon.application.CouponQueryService;
+import com.hh.ecom.coupon.domain.Coupon;
+import com.hh.ecom.coupon.domain.CouponStatus;
+import com.hh.ecom.coupon.domain.CouponUser;
+import com.hh.ecom.coupon.domain.CouponUserWithCoupon;
+import com.hh.ecom.order.application.dto.CreateOrderCommand;
+import com.hh.ecom.order.application.dto.OrderSnapshot;
+import com.hh.ecom.order.domain.exception.OrderException;
+import com.hh.ecom.point.application.PointService;
+import com.hh.ecom.point.domain.Point;
+import com.hh.ecom.product.application.ProductService;
+import com.hh.ecom.product.domain.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderFactory 단위 테스트")
+class OrderFactoryTest {
+    @Mock
+    private CartService cartService;
+    @Mock
+    private ProductService productService;
+    @Mock
+    private PointService pointService;
+    @Mock
+    private CouponQueryService couponQueryService;
+
+    @InjectMocks
+    private OrderFactory orderFactory;
+
+    @Test
+    @DisplayName("장바구니/상품/쿠폰/포인트를 한 번씩만 조회하여 스냅샷을 만든다")
+    void assemble_readsEachSourceOnce() {
+        // given
+        Long userId = 1L;
+        Long couponId = 10L;
+        List<Long> cartItemIds = List.of(100L, 101L, 102L);
+
+        given(pointService.findPoint(userId)).willReturn(Optional.of(createPoint(userId, BigDecimal.valueOf(100000))));
+        given(cartService.getCartItemsForOrder(userId, cartItemIds)).willReturn(List.of(
+                createCartItem(100L, userId, 1000L, 2),
+                createCartItem(101L, userId, 1001L, 1),
+                createCartItem(102L, userId, 1002L, 3)
+        ));
+        given(productService.getProductList(List.of(1000L, 1001L, 1002L))).willReturn(List.of(
+                createProduct(1000L, BigDecimal.valueOf(10000)),
+                createProduct(1001L, BigDecimal.valueOf(5000)),
+                createProduct(1002L, BigDecimal.valueOf(1000))
+        ));
+        given(couponQueryService.getUsableCouponUser(userId, couponId)).willReturn(CouponUserWithCoupon.of(
+                createCouponUser(50L, userId, couponId),
+                createCoupon(couponId, BigDecimal.valueOf(3000))
+        ));
+
+        // when
+        OrderSnapshot snapshot = orderFactory.assemble(userId, new CreateOrderCommand(cartItemIds, couponId));
+
+        // then
+        assertThat(snapshot.totalAmount()).isEqualByComparingTo(BigDecimal.valueOf(28000));
+        assertThat(snapshot.discountAmount()).isEqualByComparingTo(BigDecimal.valueOf(3000));
+        assertThat(snapshot.finalAmount()).isEqualByComparingTo(BigDecimal.valueOf(25000));
+        assertThat(snapshot.couponUserId()).isEqualTo(50L);
+        assertThat(snapshot.productIds()).containsExactly(1000L, 1001L, 1002L);
+        assertThat(snapshot.productQuantities()).isEqualTo(Map.of(1000L, 2, 1001L, 1, 1002L, 3));
+        assertThat(snapshot.cartItemIds()).containsExactlyElementsOf(cartItemIds);
+
+        verify(cartService, times(1)).getCartItemsForOrder(userId, cartItemIds);
+        verify(cartService, never()).getCartItemById(anyLong());
+        verify(productService, times(1)).getProductList(anyList());
+        verify(pointService, times(1)).findPoint(userId);
+        verify(couponQueryService, times(1)).getUsableCouponUser(userId, couponId);
+        verify(couponQueryService, never()).getAllMyCoupons(anyLong());
+    }
+
+    @Test
+    @DisplayName("포인트 잔액이 부족하면 스냅샷 조립 단계에서 실패한다")
+    void assemble_insufficientBalance() {
+        // given
+        Long userId = 1L;
+        List<Long> cartItemIds = List.of(100L);
+
+        given(pointService.findPoint(userId)).willReturn(Optional.of(createPoint(userId, BigDecimal.valueOf(1000))));
+        given(cartService.getCartItemsForOrder(userId, cartItemIds))
+                .willReturn(List.of(createCartItem(100L, userId, 1000L, 1)));
+        given(productService.getProductList(List.of(1000L)))
+                .willReturn(List.of(createProduct(1000L, BigDecimal.valueOf(10000))));
+
+        // when & then
+        assertThatThrownBy(() -> orderFactory.assemble(userId, new CreateOrderCommand(cartItemIds, null)))
+                .isInstanceOf(OrderException.class)
+                .hasMessageContaining("포인트 잔액이 부족합니다");
+    }
+
+    @Test
+    @DisplayName("포인트 계정이 없으면 장바구니를 조회하지 않고 실패한다")
+    void assemble_noPointAccount() {
+        // given
+        Long userId = 1L;
+        given(pointService.findPoint(userId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> orderFactory.assemble(userId, new CreateOrderCommand(List.of(100L), null)))
+                .isInstanceOf(OrderException.class)
+                .hasMessageContaining("포인트 계정이 없습니다");
+        verifyNoInteractions(cartService, productService, couponQueryService);
+    }
+
+    private CartItem createCartItem(Long id, Long userId, Long productId, Integer quantity) {
+        return CartItem.builder()
+                .id(id)
+                .userId(userId)
+                .productId(productId)
+                .quantity(quantity)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Product createProduct(Long id, BigDecimal price) {
+        return Product.builder()
+                .id(id)
+                .name("상품" + id)
+                .description("상품 설명")
+                .price(price)
+                .stockQuantity(100)
+                .viewCount(0)
+                .isActive(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Point createPoint(Long userId, BigDecimal balance) {
+        return Point.builder()
+                .id(userId)
+                .userId(userId)
+                .balance(balance)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Coupon createCoupon(Long id, BigDecimal discountAmount) {
+        return Coupon.builder()
+                .id(id)
+                .name("할인쿠폰")
+                .discountAmount(discountAmount)
+                .totalQuantity(100)
+                .availableQuantity(50)
+                .status(CouponStatus.ACTIVE)
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(30))
+                .isActive(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private CouponUser createCouponUser(Long id, Long userId, Long couponId) {
+        return CouponUser.builder()
+                .id(id)
+                .userId(userId)
+                .couponId(couponId)
+                .issuedAt(LocalDateTime.now())
+                .expireDate(LocalDateTime.now().plusDays(30))
+                .isUsed(false)
+                .build();
+    }
+}
@@ -0,0 +1,206 @@
+package com.hh.ecom.order.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hh.ecom.order.domain.OrderIdempotencyRecord;
+import com.hh.ecom.order.domain.OrderIdempotencyRepository;
+import com.hh.ecom.order.domain.OrderIdempotencyStatus;
+import com.hh.ecom.order.domain.exception.OrderErrorCode;
+import com.hh.ecom.order.domain.exception.OrderException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderIdempotencyService 단위 테스트")
+class OrderIdempotencyServiceTest {
+    private static final Long USER_ID = 1L;
+    private static final String KEY = "order-key-1";
+
+    @Mock
+    private OrderIdempotencyRepository idempotencyRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private OrderIdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new OrderIdempotencyService(idempotencyRepository, objectMapper);
+        ReflectionTestUtils.setField(idempotencyService, "resultTtlHours", 24L);
+        ReflectionTestUtils.setField(idempotencyService, "inProgressTtlMs", 30000L);
+        ReflectionTestUtils.setField(idempotencyService, "waitTimeoutMs", 5000L);
+    }
+
+    @Test
+    @DisplayName("같은 노드에 동시에 들어온 중복 요청은 최초 실행 결과를 공유하고 action 은 한 번만 실행된다")
+    void execute_coalescesConcurrentDuplicates() throws Exception {
+        // given
+        given(idempotencyRepository.tryBegin(eq(USER_ID), eq(KEY), anyString(), any(Duration.class))).willReturn(true);
+
+        int threadCount = 5;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        List<Future<TestResult>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> idempotencyService.execute(USER_ID, KEY, new TestRequest(100L), TestResult.class, () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return new TestResult(1L, BigDecimal.valueOf(10000));
+        })));
+        started.await(5, TimeUnit.SECONDS);
+        for (int i = 1; i < threadCount; i++) {
+            futures.add(executor.submit(() -> idempotencyService.execute(USER_ID, KEY, new TestRequest(100L), TestResult.class, () -> {
+                executions.incrementAndGet();
+                return new TestResult(2L, BigDecimal.ZERO);
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<TestResult> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS).orderId()).isEqualTo(1L);
+        }
+        executor.shutdown();
+
+        assertThat(executions.get()).isEqualTo(1);
+        verify(idempotencyRepository, times(1)).tryBegin(eq(USER_ID), eq(KEY), anyString(), any(Duration.class));
+        verify(idempotencyRepository, times(1)).complete(eq(USER_ID), eq(KEY), anyString(), anyString(), eq(Duration.ofHours(24)));
+    }
+
+    @Test
+    @DisplayName("이미 완료된 키로 재시도하면 action 을 실행하지 않고 저장된 응답을 반환한다")
+    void execute_replaysCompletedResult() throws Exception {
+        // given
+        TestRequest request = new TestRequest(100L);
+        String fingerprint = idempotencyService.fingerprint(request);
+        String payload = objectMapper.writeValueAsString(new TestResult(1L, BigDecimal.valueOf(10000)));
+
+        given(idempotencyRepository.tryBegin(eq(USER_ID), eq(KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(idempotencyRepository.find(USER_ID, KEY))
+                .willReturn(Optional.of(new OrderIdempotencyRecord(OrderIdempotencyStatus.COMPLETED, fingerprint, payload)));
+
+        // when
+        AtomicInteger executions = new AtomicInteger();
+        TestResult result = idempotencyService.execute(USER_ID, KEY, request, TestResult.class, () -> {
+            executions.incrementAndGet();
+            return new TestResult(2L, BigDecimal.ZERO);
+        });
+
+        // then
+        assertThat(result.orderId()).isEqualTo(1L);
+        assertThat(result.finalAmount()).isEqualByComparingTo(BigDecimal.valueOf(10000));
+        assertThat(executions.get()).isZero();
+        verify(idempotencyRepository, never()).complete(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청 본문이 들어오면 IDEMPOTENCY_KEY_REUSED 예외가 발생한다")
+    void execute_rejectsDifferentRequestWithSameKey() {
+        // given
+        given(idempotencyRepository.tryBegin(eq(USER_ID), eq(KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(idempotencyRepository.find(USER_ID, KEY))
+                .willReturn(Optional.of(new OrderIdempotencyRecord(OrderIdempotencyStatus.COMPLETED, "other-fingerprint", "{}")));
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute(USER_ID, KEY, new TestRequest(100L), TestResult.class,
+                () -> new TestResult(1L, BigDecimal.ZERO)))
+                .isInstanceOf(OrderException.class)
+                .extracting("errorCode")
+                .isEqualTo(OrderErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 다른 노드에서 요청하면 IDEMPOTENCY_KEY_IN_PROGRESS 예외가 발생한다")
+    void execute_inProgressOnAnotherNode() {
+        // given
+        TestRequest request = new TestRequest(100L);
+        String fingerprint = idempotencyService.fingerprint(request);
+        given(idempotencyRepository.tryBegin(eq(USER_ID), eq(KEY), anyString(), any(Duration.class))).willReturn(false);
+        given(idempotencyRepository.find(USER_ID, KEY))
+                .willReturn(Optional.of(new OrderIdempotencyRecord(OrderIdempotencyStatus.IN_PROGRESS, fingerprint, null)));
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute(USER_ID, KEY, request, TestResult.class,
+                () -> new TestResult(1L, BigDecimal.ZERO)))
+                .isInstanceOf(OrderException.class)
+                .extracting("errorCode")
+                .isEqualTo(OrderErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("action 이 실패하면 선점을 해제하여 같은 키로 재시도할 수 있다")
+    void execute_releasesKeyOnFailure() {
+        // given
+        given(idempotencyRepository.tryBegin(eq(USER_ID), eq(KEY), anyString(), any(Duration.class))).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute(USER_ID, KEY, new TestRequest(100L), TestResult.class, () -> {
+            throw new OrderException(OrderErrorCode.EMPTY_ORDER_ITEMS);
+        })).isInstanceOf(OrderException.class);
+
+        verify(idempotencyRepository, times(1)).release(eq(USER_ID), eq(KEY), anyString());
+        verify(idempotencyRepository, never()).complete(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("빈 키나 100자를 넘는 키는 INVALID_IDEMPOTENCY_KEY 예외가 발생한다")
+    void execute_invalidKey() {
+        assertThatThrownBy(() -> idempotencyService.execute(USER_ID, " ", new TestRequest(100L), TestResult.class,
+                () -> new TestResult(1L, BigDecimal.ZERO)))
+                .isInstanceOf(OrderException.class)
+                .extracting("errorCode")
+                .isEqualTo(OrderErrorCode.INVALID_IDEMPOTENCY_KEY);
+
+        assertThatThrownBy(() -> idempotencyService.execute(USER_ID, "k".repeat(101), new TestRequest(100L), TestResult.class,
+                () -> new TestResult(1L, BigDecimal.ZERO)))
+                .isInstanceOf(OrderException.class)
+                .extracting("errorCode")
+                .isEqualTo(OrderErrorCode.INVALID_IDEMPOTENCY_KEY);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record TestRequest(Long cartItemId) {
+    }
+
+    record TestResult(Long orderId, BigDecimal finalAmount) {
+    }
+}
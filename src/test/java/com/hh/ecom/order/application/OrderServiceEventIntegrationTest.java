@@ -1,7 +1,6 @@
 package com.hh.ecom.order.application;
 
 import com.hh.ecom.cart.application.CartService;
-import com.hh.ecom.cart.application.dto.OrderPreparationResult;
 import com.hh.ecom.cart.domain.CartItem;
 import com.hh.ecom.config.TestContainersConfig;
 import com.hh.ecom.coupon.application.CouponCommandService;
@@ -32,7 +31,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -370,20 +369,11 @@ class OrderServiceEventIntegrationTest extends TestContainersConfig {
         Product product1 = createProduct(productId1, "상품1", BigDecimal.valueOf(10000), 100);
         Product product2 = createProduct(productId2, "상품2", BigDecimal.valueOf(20000), 100);
 
-        lenient().when(cartService.getCartItemById(101L)).thenReturn(cartItem1);
-        lenient().when(cartService.getCartItemById(102L)).thenReturn(cartItem2);
-        lenient().when(cartService.prepareOrderFromCart(userId, List.of(101L, 102L)))
-                .thenReturn(OrderPreparationResult.of(
-                        List.of(cartItem1, cartItem2),
-                        BigDecimal.valueOf(130000),
-                        List.of(productId1, productId2),
-                        Map.of(productId1, 3, productId2, 5)
-                ));
+        lenient().when(cartService.getCartItemsForOrder(userId, List.of(101L, 102L))).thenReturn(List.of(cartItem1, cartItem2));
         lenient().when(productService.getProductList(List.of(productId1, productId2)))
                 .thenReturn(List.of(product1, product2));
-        lenient().when(pointService.hasPointAccount(userId)).thenReturn(true);
-        lenient().when(pointService.getPoint(userId)).thenReturn(createPoint(userId, BigDecimal.valueOf(10000000)));
-        lenient().doNothing().when(cartService).completeOrderCheckout(anyLong(), anyList());
+        lenient().when(pointService.findPoint(userId)).thenReturn(Optional.of(createPoint(userId, BigDecimal.valueOf(10000000))));
+        lenient().doNothing().when(cartService).checkoutCartItems(anyLong(), anyList());
 
         // when
         CreateOrderCommand command = new CreateOrderCommand(List.of(101L, 102L), null);
@@ -411,32 +401,17 @@ class OrderServiceEventIntegrationTest extends TestContainersConfig {
 
         // 첫 번째 주문: 3개
         CartItem cartItem1 = createCartItem(201L, userId, productId, 3);
-        lenient().when(cartService.getCartItemById(201L)).thenReturn(cartItem1);
-        lenient().when(cartService.prepareOrderFromCart(userId, List.of(201L)))
-                .thenReturn(OrderPreparationResult.of(
-                        List.of(cartItem1),
-                        BigDecimal.valueOf(30000),
-                        List.of(productId),
-                        Map.of(productId, 3)
-                ));
+        lenient().when(cartService.getCartItemsForOrder(userId, List.of(201L))).thenReturn(List.of(cartItem1));
         lenient().when(productService.getProductList(List.of(productId))).thenReturn(List.of(product));
-        lenient().when(pointService.hasPointAccount(userId)).thenReturn(true);
-        lenient().when(pointService.getPoint(userId)).thenReturn(createPoint(userId, BigDecimal.valueOf(10000000)));
-        lenient().doNothing().when(cartService).completeOrderCheckout(anyLong(), anyList());
+        lenient().when(pointService.findPoint(userId)).thenReturn(Optional.of(createPoint(userId, BigDecimal.valueOf(10000000))));
+        lenient().doNothing().when(cartService).checkoutCartItems(anyLong(), anyList());
 
         orderCommandService.createOrder(userId, new CreateOrderCommand(List.of(201L), null));
         Thread.sleep(200); // 첫 번째 이벤트 처리 대기
 
         // 두 번째 주문: 2개
         CartItem cartItem2 = createCartItem(202L, userId, productId, 2);
-        lenient().when(cartService.getCartItemById(202L)).thenReturn(cartItem2);
-        lenient().when(cartService.prepareOrderFromCart(userId, List.of(202L)))
-                .thenReturn(OrderPreparationResult.of(
-                        List.of(cartItem2),
-                        BigDecimal.valueOf(20000),
-                        List.of(productId),
-                        Map.of(productId, 2)
-                ));
+        lenient().when(cartService.getCartItemsForOrder(userId, List.of(202L))).thenReturn(List.of(cartItem2));
 
         // when
         orderCommandService.createOrder(userId, new CreateOrderCommand(List.of(202L), null));
@@ -506,20 +481,11 @@ class OrderServiceEventIntegrationTest extends TestContainersConfig {
         CartItem cartItem = createCartItem(cartItemId, userId, productId, 1);
         Product product = createProduct(productId, productName, price, 100);
 
-        lenient().when(cartService.getCartItemById(cartItemId)).thenReturn(cartItem);
-
-        OrderPreparationResult preparationResult = OrderPreparationResult.of(
-                List.of(cartItem),
-                price,
-                List.of(productId),
-                Map.of(productId, 1)
-        );
-        lenient().when(cartService.prepareOrderFromCart(userId, List.of(cartItemId))).thenReturn(preparationResult);
+        lenient().when(cartService.getCartItemsForOrder(userId, List.of(cartItemId))).thenReturn(List.of(cartItem));
 
         lenient().when(productService.getProductList(List.of(productId))).thenReturn(List.of(product));
-        lenient().when(pointService.hasPointAccount(userId)).thenReturn(true);
-        lenient().when(pointService.getPoint(userId)).thenReturn(createPoint(userId, BigDecimal.valueOf(10000000)));
-        lenient().doNothing().when(cartService).completeOrderCheckout(anyLong(), anyList());
+        lenient().when(pointService.findPoint(userId)).thenReturn(Optional.of(createPoint(userId, BigDecimal.valueOf(10000000))));
+        lenient().doNothing().when(cartService).checkoutCartItems(anyLong(), anyList());
     }
 
     private CartItem createCartItem(Long id, Long userId, Long productId, Integer quantity) {
@@ -1,7 +1,6 @@
 package com.hh.ecom.order.application;
 
 import com.hh.ecom.cart.application.CartService;
-import com.hh.ecom.cart.application.dto.OrderPreparationResult;
 import com.hh.ecom.cart.domain.CartItem;
 import com.hh.ecom.config.TestContainersConfig;
 import com.hh.ecom.coupon.application.CouponCommandService;
@@ -35,7 +34,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
@@ -97,21 +96,11 @@ class OrderServiceIntegrationTest extends TestContainersConfig {
         CartItem cartItem = createCartItem(cartItemId, userId, productId, 2);
         Product product = createProduct(productId, "노트북", BigDecimal.valueOf(1500000), 10);
 
-        when(cartService.getCartItemById(cartItemId)).thenReturn(cartItem);
-
-        // CartService.prepareOrderFromCart 모킹
-        OrderPreparationResult preparationResult = OrderPreparationResult.of(
-                List.of(cartItem),
-                BigDecimal.valueOf(3000000),
-                List.of(productId),
-                Map.of(productId, 2)
-        );
-        when(cartService.prepareOrderFromCart(userId, List.of(cartItemId))).thenReturn(preparationResult);
+        when(cartService.getCartItemsForOrder(userId, List.of(cartItemId))).thenReturn(List.of(cartItem));
 
         when(productService.getProductList(List.of(productId))).thenReturn(List.of(product));
-        when(pointService.hasPointAccount(userId)).thenReturn(true);
-        when(pointService.getPoint(userId)).thenReturn(createPoint(userId, BigDecimal.valueOf(5000000)));
-        doNothing().when(cartService).completeOrderCheckout(anyLong(), anyList());
+        when(pointService.findPoint(userId)).thenReturn(Optional.of(createPoint(userId, BigDecimal.valueOf(5000000))));
+        doNothing().when(cartService).checkoutCartItems(anyLong(), anyList());
 
         CreateOrderCommand command = new CreateOrderCommand(List.of(cartItemId), null);
 
@@ -148,24 +137,13 @@ class OrderServiceIntegrationTest extends TestContainersConfig {
         Coupon coupon = createCoupon(couponId, "할인쿠폰", BigDecimal.valueOf(5000));
         CouponUser couponUser = createCouponUser(couponUserId, userId, couponId, false);
 
-        when(cartService.getCartItemById(cartItemId)).thenReturn(cartItem);
-
-        OrderPreparationResult preparationResult = OrderPreparationResult.of(
-                List.of(cartItem),
-                BigDecimal.valueOf(50000),
-                List.of(productId),
-                Map.of(productId, 1)
-        );
-        when(cartService.prepareOrderFromCart(userId, List.of(cartItemId))).thenReturn(preparationResult);
+        when(cartService.getCartItemsForOrder(userId, List.of(cartItemId))).thenReturn(List.of(cartItem));
 
         when(productService.getProductList(List.of(productId))).thenReturn(List.of(product));
-        when(couponQueryService.getCoupon(couponId)).thenReturn(coupon);
-        when(couponQueryService.getAllMyCoupons(userId)).thenReturn(
-                List.of(CouponUserWithCoupon.of(couponUser, coupon))
-        );
-        when(pointService.hasPointAccount(userId)).thenReturn(true);
-        when(pointService.getPoint(userId)).thenReturn(createPoint(userId, BigDecimal.valueOf(100000)));
-        doNothing().when(cartService).completeOrderCheckout(anyLong(), anyList());
+        when(couponQueryService.getUsableCouponUser(userId, couponId))
+                .thenReturn(CouponUserWithCoupon.of(couponUser, coupon));
+        when(pointService.findPoint(userId)).thenReturn(Optional.of(createPoint(userId, BigDecimal.valueOf(100000))));
+        doNothing().when(cartService).checkoutCartItems(anyLong(), anyList());
 
         CreateOrderCommand command = new CreateOrderCommand(List.of(cartItemId), couponId);
 
@@ -182,6 +160,28 @@ class OrderServiceIntegrationTest extends TestContainersConfig {
         verify(pointService).usePoint(userId, BigDecimal.valueOf(45000), createdOrder.getId());
     }
 
+    @Test
+    @DisplayName("통합 테스트 - 사용자 단위 직렬 처리 경로는 포인트 락 없이 주문 트랜잭션 안에서 포인트를 차감한다")
+    void integration_CreateOrderSerializedByUser_UsesPointWithoutLock() {
+        Long userId = 1L;
+        Long cartItemId = 100L;
+        Long productId = 1000L;
+
+        CartItem cartItem = createCartItem(cartItemId, userId, productId, 1);
+        Product product = createProduct(productId, "키보드", BigDecimal.valueOf(30000), 10);
+
+        when(cartService.getCartItemsForOrder(userId, List.of(cartItemId))).thenReturn(List.of(cartItem));
+        when(productService.getProductList(List.of(productId))).thenReturn(List.of(product));
+        when(pointService.findPoint(userId)).thenReturn(Optional.of(createPoint(userId, BigDecimal.valueOf(100000))));
+        doNothing().when(cartService).checkoutCartItems(anyLong(), anyList());
+
+        Order createdOrder = orderCommandService.createOrderSerializedByUser(userId, new CreateOrderCommand(List.of(cartItemId), null));
+
+        assertThat(createdOrder.getStatus()).isEqualTo(OrderStatus.PAID);
+        verify(pointService).usePointWithoutLock(userId, BigDecimal.valueOf(30000), createdOrder.getId());
+        verify(pointService, never()).usePoint(anyLong(), any(), anyLong());
+    }
+
     @Test
     @DisplayName("통합 테스트 - 여러 사용자의 주문 조회")
     void integration_GetOrdersByMultipleUsers() {
@@ -255,19 +255,10 @@ class OrderServiceIntegrationTest extends TestContainersConfig {
         CartItem cartItem = createCartItem(cartItemId, userId, productId, 1);
         Product product = createProduct(productId, "고가상품", BigDecimal.valueOf(1000000), 10);
 
-        when(cartService.getCartItemById(cartItemId)).thenReturn(cartItem);
-
-        OrderPreparationResult preparationResult = OrderPreparationResult.of(
-                List.of(cartItem),
-                BigDecimal.valueOf(1000000),
-                List.of(productId),
-                Map.of(productId, 1)
-        );
-        when(cartService.prepareOrderFromCart(userId, List.of(cartItemId))).thenReturn(preparationResult);
+        when(cartService.getCartItemsForOrder(userId, List.of(cartItemId))).thenReturn(List.of(cartItem));
 
         when(productService.getProductList(List.of(productId))).thenReturn(List.of(product));
-        when(pointService.hasPointAccount(userId)).thenReturn(true);
-        when(pointService.getPoint(userId)).thenReturn(createPoint(userId, BigDecimal.valueOf(50000)));
+        when(pointService.findPoint(userId)).thenReturn(Optional.of(createPoint(userId, BigDecimal.valueOf(50000))));
 
         CreateOrderCommand command = new CreateOrderCommand(List.of(cartItemId), null);
 
@@ -286,14 +277,13 @@ class OrderServiceIntegrationTest extends TestContainersConfig {
         Long cartItemId = 100L;
         Long productId = 1000L;
 
-        // CartService.getCartItemById 모킹 (extractProductIdsFromCart에서 사용)
         CartItem cartItem = createCartItem(cartItemId, userId, productId, 1);
-        when(cartService.getCartItemById(cartItemId)).thenReturn(cartItem);
+        Product soldOutProduct = createProduct(productId, "품절상품", BigDecimal.valueOf(10000), 0);
 
-        // prepareOrderFromCart에서 재고 부족 예외 발생
-        when(cartService.prepareOrderFromCart(userId, List.of(cartItemId)))
-                .thenThrow(new OrderException(OrderErrorCode.INVALID_ORDER_STATUS, "재고가 부족합니다"));
-        when(pointService.hasPointAccount(userId)).thenReturn(true);
+        // 스냅샷 조립 시 재고 검증에서 예외 발생
+        when(cartService.getCartItemsForOrder(userId, List.of(cartItemId))).thenReturn(List.of(cartItem));
+        when(productService.getProductList(List.of(productId))).thenReturn(List.of(soldOutProduct));
+        when(pointService.findPoint(userId)).thenReturn(Optional.of(createPoint(userId, BigDecimal.valueOf(5000000))));
 
         CreateOrderCommand command = new CreateOrderCommand(List.of(cartItemId), null);
 
@@ -338,24 +328,12 @@ class OrderServiceIntegrationTest extends TestContainersConfig {
         Product product1 = createProduct(productId1, "노트북", BigDecimal.valueOf(1500000), 10);
         Product product2 = createProduct(productId2, "마우스", BigDecimal.valueOf(50000), 20);
 
-        // CartService.getCartItemById 모킹 (extractProductIdsFromCart에서 사용)
-        when(cartService.getCartItemById(cartItemId1)).thenReturn(cartItem1);
-        when(cartService.getCartItemById(cartItemId2)).thenReturn(cartItem2);
-
-        // CartService.prepareOrderFromCart 모킹
-        OrderPreparationResult preparationResult = OrderPreparationResult.of(
-                List.of(cartItem1, cartItem2),
-                BigDecimal.valueOf(3050000),
-                List.of(productId1, productId2),
-                Map.of(productId1, 2, productId2, 1)
-        );
-        when(cartService.prepareOrderFromCart(userId, List.of(cartItemId1, cartItemId2))).thenReturn(preparationResult);
+        when(cartService.getCartItemsForOrder(userId, List.of(cartItemId1, cartItemId2))).thenReturn(List.of(cartItem1, cartItem2));
 
         when(productService.getProductList(List.of(productId1, productId2)))
                 .thenReturn(List.of(product1, product2));
-        when(pointService.hasPointAccount(userId)).thenReturn(true);
-        when(pointService.getPoint(userId)).thenReturn(createPoint(userId, BigDecimal.valueOf(5000000)));
-        doNothing().when(cartService).completeOrderCheckout(anyLong(), anyList());
+        when(pointService.findPoint(userId)).thenReturn(Optional.of(createPoint(userId, BigDecimal.valueOf(5000000))));
+        doNothing().when(cartService).checkoutCartItems(anyLong(), anyList());
 
         CreateOrderCommand command = new CreateOrderCommand(List.of(cartItemId1, cartItemId2), null);
 
@@ -378,20 +356,11 @@ class OrderServiceIntegrationTest extends TestContainersConfig {
         CartItem cartItem = createCartItem(cartItemId, userId, productId, 1);
         Product product = createProduct(productId, productName, price, 100);
 
-        lenient().when(cartService.getCartItemById(cartItemId)).thenReturn(cartItem);
-
-        OrderPreparationResult preparationResult = OrderPreparationResult.of(
-                List.of(cartItem),
-                price,
-                List.of(productId),
-                Map.of(productId, 1)
-        );
-        lenient().when(cartService.prepareOrderFromCart(userId, List.of(cartItemId))).thenReturn(preparationResult);
+        lenient().when(cartService.getCartItemsForOrder(userId, List.of(cartItemId))).thenReturn(List.of(cartItem));
 
         lenient().when(productService.getProductList(List.of(productId))).thenReturn(List.of(product));
-        lenient().when(pointService.hasPointAccount(userId)).thenReturn(true);
-        lenient().when(pointService.getPoint(userId)).thenReturn(createPoint(userId, BigDecimal.valueOf(10000000)));
-        lenient().doNothing().when(cartService).completeOrderCheckout(anyLong(), anyList());
+        lenient().when(pointService.findPoint(userId)).thenReturn(Optional.of(createPoint(userId, BigDecimal.valueOf(10000000))));
+        lenient().doNothing().when(cartService).checkoutCartItems(anyLong(), anyList());
     }
 
     private CartItem createCartItem(Long id, Long userId, Long productId, Integer quantity) {
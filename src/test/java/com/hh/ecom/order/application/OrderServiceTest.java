@@ -6,6 +6,7 @@ import com.hh.ecom.common.lock.util.RedisLockExecutor;
 import com.hh.ecom.coupon.application.CouponCommandService;
 import com.hh.ecom.coupon.application.CouponQueryService;
 import com.hh.ecom.order.application.dto.CreateOrderCommand;
+import com.hh.ecom.order.application.dto.OrderPage;
 import com.hh.ecom.order.domain.*;
 import com.hh.ecom.order.domain.exception.OrderErrorCode;
 import com.hh.ecom.order.domain.exception.OrderException;
@@ -26,6 +27,8 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -143,6 +146,66 @@ class OrderServiceTest {
         verify(orderRepository).findByUserId(userId);
     }
 
+    @Test
+    @DisplayName("주문 목록 페이지 조회 - size + 1 건을 읽어 다음 페이지 커서를 만든다")
+    void getOrderPage_HasNext() {
+        Long userId = 1L;
+        Order first = testOrder;
+        Order second = Order.create(userId, "ORDER-124", BigDecimal.valueOf(5000), BigDecimal.ZERO, null).withId(2L);
+        Order third = Order.create(userId, "ORDER-125", BigDecimal.valueOf(3000), BigDecimal.ZERO, null).withId(3L);
+
+        when(orderRepository.findPageByUserId(userId, null, 3)).thenReturn(List.of(first, second, third));
+
+        OrderPage page = orderQueryService.getOrderPage(userId, null, 2, false);
+
+        assertThat(page.orders()).extracting(Order::getId).containsExactly(1L, 2L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(OrderCursor.decode(page.nextCursor())).isEqualTo(OrderCursor.from(second));
+        verify(orderItemRepository, never()).findByOrderIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("주문 목록 페이지 조회 - 커서를 해석해 다음 위치부터 조회하고, 주문상품은 IN 쿼리 1회로 붙인다")
+    void getOrderPage_WithCursorAndItems() {
+        Long userId = 1L;
+        OrderCursor cursor = OrderCursor.from(
+                Order.create(userId, "ORDER-100", BigDecimal.valueOf(1000), BigDecimal.ZERO, null).withId(100L));
+
+        when(orderRepository.findPageByUserId(userId, cursor, 21)).thenReturn(List.of(testOrder));
+        when(orderItemRepository.findByOrderIdIn(List.of(testOrder.getId()))).thenReturn(List.of(testOrderItem));
+
+        OrderPage page = orderQueryService.getOrderPage(userId, cursor.encode(), 20, true);
+
+        assertThat(page.orders()).hasSize(1);
+        assertThat(page.orders().get(0).getOrderItems()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+        verify(orderItemRepository, times(1)).findByOrderIdIn(anyList());
+        verify(orderItemRepository, never()).findByOrderId(any());
+    }
+
+    @Test
+    @DisplayName("주문 목록 페이지 조회 - 페이지 크기는 최대값으로 제한된다")
+    void getOrderPage_ClampsSize() {
+        Long userId = 1L;
+        when(orderRepository.findPageByUserId(userId, null, OrderQueryService.MAX_PAGE_SIZE + 1)).thenReturn(List.of());
+
+        OrderPage page = orderQueryService.getOrderPage(userId, null, 10_000, false);
+
+        assertThat(page.orders()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("주문 목록 페이지 조회 - 변조된 커서는 INVALID_ORDER_CURSOR 예외")
+    void getOrderPage_InvalidCursor() {
+        assertThatThrownBy(() -> orderQueryService.getOrderPage(1L, "not-a-cursor", 20, false))
+                .isInstanceOf(OrderException.class)
+                .extracting("errorCode")
+                .isEqualTo(OrderErrorCode.INVALID_ORDER_CURSOR);
+        verify(orderRepository, never()).findPageByUserId(any(), any(), anyInt());
+    }
+
     @Test
     @DisplayName("주문 상세 조회 - 성공")
     void getOrder_Success() {
@@ -0,0 +1,142 @@
+package com.hh.ecom.order.infrastructure.kafka;
+
+import com.hh.ecom.order.application.OrderCommandService;
+import com.hh.ecom.order.application.dto.CreateOrderCommand;
+import com.hh.ecom.order.domain.Order;
+import com.hh.ecom.order.domain.OrderTicket;
+import com.hh.ecom.order.domain.OrderTicketRepository;
+import com.hh.ecom.order.domain.OrderTicketStatus;
+import com.hh.ecom.order.domain.event.OrderCreateRequestEvent;
+import com.hh.ecom.order.domain.exception.OrderErrorCode;
+import com.hh.ecom.order.domain.exception.OrderException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderCreateKafkaConsumer 단위 테스트")
+class OrderCreateKafkaConsumerTest {
+    @Mock
+    private OrderCommandService orderCommandService;
+    @Mock
+    private OrderTicketRepository orderTicketRepository;
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @InjectMocks
+    private OrderCreateKafkaConsumer consumer;
+
+    private static final String TICKET_ID = "ticket-1";
+    private static final Long USER_ID = 1L;
+
+    @Test
+    @DisplayName("주문 생성에 성공하면 티켓을 COMPLETED 로 기록하고 커밋한다")
+    void consume_success() {
+        // given
+        OrderCreateRequestEvent event = OrderCreateRequestEvent.of(TICKET_ID, USER_ID, List.of(100L), null);
+        given(orderTicketRepository.findById(TICKET_ID)).willReturn(Optional.of(OrderTicket.queued(TICKET_ID, USER_ID)));
+        given(orderTicketRepository.save(any(OrderTicket.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        Order order = mock(Order.class);
+        given(order.getId()).willReturn(99L);
+        given(orderCommandService.createOrderSerializedByUser(eq(USER_ID), any(CreateOrderCommand.class))).willReturn(order);
+
+        // when
+        consumer.consumeOrderCreateRequest(event, acknowledgment);
+
+        // then
+        ArgumentCaptor<OrderTicket> captor = ArgumentCaptor.forClass(OrderTicket.class);
+        verify(orderTicketRepository, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues()).extracting(OrderTicket::getStatus)
+                .containsExactly(OrderTicketStatus.PROCESSING, OrderTicketStatus.COMPLETED);
+        assertThat(captor.getValue().getOrderId()).isEqualTo(99L);
+        verify(orderCommandService, never()).createOrder(anyLong(), any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("주문 생성이 실패하면 티켓을 FAILED 로 기록하고 커밋한다")
+    void consume_businessFailure() {
+        // given
+        OrderCreateRequestEvent event = OrderCreateRequestEvent.of(TICKET_ID, USER_ID, List.of(100L), null);
+        given(orderTicketRepository.findById(TICKET_ID)).willReturn(Optional.of(OrderTicket.queued(TICKET_ID, USER_ID)));
+        given(orderTicketRepository.save(any(OrderTicket.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(orderCommandService.createOrderSerializedByUser(eq(USER_ID), any(CreateOrderCommand.class)))
+                .willThrow(new OrderException(OrderErrorCode.INVALID_ORDER_STATUS, "포인트 잔액이 부족합니다."));
+
+        // when
+        consumer.consumeOrderCreateRequest(event, acknowledgment);
+
+        // then
+        ArgumentCaptor<OrderTicket> captor = ArgumentCaptor.forClass(OrderTicket.class);
+        verify(orderTicketRepository, times(2)).save(captor.capture());
+        OrderTicket finished = captor.getValue();
+        assertThat(finished.getStatus()).isEqualTo(OrderTicketStatus.FAILED);
+        assertThat(finished.getFailureReason()).contains("포인트 잔액이 부족합니다");
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("인프라 오류는 티켓을 FAILED 로 기록하지 않고 예외를 전파하여 재시도에 맡긴다")
+    void consume_infrastructureFailure() {
+        // given
+        OrderCreateRequestEvent event = OrderCreateRequestEvent.of(TICKET_ID, USER_ID, List.of(100L), null);
+        given(orderTicketRepository.findById(TICKET_ID)).willReturn(Optional.of(OrderTicket.queued(TICKET_ID, USER_ID)));
+        given(orderTicketRepository.save(any(OrderTicket.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(orderCommandService.createOrderSerializedByUser(eq(USER_ID), any(CreateOrderCommand.class)))
+                .willThrow(new IllegalStateException("Redis 연결 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> consumer.consumeOrderCreateRequest(event, acknowledgment))
+                .isInstanceOf(IllegalStateException.class);
+
+        ArgumentCaptor<OrderTicket> captor = ArgumentCaptor.forClass(OrderTicket.class);
+        verify(orderTicketRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(OrderTicketStatus.PROCESSING);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("이미 처리된 티켓은 주문을 다시 생성하지 않는다")
+    void consume_alreadyFinished() {
+        // given
+        OrderCreateRequestEvent event = OrderCreateRequestEvent.of(TICKET_ID, USER_ID, List.of(100L), null);
+        OrderTicket completed = OrderTicket.queued(TICKET_ID, USER_ID).complete(99L);
+        given(orderTicketRepository.findById(TICKET_ID)).willReturn(Optional.of(completed));
+
+        // when
+        consumer.consumeOrderCreateRequest(event, acknowledgment);
+
+        // then
+        verifyNoInteractions(orderCommandService);
+        verify(orderTicketRepository, never()).save(any());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 티켓은 조회할 수 없다")
+    void ticket_validateOwner() {
+        // given
+        OrderTicket ticket = OrderTicket.queued(TICKET_ID, USER_ID);
+
+        // when & then
+        assertThatThrownBy(() -> ticket.validateOwner(2L))
+                .isInstanceOf(OrderException.class);
+    }
+}
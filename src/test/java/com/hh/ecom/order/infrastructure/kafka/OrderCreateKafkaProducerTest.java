@@ -0,0 +1,115 @@
+package com.hh.ecom.order.infrastructure.kafka;
+
+import com.hh.ecom.order.application.dto.CreateOrderCommand;
+import com.hh.ecom.order.domain.OrderTicket;
+import com.hh.ecom.order.domain.OrderTicketRepository;
+import com.hh.ecom.order.domain.OrderTicketStatus;
+import com.hh.ecom.order.domain.exception.OrderErrorCode;
+import com.hh.ecom.order.domain.exception.OrderException;
+import com.hh.ecom.outbox.domain.MessagePublisher;
+import com.hh.ecom.outbox.infrastructure.kafka.KafkaTopics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderCreateKafkaProducer 단위 테스트")
+class OrderCreateKafkaProducerTest {
+    @Mock
+    private MessagePublisher messagePublisher;
+    @Mock
+    private OrderTicketRepository orderTicketRepository;
+
+    @InjectMocks
+    private OrderCreateKafkaProducer producer;
+
+    private static final Long USER_ID = 1L;
+    private static final CreateOrderCommand COMMAND = new CreateOrderCommand(List.of(100L), null);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(producer, "publishTimeoutMs", 200L);
+        given(orderTicketRepository.save(any(OrderTicket.class))).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("브로커 ack 를 받으면 QUEUED 티켓을 돌려준다")
+    void publish_acked() {
+        // given
+        given(messagePublisher.publishAsync(eq(KafkaTopics.ORDER_CREATE), eq("1"), any()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        OrderTicket ticket = producer.publishOrderCreateRequest(USER_ID, COMMAND);
+
+        // then
+        assertThat(ticket.getStatus()).isEqualTo(OrderTicketStatus.QUEUED);
+        verify(orderTicketRepository, times(1)).save(any(OrderTicket.class));
+    }
+
+    @Test
+    @DisplayName("발행이 실패하면 티켓을 FAILED 로 기록하고 ORDER_REQUEST_PUBLISH_FAILED 로 응답한다")
+    void publish_failed() {
+        // given
+        given(messagePublisher.publishAsync(anyString(), anyString(), any()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        given(orderTicketRepository.findById(anyString())).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> producer.publishOrderCreateRequest(USER_ID, COMMAND))
+                .isInstanceOfSatisfying(OrderException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(OrderErrorCode.ORDER_REQUEST_PUBLISH_FAILED));
+
+        ArgumentCaptor<OrderTicket> captor = ArgumentCaptor.forClass(OrderTicket.class);
+        verify(orderTicketRepository, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues().get(1).getStatus()).isEqualTo(OrderTicketStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("ack 대기 시간이 지나면 발행 실패로 처리한다")
+    void publish_timeout() {
+        // given
+        given(messagePublisher.publishAsync(anyString(), anyString(), any()))
+                .willReturn(new CompletableFuture<>());
+        given(orderTicketRepository.findById(anyString())).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> producer.publishOrderCreateRequest(USER_ID, COMMAND))
+                .isInstanceOf(OrderException.class);
+    }
+
+    @Test
+    @DisplayName("ack 대기가 실패했어도 Consumer 가 이미 티켓을 처리 중이면 FAILED 로 덮어쓰지 않는다")
+    void publish_timeoutButAlreadyProcessing() {
+        // given
+        given(messagePublisher.publishAsync(anyString(), anyString(), any()))
+                .willReturn(new CompletableFuture<>());
+        given(orderTicketRepository.findById(anyString()))
+                .willAnswer(invocation -> Optional.of(OrderTicket.queued(invocation.getArgument(0), USER_ID).processing()));
+
+        // when
+        OrderTicket ticket = producer.publishOrderCreateRequest(USER_ID, COMMAND);
+
+        // then
+        assertThat(ticket.getStatus()).isEqualTo(OrderTicketStatus.PROCESSING);
+        verify(orderTicketRepository, times(1)).save(any(OrderTicket.class));
+    }
+}
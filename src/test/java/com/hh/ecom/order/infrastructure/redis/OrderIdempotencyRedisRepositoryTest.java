@@ -0,0 +1,95 @@
+package com.hh.ecom.order.infrastructure.redis;
+
+import com.hh.ecom.config.TestContainersConfig;
+import com.hh.ecom.order.domain.OrderIdempotencyStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("주문 Idempotency-Key Redis 저장소 통합 테스트")
+class OrderIdempotencyRedisRepositoryTest extends TestContainersConfig {
+    private static final Long USER_ID = 1L;
+    private static final String KEY = "idem-repo-key";
+    private static final Duration IN_PROGRESS_TTL = Duration.ofSeconds(30);
+    private static final Duration RESULT_TTL = Duration.ofHours(1);
+
+    @Autowired
+    private OrderIdempotencyRedisRepository repository;
+
+    @Autowired
+    @Qualifier("customStringRedisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete("order:idempotency:" + USER_ID + ":" + KEY);
+    }
+
+    @Test
+    @DisplayName("선점한 요청은 결과를 저장하고, 저장된 기록은 fingerprint 를 유지한다")
+    void completesOwnClaim() {
+        // given
+        repository.tryBegin(USER_ID, KEY, "fp-1", IN_PROGRESS_TTL);
+
+        // when
+        boolean completed = repository.complete(USER_ID, KEY, "fp-1", "{\"orderId\":1}", RESULT_TTL);
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(repository.find(USER_ID, KEY)).hasValueSatisfying(record -> {
+            assertThat(record.status()).isEqualTo(OrderIdempotencyStatus.COMPLETED);
+            assertThat(record.isSameRequest("fp-1")).isTrue();
+            assertThat(record.payload()).isEqualTo("{\"orderId\":1}");
+        });
+    }
+
+    @Test
+    @DisplayName("선점이 만료되어 키가 사라졌으면 결과를 저장하지 않는다 (fingerprint 없는 기록을 만들지 않음)")
+    void doesNotRecreateExpiredClaim() {
+        // when
+        boolean completed = repository.complete(USER_ID, KEY, "fp-1", "{\"orderId\":1}", RESULT_TTL);
+
+        // then
+        assertThat(completed).isFalse();
+        assertThat(repository.find(USER_ID, KEY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 요청이 다시 선점한 키는 덮어쓰거나 지우지 않는다")
+    void leavesOtherClaimUntouched() {
+        // given - 내 선점이 만료된 뒤 다른 요청이 선점
+        repository.tryBegin(USER_ID, KEY, "fp-other", IN_PROGRESS_TTL);
+
+        // when
+        boolean completed = repository.complete(USER_ID, KEY, "fp-1", "{\"orderId\":1}", RESULT_TTL);
+        boolean released = repository.release(USER_ID, KEY, "fp-1");
+
+        // then
+        assertThat(completed).isFalse();
+        assertThat(released).isFalse();
+        assertThat(repository.find(USER_ID, KEY)).hasValueSatisfying(record -> {
+            assertThat(record.status()).isEqualTo(OrderIdempotencyStatus.IN_PROGRESS);
+            assertThat(record.isSameRequest("fp-other")).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("자신의 선점은 해제할 수 있다")
+    void releasesOwnClaim() {
+        // given
+        repository.tryBegin(USER_ID, KEY, "fp-1", IN_PROGRESS_TTL);
+
+        // when & then
+        assertThat(repository.release(USER_ID, KEY, "fp-1")).isTrue();
+        assertThat(repository.find(USER_ID, KEY)).isEmpty();
+    }
+}
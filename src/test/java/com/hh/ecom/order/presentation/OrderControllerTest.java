@@ -2,12 +2,15 @@ package com.hh.ecom.order.presentation;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hh.ecom.order.application.OrderCommandService;
+import com.hh.ecom.order.application.OrderIdempotencyService;
 import com.hh.ecom.order.application.OrderQueryService;
+import com.hh.ecom.order.application.dto.OrderPage;
 import com.hh.ecom.order.domain.Order;
 import com.hh.ecom.order.domain.OrderItem;
 import com.hh.ecom.order.domain.OrderStatus;
 import com.hh.ecom.order.domain.exception.OrderErrorCode;
 import com.hh.ecom.order.domain.exception.OrderException;
+import com.hh.ecom.order.presentation.dto.response.OrderResponse;
 import com.hh.ecom.product.presentation.dto.request.CreateOrderRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -45,6 +48,9 @@ class OrderControllerTest {
     @MockitoBean
     private OrderQueryService orderQueryService;
 
+    @MockitoBean
+    private OrderIdempotencyService orderIdempotencyService;
+
     @Test
     @DisplayName("POST /orders - 주문 생성 성공")
     void createOrder_Success() throws Exception {
@@ -149,6 +155,54 @@ class OrderControllerTest {
         verify(orderCommandService, times(1)).createOrder(eq(userId), any());
     }
 
+    @Test
+    @DisplayName("POST /orders - Idempotency-Key 가 있으면 멱등 처리 서비스를 거쳐 응답한다")
+    void createOrder_WithIdempotencyKey() throws Exception {
+        // Given
+        Long userId = 1L;
+        String idempotencyKey = "order-key-1";
+        CreateOrderRequest request = new CreateOrderRequest(List.of(100L), null);
+
+        Order order = createOrder(1L, userId, "ORDER-123456",
+                BigDecimal.valueOf(100000), BigDecimal.ZERO, BigDecimal.valueOf(100000),
+                OrderStatus.PAID, null);
+        given(orderIdempotencyService.execute(eq(userId), eq(idempotencyKey), eq(request), eq(OrderResponse.class), any()))
+                .willReturn(OrderResponse.from(order));
+
+        // When & Then
+        mockMvc.perform(post("/orders")
+                        .header("userId", userId)
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderNumber").value("ORDER-123456"));
+
+        verify(orderIdempotencyService, times(1))
+                .execute(eq(userId), eq(idempotencyKey), eq(request), eq(OrderResponse.class), any());
+        verify(orderCommandService, never()).createOrder(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("POST /orders - 같은 Idempotency-Key 요청이 처리 중이면 409 를 반환한다")
+    void createOrder_IdempotencyKeyInProgress() throws Exception {
+        // Given
+        Long userId = 1L;
+        CreateOrderRequest request = new CreateOrderRequest(List.of(100L), null);
+        given(orderIdempotencyService.execute(eq(userId), eq("order-key-1"), eq(request), eq(OrderResponse.class), any()))
+                .willThrow(new OrderException(OrderErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS));
+
+        // When & Then
+        mockMvc.perform(post("/orders")
+                        .header("userId", userId)
+                        .header("Idempotency-Key", "order-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isConflict());
+    }
+
     @Test
     @DisplayName("GET /orders - 사용자의 주문 목록 조회 성공")
     void getOrders_Success() throws Exception {
@@ -164,7 +218,8 @@ class OrderControllerTest {
                         OrderStatus.COMPLETED, 10L)
         );
 
-        given(orderQueryService.getOrders(userId)).willReturn(orders);
+        given(orderQueryService.getOrderPage(userId, null, 20, false))
+                .willReturn(new OrderPage(orders, "next-cursor", true));
 
         // When & Then
         mockMvc.perform(get("/orders")
@@ -177,9 +232,11 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.orders[0].status").value("PAID"))
                 .andExpect(jsonPath("$.orders[1].id").value(2))
                 .andExpect(jsonPath("$.orders[1].orderNumber").value("ORDER-123457"))
-                .andExpect(jsonPath("$.orders[1].status").value("COMPLETED"));
+                .andExpect(jsonPath("$.orders[1].status").value("COMPLETED"))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
 
-        verify(orderQueryService, times(1)).getOrders(userId);
+        verify(orderQueryService, times(1)).getOrderPage(userId, null, 20, false);
     }
 
     @Test
@@ -187,16 +244,62 @@ class OrderControllerTest {
     void getOrders_Empty() throws Exception {
         // Given
         Long userId = 1L;
-        given(orderQueryService.getOrders(userId)).willReturn(List.of());
+        given(orderQueryService.getOrderPage(userId, null, 20, false))
+                .willReturn(new OrderPage(List.of(), null, false));
 
         // When & Then
         mockMvc.perform(get("/orders")
                         .header("userId", userId))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.orders", hasSize(0)));
+                .andExpect(jsonPath("$.orders", hasSize(0)))
+                .andExpect(jsonPath("$.hasNext").value(false));
 
-        verify(orderQueryService, times(1)).getOrders(userId);
+        verify(orderQueryService, times(1)).getOrderPage(userId, null, 20, false);
+    }
+
+    @Test
+    @DisplayName("GET /orders - 커서와 includeItems 를 전달하면 주문상품이 포함된 다음 페이지를 반환한다")
+    void getOrders_WithCursorAndItems() throws Exception {
+        // Given
+        Long userId = 1L;
+        Order order = createOrder(3L, userId, "ORDER-123458",
+                BigDecimal.valueOf(30000), BigDecimal.ZERO, BigDecimal.valueOf(30000),
+                OrderStatus.PAID, null)
+                .setOrderItems(List.of(OrderItem.create(3L, 100L, "상품A", BigDecimal.valueOf(15000), 2)));
+
+        given(orderQueryService.getOrderPage(userId, "abc", 10, true))
+                .willReturn(new OrderPage(List.of(order), null, false));
+
+        // When & Then
+        mockMvc.perform(get("/orders")
+                        .header("userId", userId)
+                        .param("cursor", "abc")
+                        .param("size", "10")
+                        .param("includeItems", "true"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders", hasSize(1)))
+                .andExpect(jsonPath("$.orders[0].items", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(orderQueryService, times(1)).getOrderPage(userId, "abc", 10, true);
+    }
+
+    @Test
+    @DisplayName("GET /orders - 유효하지 않은 커서는 400 을 반환한다")
+    void getOrders_InvalidCursor() throws Exception {
+        // Given
+        Long userId = 1L;
+        given(orderQueryService.getOrderPage(userId, "broken", 20, false))
+                .willThrow(new OrderException(OrderErrorCode.INVALID_ORDER_CURSOR));
+
+        // When & Then
+        mockMvc.perform(get("/orders")
+                        .header("userId", userId)
+                        .param("cursor", "broken"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -265,6 +368,46 @@ class OrderControllerTest {
         verify(orderQueryService, times(1)).getOrder(orderId, otherUserId);
     }
 
+    @Test
+    @DisplayName("POST /orders/{id}/cancel - 취소 요청 접수")
+    void cancelOrder_Success() throws Exception {
+        // Given
+        Long userId = 1L;
+        Long orderId = 100L;
+        Order cancelRequested = createOrder(orderId, userId, "ORDER-123456",
+                BigDecimal.valueOf(100000), BigDecimal.ZERO, BigDecimal.valueOf(100000),
+                OrderStatus.CANCEL_REQUESTED, null);
+
+        given(orderCommandService.requestCancel(orderId, userId)).willReturn(cancelRequested);
+
+        // When & Then
+        mockMvc.perform(post("/orders/{id}/cancel", orderId)
+                        .header("userId", userId))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(orderId))
+                .andExpect(jsonPath("$.status").value("CANCEL_REQUESTED"));
+
+        verify(orderCommandService, times(1)).requestCancel(orderId, userId);
+    }
+
+    @Test
+    @DisplayName("POST /orders/{id}/cancel - 취소할 수 없는 상태의 주문")
+    void cancelOrder_NotCancelable() throws Exception {
+        // Given
+        Long userId = 1L;
+        Long orderId = 100L;
+
+        given(orderCommandService.requestCancel(orderId, userId))
+                .willThrow(new OrderException(OrderErrorCode.ORDER_NOT_CANCELABLE));
+
+        // When & Then
+        mockMvc.perform(post("/orders/{id}/cancel", orderId)
+                        .header("userId", userId))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     // Helper methods
     private Order createOrder(Long id, Long userId, String orderNumber,
                              BigDecimal totalAmount, BigDecimal discountAmount, BigDecimal finalAmount,
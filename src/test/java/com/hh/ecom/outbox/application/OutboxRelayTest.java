@@ -0,0 +1,145 @@
+package com.hh.ecom.outbox.application;
+
+import com.hh.ecom.order.domain.OrderStatus;
+import com.hh.ecom.order.domain.event.OrderCompletedEvent;
+import com.hh.ecom.outbox.domain.MessagePublisher;
+import com.hh.ecom.outbox.domain.OutboxEvent;
+import com.hh.ecom.outbox.domain.OutboxEventRepository;
+import com.hh.ecom.outbox.infrastructure.kafka.KafkaTopics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 단위 테스트")
+class OutboxRelayTest {
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private MessagePublisher messagePublisher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 3);
+        ReflectionTestUtils.setField(outboxRelay, "maxBatchesPerRun", 10);
+        ReflectionTestUtils.setField(outboxRelay, "ackTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(outboxRelay, "claimTimeoutMs", 30000L);
+
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("점유한 이벤트를 모두 발행하고 ack 받은 행을 한 번에 SENT 처리한다")
+    void relayBatch_allAcked() {
+        // given
+        given(outboxEventRepository.claimPendingBatch(eq(3), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(List.of(pending(1L, 100L), pending(2L, 200L)));
+        given(messagePublisher.publishAsync(anyString(), anyString(), any()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        int sent = outboxRelay.relayBatch();
+
+        // then
+        assertThat(sent).isEqualTo(2);
+        verify(messagePublisher).publishAsync(eq(KafkaTopics.ORDER_COMPLETED), eq("100"), any(OrderCompletedEvent.class));
+        verify(messagePublisher).publishAsync(eq(KafkaTopics.ORDER_COMPLETED), eq("200"), any(OrderCompletedEvent.class));
+        verify(outboxEventRepository, times(1)).markSent(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("ack 가 실패한 행은 SENT 로 변경하지 않는다")
+    void relayBatch_partialFailure() {
+        // given
+        given(outboxEventRepository.claimPendingBatch(eq(3), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(List.of(pending(1L, 100L), pending(2L, 200L)));
+        given(messagePublisher.publishAsync(anyString(), eq("100"), any()))
+                .willReturn(CompletableFuture.completedFuture(null));
+        given(messagePublisher.publishAsync(anyString(), eq("200"), any()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when
+        int sent = outboxRelay.relayBatch();
+
+        // then
+        assertThat(sent).isEqualTo(1);
+        verify(outboxEventRepository).markSent(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(outboxEventRepository).releaseClaims(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치에서 발행이 하나라도 실패하면 같은 주기에 다음 배치를 점유하지 않는다")
+    void relayPendingEvents_stopsOnFailure() {
+        // given
+        given(outboxEventRepository.claimPendingBatch(eq(3), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(List.of(pending(1L, 100L), pending(2L, 200L), pending(3L, 300L)));
+        given(messagePublisher.publishAsync(anyString(), anyString(), any()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when
+        outboxRelay.relayPendingEvents();
+
+        // then
+        verify(outboxEventRepository, times(1)).claimPendingBatch(eq(3), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(outboxEventRepository).releaseClaims(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 같은 주기에 다음 배치를 이어서 처리한다")
+    void relayPendingEvents_drainsBacklog() {
+        // given
+        given(outboxEventRepository.claimPendingBatch(eq(3), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(List.of(pending(1L, 100L), pending(2L, 200L), pending(3L, 300L)))
+                .willReturn(List.of(pending(4L, 400L)));
+        given(messagePublisher.publishAsync(anyString(), anyString(), any()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        outboxRelay.relayPendingEvents();
+
+        // then
+        verify(outboxEventRepository, times(2)).claimPendingBatch(3);
+        verify(outboxEventRepository, times(2)).markSent(anyList(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("대기 중인 이벤트가 없으면 발행하지 않는다")
+    void relayBatch_empty() {
+        // given
+        given(outboxEventRepository.claimPendingBatch(eq(3), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(List.of());
+
+        // when
+        int sent = outboxRelay.relayBatch();
+
+        // then
+        assertThat(sent).isZero();
+        verifyNoInteractions(messagePublisher);
+        verify(outboxEventRepository, never()).markSent(anyList(), any());
+    }
+
+    private OutboxEvent pending(Long id, Long orderId) {
+        return OutboxEvent.create(orderId, OrderStatus.PAID).toBuilder()
+                .id(id)
+                .build();
+    }
+}
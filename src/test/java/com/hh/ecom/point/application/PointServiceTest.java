@@ -4,6 +4,7 @@ import com.hh.ecom.common.lock.util.LockKeyGenerator;
 import com.hh.ecom.common.lock.util.RedisLockExecutor;
 import com.hh.ecom.common.transaction.OptimisticLockRetryExecutor;
 import com.hh.ecom.point.domain.Point;
+import com.hh.ecom.point.domain.PointRefundTarget;
 import com.hh.ecom.point.domain.PointRepository;
 import com.hh.ecom.point.domain.PointTransaction;
 import com.hh.ecom.point.domain.PointTransactionRepository;
@@ -23,6 +24,7 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +34,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -110,7 +113,7 @@ class PointServiceTest {
         void chargePoint_createNewAccount() {
             // given
             BigDecimal amount = BigDecimal.valueOf(10000);
-            given(pointRepository.findByUserId(anyLong())).willReturn(Optional.empty());
+            given(pointRepository.findByUserIdForUpdate(anyLong())).willReturn(Optional.empty());
 
             given(pointRepository.save(any(Point.class))).willAnswer(invocation -> {
                 Point point = invocation.getArgument(0);
@@ -140,7 +143,7 @@ class PointServiceTest {
             BigDecimal amount = BigDecimal.valueOf(5000);
             Point existingPoint = testPoint.toBuilder().balance(BigDecimal.valueOf(10000)).build();
 
-            given(pointRepository.findByUserId(anyLong())).willReturn(Optional.of(existingPoint));
+            given(pointRepository.findByUserIdForUpdate(anyLong())).willReturn(Optional.of(existingPoint));
 
             Point chargedPoint = existingPoint.charge(amount);
             given(pointRepository.save(any(Point.class))).willReturn(chargedPoint);
@@ -165,7 +168,7 @@ class PointServiceTest {
         @DisplayName("0 이하의 금액으로 충전 시 예외가 발생한다")
         void chargePoint_invalidAmount() {
             // given
-            given(pointRepository.findByUserId(anyLong())).willReturn(Optional.of(testPoint));
+            given(pointRepository.findByUserIdForUpdate(anyLong())).willReturn(Optional.of(testPoint));
 
             // when & then
             assertThatThrownBy(() -> pointService.chargePoint(userId, BigDecimal.ZERO))
@@ -277,7 +280,7 @@ class PointServiceTest {
             Long orderId = 1L;
             Point point = testPoint.toBuilder().balance(BigDecimal.valueOf(7000)).build();
 
-            given(pointRepository.findByUserId(anyLong())).willReturn(Optional.of(point));
+            given(pointRepository.findByUserIdForUpdate(anyLong())).willReturn(Optional.of(point));
 
             Point refundedPoint = point.refund(amount);
             given(pointRepository.save(any(Point.class))).willReturn(refundedPoint);
@@ -303,7 +306,7 @@ class PointServiceTest {
         void refundPoint_zeroBalance() {
             // given
             BigDecimal amount = BigDecimal.valueOf(5000);
-            given(pointRepository.findByUserId(anyLong())).willReturn(Optional.of(testPoint));
+            given(pointRepository.findByUserIdForUpdate(anyLong())).willReturn(Optional.of(testPoint));
 
             Point refundedPoint = testPoint.refund(amount);
             given(pointRepository.save(any(Point.class))).willReturn(refundedPoint);
@@ -349,4 +352,56 @@ class PointServiceTest {
             assertThat(result).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("취소 주문 포인트 일괄 환불 테스트")
+    class RefundCanceledOrdersTest {
+
+        @Test
+        @DisplayName("주문별 순사용액만큼 상대값으로 환불하고, 같은 포인트의 환불 내역은 순차 잔액으로 남긴다")
+        void refundCanceledOrders_success() {
+            // given
+            List<Long> orderIds = List.of(10L, 11L, 12L);
+            given(transactionRepository.findRefundTargetsByOrderIds(orderIds)).willReturn(List.of(
+                    new PointRefundTarget(1L, 11L, BigDecimal.valueOf(2000)),
+                    new PointRefundTarget(1L, 10L, BigDecimal.valueOf(1000)),
+                    new PointRefundTarget(2L, 12L, BigDecimal.ZERO) // 이미 환불된 주문
+            ));
+            Point refreshed = testPoint.toBuilder().balance(BigDecimal.valueOf(5000)).build();
+            given(pointRepository.findByIdsIn(List.of(1L))).willReturn(List.of(refreshed));
+            given(transactionRepository.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            int refunded = pointService.refundCanceledOrders(orderIds);
+
+            // then
+            assertThat(refunded).isEqualTo(2);
+            verify(pointRepository).increaseBalances(Map.of(1L, BigDecimal.valueOf(3000)));
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<PointTransaction>> captor = ArgumentCaptor.forClass(List.class);
+            verify(transactionRepository).saveAll(captor.capture());
+            List<PointTransaction> ledger = captor.getValue();
+            assertThat(ledger).extracting(PointTransaction::getOrderId).containsExactly(10L, 11L);
+            assertThat(ledger).allMatch(PointTransaction::isRefund);
+            assertThat(ledger.get(0).getBalanceAfter()).isEqualByComparingTo(BigDecimal.valueOf(3000));
+            assertThat(ledger.get(1).getBalanceAfter()).isEqualByComparingTo(BigDecimal.valueOf(5000));
+            verify(redisLockExecutor, never()).executeWithLock(any(), any());
+        }
+
+        @Test
+        @DisplayName("환불할 사용 내역이 없으면 잔액을 변경하지 않는다")
+        void refundCanceledOrders_nothingToRefund() {
+            // given
+            given(transactionRepository.findRefundTargetsByOrderIds(List.of(10L))).willReturn(List.of());
+
+            // when
+            int refunded = pointService.refundCanceledOrders(List.of(10L));
+
+            // then
+            assertThat(refunded).isZero();
+            verify(pointRepository, never()).increaseBalances(any());
+            verify(transactionRepository, never()).saveAll(any());
+        }
+    }
 }
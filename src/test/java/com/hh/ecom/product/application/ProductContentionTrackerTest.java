@@ -0,0 +1,102 @@
+package com.hh.ecom.product.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductContentionTracker 단위 테스트")
+class ProductContentionTrackerTest {
+    private static final long HOT_HOLD_MS = 1000;
+
+    private final AtomicLong now = new AtomicLong(0);
+    private ProductContentionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        // 임계치 0.2, 평활 계수 0.1 → 연속 충돌 3회(0.1 → 0.19 → 0.271)에 승격
+        tracker = new ProductContentionTracker(0.2, 0.1, HOT_HOLD_MS, 100, now::get);
+    }
+
+    @Test
+    @DisplayName("충돌이 없는 상품은 락 대상이 아니다")
+    void coldProductNotSelected() {
+        // given
+        tracker.recordSuccesses(List.of(1L, 2L));
+
+        // when
+        List<Long> selected = tracker.selectLockRequired(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(selected).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단발성 충돌은 임계치를 넘지 않아 낙관적 방식을 유지한다")
+    void sparseConflictStaysOptimistic() {
+        // given
+        tracker.recordConflicts(List.of(1L));
+        tracker.recordSuccesses(List.of(1L));
+        tracker.recordConflicts(List.of(1L));
+
+        // when
+        List<Long> selected = tracker.selectLockRequired(List.of(1L));
+
+        // then
+        assertThat(selected).isEmpty();
+    }
+
+    @Test
+    @DisplayName("충돌이 이어진 상품만 락 대상으로 승격된다")
+    void conflictingProductEscalated() {
+        // given
+        tracker.recordSuccesses(List.of(2L));
+        for (int i = 0; i < 3; i++) {
+            tracker.recordConflicts(List.of(1L));
+        }
+
+        // when
+        List<Long> selected = tracker.selectLockRequired(List.of(1L, 1L, 2L));
+
+        // then
+        assertThat(selected).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("hold 시간이 지나면 다시 낙관적 방식으로 돌아간다")
+    void escalationExpiresAfterHold() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            tracker.recordConflicts(List.of(1L));
+        }
+
+        // when
+        now.addAndGet(HOT_HOLD_MS);
+
+        // then
+        assertThat(tracker.selectLockRequired(List.of(1L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("hold 이후에는 임계치 절반에서 다시 재므로 충돌이 이어지면 더 빨리 재승격된다")
+    void reEscalatesFasterAfterHold() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            tracker.recordConflicts(List.of(1L));
+        }
+        now.addAndGet(HOT_HOLD_MS);
+
+        // when - 0.1 → 0.19 → 0.271
+        tracker.recordConflicts(List.of(1L));
+        boolean hotAfterOne = !tracker.selectLockRequired(List.of(1L)).isEmpty();
+        tracker.recordConflicts(List.of(1L));
+
+        // then
+        assertThat(hotAfterOne).isFalse();
+        assertThat(tracker.selectLockRequired(List.of(1L))).containsExactly(1L);
+    }
+}
@@ -3,7 +3,10 @@ package com.hh.ecom.product.application;
 import com.hh.ecom.config.TestContainersConfig;
 import com.hh.ecom.product.domain.Product;
 import com.hh.ecom.product.domain.ProductRepository;
+import com.hh.ecom.product.domain.StockDecreaseResult;
 import com.hh.ecom.product.domain.ViewCountRepository;
+import com.hh.ecom.product.domain.exception.ProductErrorCode;
+import com.hh.ecom.product.domain.exception.ProductException;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,8 +20,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @DisplayName("ProductService 통합 테스트")
@@ -64,6 +69,88 @@ class ProductServiceIntegrationTest extends TestContainersConfig {
         }
     }
 
+    @Nested
+    @DisplayName("일괄 재고 차감 통합 테스트")
+    class DecreaseProductStocksIntegrationTest {
+
+        @Test
+        @DisplayName("여러 상품의 재고를 한 번에 차감한다")
+        void decreaseProductStocks_success() {
+            // given
+            Product product1 = productRepository.save(Product.create("상품1", "설명1", BigDecimal.valueOf(1000), 10));
+            Product product2 = productRepository.save(Product.create("상품2", "설명2", BigDecimal.valueOf(2000), 5));
+
+            // when
+            productService.decreaseProductStocks(Map.of(
+                    product1.getId(), 3,
+                    product2.getId(), 5
+            ));
+
+            // then
+            assertThat(productRepository.findById(product1.getId()).orElseThrow().getStockQuantity()).isEqualTo(7);
+            assertThat(productRepository.findById(product2.getId()).orElseThrow().getStockQuantity()).isZero();
+        }
+
+        @Test
+        @DisplayName("재고가 부족한 상품이 있으면 실패 상품을 보고하고 전체 차감을 롤백한다")
+        void decreaseProductStocks_insufficientStock_rollback() {
+            // given
+            Product enough = productRepository.save(Product.create("충분한 상품", "설명", BigDecimal.valueOf(1000), 10));
+            Product shortage = productRepository.save(Product.create("부족한 상품", "설명", BigDecimal.valueOf(2000), 1));
+
+            // when & then
+            assertThatThrownBy(() -> productService.decreaseProductStocks(Map.of(
+                    enough.getId(), 3,
+                    shortage.getId(), 2
+            )))
+                    .isInstanceOf(ProductException.class)
+                    .hasMessageContaining(String.valueOf(shortage.getId()))
+                    .extracting("errorCode")
+                    .isEqualTo(ProductErrorCode.INSUFFICIENT_STOCK);
+
+            assertThat(productRepository.findById(enough.getId()).orElseThrow().getStockQuantity()).isEqualTo(10);
+            assertThat(productRepository.findById(shortage.getId()).orElseThrow().getStockQuantity()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("repository 는 차감되지 않은 상품 ID 를 결과로 반환한다")
+        void decreaseStocks_reportsFailedProductIds() {
+            // given
+            Product product = productRepository.save(Product.create("상품", "설명", BigDecimal.valueOf(1000), 2));
+            Long notExistId = product.getId() + 1000;
+
+            // when
+            StockDecreaseResult result = productRepository.decreaseStocks(Map.of(
+                    product.getId(), 1,
+                    notExistId, 1
+            ));
+
+            // then
+            assertThat(result.isAllSucceeded()).isFalse();
+            assertThat(result.getFailedProductIds()).containsExactly(notExistId);
+            assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("조회 이후 재고 버전이 바뀐 상품은 낙관적 차감에서 제외된다")
+        void decreaseStocksIfUnchanged_rejectsStaleVersion() {
+            // given
+            Product product = productRepository.save(Product.create("상품", "설명", BigDecimal.valueOf(1000), 10));
+            Long readVersion = productRepository.findById(product.getId()).orElseThrow().getStockVersion();
+            productRepository.decreaseStocks(Map.of(product.getId(), 1));
+
+            // when
+            StockDecreaseResult result = productRepository.decreaseStocksIfUnchanged(
+                    Map.of(product.getId(), 1), Map.of(product.getId(), readVersion));
+
+            // then
+            assertThat(result.getFailedProductIds()).containsExactly(product.getId());
+            Product reloaded = productRepository.findById(product.getId()).orElseThrow();
+            assertThat(reloaded.getStockQuantity()).isEqualTo(9);
+            assertThat(reloaded.getStockVersion()).isEqualTo(readVersion + 1);
+        }
+    }
+
     // TODO: 랭킹 로직이 SalesRankingService로 분리되어 주석 처리
     // ViewRankingService 인터페이스 추가 후 통합 테스트 재작성 필요
     /*
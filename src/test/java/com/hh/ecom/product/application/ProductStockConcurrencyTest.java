@@ -3,6 +3,7 @@ package com.hh.ecom.product.application;
 import com.hh.ecom.config.TestContainersConfig;
 import com.hh.ecom.product.domain.Product;
 import com.hh.ecom.product.domain.ProductRepository;
+import com.hh.ecom.product.domain.StockDecreaseResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
@@ -48,18 +50,16 @@ class ProductStockConcurrencyTest extends TestContainersConfig {
         final Long productId = product.getId();
 
         // when
-        Product result = transactionTemplate.execute(status -> {
+        StockDecreaseResult result = transactionTemplate.execute(status -> {
             List<Product> products = productRepository.findByIdsInForUpdate(List.of(productId));
             assertThat(products).isNotEmpty();
 
-            Product lockedProduct = products.get(0);
-            Product decreased = lockedProduct.decreaseStock(1);
-            return productRepository.save(decreased);
+            return productRepository.decreaseStocks(Map.of(productId, 1));
         });
 
         // then
         assertThat(result).isNotNull();
-        assertThat(result.getStockQuantity()).isEqualTo(9);
+        assertThat(result.isAllSucceeded()).isTrue();
 
         Product updated = productRepository.findById(productId).orElseThrow();
         assertThat(updated.getStockQuantity()).isEqualTo(9);
@@ -105,8 +105,7 @@ class ProductStockConcurrencyTest extends TestContainersConfig {
                             throw new RuntimeException("Insufficient stock");
                         }
 
-                        Product decreased = lockedProduct.decreaseStock(1);
-                        productRepository.save(decreased);
+                        decreaseStock(productId, 1);
                         return null;
                     });
 
@@ -179,8 +178,7 @@ class ProductStockConcurrencyTest extends TestContainersConfig {
                             throw new RuntimeException("Insufficient stock");
                         }
 
-                        Product decreased = lockedProduct.decreaseStock(quantityPerUser);
-                        productRepository.save(decreased);
+                        decreaseStock(productId, quantityPerUser);
                         return null;
                     });
 
@@ -256,8 +254,7 @@ class ProductStockConcurrencyTest extends TestContainersConfig {
                             throw new RuntimeException("Insufficient stock");
                         }
 
-                        Product decreased = lockedProduct.decreaseStock(1);
-                        productRepository.save(decreased);
+                        decreaseStock(productId, 1);
                         return null;
                     });
 
@@ -292,4 +289,14 @@ class ProductStockConcurrencyTest extends TestContainersConfig {
         assertThat(updated2.getStockQuantity()).isZero();
         assertThat(updated3.getStockQuantity()).isZero();
     }
+
+    /**
+     * 재고 절대값을 save 로 덮어쓰지 않고, 운영 경로와 같은 조건부 차감 UPDATE(stock_version 증가)로 차감한다
+     */
+    private void decreaseStock(Long productId, int quantity) {
+        StockDecreaseResult result = productRepository.decreaseStocks(Map.of(productId, quantity));
+        if (!result.isAllSucceeded()) {
+            throw new RuntimeException("Insufficient stock");
+        }
+    }
 }
@@ -0,0 +1,200 @@
+package com.hh.ecom.product.application;
+
+import com.hh.ecom.config.TestContainersConfig;
+import com.hh.ecom.product.domain.StockReservationRepository;
+import com.hh.ecom.product.domain.exception.ProductErrorCode;
+import com.hh.ecom.product.domain.exception.ProductException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("Redis 재고 예약 통합 테스트")
+class StockReservationIntegrationTest extends TestContainersConfig {
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    @Qualifier("customStringRedisTemplate")
+    private RedisTemplate<String, String> redisTemplate;
+
+    private static final Long PRODUCT_A = 9_001L;
+    private static final Long PRODUCT_B = 9_002L;
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = redisTemplate.keys("{stock}:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 예약해도 미러 재고 이상으로 예약되지 않는다")
+    void reserve_concurrent_neverOversell() throws InterruptedException {
+        // given
+        int stock = 10;
+        int threadCount = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger rejectedCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    stockReservationService.reserve(Map.of(PRODUCT_A, 1), Map.of(PRODUCT_A, stock));
+                    successCount.incrementAndGet();
+                } catch (ProductException e) {
+                    rejectedCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(stock);
+        assertThat(rejectedCount.get()).isEqualTo(threadCount - stock);
+        assertThat(mirrorStock(PRODUCT_A)).isZero();
+    }
+
+    @Test
+    @DisplayName("한 상품이라도 부족하면 어떤 상품도 차감하지 않는다")
+    void reserve_allOrNothing() {
+        // when & then
+        assertThatThrownBy(() -> stockReservationService.reserve(
+                Map.of(PRODUCT_A, 3, PRODUCT_B, 5),
+                Map.of(PRODUCT_A, 10, PRODUCT_B, 4)))
+                .isInstanceOf(ProductException.class)
+                .extracting(e -> ((ProductException) e).getErrorCode())
+                .isEqualTo(ProductErrorCode.INSUFFICIENT_STOCK);
+
+        assertThat(mirrorStock(PRODUCT_A)).isEqualTo(10);
+        assertThat(mirrorStock(PRODUCT_B)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("예약 해제 시 미러 재고가 복구되고, 확정 시에는 차감된 상태를 유지한다")
+    void releaseAndConfirm() {
+        // given
+        String released = stockReservationService.reserve(Map.of(PRODUCT_A, 3), Map.of(PRODUCT_A, 10));
+        String confirmed = stockReservationService.reserve(Map.of(PRODUCT_A, 2), Map.of(PRODUCT_A, 10));
+        assertThat(mirrorStock(PRODUCT_A)).isEqualTo(5);
+
+        // when
+        stockReservationService.release(released);
+        stockReservationService.confirm(confirmed);
+
+        // then
+        assertThat(mirrorStock(PRODUCT_A)).isEqualTo(8);
+        assertThat(redisTemplate.opsForHash().get("{stock}:reserved", PRODUCT_A.toString())).isNull();
+        assertThat(stockReservationRepository.findExpiredReservationIds(Long.MAX_VALUE, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("락 없이 읽은 오래된 DB 재고 스냅샷으로는 이미 품절된 미러를 다시 올리지 않는다")
+    void reserve_staleSnapshotDoesNotReopenSoldOutMirror() {
+        // given: 재고 2 를 모두 예약하고 확정 → 미러 0
+        String reservationId = stockReservationService.reserve(Map.of(PRODUCT_A, 2), Map.of(PRODUCT_A, 2));
+        stockReservationService.confirm(reservationId);
+
+        // when & then: 차감 전 스냅샷(재고 2)을 들고 온 요청도 거절된다
+        assertThatThrownBy(() -> stockReservationService.reserve(Map.of(PRODUCT_A, 1), Map.of(PRODUCT_A, 2)))
+                .isInstanceOf(ProductException.class)
+                .extracting(e -> ((ProductException) e).getErrorCode())
+                .isEqualTo(ProductErrorCode.INSUFFICIENT_STOCK);
+        assertThat(mirrorStock(PRODUCT_A)).isZero();
+    }
+
+    @Test
+    @DisplayName("진행 중 예약이 없는 상품은 동기화 시 미러가 DB 재고로 맞춰진다")
+    void syncStocks_quietProductFollowsDatabase() {
+        // given
+        String reservationId = stockReservationService.reserve(Map.of(PRODUCT_A, 4), Map.of(PRODUCT_A, 10));
+        stockReservationService.confirm(reservationId);
+        Map<Long, Long> epochs = stockReservationRepository.findReservationEpochs(List.of(PRODUCT_A));
+
+        // when: 외부 경로로 DB 재고가 20 으로 변경됨
+        int synced = stockReservationRepository.syncStocks(Map.of(PRODUCT_A, 20), epochs);
+
+        // then
+        assertThat(synced).isEqualTo(1);
+        assertThat(mirrorStock(PRODUCT_A)).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("주문 커밋 후 확정 전(진행 중 예약)에 읽은 DB 재고로는 동기화하지 않는다 - 이중 차감 방지")
+    void syncStocks_skipsProductWithPendingReservation() {
+        // given: 재고 10 중 4 예약, DB 커밋(10 → 6) 후 확정 전에 reconciler 가 DB 를 읽음
+        String reservationId = stockReservationService.reserve(Map.of(PRODUCT_A, 4), Map.of(PRODUCT_A, 10));
+        Map<Long, Long> epochs = stockReservationRepository.findReservationEpochs(List.of(PRODUCT_A));
+
+        // when
+        int synced = stockReservationRepository.syncStocks(Map.of(PRODUCT_A, 6), epochs);
+        stockReservationService.confirm(reservationId);
+
+        // then: 미러는 6 - 4 = 2 가 아니라 6 을 유지
+        assertThat(synced).isZero();
+        assertThat(mirrorStock(PRODUCT_A)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("DB 를 읽은 뒤 확정된 상품은 커밋 전 재고일 수 있으므로 동기화하지 않는다")
+    void syncStocks_skipsProductConfirmedAfterRead() {
+        // given: 예약 후 reconciler 가 epoch 와 커밋 전 DB 재고(10)를 읽음
+        String reservationId = stockReservationService.reserve(Map.of(PRODUCT_A, 4), Map.of(PRODUCT_A, 10));
+        Map<Long, Long> epochs = stockReservationRepository.findReservationEpochs(List.of(PRODUCT_A));
+
+        // when: 그 사이 주문이 커밋/확정된 뒤 동기화
+        stockReservationService.confirm(reservationId);
+        int synced = stockReservationRepository.syncStocks(Map.of(PRODUCT_A, 10), epochs);
+
+        // then: 미러는 10 으로 되돌아가지 않는다
+        assertThat(synced).isZero();
+        assertThat(mirrorStock(PRODUCT_A)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("만료된 예약은 만료 목록으로 조회되고 해제할 수 있다")
+    void expiredReservations() {
+        // given
+        stockReservationRepository.reserve("expired-1", Map.of(PRODUCT_A, 2), Map.of(PRODUCT_A, 10), 1L);
+
+        // when
+        List<String> expired = stockReservationRepository.findExpiredReservationIds(System.currentTimeMillis(), 10);
+        boolean released = stockReservationRepository.release("expired-1");
+
+        // then
+        assertThat(expired).containsExactly("expired-1");
+        assertThat(released).isTrue();
+        assertThat(mirrorStock(PRODUCT_A)).isEqualTo(10);
+    }
+
+    private int mirrorStock(Long productId) {
+        return Integer.parseInt(redisTemplate.opsForValue().get("{stock}:product:" + productId));
+    }
+}
@@ -22,7 +22,9 @@ CREATE TABLE IF NOT EXISTS products (
     created_at DATETIME(6) NOT NULL,
     updated_at DATETIME(6) NOT NULL,
     deleted_at DATETIME(6) NULL,
-    version BIGINT NOT NULL DEFAULT 0
+    version BIGINT NOT NULL DEFAULT 0,
+    lock_fence BIGINT NOT NULL DEFAULT 0,
+    stock_version BIGINT NOT NULL DEFAULT 0
 );
 
 -- 3. Cart Items 테이블
@@ -92,6 +94,7 @@ CREATE TABLE IF NOT EXISTS coupon_users (
     created_at DATETIME(6) NOT NULL,
     updated_at DATETIME(6) NOT NULL,
     version BIGINT NOT NULL DEFAULT 0,
+    lock_fence BIGINT NOT NULL DEFAULT 0,
     FOREIGN KEY (coupon_id) REFERENCES coupons(id)
 );
 
@@ -102,7 +105,8 @@ CREATE TABLE IF NOT EXISTS points (
     balance BIGINT NOT NULL DEFAULT 0,
     created_at DATETIME(6) NOT NULL,
     updated_at DATETIME(6) NOT NULL,
-    version BIGINT NOT NULL DEFAULT 0
+    version BIGINT NOT NULL DEFAULT 0,
+    lock_fence BIGINT NOT NULL DEFAULT 0
 );
 
 -- 9. Point Transactions 테이블
@@ -124,6 +128,12 @@ CREATE TABLE IF NOT EXISTS point_transactions (
 -- Orders 테이블: status 필터링 최적화
 CREATE INDEX idx_orders_status_id ON orders(status, id);
 
+-- Orders 테이블: 사용자별 주문 목록 keyset 페이지네이션 (created_at DESC, id DESC)
+CREATE INDEX idx_orders_user_created_id ON orders(user_id, created_at, id);
+
+-- Orders 테이블: 보상 대상(CANCEL_REQUESTED, 오래된 PENDING) 주문 조회
+CREATE INDEX idx_orders_status_created ON orders(status, created_at);
+
 -- Order Items 테이블: Covering Index (JOIN + GROUP BY + SUM 최적화)
 -- ProductService.getProductsBySalesCount() 쿼리 최적화
 CREATE INDEX idx_order_items_join_group_covering ON order_items(order_id, product_id, quantity);
@@ -137,3 +147,6 @@ CREATE INDEX idx_coupon_users_coupon_id ON coupon_users(coupon_id);
 
 -- Point Transactions 테이블: 포인트별 거래 내역 조회 최적화
 CREATE INDEX idx_point_transactions_point_id ON point_transactions(point_id);
+
+-- Point Transactions 테이블: 주문 보상 시 주문별 순사용 포인트 집계
+CREATE INDEX idx_point_transactions_order_id ON point_transactions(order_id);